@@ -0,0 +1,113 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.aop.framework;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark for method invocations on JDK and CGLIB proxies.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class ProxyInvocationBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		@Param({"jdk", "cglib"})
+		public String proxyType;
+
+		@Param({"0", "2"})
+		public int interceptorCount;
+
+		@Param({"false", "true"})
+		public boolean generateInvokers;
+
+		public Service proxy;
+
+		@Setup
+		public void setup() {
+			ProxyFactory pf = new ProxyFactory(new DefaultService());
+			if (this.proxyType.equals("jdk")) {
+				pf.addInterface(Service.class);
+			}
+			else {
+				pf.setProxyTargetClass(true);
+			}
+			for (int i = 0; i < this.interceptorCount; i++) {
+				pf.addAdvice((MethodInterceptor) invocation -> invocation.proceed());
+			}
+			pf.setGenerateInvokers(this.generateInvokers);
+			pf.setFrozen(true);
+			this.proxy = (Service) pf.getProxy();
+		}
+	}
+
+	@Benchmark
+	public void getter(BenchmarkState state, Blackhole bh) {
+		bh.consume(state.proxy.getName());
+	}
+
+	@Benchmark
+	public void setter(BenchmarkState state) {
+		state.proxy.setAge(42);
+	}
+
+	@Benchmark
+	public void multipleArguments(BenchmarkState state, Blackhole bh) {
+		bh.consume(state.proxy.concat("a", "b", 1));
+	}
+
+
+	public interface Service {
+
+		String getName();
+
+		void setAge(int age);
+
+		String concat(String first, String second, int count);
+	}
+
+
+	public static class DefaultService implements Service {
+
+		private int age;
+
+		@Override
+		public String getName() {
+			return "name";
+		}
+
+		@Override
+		public void setAge(int age) {
+			this.age = age;
+		}
+
+		@Override
+		public String concat(String first, String second, int count) {
+			return (count > 0 ? first + second : first);
+		}
+	}
+
+}
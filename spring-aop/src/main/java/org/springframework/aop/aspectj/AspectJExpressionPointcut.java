@@ -20,7 +20,10 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.aopalliance.intercept.MethodInvocation;
 import org.apache.commons.logging.Log;
@@ -97,6 +100,9 @@ public class AspectJExpressionPointcut extends AbstractExpressionPointcut
 			PointcutPrimitive.AT_ARGS,
 			PointcutPrimitive.AT_TARGET);
 
+	private static final Pattern QUALIFIED_REFERENCE_PATTERN =
+			Pattern.compile("([A-Za-z_$][\\w$.]*)\\.[A-Za-z_$][\\w$]*\\s*\\(");
+
 	private static final Log logger = LogFactory.getLog(AspectJExpressionPointcut.class);
 
 	@Nullable
@@ -119,6 +125,9 @@ public class AspectJExpressionPointcut extends AbstractExpressionPointcut
 
 	private transient boolean pointcutParsingFailed = false;
 
+	@Nullable
+	private transient String persistentCacheKey;
+
 
 	/**
 	 * Create a new default AspectJExpressionPointcut.
@@ -469,6 +478,15 @@ public class AspectJExpressionPointcut extends AbstractExpressionPointcut
 	private ShadowMatch getShadowMatch(Method targetMethod, Method originalMethod) {
 		ShadowMatch shadowMatch = ShadowMatchUtils.getShadowMatch(this, targetMethod);
 		if (shadowMatch == null) {
+			PersistentShadowMatchCache persistentCache = PersistentShadowMatchCache.getDefaultCache();
+			String persistentCacheKey = (persistentCache != null ? getPersistentCacheKey(persistentCache) : null);
+			if (persistentCache != null && persistentCacheKey != null) {
+				Boolean match = persistentCache.getMatch(persistentCacheKey, targetMethod, originalMethod);
+				if (match != null) {
+					shadowMatch = createStaticShadowMatch(match);
+					return ShadowMatchUtils.setShadowMatch(this, targetMethod, shadowMatch);
+				}
+			}
 			PointcutExpression fallbackExpression = null;
 			Method methodToMatch = targetMethod;
 			try {
@@ -519,17 +537,110 @@ public class AspectJExpressionPointcut extends AbstractExpressionPointcut
 				fallbackExpression = null;
 			}
 			if (shadowMatch == null) {
-				shadowMatch = new ShadowMatchImpl(org.aspectj.util.FuzzyBoolean.NO, null, null, null);
+				shadowMatch = createStaticShadowMatch(false);
 			}
 			else if (shadowMatch.maybeMatches() && fallbackExpression != null) {
 				shadowMatch = new DefensiveShadowMatch(shadowMatch,
 						fallbackExpression.matchesMethodExecution(methodToMatch));
 			}
+			else if (persistentCache != null && persistentCacheKey != null &&
+					(shadowMatch.alwaysMatches() || shadowMatch.neverMatches())) {
+				persistentCache.setMatch(persistentCacheKey, targetMethod, originalMethod, shadowMatch.alwaysMatches());
+			}
 			shadowMatch = ShadowMatchUtils.setShadowMatch(this, targetMethod, shadowMatch);
 		}
 		return shadowMatch;
 	}
 
+	/**
+	 * Determine a key for this pointcut in a {@link PersistentShadowMatchCache},
+	 * or {@code null} if its match results must not be persisted: for pointcuts
+	 * with parameter bindings or runtime tests, as well as for {@code bean()}
+	 * pointcuts which depend on the current bean name.
+	 * <p>Since the expression may refer to named pointcuts, the key includes the
+	 * class file signatures of the declaration scope and of all types which may
+	 * declare named pointcuts referenced by the expression, so that it changes
+	 * along with the definitions of those named pointcuts.
+	 */
+	@Nullable
+	String getPersistentCacheKey(PersistentShadowMatchCache persistentCache) {
+		String key = this.persistentCacheKey;
+		if (key == null) {
+			if (this.pointcutParameterNames.length > 0 || resolveExpression().contains("bean(") ||
+					obtainPointcutExpression().mayNeedDynamicTest()) {
+				key = "";
+			}
+			else {
+				StringBuilder sb = new StringBuilder(resolveExpression());
+				for (Class<?> parameterType : this.pointcutParameterTypes) {
+					sb.append(',').append(parameterType.getName());
+				}
+				for (Class<?> referencedType : getReferencedTypes()) {
+					String signature = persistentCache.getTypeSignature(referencedType);
+					if (signature == null) {
+						sb = null;
+						break;
+					}
+					sb.append('@').append(signature);
+				}
+				key = (sb != null ? sb.toString() : "");
+			}
+			this.persistentCacheKey = key;
+		}
+		return (!key.isEmpty() ? key : null);
+	}
+
+	/**
+	 * Determine the types that the pointcut expression may refer to named
+	 * pointcuts in: the declaration scope, for unqualified references, as well
+	 * as any resolvable type that is followed by a method name in the expression.
+	 * The latter may also match method patterns, which is harmless since it just
+	 * leads to a more specific key.
+	 */
+	private Set<Class<?>> getReferencedTypes() {
+		Set<Class<?>> types = new LinkedHashSet<>();
+		Class<?> scope = this.pointcutDeclarationScope;
+		if (scope != null) {
+			types.add(scope);
+		}
+		ClassLoader classLoader = (this.pointcutClassLoader != null ? this.pointcutClassLoader :
+				ClassUtils.getDefaultClassLoader());
+		Matcher matcher = QUALIFIED_REFERENCE_PATTERN.matcher(resolveExpression());
+		while (matcher.find()) {
+			String typeName = matcher.group(1);
+			Class<?> type = resolveType(typeName, classLoader);
+			if (type == null && scope != null && typeName.indexOf('.') == -1) {
+				type = resolveType(scope.getName() + '$' + typeName, classLoader);
+				if (type == null) {
+					type = resolveType(scope.getPackageName() + '.' + typeName, classLoader);
+				}
+			}
+			if (type != null) {
+				types.add(type);
+			}
+		}
+		return types;
+	}
+
+	@Nullable
+	private static Class<?> resolveType(String typeName, @Nullable ClassLoader classLoader) {
+		try {
+			return ClassUtils.forName(typeName, classLoader);
+		}
+		catch (ClassNotFoundException | LinkageError ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * Create a shadow match with a static result. Note that AspectJ's
+	 * {@code ShadowMatchImpl} expects {@code org.aspectj.util.FuzzyBoolean},
+	 * as opposed to {@link FuzzyBoolean} from the weaver tools API.
+	 */
+	private static ShadowMatch createStaticShadowMatch(boolean matches) {
+		return new ShadowMatchImpl(org.aspectj.util.FuzzyBoolean.fromBoolean(matches), null, null, null);
+	}
+
 	private boolean containsAnnotationPointcut() {
 		return resolveExpression().contains("@annotation");
 	}
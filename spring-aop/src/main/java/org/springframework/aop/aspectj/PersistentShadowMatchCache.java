@@ -0,0 +1,397 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.aop.aspectj;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.core.SpringProperties;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Persistent cache of static pointcut match results, reusable across JVM runs
+ * in order to skip AspectJ weaver matching for unchanged methods.
+ *
+ * <p>Each entry is keyed by a hash of the pointcut along with a signature of
+ * the matched method: its generic signature and annotations as well as a hash
+ * of the class file of its declaring class and of all supertypes of it. The
+ * pointcut in turn is identified by its expression along with the class file
+ * hashes of its declaration scope and of any other types that it may reference
+ * named pointcuts in. A changed class or named pointcut therefore simply leads
+ * to a different key, with a fresh match result computed by AspectJ. Classes
+ * without an accessible class file are not cached, and only definite results
+ * (always or never matching) for pointcuts without parameter bindings and
+ * runtime tests are cached; everything else keeps being matched by AspectJ
+ * on every run.
+ *
+ * <p>The cache file is read lazily on first access. Results used or computed
+ * since then are written back on {@link #flush()}, which
+ * {@link org.springframework.aop.aspectj.autoproxy.AspectJAwareAdvisorAutoProxyCreator}
+ * does once all singletons have been instantiated.
+ *
+ * @since 6.2
+ * @see #CACHE_FILE_PROPERTY_NAME
+ * @see AspectJExpressionPointcut
+ */
+public class PersistentShadowMatchCache {
+
+	/**
+	 * System property that specifies a file for a shared persistent shadow
+	 * match cache, to be picked up by every {@link AspectJExpressionPointcut}:
+	 * {@value}.
+	 * <p>The file is created on demand if it does not exist yet.
+	 * @see #forFile
+	 */
+	public static final String CACHE_FILE_PROPERTY_NAME = "spring.aop.shadowmatch.cache.file";
+
+	private static final int CACHE_FILE_MAGIC = 0x5350534D;
+
+	private static final int CACHE_FILE_VERSION = 2;
+
+	private static final Map<Path, PersistentShadowMatchCache> sharedCaches = new ConcurrentHashMap<>();
+
+	private static final Log logger = LogFactory.getLog(PersistentShadowMatchCache.class);
+
+
+	private final Path file;
+
+	/** Match results read from the cache file, keyed by entry hash. */
+	private final Map<Key, Boolean> loadedMatches = new ConcurrentHashMap<>(256);
+
+	/** Match results used or computed since the cache file has been read. */
+	private final Map<Key, Boolean> usedMatches = new ConcurrentHashMap<>(256);
+
+	/** Hashed structural signatures per method, as a shortcut for repeated lookups. */
+	private final Map<Method, byte[]> methodSignatures = new ConcurrentHashMap<>(256);
+
+	/** Class file signatures per class, as a shortcut for repeated lookups. */
+	private final Map<Class<?>, String> classSignatures = new ConcurrentHashMap<>(64);
+
+	private volatile boolean loaded;
+
+	private volatile boolean dirty;
+
+
+	/**
+	 * Create a new PersistentShadowMatchCache for the given file.
+	 * @param file the file to keep the match results in
+	 * (created on demand if it does not exist yet)
+	 * @see #forFile
+	 */
+	public PersistentShadowMatchCache(Path file) {
+		Assert.notNull(file, "File must not be null");
+		this.file = file;
+	}
+
+
+	/**
+	 * Return the file that this cache keeps its match results in.
+	 */
+	public final Path getFile() {
+		return this.file;
+	}
+
+	/**
+	 * Return the cached match result for the given pointcut and method, if any.
+	 * @param pointcutKey a key that uniquely identifies the pointcut
+	 * @param targetMethod the most specific target method to match
+	 * @param originalMethod the original method (may be the same as the target method)
+	 * @return the cached result, or {@code null} if not cached
+	 */
+	@Nullable
+	Boolean getMatch(String pointcutKey, Method targetMethod, Method originalMethod) {
+		Key key = getKey(pointcutKey, targetMethod, originalMethod);
+		if (key == null) {
+			return null;
+		}
+		Boolean match = this.usedMatches.get(key);
+		if (match == null) {
+			loadIfNecessary();
+			match = this.loadedMatches.get(key);
+			if (match != null) {
+				this.usedMatches.putIfAbsent(key, match);
+			}
+		}
+		return match;
+	}
+
+	/**
+	 * Return a signature for the given type that changes along with the class
+	 * files of the type and all its supertypes, for inclusion in a pointcut key.
+	 * @param type the type to compute the signature for
+	 * @return the signature, or {@code null} if the class file of the type
+	 * or one of its supertypes is not accessible
+	 */
+	@Nullable
+	String getTypeSignature(Class<?> type) {
+		return (isStableClass(type) ? getSignature(type) : null);
+	}
+
+	/**
+	 * Remember the given match result for the given pointcut and method.
+	 * @param pointcutKey a key that uniquely identifies the pointcut
+	 * @param targetMethod the most specific target method to match
+	 * @param originalMethod the original method (may be the same as the target method)
+	 * @param match whether the pointcut always matches or never matches
+	 */
+	void setMatch(String pointcutKey, Method targetMethod, Method originalMethod, boolean match) {
+		Key key = getKey(pointcutKey, targetMethod, originalMethod);
+		if (key != null && this.usedMatches.put(key, match) == null) {
+			this.dirty = true;
+		}
+	}
+
+	/**
+	 * Write all match results used or computed since the cache file has been
+	 * read back to the cache file, dropping results that have not been used.
+	 * This only happens if new results have been computed since the last flush.
+	 * <p>Failures are logged but not propagated since the cache is just
+	 * an optimization for subsequent runs.
+	 */
+	public void flush() {
+		if (!this.dirty) {
+			return;
+		}
+		this.dirty = false;
+		try {
+			writeCacheFile();
+		}
+		catch (IOException ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Failed to write shadow match cache file [" + this.file + "]", ex);
+			}
+		}
+	}
+
+	/**
+	 * Remove all in-memory state that refers to classes, in order to not
+	 * hold on to any ClassLoader. Match results are retained for the next
+	 * {@link #flush()}, and cached signatures are recomputed on demand.
+	 */
+	public void clear() {
+		this.methodSignatures.clear();
+		this.classSignatures.clear();
+	}
+
+
+	private void loadIfNecessary() {
+		if (!this.loaded) {
+			synchronized (this.loadedMatches) {
+				if (!this.loaded) {
+					readCacheFile();
+					this.loaded = true;
+				}
+			}
+		}
+	}
+
+	private void readCacheFile() {
+		if (!Files.isReadable(this.file)) {
+			return;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(this.file)))) {
+			if (in.readInt() != CACHE_FILE_MAGIC || in.readInt() != CACHE_FILE_VERSION) {
+				return;
+			}
+			int entryCount = in.readInt();
+			for (int i = 0; i < entryCount; i++) {
+				Key key = new Key(in.readLong(), in.readLong());
+				this.loadedMatches.put(key, in.readBoolean());
+			}
+			if (logger.isTraceEnabled()) {
+				logger.trace("Read " + entryCount + " shadow match entries from cache file [" + this.file + "]");
+			}
+		}
+		catch (IOException ex) {
+			// Corrupt or concurrently written cache file -> start from scratch.
+			this.loadedMatches.clear();
+			if (logger.isDebugEnabled()) {
+				logger.debug("Ignoring unreadable shadow match cache file [" + this.file + "]", ex);
+			}
+		}
+	}
+
+	private void writeCacheFile() throws IOException {
+		Path directory = this.file.toAbsolutePath().getParent();
+		Files.createDirectories(directory);
+		Path tempFile = Files.createTempFile(directory, this.file.getFileName().toString(), ".tmp");
+		try {
+			Map<Key, Boolean> entries = Map.copyOf(this.usedMatches);
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+				out.writeInt(CACHE_FILE_MAGIC);
+				out.writeInt(CACHE_FILE_VERSION);
+				out.writeInt(entries.size());
+				for (Map.Entry<Key, Boolean> entry : entries.entrySet()) {
+					out.writeLong(entry.getKey().high());
+					out.writeLong(entry.getKey().low());
+					out.writeBoolean(entry.getValue());
+				}
+			}
+			try {
+				Files.move(tempFile, this.file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			}
+			catch (AtomicMoveNotSupportedException ex) {
+				Files.move(tempFile, this.file, StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		finally {
+			Files.deleteIfExists(tempFile);
+		}
+	}
+
+	@Nullable
+	private Key getKey(String pointcutKey, Method targetMethod, Method originalMethod) {
+		byte[] targetSignature = getSignature(targetMethod);
+		byte[] originalSignature = (originalMethod != targetMethod ? getSignature(originalMethod) : new byte[0]);
+		if (targetSignature == null || originalSignature == null) {
+			return null;
+		}
+		MessageDigest digest = createDigest();
+		digest.update(pointcutKey.getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+		digest.update(targetSignature);
+		digest.update(originalSignature);
+		ByteBuffer hash = ByteBuffer.wrap(digest.digest());
+		return new Key(hash.getLong(), hash.getLong());
+	}
+
+	@Nullable
+	private byte[] getSignature(Method method) {
+		byte[] signature = this.methodSignatures.get(method);
+		if (signature == null) {
+			Class<?> declaringClass = method.getDeclaringClass();
+			if (!isStableClass(declaringClass)) {
+				// Generated class names may differ between runs -> do not cache.
+				return null;
+			}
+			String classSignature = getSignature(declaringClass);
+			if (classSignature == null) {
+				return null;
+			}
+			String signatureString = method.toGenericString() + Arrays.toString(method.getAnnotations()) +
+					Arrays.deepToString(method.getParameterAnnotations()) + classSignature;
+			signature = createDigest().digest(signatureString.getBytes(StandardCharsets.UTF_8));
+			this.methodSignatures.put(method, signature);
+		}
+		return signature;
+	}
+
+	@Nullable
+	private String getSignature(Class<?> clazz) {
+		String signature = this.classSignatures.get(clazz);
+		if (signature == null) {
+			Set<Class<?>> types = new LinkedHashSet<>();
+			for (Class<?> current = clazz; current != null; current = current.getSuperclass()) {
+				types.add(current);
+			}
+			types.addAll(ClassUtils.getAllInterfacesForClassAsSet(clazz));
+			StringBuilder sb = new StringBuilder();
+			for (Class<?> type : types) {
+				String classFileHash = getClassFileHash(type);
+				if (classFileHash == null) {
+					return null;
+				}
+				sb.append(';').append(type.getName()).append(':').append(classFileHash);
+			}
+			signature = sb.toString();
+			this.classSignatures.put(clazz, signature);
+		}
+		return signature;
+	}
+
+	@Nullable
+	private static String getClassFileHash(Class<?> clazz) {
+		if (clazz.getClassLoader() == null) {
+			// Bootstrap classes only change along with the Java runtime
+			return Runtime.version().toString();
+		}
+		try (InputStream classFile = clazz.getResourceAsStream(ClassUtils.getClassFileName(clazz))) {
+			return (classFile != null ? HexFormat.of().formatHex(createDigest().digest(classFile.readAllBytes())) : null);
+		}
+		catch (IOException ex) {
+			return null;
+		}
+	}
+
+	private static boolean isStableClass(Class<?> clazz) {
+		return !(clazz.isHidden() || clazz.isSynthetic() || Proxy.isProxyClass(clazz) ||
+				clazz.getName().contains(ClassUtils.CGLIB_CLASS_SEPARATOR));
+	}
+
+	private static MessageDigest createDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException("SHA-256 not supported on this platform", ex);
+		}
+	}
+
+
+	/**
+	 * Return a shared PersistentShadowMatchCache for the given file.
+	 * @param file the file to keep the match results in
+	 * @return the shared cache instance
+	 */
+	public static PersistentShadowMatchCache forFile(Path file) {
+		return sharedCaches.computeIfAbsent(file.toAbsolutePath().normalize(), PersistentShadowMatchCache::new);
+	}
+
+	/**
+	 * Return the shared PersistentShadowMatchCache for the file specified
+	 * through the {@link #CACHE_FILE_PROPERTY_NAME} property, if any.
+	 * @return the shared cache instance, or {@code null} if none configured
+	 */
+	@Nullable
+	public static PersistentShadowMatchCache getDefaultCache() {
+		String file = SpringProperties.getProperty(CACHE_FILE_PROPERTY_NAME);
+		return (file != null ? forFile(Path.of(file)) : null);
+	}
+
+
+	/**
+	 * Truncated SHA-256 hash of a pointcut and method signature.
+	 */
+	private record Key(long high, long low) {
+	}
+
+}
@@ -28,6 +28,7 @@ import org.springframework.aop.Advisor;
 import org.springframework.aop.aspectj.AbstractAspectJAdvice;
 import org.springframework.aop.aspectj.AspectJPointcutAdvisor;
 import org.springframework.aop.aspectj.AspectJProxyUtils;
+import org.springframework.aop.aspectj.PersistentShadowMatchCache;
 import org.springframework.aop.aspectj.ShadowMatchUtils;
 import org.springframework.aop.framework.autoproxy.AbstractAdvisorAutoProxyCreator;
 import org.springframework.aop.interceptor.ExposeInvocationInterceptor;
@@ -114,11 +115,20 @@ public class AspectJAwareAdvisorAutoProxyCreator extends AbstractAdvisorAutoProx
 
 	@Override
 	public void afterSingletonsInstantiated() {
+		PersistentShadowMatchCache persistentCache = PersistentShadowMatchCache.getDefaultCache();
+		if (persistentCache != null) {
+			persistentCache.flush();
+			persistentCache.clear();
+		}
 		ShadowMatchUtils.clearCache();
 	}
 
 	@Override
 	public void destroy() {
+		PersistentShadowMatchCache persistentCache = PersistentShadowMatchCache.getDefaultCache();
+		if (persistentCache != null) {
+			persistentCache.clear();
+		}
 		ShadowMatchUtils.clearCache();
 	}
 
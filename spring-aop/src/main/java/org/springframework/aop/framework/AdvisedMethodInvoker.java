@@ -0,0 +1,306 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.aop.framework;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.List;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.aop.AopInvocationException;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.KotlinDetector;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Pre-computed invoker for a specific method on a proxy with a frozen
+ * configuration, holding the interceptor chain for the method along with
+ * a target invoker generated through {@link LambdaMetafactory}, which calls
+ * the target method directly instead of through reflection.
+ *
+ * <p>Target invokers are generated for public methods in public types with
+ * up to three parameters, as long as the type is visible from the class loader
+ * of Spring AOP. All other methods, including methods of types that have been
+ * loaded by a child class loader, as well as Kotlin suspending functions, get
+ * invoked through reflection as usual.
+ *
+ * @since 6.2
+ * @see ProxyConfig#setGenerateInvokers
+ * @see AdvisedSupport#getMethodInvoker
+ */
+final class AdvisedMethodInvoker {
+
+	private static final Log logger = LogFactory.getLog(AdvisedMethodInvoker.class);
+
+	private static final MethodType[] FACTORY_TYPES = {
+			MethodType.methodType(Invoker0.class), MethodType.methodType(Invoker1.class),
+			MethodType.methodType(Invoker2.class), MethodType.methodType(Invoker3.class)};
+
+	private static final MethodType[] VOID_FACTORY_TYPES = {
+			MethodType.methodType(VoidInvoker0.class), MethodType.methodType(VoidInvoker1.class),
+			MethodType.methodType(VoidInvoker2.class), MethodType.methodType(VoidInvoker3.class)};
+
+
+	private final Method method;
+
+	private final List<Object> chain;
+
+	@Nullable
+	private final TargetInvoker targetInvoker;
+
+
+	private AdvisedMethodInvoker(Method method, List<Object> chain) {
+		this.method = method;
+		this.chain = chain;
+		this.targetInvoker = generateTargetInvoker(method);
+	}
+
+
+	/**
+	 * Return the interception chain for the method.
+	 */
+	List<Object> getChain() {
+		return this.chain;
+	}
+
+	/**
+	 * Invoke the method on the given target, through the interception chain.
+	 * @param proxy the proxy that the method has been invoked on
+	 * @param target the target object, if any
+	 * @param args the arguments of the method invocation
+	 * @param targetClass the target class, for dynamic method matchers
+	 * @return the return value of the invocation, before any return type massaging
+	 * @throws Throwable if thrown by an interceptor or by the target method
+	 */
+	@Nullable
+	Object invoke(Object proxy, @Nullable Object target, Object[] args, @Nullable Class<?> targetClass)
+			throws Throwable {
+
+		if (this.chain.isEmpty()) {
+			return invokeTarget(target, AopProxyUtils.adaptArgumentsIfNecessary(this.method, args));
+		}
+		return new InvokerMethodInvocation(proxy, target, this.method, args, targetClass, this.chain, this).proceed();
+	}
+
+	/**
+	 * Invoke the method on the given target, without any interception.
+	 * @param target the target object
+	 * @param args the arguments to invoke the method with
+	 * @return the return value of the target method
+	 * @throws Throwable if thrown by the target method
+	 */
+	@Nullable
+	Object invokeTarget(@Nullable Object target, Object[] args) throws Throwable {
+		TargetInvoker targetInvoker = this.targetInvoker;
+		if (targetInvoker == null || target == null || args.length != this.method.getParameterCount()) {
+			return AopUtils.invokeJoinpointUsingReflection(target, this.method, args);
+		}
+		try {
+			return targetInvoker.invoke(target, args);
+		}
+		catch (ClassCastException ex) {
+			if (!isApplicable(target, args)) {
+				throw new AopInvocationException("AOP configuration seems to be invalid: tried calling method [" +
+						this.method + "] on target [" + target + "]", ex);
+			}
+			throw ex;
+		}
+	}
+
+	private boolean isApplicable(Object target, Object[] args) {
+		if (!this.method.getDeclaringClass().isInstance(target)) {
+			return false;
+		}
+		Class<?>[] parameterTypes = this.method.getParameterTypes();
+		for (int i = 0; i < args.length; i++) {
+			if (!ClassUtils.isAssignableValue(parameterTypes[i], args[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+
+	/**
+	 * Create an invoker for the given method with the given interception chain.
+	 */
+	static AdvisedMethodInvoker create(Method method, List<Object> chain) {
+		return new AdvisedMethodInvoker(method, chain);
+	}
+
+	@Nullable
+	private static TargetInvoker generateTargetInvoker(Method method) {
+		int parameterCount = method.getParameterCount();
+		if (parameterCount > 3 || KotlinDetector.isSuspendingFunction(method) ||
+				!ClassUtils.isVisible(method.getDeclaringClass(), AdvisedMethodInvoker.class.getClassLoader())) {
+			// The generated invoker lives next to this class and needs to link against the target method
+			return null;
+		}
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			MethodHandle target = lookup.unreflect(method);
+			MethodType instantiatedType = target.type().wrap();
+			boolean isVoid = (method.getReturnType() == void.class);
+			if (isVoid) {
+				instantiatedType = instantiatedType.changeReturnType(void.class);
+			}
+			MethodType factoryType = (isVoid ? VOID_FACTORY_TYPES : FACTORY_TYPES)[parameterCount];
+			CallSite callSite = LambdaMetafactory.metafactory(
+					lookup, "invoke", factoryType, instantiatedType.erase(), target, instantiatedType);
+			Object invoker = callSite.getTarget().invoke();
+			return switch (parameterCount) {
+				case 0 -> (isVoid ? adapt((VoidInvoker0) invoker) : adapt((Invoker0) invoker));
+				case 1 -> (isVoid ? adapt((VoidInvoker1) invoker) : adapt((Invoker1) invoker));
+				case 2 -> (isVoid ? adapt((VoidInvoker2) invoker) : adapt((Invoker2) invoker));
+				default -> (isVoid ? adapt((VoidInvoker3) invoker) : adapt((Invoker3) invoker));
+			};
+		}
+		catch (Throwable ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Could not generate invoker for [" + method + "] - falling back to reflection", ex);
+			}
+			return null;
+		}
+	}
+
+	private static TargetInvoker adapt(Invoker0 invoker) {
+		return (target, args) -> invoker.invoke(target);
+	}
+
+	private static TargetInvoker adapt(Invoker1 invoker) {
+		return (target, args) -> invoker.invoke(target, args[0]);
+	}
+
+	private static TargetInvoker adapt(Invoker2 invoker) {
+		return (target, args) -> invoker.invoke(target, args[0], args[1]);
+	}
+
+	private static TargetInvoker adapt(Invoker3 invoker) {
+		return (target, args) -> invoker.invoke(target, args[0], args[1], args[2]);
+	}
+
+	private static TargetInvoker adapt(VoidInvoker0 invoker) {
+		return (target, args) -> {
+			invoker.invoke(target);
+			return null;
+		};
+	}
+
+	private static TargetInvoker adapt(VoidInvoker1 invoker) {
+		return (target, args) -> {
+			invoker.invoke(target, args[0]);
+			return null;
+		};
+	}
+
+	private static TargetInvoker adapt(VoidInvoker2 invoker) {
+		return (target, args) -> {
+			invoker.invoke(target, args[0], args[1]);
+			return null;
+		};
+	}
+
+	private static TargetInvoker adapt(VoidInvoker3 invoker) {
+		return (target, args) -> {
+			invoker.invoke(target, args[0], args[1], args[2]);
+			return null;
+		};
+	}
+
+
+	/**
+	 * Common contract for generated target invokers. Checked exceptions thrown
+	 * by the target method propagate as-is through the generated code.
+	 */
+	@FunctionalInterface
+	private interface TargetInvoker {
+
+		@Nullable
+		Object invoke(Object target, Object[] args);
+	}
+
+	private interface Invoker0 {
+
+		Object invoke(Object target);
+	}
+
+	private interface Invoker1 {
+
+		Object invoke(Object target, Object arg1);
+	}
+
+	private interface Invoker2 {
+
+		Object invoke(Object target, Object arg1, Object arg2);
+	}
+
+	private interface Invoker3 {
+
+		Object invoke(Object target, Object arg1, Object arg2, Object arg3);
+	}
+
+	private interface VoidInvoker0 {
+
+		void invoke(Object target);
+	}
+
+	private interface VoidInvoker1 {
+
+		void invoke(Object target, Object arg1);
+	}
+
+	private interface VoidInvoker2 {
+
+		void invoke(Object target, Object arg1, Object arg2);
+	}
+
+	private interface VoidInvoker3 {
+
+		void invoke(Object target, Object arg1, Object arg2, Object arg3);
+	}
+
+
+	/**
+	 * {@link ReflectiveMethodInvocation} that invokes the joinpoint through
+	 * the generated target invoker.
+	 */
+	private static class InvokerMethodInvocation extends ReflectiveMethodInvocation {
+
+		private final AdvisedMethodInvoker invoker;
+
+		InvokerMethodInvocation(Object proxy, @Nullable Object target, Method method, Object[] arguments,
+				@Nullable Class<?> targetClass, List<Object> chain, AdvisedMethodInvoker invoker) {
+
+			super(proxy, target, method, arguments, targetClass, chain);
+			this.invoker = invoker;
+		}
+
+		@Override
+		@Nullable
+		protected Object invokeJoinpoint() throws Throwable {
+			return this.invoker.invokeTarget(this.target, this.arguments);
+		}
+	}
+
+}
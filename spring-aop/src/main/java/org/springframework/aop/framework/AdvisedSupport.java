@@ -114,6 +114,15 @@ public class AdvisedSupport extends ProxyConfig implements Advised {
 	@Nullable
 	private transient volatile List<Object> cachedInterceptors;
 
+	/**
+	 * Cache with Method as key and pre-computed invoker as value,
+	 * for frozen configurations with generated invokers only.
+	 * @since 6.2
+	 * @see #getMethodInvoker
+	 */
+	@Nullable
+	private transient volatile Map<Method, AdvisedMethodInvoker> methodInvokerCache;
+
 	/**
 	 * Optional field for {@link AopProxy} implementations to store metadata in.
 	 * Used by {@link JdkDynamicAopProxy}.
@@ -511,6 +520,33 @@ public class AdvisedSupport extends ProxyConfig implements Advised {
 		return cachedInterceptors;
 	}
 
+	/**
+	 * Determine a pre-computed invoker for the given method, with the interception
+	 * chain as determined by {@link #getInterceptorsAndDynamicInterceptionAdvice}.
+	 * @param method the proxied method
+	 * @param targetClass the target class
+	 * @return the invoker, or {@code null} if this configuration is not frozen
+	 * or not set up for {@link #setGenerateInvokers generated invokers}
+	 * @since 6.2
+	 */
+	@Nullable
+	AdvisedMethodInvoker getMethodInvoker(Method method, @Nullable Class<?> targetClass) {
+		if (!isFrozen() || !isGenerateInvokers()) {
+			return null;
+		}
+		Map<Method, AdvisedMethodInvoker> methodInvokerCache = this.methodInvokerCache;
+		if (methodInvokerCache == null) {
+			methodInvokerCache = new ConcurrentHashMap<>();
+			this.methodInvokerCache = methodInvokerCache;
+		}
+		AdvisedMethodInvoker invoker = methodInvokerCache.get(method);
+		if (invoker == null) {
+			invoker = AdvisedMethodInvoker.create(method, getInterceptorsAndDynamicInterceptionAdvice(method, targetClass));
+			methodInvokerCache.put(method, invoker);
+		}
+		return invoker;
+	}
+
 	/**
 	 * Invoked when advice has changed.
 	 */
@@ -518,6 +554,7 @@ public class AdvisedSupport extends ProxyConfig implements Advised {
 		this.methodCache = null;
 		this.cachedInterceptors = null;
 		this.proxyMetadataCache = null;
+		this.methodInvokerCache = null;
 
 		// Initialize method cache if necessary; otherwise,
 		// cachedInterceptors is going to be shared (see above).
@@ -587,6 +624,7 @@ public class AdvisedSupport extends ProxyConfig implements Advised {
 		this.methodCache = null;
 		this.cachedInterceptors = null;
 		this.proxyMetadataCache = null;
+		this.methodInvokerCache = null;
 	}
 
 	Object getAdvisorKey() {
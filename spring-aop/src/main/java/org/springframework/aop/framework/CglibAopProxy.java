@@ -366,7 +366,8 @@ class CglibAopProxy implements AopProxy, Serializable {
 				}
 				List<Object> chain = this.advised.getInterceptorsAndDynamicInterceptionAdvice(method, rootClass);
 				fixedCallbacks.add(new FixedChainStaticTargetInterceptor(
-						chain, this.advised.getTargetSource().getTarget(), this.advised.getTargetClass()));
+						chain, this.advised.getTargetSource().getTarget(), this.advised.getTargetClass(),
+						this.advised.getMethodInvoker(method, rootClass)));
 				this.fixedInterceptorMap.put(method, x - (methodsCount - advicedMethodCount) );
 			}
 
@@ -658,17 +659,25 @@ class CglibAopProxy implements AopProxy, Serializable {
 		@Nullable
 		private final Class<?> targetClass;
 
-		public FixedChainStaticTargetInterceptor(
-				List<Object> adviceChain, @Nullable Object target, @Nullable Class<?> targetClass) {
+		@Nullable
+		private final transient AdvisedMethodInvoker invoker;
+
+		public FixedChainStaticTargetInterceptor(List<Object> adviceChain, @Nullable Object target,
+				@Nullable Class<?> targetClass, @Nullable AdvisedMethodInvoker invoker) {
 
 			this.adviceChain = adviceChain;
 			this.target = target;
 			this.targetClass = targetClass;
+			this.invoker = invoker;
 		}
 
 		@Override
 		@Nullable
 		public Object intercept(Object proxy, Method method, Object[] args, MethodProxy methodProxy) throws Throwable {
+			if (this.invoker != null) {
+				return processReturnType(proxy, this.target, method, args,
+						this.invoker.invoke(proxy, this.target, args, this.targetClass));
+			}
 			MethodInvocation invocation = new CglibMethodInvocation(
 					proxy, this.target, method, args, this.targetClass, this.adviceChain, methodProxy);
 			// If we get here, we need to create a MethodInvocation.
@@ -707,6 +716,11 @@ class CglibAopProxy implements AopProxy, Serializable {
 				// Get as late as possible to minimize the time we "own" the target, in case it comes from a pool...
 				target = targetSource.getTarget();
 				Class<?> targetClass = (target != null ? target.getClass() : null);
+				// Use a pre-computed invoker for this method if the configuration is frozen.
+				AdvisedMethodInvoker invoker = this.advised.getMethodInvoker(method, targetClass);
+				if (invoker != null) {
+					return processReturnType(proxy, target, method, args, invoker.invoke(proxy, target, args, targetClass));
+				}
 				List<Object> chain = this.advised.getInterceptorsAndDynamicInterceptionAdvice(method, targetClass);
 				Object retVal;
 				// Check whether we only have one InvokerInterceptor: that is,
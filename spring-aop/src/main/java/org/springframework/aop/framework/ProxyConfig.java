@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -44,6 +44,8 @@ public class ProxyConfig implements Serializable {
 
 	private boolean frozen = false;
 
+	private boolean generateInvokers = false;
+
 
 	/**
 	 * Set whether to proxy the target class directly, instead of just proxying
@@ -144,6 +146,28 @@ public class ProxyConfig implements Serializable {
 		return this.frozen;
 	}
 
+	/**
+	 * Set whether proxies should pre-compute an invoker for each advised method
+	 * once the config is {@link #setFrozen frozen}, holding the method's interceptor
+	 * chain and a generated target invoker that calls the target method directly
+	 * instead of through reflection.
+	 * <p>Default is "false". This only has an effect on frozen configurations,
+	 * since the invokers rely on the advice chain not changing anymore.
+	 * @since 6.2
+	 */
+	public void setGenerateInvokers(boolean generateInvokers) {
+		this.generateInvokers = generateInvokers;
+	}
+
+	/**
+	 * Return whether proxies should pre-compute an invoker for each advised
+	 * method once the config is frozen.
+	 * @since 6.2
+	 */
+	public boolean isGenerateInvokers() {
+		return this.generateInvokers;
+	}
+
 
 	/**
 	 * Copy configuration from the other config object.
@@ -156,6 +180,7 @@ public class ProxyConfig implements Serializable {
 		this.exposeProxy = other.exposeProxy;
 		this.frozen = other.frozen;
 		this.opaque = other.opaque;
+		this.generateInvokers = other.generateInvokers;
 	}
 
 	@Override
@@ -165,7 +190,8 @@ public class ProxyConfig implements Serializable {
 		sb.append("optimize=").append(this.optimize).append("; ");
 		sb.append("opaque=").append(this.opaque).append("; ");
 		sb.append("exposeProxy=").append(this.exposeProxy).append("; ");
-		sb.append("frozen=").append(this.frozen);
+		sb.append("frozen=").append(this.frozen).append("; ");
+		sb.append("generateInvokers=").append(this.generateInvokers);
 		return sb.toString();
 	}
 
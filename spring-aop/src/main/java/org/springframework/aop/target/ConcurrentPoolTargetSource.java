@@ -0,0 +1,400 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.aop.target;
+
+import java.util.Deque;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.core.NamedThreadLocal;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link org.springframework.aop.TargetSource} implementation that holds
+ * objects in a built-in pool designed for high concurrency, without any
+ * dependency on an external pooling library.
+ *
+ * <p>Idle objects are kept in a lock-free deque, reusing the most recently
+ * released object first. In addition, each thread remembers the object that
+ * it has borrowed last: as long as that object is idle, it is reclaimed
+ * directly on the next borrow operation in the same thread, and the release
+ * of the object identifies it without any lookup. The pool size limit is
+ * enforced through a non-fair {@link Semaphore}, parking waiting threads
+ * without holding any monitor, so borrowing an object does not pin virtual
+ * threads to their carrier thread.
+ *
+ * <p>Provides configuration properties similar to {@link CommonsPool2TargetSource}:
+ * maximum size, minimum and maximum idle objects, maximum waiting time and
+ * whether to block when the pool is exhausted. The minimum number of idle
+ * objects is created eagerly when the pool is created. There are no eviction
+ * runs; idle objects beyond the maximum number are destroyed on release.
+ *
+ * @since 6.2
+ * @see #setMaxSize
+ * @see #setMaxIdle
+ * @see #setMinIdle
+ * @see #setMaxWait
+ * @see #setBlockWhenExhausted
+ */
+@SuppressWarnings("serial")
+public class ConcurrentPoolTargetSource extends AbstractPoolingTargetSource {
+
+	/**
+	 * Default maximum size of the pool, as well as maximum number of idle objects.
+	 */
+	public static final int DEFAULT_MAX_SIZE = 8;
+
+	private static final int IDLE = 0;
+
+	private static final int IN_USE = 1;
+
+	private static final int RETURNING = 2;
+
+	private static final int DESTROYED = 3;
+
+
+	private int maxIdle = DEFAULT_MAX_SIZE;
+
+	private int minIdle = 0;
+
+	private long maxWait = -1;
+
+	private boolean blockWhenExhausted = true;
+
+	/**
+	 * The object that the current thread has borrowed last.
+	 * Meant to be per thread per instance of the ConcurrentPoolTargetSource class.
+	 */
+	private final ThreadLocal<PooledTarget> lastTarget =
+			new NamedThreadLocal<>("Last pooled instance of bean") {
+				@Override
+				public String toString() {
+					return super.toString() + " '" + getTargetBeanName() + "'";
+				}
+			};
+
+	/** Idle objects, most recently released first; may contain objects claimed by their last thread. */
+	private final Deque<PooledTarget> idleTargets = new ConcurrentLinkedDeque<>();
+
+	/** All objects managed by this pool, keyed by identity. */
+	private final Map<TargetKey, PooledTarget> allTargets = new ConcurrentHashMap<>();
+
+	private final AtomicInteger idleCount = new AtomicInteger();
+
+	@Nullable
+	private Semaphore permits;
+
+	private volatile boolean closed;
+
+
+	/**
+	 * Create a ConcurrentPoolTargetSource with default settings.
+	 * Default maximum size of the pool is 8.
+	 * @see #setMaxSize
+	 */
+	public ConcurrentPoolTargetSource() {
+		setMaxSize(DEFAULT_MAX_SIZE);
+	}
+
+
+	/**
+	 * Set the maximum number of idle objects in the pool.
+	 * Default is 8; a negative value indicates no limit.
+	 */
+	public void setMaxIdle(int maxIdle) {
+		this.maxIdle = maxIdle;
+	}
+
+	/**
+	 * Return the maximum number of idle objects in the pool.
+	 */
+	public int getMaxIdle() {
+		return this.maxIdle;
+	}
+
+	/**
+	 * Set the minimum number of idle objects in the pool, created eagerly
+	 * when the pool is created. Default is 0.
+	 */
+	public void setMinIdle(int minIdle) {
+		this.minIdle = minIdle;
+	}
+
+	/**
+	 * Return the minimum number of idle objects in the pool.
+	 */
+	public int getMinIdle() {
+		return this.minIdle;
+	}
+
+	/**
+	 * Set the maximum waiting time in milliseconds for fetching an object
+	 * from the pool. Default is -1, waiting forever.
+	 */
+	public void setMaxWait(long maxWait) {
+		this.maxWait = maxWait;
+	}
+
+	/**
+	 * Return the maximum waiting time for fetching an object from the pool.
+	 */
+	public long getMaxWait() {
+		return this.maxWait;
+	}
+
+	/**
+	 * Set whether the call should block when the pool is exhausted.
+	 * Default is "true"; otherwise a {@link NoSuchElementException}
+	 * is thrown right away.
+	 */
+	public void setBlockWhenExhausted(boolean blockWhenExhausted) {
+		this.blockWhenExhausted = blockWhenExhausted;
+	}
+
+	/**
+	 * Specify if the call should block when the pool is exhausted.
+	 */
+	public boolean isBlockWhenExhausted() {
+		return this.blockWhenExhausted;
+	}
+
+
+	/**
+	 * Creates the pool, eagerly creating the minimum number of idle objects.
+	 * @see #setMinIdle
+	 */
+	@Override
+	protected final void createPool() {
+		logger.debug("Creating concurrent object pool");
+		Assert.state(getMaxSize() < 0 || getMinIdle() <= getMaxSize(), "'minIdle' must not exceed 'maxSize'");
+		this.permits = (getMaxSize() >= 0 ? new Semaphore(getMaxSize()) : null);
+		for (int i = 0; i < getMinIdle(); i++) {
+			PooledTarget pooled = createTarget();
+			this.idleCount.incrementAndGet();
+			pooled.state.set(IDLE);
+			enqueue(pooled);
+		}
+	}
+
+
+	/**
+	 * Borrows an object from the pool, creating a new object if none is idle
+	 * and the maximum size has not been reached yet.
+	 * @throws NoSuchElementException if the pool is exhausted and the call
+	 * is not meant to block, or if the maximum waiting time has been exceeded
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	@Override
+	public Object getTarget() throws Exception {
+		Assert.state(!this.closed, "ConcurrentPoolTargetSource has been closed");
+		acquirePermit();
+		try {
+			PooledTarget pooled = this.lastTarget.get();
+			if (pooled == null || !claim(pooled)) {
+				pooled = pollIdleTarget();
+				if (pooled == null) {
+					pooled = createTarget();
+				}
+				this.lastTarget.set(pooled);
+			}
+			return pooled.target;
+		}
+		catch (Throwable ex) {
+			releasePermit();
+			throw ex;
+		}
+	}
+
+	/**
+	 * Returns the specified object to the pool, destroying it instead
+	 * if the maximum number of idle objects has been reached already.
+	 * @throws IllegalStateException if the given object is not currently
+	 * borrowed from this pool
+	 */
+	@Override
+	public void releaseTarget(Object target) throws Exception {
+		PooledTarget pooled = this.lastTarget.get();
+		if (pooled == null || pooled.target != target) {
+			pooled = this.allTargets.get(new TargetKey(target));
+		}
+		if (pooled == null || !pooled.state.compareAndSet(IN_USE, RETURNING)) {
+			throw new IllegalStateException("Returned object not currently part of this pool: " + target);
+		}
+		try {
+			if (!this.closed && reserveIdleSlot()) {
+				pooled.state.set(IDLE);
+				enqueue(pooled);
+			}
+			else {
+				destroyTarget(pooled);
+			}
+		}
+		finally {
+			releasePermit();
+		}
+	}
+
+	@Override
+	public int getActiveCount() throws UnsupportedOperationException {
+		return Math.max(this.allTargets.size() - this.idleCount.get(), 0);
+	}
+
+	@Override
+	public int getIdleCount() throws UnsupportedOperationException {
+		return this.idleCount.get();
+	}
+
+
+	/**
+	 * Closes the pool, destroying all idle objects right away
+	 * and all active objects on release.
+	 */
+	@Override
+	public void destroy() throws Exception {
+		logger.debug("Closing concurrent object pool");
+		this.closed = true;
+		PooledTarget pooled;
+		while ((pooled = this.idleTargets.pollFirst()) != null) {
+			pooled.queued.set(false);
+			if (pooled.state.compareAndSet(IDLE, DESTROYED)) {
+				this.idleCount.decrementAndGet();
+				this.allTargets.remove(new TargetKey(pooled.target));
+				destroyPrototypeInstance(pooled.target);
+			}
+		}
+		this.lastTarget.remove();
+	}
+
+
+	private void acquirePermit() throws InterruptedException {
+		Semaphore permits = this.permits;
+		if (permits == null || permits.tryAcquire()) {
+			return;
+		}
+		if (!isBlockWhenExhausted()) {
+			throw new NoSuchElementException("Pool exhausted");
+		}
+		if (getMaxWait() < 0) {
+			permits.acquire();
+		}
+		else if (!permits.tryAcquire(getMaxWait(), TimeUnit.MILLISECONDS)) {
+			throw new NoSuchElementException("Timeout waiting for idle object, maxWait=" + getMaxWait() + "ms");
+		}
+	}
+
+	private void releasePermit() {
+		Semaphore permits = this.permits;
+		if (permits != null) {
+			permits.release();
+		}
+	}
+
+	private boolean claim(PooledTarget pooled) {
+		if (pooled.state.compareAndSet(IDLE, IN_USE)) {
+			this.idleCount.decrementAndGet();
+			return true;
+		}
+		return false;
+	}
+
+	@Nullable
+	private PooledTarget pollIdleTarget() {
+		PooledTarget pooled;
+		while ((pooled = this.idleTargets.pollFirst()) != null) {
+			pooled.queued.set(false);
+			// Skip objects that have been claimed by their last thread in the meantime
+			if (claim(pooled)) {
+				return pooled;
+			}
+		}
+		return null;
+	}
+
+	private void enqueue(PooledTarget pooled) {
+		// An object claimed by its last thread may still be in the deque from its previous release
+		if (pooled.queued.compareAndSet(false, true)) {
+			this.idleTargets.offerFirst(pooled);
+		}
+	}
+
+	private boolean reserveIdleSlot() {
+		int maxIdle = getMaxIdle();
+		while (true) {
+			int idle = this.idleCount.get();
+			if (maxIdle >= 0 && idle >= maxIdle) {
+				return false;
+			}
+			if (this.idleCount.compareAndSet(idle, idle + 1)) {
+				return true;
+			}
+		}
+	}
+
+	private PooledTarget createTarget() {
+		PooledTarget pooled = new PooledTarget(newPrototypeInstance());
+		this.allTargets.put(new TargetKey(pooled.target), pooled);
+		return pooled;
+	}
+
+	private void destroyTarget(PooledTarget pooled) {
+		pooled.state.set(DESTROYED);
+		this.allTargets.remove(new TargetKey(pooled.target));
+		destroyPrototypeInstance(pooled.target);
+	}
+
+
+	/**
+	 * Holder for a pooled object along with its pooling state.
+	 */
+	private static final class PooledTarget {
+
+		final Object target;
+
+		final AtomicInteger state = new AtomicInteger(IN_USE);
+
+		final AtomicBoolean queued = new AtomicBoolean();
+
+		PooledTarget(Object target) {
+			this.target = target;
+		}
+	}
+
+
+	/**
+	 * Identity-based key for a pooled object.
+	 */
+	private record TargetKey(Object target) {
+
+		@Override
+		public boolean equals(@Nullable Object other) {
+			return (this == other || (other instanceof TargetKey that && this.target == that.target));
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(this.target);
+		}
+	}
+
+}
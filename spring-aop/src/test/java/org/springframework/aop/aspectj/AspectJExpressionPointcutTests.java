@@ -16,15 +16,21 @@
 
 package org.springframework.aop.aspectj;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
+import org.aspectj.lang.annotation.Pointcut;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import test.annotation.EmptySpringAnnotation;
 import test.annotation.transaction.Tx;
 
@@ -37,6 +43,10 @@ import org.springframework.beans.testfixture.beans.IOther;
 import org.springframework.beans.testfixture.beans.ITestBean;
 import org.springframework.beans.testfixture.beans.TestBean;
 import org.springframework.beans.testfixture.beans.subpkg.DeepBean;
+import org.springframework.core.OverridingClassLoader;
+import org.springframework.core.SpringProperties;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
@@ -290,6 +300,85 @@ class AspectJExpressionPointcutTests {
 		assertThat(expr).isEqualTo("execution(* *(..)) && args(String) && this(Object)");
 	}
 
+	@Test
+	void persistentShadowMatchCache(@TempDir Path tempDir) {
+		Path file = tempDir.resolve("shadow-matches");
+		SpringProperties.setProperty(PersistentShadowMatchCache.CACHE_FILE_PROPERTY_NAME, file.toString());
+		ShadowMatchUtils.clearCache();
+		try {
+			String expression = "execution(int org.springframework.beans.testfixture.beans.TestBean.getAge())";
+			AspectJExpressionPointcut pointcut = getPointcut(expression);
+			assertThat(pointcut.matches(getAge, TestBean.class)).isTrue();
+			assertThat(pointcut.matches(setAge, TestBean.class)).isFalse();
+			PersistentShadowMatchCache.forFile(file).flush();
+			assertThat(file).exists();
+
+			PersistentShadowMatchCache reloaded = new PersistentShadowMatchCache(file);
+			String key = pointcut.getPersistentCacheKey(reloaded);
+			assertThat(key).startsWith(expression);
+			assertThat(reloaded.getMatch(key, getAge, getAge)).isTrue();
+			assertThat(reloaded.getMatch(key, setAge, setAge)).isFalse();
+			assertThat(reloaded.getMatch(key, setSomeNumber, setSomeNumber)).isNull();
+			assertThat(reloaded.getMatch("execution(* *(..))", getAge, getAge)).isNull();
+		}
+		finally {
+			SpringProperties.setProperty(PersistentShadowMatchCache.CACHE_FILE_PROPERTY_NAME, null);
+			ShadowMatchUtils.clearCache();
+		}
+	}
+
+	@Test
+	void persistentShadowMatchCacheIgnoresParameterBindings(@TempDir Path tempDir) {
+		Path file = tempDir.resolve("shadow-matches");
+		SpringProperties.setProperty(PersistentShadowMatchCache.CACHE_FILE_PROPERTY_NAME, file.toString());
+		ShadowMatchUtils.clearCache();
+		try {
+			AspectJExpressionPointcut pointcut = getPointcut("execution(* setAge(int)) && args(age)");
+			pointcut.setParameterNames("age");
+			pointcut.setParameterTypes(int.class);
+			assertThat(pointcut.matches(setAge, TestBean.class)).isTrue();
+			PersistentShadowMatchCache.forFile(file).flush();
+			assertThat(file).doesNotExist();
+		}
+		finally {
+			SpringProperties.setProperty(PersistentShadowMatchCache.CACHE_FILE_PROPERTY_NAME, null);
+			ShadowMatchUtils.clearCache();
+		}
+	}
+
+	@Test
+	void persistentShadowMatchCacheDetectsChangedNamedPointcut(@TempDir Path tempDir) throws Exception {
+		Path file = tempDir.resolve("shadow-matches");
+		SpringProperties.setProperty(PersistentShadowMatchCache.CACHE_FILE_PROPERTY_NAME, file.toString());
+		ShadowMatchUtils.clearCache();
+		try {
+			AspectJExpressionPointcut pointcut = getPointcut("ageAccessor()");
+			pointcut.setPointcutDeclarationScope(NamedPointcuts.class);
+			assertThat(pointcut.matches(getAge, TestBean.class)).isTrue();
+			PersistentShadowMatchCache.forFile(file).flush();
+
+			// Same class, but with "execution(int getAge())" changed to "execution(* setAge(..))"
+			Class<?> changedScope = new NamedPointcutsClassLoader(getClass().getClassLoader())
+					.loadClass(NamedPointcuts.class.getName());
+			assertThat(changedScope).isNotSameAs(NamedPointcuts.class);
+			AspectJExpressionPointcut changed = getPointcut("ageAccessor()");
+			changed.setPointcutDeclarationScope(changedScope);
+
+			PersistentShadowMatchCache reloaded = new PersistentShadowMatchCache(file);
+			String key = pointcut.getPersistentCacheKey(reloaded);
+			String changedKey = changed.getPersistentCacheKey(reloaded);
+			assertThat(changedKey).isNotNull().isNotEqualTo(key);
+			assertThat(reloaded.getMatch(key, getAge, getAge)).isTrue();
+			assertThat(reloaded.getMatch(changedKey, getAge, getAge)).isNull();
+			assertThat(changed.matches(getAge, TestBean.class)).isFalse();
+			assertThat(changed.matches(setAge, TestBean.class)).isTrue();
+		}
+		finally {
+			SpringProperties.setProperty(PersistentShadowMatchCache.CACHE_FILE_PROPERTY_NAME, null);
+			ShadowMatchUtils.clearCache();
+		}
+	}
+
 	private AspectJExpressionPointcut getPointcut(String expression) {
 		AspectJExpressionPointcut pointcut = new AspectJExpressionPointcut();
 		pointcut.setExpression(expression);
@@ -514,6 +603,56 @@ class AspectJExpressionPointcutTests {
 	}
 
 
+	public static class NamedPointcuts {
+
+		@Pointcut("execution(int getAge())")
+		public void ageAccessor() {
+		}
+	}
+
+
+	/**
+	 * Loads {@link NamedPointcuts} with a different named pointcut definition,
+	 * exposing the changed class file as a resource as well.
+	 */
+	private static class NamedPointcutsClassLoader extends OverridingClassLoader {
+
+		private static final String CLASS_FILE_NAME = ClassUtils.convertClassNameToResourcePath(
+				NamedPointcuts.class.getName()) + ClassUtils.CLASS_FILE_SUFFIX;
+
+		NamedPointcutsClassLoader(ClassLoader parent) {
+			super(parent);
+		}
+
+		@Override
+		protected boolean isEligibleForOverriding(String className) {
+			return className.equals(NamedPointcuts.class.getName());
+		}
+
+		@Override
+		protected byte[] transformIfNecessary(String name, byte[] bytes) {
+			String content = new String(bytes, StandardCharsets.ISO_8859_1);
+			return content.replace("execution(int getAge())", "execution(* setAge(..))")
+					.getBytes(StandardCharsets.ISO_8859_1);
+		}
+
+		@Override
+		@Nullable
+		public InputStream getResourceAsStream(String name) {
+			if (name.equals(CLASS_FILE_NAME)) {
+				try {
+					byte[] bytes = loadBytesForClass(NamedPointcuts.class.getName());
+					return (bytes != null ? new ByteArrayInputStream(bytes) : null);
+				}
+				catch (ClassNotFoundException ex) {
+					return null;
+				}
+			}
+			return super.getResourceAsStream(name);
+		}
+	}
+
+
 	public static class OtherIOther implements IOther {
 
 		@Override
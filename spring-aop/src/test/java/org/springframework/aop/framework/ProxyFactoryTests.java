@@ -16,6 +16,7 @@
 
 package org.springframework.aop.framework;
 
+import java.lang.reflect.Method;
 import java.sql.SQLException;
 import java.sql.Savepoint;
 import java.util.ArrayList;
@@ -41,6 +42,8 @@ import org.springframework.core.annotation.Order;
 import org.springframework.core.testfixture.TimeStamped;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIOException;
 import static org.assertj.core.api.Assertions.assertThatRuntimeException;
 
 /**
@@ -407,6 +410,63 @@ class ProxyFactoryTests {
 	}
 
 
+	@Test
+	void generatedInvokersWithJdkProxy() throws Throwable {
+		generatedInvokers(false);
+	}
+
+	@Test
+	void generatedInvokersWithCglibProxy() throws Throwable {
+		generatedInvokers(true);
+	}
+
+	private void generatedInvokers(boolean proxyTargetClass) throws Throwable {
+		TestBean target = new TestBean("tb", 21);
+		ProxyFactory pf = new ProxyFactory(target);
+		pf.setProxyTargetClass(proxyTargetClass);
+		NopInterceptor nop = new NopInterceptor();
+		pf.addAdvice(nop);
+		pf.setGenerateInvokers(true);
+		pf.setFrozen(true);
+		ITestBean proxy = (ITestBean) pf.getProxy();
+
+		assertThat(proxy.getName()).isEqualTo("tb");
+		proxy.setAge(42);
+		assertThat(target.getAge()).isEqualTo(42);
+		assertThat(proxy.haveBirthday()).isEqualTo(42);
+		assertThat(proxy.getAge()).isEqualTo(43);
+		assertThatIOException().isThrownBy(proxy::unreliableFileOperation);
+		assertThatExceptionOfType(SQLException.class).isThrownBy(() -> proxy.exceptional(new SQLException()));
+		assertThat(nop.getCount()).isEqualTo(6);
+
+		Method getName = ITestBean.class.getMethod("getName");
+		AdvisedMethodInvoker invoker = pf.getMethodInvoker(getName, TestBean.class);
+		assertThat(invoker).isNotNull();
+		assertThat(invoker.getChain()).containsExactly(nop);
+		assertThat(pf.getMethodInvoker(getName, TestBean.class)).isSameAs(invoker);
+	}
+
+	@Test
+	void generatedInvokersOnlyForFrozenConfiguration() throws NoSuchMethodException {
+		ProxyFactory pf = new ProxyFactory(new TestBean());
+		pf.setGenerateInvokers(true);
+		Method getName = ITestBean.class.getMethod("getName");
+		assertThat(pf.getMethodInvoker(getName, TestBean.class)).isNull();
+		pf.setFrozen(true);
+		assertThat(pf.getMethodInvoker(getName, TestBean.class)).isNotNull();
+		pf.setGenerateInvokers(false);
+		assertThat(pf.getMethodInvoker(getName, TestBean.class)).isNull();
+	}
+
+	@Test
+	void generatedInvokersWithNonPublicTargetClass() {
+		ProxyFactory pf = new ProxyFactory(new B());
+		pf.setGenerateInvokers(true);
+		pf.setFrozen(true);
+		Runnable proxy = (Runnable) pf.getProxy();
+		proxy.run();
+	}
+
 	// Emulates java.util.Date locally, since we cannot automatically proxy the
 	// java.util.Date class.
 	static class MyDate {
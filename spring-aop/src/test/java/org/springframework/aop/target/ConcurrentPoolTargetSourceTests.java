@@ -0,0 +1,275 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.aop.target;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.beans.testfixture.beans.ITestBean;
+import org.springframework.beans.testfixture.beans.SerializablePerson;
+import org.springframework.beans.testfixture.beans.TestBean;
+import org.springframework.core.testfixture.io.SerializationTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link ConcurrentPoolTargetSource}.
+ */
+class ConcurrentPoolTargetSourceTests {
+
+	private final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+	private final ConcurrentPoolTargetSource targetSource = new ConcurrentPoolTargetSource();
+
+
+	@AfterEach
+	void destroy() throws Exception {
+		this.targetSource.destroy();
+	}
+
+
+	@Test
+	void sameThreadReusesLastTarget() throws Exception {
+		prepareTargetSource();
+		Object first = this.targetSource.getTarget();
+		this.targetSource.releaseTarget(first);
+		Object second = this.targetSource.getTarget();
+		assertThat(second).isSameAs(first);
+		assertThat(this.targetSource.getActiveCount()).isEqualTo(1);
+		assertThat(this.targetSource.getIdleCount()).isEqualTo(0);
+		this.targetSource.releaseTarget(second);
+		assertThat(this.targetSource.getActiveCount()).isEqualTo(0);
+		assertThat(this.targetSource.getIdleCount()).isEqualTo(1);
+	}
+
+	@Test
+	void nestedBorrowCreatesSeparateTargets() throws Exception {
+		prepareTargetSource();
+		Object outer = this.targetSource.getTarget();
+		Object inner = this.targetSource.getTarget();
+		assertThat(inner).isNotSameAs(outer);
+		this.targetSource.releaseTarget(inner);
+		this.targetSource.releaseTarget(outer);
+		assertThat(this.targetSource.getIdleCount()).isEqualTo(2);
+	}
+
+	@Test
+	void otherThreadReusesIdleTarget() throws Exception {
+		prepareTargetSource();
+		Object target = this.targetSource.getTarget();
+		this.targetSource.releaseTarget(target);
+
+		AtomicReference<Object> borrowed = new AtomicReference<>();
+		Thread thread = new Thread(() -> {
+			try {
+				borrowed.set(this.targetSource.getTarget());
+			}
+			catch (Exception ex) {
+				throw new IllegalStateException(ex);
+			}
+		});
+		thread.start();
+		thread.join();
+		assertThat(borrowed.get()).isSameAs(target);
+
+		// The last target of this thread is in use by the other thread now
+		Object other = this.targetSource.getTarget();
+		assertThat(other).isNotSameAs(target);
+		this.targetSource.releaseTarget(borrowed.get());
+		this.targetSource.releaseTarget(other);
+		assertThat(this.targetSource.getIdleCount()).isEqualTo(2);
+	}
+
+	@Test
+	void hitMaxSize() throws Exception {
+		int maxSize = 10;
+		this.targetSource.setMaxSize(maxSize);
+		this.targetSource.setMaxWait(1);
+		prepareTargetSource();
+
+		Object[] pooledInstances = new Object[maxSize];
+		for (int x = 0; x < maxSize; x++) {
+			Object instance = this.targetSource.getTarget();
+			assertThat(instance).isNotNull();
+			pooledInstances[x] = instance;
+		}
+
+		// should be at maximum now
+		assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(this.targetSource::getTarget);
+
+		// let's now release an object and try to acquire a new one
+		this.targetSource.releaseTarget(pooledInstances[9]);
+		pooledInstances[9] = this.targetSource.getTarget();
+
+		for (Object element : pooledInstances) {
+			this.targetSource.releaseTarget(element);
+		}
+		assertThat(this.targetSource.getActiveCount()).isEqualTo(0);
+		assertThat(this.targetSource.getIdleCount()).isEqualTo(8);
+	}
+
+	@Test
+	void failWhenExhausted() throws Exception {
+		this.targetSource.setMaxSize(1);
+		this.targetSource.setBlockWhenExhausted(false);
+		prepareTargetSource();
+
+		Object target = this.targetSource.getTarget();
+		assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(this.targetSource::getTarget);
+		this.targetSource.releaseTarget(target);
+		assertThat(this.targetSource.getTarget()).isSameAs(target);
+	}
+
+	@Test
+	void minIdleCreatedEagerly() {
+		this.targetSource.setMinIdle(3);
+		prepareTargetSource();
+		assertThat(this.targetSource.getIdleCount()).isEqualTo(3);
+		assertThat(this.targetSource.getActiveCount()).isEqualTo(0);
+	}
+
+	@Test
+	void maxIdleDestroysSurplusTargets() throws Exception {
+		this.targetSource.setMaxIdle(1);
+		prepareTargetSource();
+
+		Object first = this.targetSource.getTarget();
+		Object second = this.targetSource.getTarget();
+		this.targetSource.releaseTarget(first);
+		this.targetSource.releaseTarget(second);
+		assertThat(this.targetSource.getIdleCount()).isEqualTo(1);
+		assertThat(this.targetSource.getActiveCount()).isEqualTo(0);
+	}
+
+	@Test
+	void releaseUnknownTarget() throws Exception {
+		prepareTargetSource();
+		assertThatIllegalStateException().isThrownBy(() -> this.targetSource.releaseTarget(new SerializablePerson()));
+
+		Object target = this.targetSource.getTarget();
+		this.targetSource.releaseTarget(target);
+		assertThatIllegalStateException().isThrownBy(() -> this.targetSource.releaseTarget(target));
+	}
+
+	@Test
+	void concurrentBorrowing() throws Exception {
+		int maxSize = 4;
+		this.targetSource.setMaxSize(maxSize);
+		prepareTargetSource();
+
+		Set<Object> created = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+		AtomicInteger active = new AtomicInteger();
+		AtomicInteger maxActive = new AtomicInteger();
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		CountDownLatch latch = new CountDownLatch(1);
+		List<Thread> threads = new ArrayList<>();
+		for (int i = 0; i < 16; i++) {
+			threads.add(new Thread(() -> {
+				try {
+					latch.await();
+					for (int j = 0; j < 1000; j++) {
+						Object target = this.targetSource.getTarget();
+						created.add(target);
+						maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+						active.decrementAndGet();
+						this.targetSource.releaseTarget(target);
+					}
+				}
+				catch (Throwable ex) {
+					failure.set(ex);
+				}
+			}));
+		}
+		threads.forEach(Thread::start);
+		latch.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertThat(failure.get()).isNull();
+		assertThat(maxActive.get()).isLessThanOrEqualTo(maxSize);
+		assertThat(created).hasSizeLessThanOrEqualTo(maxSize);
+		assertThat(this.targetSource.getActiveCount()).isEqualTo(0);
+		assertThat(this.targetSource.getIdleCount()).isEqualTo(created.size());
+	}
+
+	@Test
+	void proxyWithPoolingConfigMixin() {
+		prepareTargetSource();
+		ProxyFactory pf = new ProxyFactory();
+		pf.setTargetSource(this.targetSource);
+		pf.addInterface(ITestBean.class);
+		pf.addAdvisor(this.targetSource.getPoolingConfigMixin());
+		ITestBean proxy = (ITestBean) pf.getProxy();
+
+		proxy.setAge(42);
+		assertThat(proxy.getAge()).isEqualTo(42);
+		PoolingConfig config = (PoolingConfig) proxy;
+		assertThat(config.getMaxSize()).isEqualTo(ConcurrentPoolTargetSource.DEFAULT_MAX_SIZE);
+		assertThat(config.getIdleCount()).isEqualTo(1);
+	}
+
+	@Test
+	void serializableWithoutConfigMixin() throws Exception {
+		RootBeanDefinition bd = new RootBeanDefinition(SerializablePerson.class);
+		bd.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+		this.beanFactory.registerBeanDefinition("person", bd);
+		this.targetSource.setTargetBeanName("person");
+		this.targetSource.setBeanFactory(this.beanFactory);
+
+		SingletonTargetSource serialized =
+				SerializationTestUtils.serializeAndDeserialize(this.targetSource, SingletonTargetSource.class);
+		assertThat(serialized.getTarget()).isInstanceOf(SerializablePerson.class);
+	}
+
+	@Test
+	void closedPool() throws Exception {
+		prepareTargetSource();
+		Object target = this.targetSource.getTarget();
+		this.targetSource.destroy();
+		assertThatIllegalStateException().isThrownBy(this.targetSource::getTarget);
+		this.targetSource.releaseTarget(target);
+		assertThat(this.targetSource.getIdleCount()).isEqualTo(0);
+		assertThat(this.targetSource.getActiveCount()).isEqualTo(0);
+	}
+
+
+	private void prepareTargetSource() {
+		RootBeanDefinition bd = new RootBeanDefinition(TestBean.class);
+		bd.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+		this.beanFactory.registerBeanDefinition("target", bd);
+		this.targetSource.setTargetBeanName("target");
+		this.targetSource.setBeanFactory(this.beanFactory);
+	}
+
+}
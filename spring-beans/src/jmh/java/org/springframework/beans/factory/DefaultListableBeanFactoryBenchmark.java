@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,12 +24,15 @@ import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 
+import org.springframework.beans.PropertyValues;
 import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.InstantiationAwareBeanPostProcessor;
 import org.springframework.beans.factory.config.RuntimeBeanReference;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.beans.testfixture.beans.LifecycleBean;
 import org.springframework.beans.testfixture.beans.TestBean;
+import org.springframework.core.ResolvableType;
 
 /**
  * Benchmark for retrieving various bean types from the {@link DefaultListableBeanFactory}.
@@ -46,12 +49,17 @@ public class DefaultListableBeanFactoryBenchmark {
 	@State(Scope.Benchmark)
 	public static class PrototypeCreationState extends Shared {
 
-		@Param({"simple", "dependencyCheck", "constructor", "constructorArgument", "properties", "resolvedProperties"})
+		@Param({"simple", "dependencyCheck", "constructor", "constructorArgument", "properties", "resolvedProperties",
+				"postProcessors"})
 		public String mode;
 
+		@Param({"false", "true"})
+		public boolean generateInstantiators;
+
 		@Setup
 		public void setup() {
 			this.beanFactory = new DefaultListableBeanFactory();
+			this.beanFactory.setGenerateInstantiators(this.generateInstantiators);
 			RootBeanDefinition rbd = new RootBeanDefinition(TestBean.class);
 
 			switch (this.mode) {
@@ -79,6 +87,11 @@ public class DefaultListableBeanFactoryBenchmark {
 					rbd.getPropertyValues().add("spouse", new RuntimeBeanReference("spouse"));
 					this.beanFactory.registerBeanDefinition("spouse", new RootBeanDefinition(TestBean.class));
 				}
+				case "postProcessors" -> {
+					for (int i = 0; i < 30; i++) {
+						this.beanFactory.addBeanPostProcessor(new NotApplicablePostProcessor());
+					}
+				}
 			}
 			rbd.setScope(BeanDefinition.SCOPE_PROTOTYPE);
 			this.beanFactory.registerBeanDefinition("test", rbd);
@@ -92,6 +105,19 @@ public class DefaultListableBeanFactoryBenchmark {
 		return state.beanFactory.getBean("test");
 	}
 
+	static class NotApplicablePostProcessor implements InstantiationAwareBeanPostProcessor {
+
+		@Override
+		public boolean isApplicableTo(Class<?> beanClass) {
+			return false;
+		}
+
+		@Override
+		public PropertyValues postProcessProperties(PropertyValues pvs, Object bean, String beanName) {
+			return pvs;
+		}
+	}
+
 	@State(Scope.Benchmark)
 	public static class SingletonLookupState extends Shared {
 
@@ -133,10 +159,54 @@ public class DefaultListableBeanFactoryBenchmark {
 		return state.beanFactory.getBean(B.class);
 	}
 
+	@State(Scope.Benchmark)
+	public static class LargeContextState extends Shared {
+
+		@Param({"1000", "10000"})
+		public int beanCount;
+
+		public ResolvableType genericType = ResolvableType.forClassWithGenerics(Repository.class, String.class);
+
+		@Setup
+		public void setup() {
+			this.beanFactory = new DefaultListableBeanFactory();
+			for (int i = 0; i < this.beanCount; i++) {
+				Class<?> beanClass = switch (i % 4) {
+					case 0 -> A.class;
+					case 1 -> B.class;
+					case 2 -> StringRepository.class;
+					default -> TestBean.class;
+				};
+				this.beanFactory.registerBeanDefinition("bean" + i, new RootBeanDefinition(beanClass));
+			}
+			this.beanFactory.freezeConfiguration();
+		}
+	}
+
+	@Benchmark
+	public String[] beanNamesForGenericTypeLargeContext(LargeContextState state) {
+		return state.beanFactory.getBeanNamesForType(state.genericType);
+	}
+
+	@Benchmark
+	public String[] beanNamesForTypeAfterRegistrationLargeContext(LargeContextState state) {
+		// Registration clears the by-type cache, forcing a fresh lookup
+		state.beanFactory.registerBeanDefinition("late", new RootBeanDefinition(B.class));
+		String[] beanNames = state.beanFactory.getBeanNamesForType(A.class);
+		state.beanFactory.removeBeanDefinition("late");
+		return beanNames;
+	}
+
 	static class A {
 	}
 
 	static class B {
 	}
 
+	interface Repository<T> {
+	}
+
+	static class StringRepository implements Repository<String> {
+	}
+
 }
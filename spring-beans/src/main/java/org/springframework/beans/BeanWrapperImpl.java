@@ -17,7 +17,10 @@
 package org.springframework.beans;
 
 import java.beans.PropertyDescriptor;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import org.apache.commons.logging.LogFactory;
 
@@ -269,6 +272,15 @@ public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements
 		@Override
 		@Nullable
 		public Object getValue() throws Exception {
+			Function<Object, Object> readAccessor = this.pd.getReadAccessor();
+			if (readAccessor != null) {
+				try {
+					return readAccessor.apply(getWrappedInstance());
+				}
+				catch (Throwable ex) {
+					throw new InvocationTargetException(ex);
+				}
+			}
 			Method readMethod = this.pd.getReadMethod();
 			Assert.state(readMethod != null, "No read method available");
 			ReflectionUtils.makeAccessible(readMethod);
@@ -278,6 +290,16 @@ public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements
 		@Override
 		public void setValue(@Nullable Object value) throws Exception {
 			Method writeMethod = this.pd.getWriteMethodForActualAccess();
+			BiConsumer<Object, Object> writeAccessor = this.pd.getWriteAccessor(value);
+			if (writeAccessor != null) {
+				try {
+					writeAccessor.accept(getWrappedInstance(), value);
+					return;
+				}
+				catch (Throwable ex) {
+					throw new InvocationTargetException(ex);
+				}
+			}
 			ReflectionUtils.makeAccessible(writeMethod);
 			writeMethod.invoke(getWrappedInstance(), value);
 		}
@@ -34,6 +34,7 @@ import java.util.concurrent.ConcurrentMap;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import org.springframework.core.SpringProperties;
 import org.springframework.core.io.support.SpringFactoriesLoader;
 import org.springframework.lang.Nullable;
 import org.springframework.util.ClassUtils;
@@ -66,6 +67,9 @@ import org.springframework.util.StringUtils;
  * For Spring 5.3 compatible extended introspection including non-void setter methods:
  * {@code org.springframework.beans.BeanInfoFactory=org.springframework.beans.ExtendedBeanInfoFactory}
  *
+ * <p>As of 6.2, read and write methods may be invoked through generated accessor
+ * functions instead of reflection, see {@link #GENERATE_ACCESSORS_PROPERTY_NAME}.
+ *
  * @author Rod Johnson
  * @author Juergen Hoeller
  * @since 05 May 2001
@@ -75,6 +79,23 @@ import org.springframework.util.StringUtils;
  */
 public final class CachedIntrospectionResults {
 
+	/**
+	 * System property that instructs Spring to generate accessor functions for
+	 * bean property read and write methods through
+	 * {@link java.lang.invoke.LambdaMetafactory}, used by {@link BeanWrapperImpl}
+	 * instead of reflective method invocations: {@code "spring.beaninfo.generate-accessors"}.
+	 * <p>The default is "false", avoiding the upfront cost of generating a class per
+	 * accessor. Consider switching this flag to "true" for applications that read
+	 * or write the same bean properties many times, e.g. for data binding or
+	 * result set mapping. Methods which cannot be accessed through a private
+	 * {@link java.lang.invoke.MethodHandles.Lookup lookup} are still invoked
+	 * through reflection.
+	 * <p>The flag is evaluated when introspecting a class for the first time.
+	 * @since 6.2
+	 * @see #clearClassLoader(ClassLoader)
+	 */
+	public static final String GENERATE_ACCESSORS_PROPERTY_NAME = "spring.beaninfo.generate-accessors";
+
 	private static final List<BeanInfoFactory> beanInfoFactories = SpringFactoriesLoader.loadFactories(
 			BeanInfoFactory.class, CachedIntrospectionResults.class.getClassLoader());
 
@@ -294,6 +315,12 @@ public final class CachedIntrospectionResults {
 			// - accessor method directly referring to instance field of same name
 			// - same convention for component accessors of Java 15 record classes
 			introspectPlainAccessors(beanClass, readMethodNames);
+
+			if (SpringProperties.getFlag(GENERATE_ACCESSORS_PROPERTY_NAME)) {
+				for (PropertyDescriptor pd : this.propertyDescriptors.values()) {
+					((GenericTypeAwarePropertyDescriptor) pd).generateAccessors();
+				}
+			}
 		}
 		catch (IntrospectionException ex) {
 			throw new FatalBeanException("Failed to obtain BeanInfo for class [" + beanClass.getName() + "]", ex);
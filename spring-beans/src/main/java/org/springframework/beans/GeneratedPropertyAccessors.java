@@ -0,0 +1,115 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Internal helper that generates {@link Function} and {@link BiConsumer}
+ * implementations invoking bean property read and write methods directly,
+ * through {@link LambdaMetafactory}, as an alternative to reflective
+ * {@link Method#invoke} calls.
+ *
+ * <p>Generation fails for methods that are not accessible through a private
+ * lookup in their declaring class, e.g. for classes in a module that does not
+ * open the corresponding package. Callers need to fall back to reflection then.
+ *
+ * @since 6.2
+ * @see CachedIntrospectionResults#GENERATE_ACCESSORS_PROPERTY_NAME
+ */
+abstract class GeneratedPropertyAccessors {
+
+	private static final Log logger = LogFactory.getLog(GeneratedPropertyAccessors.class);
+
+	private static final MethodType GETTER_FACTORY_TYPE = MethodType.methodType(Function.class);
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private static final MethodType SETTER_FACTORY_TYPE = MethodType.methodType(BiConsumer.class);
+
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+
+	/**
+	 * Generate a getter function for the given read method.
+	 * @param readMethod the no-arg read method
+	 * @return the getter function, or {@code null} if it could not be generated
+	 */
+	@SuppressWarnings("unchecked")
+	@Nullable
+	static Function<Object, Object> generateGetter(Method readMethod) {
+		try {
+			MethodHandles.Lookup lookup = lookupFor(readMethod);
+			MethodHandle target = lookup.unreflect(readMethod);
+			CallSite callSite = LambdaMetafactory.metafactory(lookup, "apply", GETTER_FACTORY_TYPE,
+					GETTER_TYPE, target, target.type().wrap());
+			return (Function<Object, Object>) callSite.getTarget().invoke();
+		}
+		catch (Throwable ex) {
+			logFailure(readMethod, ex);
+			return null;
+		}
+	}
+
+	/**
+	 * Generate a setter function for the given write method.
+	 * <p>The returned function does not check the type of the value: callers
+	 * need to ensure that it is assignable to the method's parameter type.
+	 * @param writeMethod the single-arg write method
+	 * @return the setter function, or {@code null} if it could not be generated
+	 */
+	@SuppressWarnings("unchecked")
+	@Nullable
+	static BiConsumer<Object, Object> generateSetter(Method writeMethod) {
+		try {
+			MethodHandles.Lookup lookup = lookupFor(writeMethod);
+			MethodHandle target = lookup.unreflect(writeMethod);
+			// Return values of builder-style write methods get discarded
+			MethodType instantiatedType = target.type().wrap().changeReturnType(void.class);
+			CallSite callSite = LambdaMetafactory.metafactory(lookup, "accept", SETTER_FACTORY_TYPE,
+					SETTER_TYPE, target, instantiatedType);
+			return (BiConsumer<Object, Object>) callSite.getTarget().invoke();
+		}
+		catch (Throwable ex) {
+			logFailure(writeMethod, ex);
+			return null;
+		}
+	}
+
+	private static MethodHandles.Lookup lookupFor(Method method) throws IllegalAccessException {
+		return MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+	}
+
+	private static void logFailure(Method method, Throwable ex) {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Could not generate accessor for [" + method + "] - falling back to reflection", ex);
+		}
+	}
+
+}
@@ -22,6 +22,8 @@ import java.lang.reflect.Method;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import org.apache.commons.logging.LogFactory;
 
@@ -76,6 +78,12 @@ final class GenericTypeAwarePropertyDescriptor extends PropertyDescriptor {
 	@Nullable
 	private final Class<?> propertyEditorClass;
 
+	@Nullable
+	private Function<Object, Object> readAccessor;
+
+	@Nullable
+	private BiConsumer<Object, Object> writeAccessor;
+
 
 	public GenericTypeAwarePropertyDescriptor(Class<?> beanClass, String propertyName,
 			@Nullable Method readMethod, @Nullable Method writeMethod,
@@ -179,6 +187,45 @@ final class GenericTypeAwarePropertyDescriptor extends PropertyDescriptor {
 		return null;
 	}
 
+	/**
+	 * Generate direct accessor functions for the read and write method,
+	 * to be exposed through {@link #getReadAccessor()} and
+	 * {@link #getWriteAccessor(Object)}.
+	 * @see GeneratedPropertyAccessors
+	 */
+	void generateAccessors() {
+		if (this.readMethod != null) {
+			this.readAccessor = GeneratedPropertyAccessors.generateGetter(this.readMethod);
+		}
+		if (this.writeMethod != null) {
+			this.writeAccessor = GeneratedPropertyAccessors.generateSetter(this.writeMethod);
+		}
+	}
+
+	/**
+	 * Return the generated function for invoking the read method,
+	 * or {@code null} if reflection needs to be used.
+	 */
+	@Nullable
+	public Function<Object, Object> getReadAccessor() {
+		return this.readAccessor;
+	}
+
+	/**
+	 * Return the generated function for invoking the write method with the given
+	 * value, or {@code null} if reflection needs to be used - including the case
+	 * of a value which is not assignable to the write method's parameter type.
+	 */
+	@Nullable
+	public BiConsumer<Object, Object> getWriteAccessor(@Nullable Object value) {
+		BiConsumer<Object, Object> writeAccessor = this.writeAccessor;
+		if (writeAccessor != null && this.writeMethodParameter != null &&
+				ClassUtils.isAssignableValue(this.writeMethodParameter.getParameterType(), value)) {
+			return writeAccessor;
+		}
+		return null;
+	}
+
 	public boolean hasUniqueWriteMethod() {
 		return (this.writeMethod != null && this.ambiguousWriteMethods == null);
 	}
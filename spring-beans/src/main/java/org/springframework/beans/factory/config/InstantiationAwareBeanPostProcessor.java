@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -109,4 +109,25 @@ public interface InstantiationAwareBeanPostProcessor extends BeanPostProcessor {
 		return pvs;
 	}
 
+	/**
+	 * Determine whether this post-processor applies to beans of the given class.
+	 * <p>If this method returns {@code false}, the bean factory skips all of this
+	 * post-processor's instantiation-aware callbacks for beans of the given class,
+	 * including the callbacks of the extended
+	 * {@link SmartInstantiationAwareBeanPostProcessor} interface. Initialization
+	 * callbacks from the plain {@link BeanPostProcessor} interface still apply.
+	 * <p>This method is called at most once per bean class for each post-processor
+	 * registration, with the bean factory caching the applicable post-processors.
+	 * Implementations should therefore not depend on specific bean instances.
+	 * <p>The default implementation returns {@code true}.
+	 * @param beanClass the class of the bean: either the bean type to be instantiated
+	 * or the class of the bean instance created (possibly a generated subclass)
+	 * @return {@code true} if the instantiation-aware callbacks of this
+	 * post-processor need to be applied to beans of the given class
+	 * @since 6.2
+	 */
+	default boolean isApplicableTo(Class<?> beanClass) {
+		return true;
+	}
+
 }
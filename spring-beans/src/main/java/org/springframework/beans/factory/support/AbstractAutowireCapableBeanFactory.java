@@ -137,6 +137,9 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 	 */
 	private boolean allowRawInjectionDespiteWrapping = false;
 
+	/** Whether to generate instantiators for the constructors of non-singleton beans. */
+	private boolean generateInstantiators = false;
+
 	/**
 	 * Dependency types to ignore on dependency check and autowire, as Set of
 	 * Class objects: for example, String. Default is none.
@@ -274,6 +277,33 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 		return this.allowRawInjectionDespiteWrapping;
 	}
 
+	/**
+	 * Set whether to generate instantiators for the resolved constructors of
+	 * prototype and custom-scoped beans, invoking the constructor through a
+	 * {@link java.lang.invoke.MethodHandle} bound once instead of going through
+	 * reflection on every creation.
+	 * <p>This only speeds up the constructor invocation itself, which mostly matters
+	 * for non-singleton beans that are created very frequently. Post-processors,
+	 * property population and initialization callbacks still run for every instance.
+	 * <p>Default is "false". Applies to any {@link SimpleInstantiationStrategy},
+	 * including the default {@link CglibSubclassingInstantiationStrategy}.
+	 * @since 6.2
+	 * @see SimpleInstantiationStrategy#setGenerateInstantiators
+	 */
+	public void setGenerateInstantiators(boolean generateInstantiators) {
+		this.generateInstantiators = generateInstantiators;
+	}
+
+	/**
+	 * Return whether to generate instantiators for the resolved constructors
+	 * of non-singleton beans.
+	 * @since 6.2
+	 * @see #setGenerateInstantiators
+	 */
+	public boolean isGenerateInstantiators() {
+		return this.generateInstantiators;
+	}
+
 	/**
 	 * Ignore the given dependency type for autowiring:
 	 * for example, String. Default is none.
@@ -302,6 +332,7 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 		if (otherFactory instanceof AbstractAutowireCapableBeanFactory otherAutowireFactory) {
 			this.instantiationStrategy = otherAutowireFactory.instantiationStrategy;
 			this.allowCircularReferences = otherAutowireFactory.allowCircularReferences;
+			this.generateInstantiators = otherAutowireFactory.generateInstantiators;
 			this.ignoredDependencyTypes.addAll(otherAutowireFactory.ignoredDependencyTypes);
 			this.ignoredDependencyInterfaces.addAll(otherAutowireFactory.ignoredDependencyInterfaces);
 		}
@@ -656,7 +687,7 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 		// eventual type after a before-instantiation shortcut.
 		if (targetType != null && !mbd.isSynthetic() && hasInstantiationAwareBeanPostProcessors()) {
 			boolean matchingOnlyFactoryBean = (typesToMatch.length == 1 && typesToMatch[0] == FactoryBean.class);
-			for (SmartInstantiationAwareBeanPostProcessor bp : getBeanPostProcessorCache().smartInstantiationAware) {
+			for (SmartInstantiationAwareBeanPostProcessor bp : getBeanPostProcessorCache().getSmartInstantiationAware(targetType)) {
 				Class<?> predicted = bp.predictBeanType(targetType, beanName);
 				if (predicted != null &&
 						(!matchingOnlyFactoryBean || FactoryBean.class.isAssignableFrom(predicted))) {
@@ -969,7 +1000,7 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 	protected Object getEarlyBeanReference(String beanName, RootBeanDefinition mbd, Object bean) {
 		Object exposedObject = bean;
 		if (!mbd.isSynthetic() && hasInstantiationAwareBeanPostProcessors()) {
-			for (SmartInstantiationAwareBeanPostProcessor bp : getBeanPostProcessorCache().smartInstantiationAware) {
+			for (SmartInstantiationAwareBeanPostProcessor bp : getBeanPostProcessorCache().getSmartInstantiationAware(bean.getClass())) {
 				exposedObject = bp.getEarlyBeanReference(exposedObject, beanName);
 			}
 		}
@@ -1140,7 +1171,7 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 	 */
 	@Nullable
 	protected Object applyBeanPostProcessorsBeforeInstantiation(Class<?> beanClass, String beanName) {
-		for (InstantiationAwareBeanPostProcessor bp : getBeanPostProcessorCache().instantiationAware) {
+		for (InstantiationAwareBeanPostProcessor bp : getBeanPostProcessorCache().getInstantiationAware(beanClass)) {
 			Object result = bp.postProcessBeforeInstantiation(beanClass, beanName);
 			if (result != null) {
 				return result;
@@ -1306,7 +1337,7 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 			throws BeansException {
 
 		if (beanClass != null && hasInstantiationAwareBeanPostProcessors()) {
-			for (SmartInstantiationAwareBeanPostProcessor bp : getBeanPostProcessorCache().smartInstantiationAware) {
+			for (SmartInstantiationAwareBeanPostProcessor bp : getBeanPostProcessorCache().getSmartInstantiationAware(beanClass)) {
 				Constructor<?>[] ctors = bp.determineCandidateConstructors(beanClass, beanName);
 				if (ctors != null) {
 					return ctors;
@@ -1405,7 +1436,7 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 		// state of the bean before properties are set. This can be used, for example,
 		// to support styles of field injection.
 		if (!mbd.isSynthetic() && hasInstantiationAwareBeanPostProcessors()) {
-			for (InstantiationAwareBeanPostProcessor bp : getBeanPostProcessorCache().instantiationAware) {
+			for (InstantiationAwareBeanPostProcessor bp : getBeanPostProcessorCache().getInstantiationAware(bw.getWrappedClass())) {
 				if (!bp.postProcessAfterInstantiation(bw.getWrappedInstance(), beanName)) {
 					return;
 				}
@@ -1431,7 +1462,7 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 			if (pvs == null) {
 				pvs = mbd.getPropertyValues();
 			}
-			for (InstantiationAwareBeanPostProcessor bp : getBeanPostProcessorCache().instantiationAware) {
+			for (InstantiationAwareBeanPostProcessor bp : getBeanPostProcessorCache().getInstantiationAware(bw.getWrappedClass())) {
 				PropertyValues pvsToUse = bp.postProcessProperties(pvs, bw.getWrappedInstance(), beanName);
 				if (pvsToUse == null) {
 					return;
@@ -155,7 +155,7 @@ public abstract class AbstractBeanFactory extends FactoryBeanRegistrySupport imp
 
 	/** Cache of pre-filtered post-processors. */
 	@Nullable
-	private BeanPostProcessorCache beanPostProcessorCache;
+	private volatile BeanPostProcessorCache beanPostProcessorCache;
 
 	/** Map from scope identifier String to corresponding Scope. */
 	private final Map<String, Scope> scopes = new LinkedHashMap<>(8);
@@ -1013,10 +1013,14 @@ public abstract class AbstractBeanFactory extends FactoryBeanRegistrySupport imp
 	 * @since 5.3
 	 */
 	BeanPostProcessorCache getBeanPostProcessorCache() {
+		BeanPostProcessorCache bppCache = this.beanPostProcessorCache;
+		if (bppCache != null) {
+			return bppCache;
+		}
 		synchronized (this.beanPostProcessors) {
-			BeanPostProcessorCache bppCache = this.beanPostProcessorCache;
+			bppCache = this.beanPostProcessorCache;
 			if (bppCache == null) {
-				bppCache = new BeanPostProcessorCache();
+				bppCache = new BeanPostProcessorCache(getBeanClassLoader());
 				for (BeanPostProcessor bpp : this.beanPostProcessors) {
 					if (bpp instanceof InstantiationAwareBeanPostProcessor instantiationAwareBpp) {
 						bppCache.instantiationAware.add(instantiationAwareBpp);
@@ -2093,6 +2097,76 @@ public abstract class AbstractBeanFactory extends FactoryBeanRegistrySupport imp
 		final List<DestructionAwareBeanPostProcessor> destructionAware = new ArrayList<>();
 
 		final List<MergedBeanDefinitionPostProcessor> mergedDefinition = new ArrayList<>();
+
+		@Nullable
+		private final ClassLoader beanClassLoader;
+
+		private final Map<Class<?>, List<InstantiationAwareBeanPostProcessor>> instantiationAwareByClass =
+				new ConcurrentHashMap<>(256);
+
+		private final Map<Class<?>, List<SmartInstantiationAwareBeanPostProcessor>> smartInstantiationAwareByClass =
+				new ConcurrentHashMap<>(256);
+
+		BeanPostProcessorCache(@Nullable ClassLoader beanClassLoader) {
+			this.beanClassLoader = beanClassLoader;
+		}
+
+		/**
+		 * Return the InstantiationAwareBeanPostProcessors that apply to the given bean class.
+		 * @since 6.2
+		 * @see InstantiationAwareBeanPostProcessor#isApplicableTo
+		 */
+		List<InstantiationAwareBeanPostProcessor> getInstantiationAware(Class<?> beanClass) {
+			return getApplicable(this.instantiationAware, this.instantiationAwareByClass, beanClass);
+		}
+
+		/**
+		 * Return the SmartInstantiationAwareBeanPostProcessors that apply to the given bean class.
+		 * @since 6.2
+		 * @see InstantiationAwareBeanPostProcessor#isApplicableTo
+		 */
+		List<SmartInstantiationAwareBeanPostProcessor> getSmartInstantiationAware(Class<?> beanClass) {
+			return getApplicable(this.smartInstantiationAware, this.smartInstantiationAwareByClass, beanClass);
+		}
+
+		private <T extends InstantiationAwareBeanPostProcessor> List<T> getApplicable(
+				List<T> postProcessors, Map<Class<?>, List<T>> cache, Class<?> beanClass) {
+
+			if (postProcessors.isEmpty()) {
+				return postProcessors;
+			}
+			List<T> applicable = cache.get(beanClass);
+			if (applicable == null) {
+				// Not using computeIfAbsent: post-processors might trigger nested bean creation
+				applicable = filterApplicable(postProcessors, beanClass);
+				if (ClassUtils.isCacheSafe(beanClass, this.beanClassLoader)) {
+					List<T> existing = cache.putIfAbsent(beanClass, applicable);
+					if (existing != null) {
+						applicable = existing;
+					}
+				}
+			}
+			return applicable;
+		}
+
+		private static <T extends InstantiationAwareBeanPostProcessor> List<T> filterApplicable(
+				List<T> postProcessors, Class<?> beanClass) {
+
+			List<T> applicable = null;
+			for (int i = 0; i < postProcessors.size(); i++) {
+				T postProcessor = postProcessors.get(i);
+				if (!postProcessor.isApplicableTo(beanClass)) {
+					if (applicable == null) {
+						applicable = new ArrayList<>(postProcessors.subList(0, i));
+					}
+				}
+				else if (applicable != null) {
+					applicable.add(postProcessor);
+				}
+			}
+			// Share the full list if all post-processors apply
+			return (applicable != null ? applicable : postProcessors);
+		}
 	}
 
 }
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.support;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Index from types to the names of the bean definitions whose beans may be
+ * of that type, used by {@link DefaultListableBeanFactory} to narrow down the
+ * bean definitions to check in a by-type lookup.
+ *
+ * <p>Each indexed bean definition is registered under its predicted bean class
+ * as well as all superclasses and interfaces of it, and additionally under the
+ * class of its singleton instance once that has been created. The index is
+ * therefore a superset of the actual matches, with exact type matching (including
+ * generics) still to be applied to the candidates. Bean definitions whose type
+ * cannot be reliably predicted upfront, such as {@code FactoryBean} definitions
+ * or definitions registered after the index has been built, are not indexed but
+ * always returned as candidates.
+ *
+ * @since 6.2
+ * @see DefaultListableBeanFactory#getBeanNamesForType
+ */
+final class BeanTypeIndex {
+
+	/**
+	 * Indexed bean names, keyed by each type that the corresponding bean may be
+	 * assignable to. Entries are not removed when a bean name stops being indexed.
+	 */
+	private final Map<Class<?>, Set<String>> beanNamesByType = new ConcurrentHashMap<>(256);
+
+	/** Bean names that have been indexed, along with the types they have been indexed for. */
+	private final Map<String, Set<Class<?>>> indexedTypes = new ConcurrentHashMap<>(256);
+
+	/** Bean names that need to be checked for every type. */
+	private final Set<String> unindexedBeanNames = ConcurrentHashMap.newKeySet(16);
+
+	/** Registration order of all known bean names, for sorting the candidates. */
+	private final Map<String, Integer> positions = new ConcurrentHashMap<>(256);
+
+	private int nextPosition;
+
+
+	/**
+	 * Add the given bean name to the index, in registration order.
+	 * @param beanName the name of the bean definition
+	 * @param beanType the predicted type of the bean, or {@code null}
+	 * if the bean should be considered for every type
+	 */
+	synchronized void add(String beanName, @Nullable Class<?> beanType) {
+		if (beanType != null) {
+			index(beanName, beanType);
+		}
+		else {
+			this.unindexedBeanNames.add(beanName);
+		}
+		this.positions.putIfAbsent(beanName, this.nextPosition++);
+	}
+
+	/**
+	 * Register the given singleton instance for an indexed bean name,
+	 * extending its index entries to the instance type if necessary.
+	 */
+	synchronized void addSingleton(String beanName, Class<?> singletonType) {
+		Set<Class<?>> types = this.indexedTypes.get(beanName);
+		if (types != null && !types.contains(singletonType)) {
+			if (singletonType.isArray()) {
+				unindex(beanName);
+			}
+			else {
+				index(beanName, singletonType);
+			}
+		}
+	}
+
+	/**
+	 * Stop indexing the given bean name, e.g. after its bean definition
+	 * has been changed, checking it for every type from now on.
+	 */
+	synchronized void unindex(String beanName) {
+		if (this.positions.containsKey(beanName)) {
+			this.indexedTypes.remove(beanName);
+			this.unindexedBeanNames.add(beanName);
+		}
+	}
+
+	/**
+	 * Remove the given bean name from the index.
+	 */
+	synchronized void remove(String beanName) {
+		this.positions.remove(beanName);
+		this.indexedTypes.remove(beanName);
+		this.unindexedBeanNames.remove(beanName);
+	}
+
+	/**
+	 * Return the names of all bean definitions that may match the given type,
+	 * in registration order.
+	 */
+	List<String> getCandidateBeanNames(Class<?> type) {
+		Set<String> indexed = this.beanNamesByType.get(type);
+		List<String> candidates = new ArrayList<>(
+				(indexed != null ? indexed.size() : 0) + this.unindexedBeanNames.size());
+		if (indexed != null) {
+			for (String beanName : indexed) {
+				// Skip stale entries for bean names that are not indexed anymore
+				if (this.indexedTypes.containsKey(beanName)) {
+					candidates.add(beanName);
+				}
+			}
+		}
+		for (String beanName : this.unindexedBeanNames) {
+			if (this.positions.containsKey(beanName)) {
+				candidates.add(beanName);
+			}
+		}
+		candidates.sort(Comparator.comparingInt(beanName -> this.positions.getOrDefault(beanName, Integer.MAX_VALUE)));
+		return candidates;
+	}
+
+	private void index(String beanName, Class<?> beanType) {
+		Set<Class<?>> types = this.indexedTypes.computeIfAbsent(beanName, name -> ConcurrentHashMap.newKeySet());
+		types.add(beanType);
+		Set<Class<?>> assignableTypes = new HashSet<>();
+		collectAssignableTypes(beanType, assignableTypes);
+		assignableTypes.add(Object.class);
+		for (Class<?> type : assignableTypes) {
+			this.beanNamesByType.computeIfAbsent(type, key -> ConcurrentHashMap.newKeySet()).add(beanName);
+		}
+	}
+
+	private static void collectAssignableTypes(@Nullable Class<?> type, Set<Class<?>> result) {
+		if (type != null && result.add(type)) {
+			collectAssignableTypes(type.getSuperclass(), result);
+			for (Class<?> ifc : type.getInterfaces()) {
+				collectAssignableTypes(ifc, result);
+			}
+		}
+	}
+
+}
@@ -26,12 +26,17 @@ import java.lang.annotation.Annotation;
 import java.lang.ref.Reference;
 import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -41,6 +46,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -49,6 +55,7 @@ import java.util.stream.Stream;
 import jakarta.inject.Provider;
 
 import org.springframework.beans.BeansException;
+import org.springframework.beans.PropertyValue;
 import org.springframework.beans.TypeConverter;
 import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.beans.factory.BeanCurrentlyInCreationException;
@@ -58,6 +65,7 @@ import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.BeanFactoryUtils;
 import org.springframework.beans.factory.BeanNotOfRequiredTypeException;
 import org.springframework.beans.factory.CannotLoadBeanClassException;
+import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.InjectionPoint;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.beans.factory.NoUniqueBeanDefinitionException;
@@ -70,8 +78,10 @@ import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.config.BeanDefinitionHolder;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.ConstructorArgumentValues;
 import org.springframework.beans.factory.config.DependencyDescriptor;
 import org.springframework.beans.factory.config.NamedBeanHolder;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
 import org.springframework.core.NamedThreadLocal;
 import org.springframework.core.OrderComparator;
 import org.springframework.core.Ordered;
@@ -161,6 +171,9 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	@Nullable
 	private Executor bootstrapExecutor;
 
+	/** Whether to pre-instantiate independent singletons in parallel on the bootstrap executor. */
+	private boolean parallelPreInstantiation = false;
+
 	/** Optional OrderComparator for dependency Lists and arrays. */
 	@Nullable
 	private Comparator<Object> dependencyComparator;
@@ -186,6 +199,13 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	/** Map of singleton-only bean names, keyed by dependency type. */
 	private final Map<Class<?>, String[]> singletonBeanNamesByType = new ConcurrentHashMap<>(64);
 
+	/** Index of candidate bean names by type, built on demand once the configuration is frozen. */
+	@Nullable
+	private volatile BeanTypeIndex beanTypeIndex;
+
+	/** Counter for changes that an index under construction would have missed. */
+	private final AtomicInteger beanTypeIndexChanges = new AtomicInteger();
+
 	/** List of bean definition names, in registration order. */
 	private volatile List<String> beanDefinitionNames = new ArrayList<>(256);
 
@@ -297,6 +317,38 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		return this.bootstrapExecutor;
 	}
 
+	/**
+	 * Set whether non-lazy singletons should be pre-instantiated in parallel
+	 * on the {@link #setBootstrapExecutor bootstrap executor}.
+	 * <p>Default is "false". Turn this flag on to let {@link #preInstantiateSingletons()}
+	 * derive a dependency graph from the merged bean definitions (depends-on declarations,
+	 * bean references in constructor arguments and property values, factory bean
+	 * references) as well as from the dependencies registered so far, instantiating
+	 * independent parts of that graph concurrently. Beans within a dependency cycle
+	 * or with references that cannot be resolved in this factory, as well as any beans
+	 * depending on those, are instantiated in the mainline thread afterwards.
+	 * <p>Dependencies which are not declared in the bean definition (for example,
+	 * annotation-driven injection points) are resolved on demand in the creating
+	 * thread. Should such a dependency collide with its concurrent creation in
+	 * another thread, the affected bean is deferred to the mainline thread as well.
+	 * <p>Has no effect without a bootstrap executor configured.
+	 * @since 6.2
+	 * @see #setBootstrapExecutor
+	 * @see #preInstantiateSingletons()
+	 */
+	public void setParallelPreInstantiation(boolean parallelPreInstantiation) {
+		this.parallelPreInstantiation = parallelPreInstantiation;
+	}
+
+	/**
+	 * Return whether non-lazy singletons get pre-instantiated in parallel
+	 * on the bootstrap executor, if any.
+	 * @since 6.2
+	 */
+	public boolean isParallelPreInstantiation() {
+		return this.parallelPreInstantiation;
+	}
+
 	/**
 	 * Set a {@link java.util.Comparator} for dependency Lists and arrays.
 	 * @since 4.0
@@ -344,6 +396,7 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 			this.allowBeanDefinitionOverriding = otherListableFactory.allowBeanDefinitionOverriding;
 			this.allowEagerClassLoading = otherListableFactory.allowEagerClassLoading;
 			this.bootstrapExecutor = otherListableFactory.bootstrapExecutor;
+			this.parallelPreInstantiation = otherListableFactory.parallelPreInstantiation;
 			this.dependencyComparator = otherListableFactory.dependencyComparator;
 			// A clone of the AutowireCandidateResolver since it is potentially BeanFactoryAware
 			setAutowireCandidateResolver(otherListableFactory.getAutowireCandidateResolver().cloneIfNecessary());
@@ -577,8 +630,8 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	private String[] doGetBeanNamesForType(ResolvableType type, boolean includeNonSingletons, boolean allowEagerInit) {
 		List<String> result = new ArrayList<>();
 
-		// Check all bean definitions.
-		for (String beanName : this.beanDefinitionNames) {
+		// Check all bean definitions that may match the raw type.
+		for (String beanName : getCandidateBeanNames(type)) {
 			// Only consider bean as eligible if the bean name is not defined as alias for some other bean.
 			if (!isAlias(beanName)) {
 				try {
@@ -661,6 +714,81 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		return StringUtils.toStringArray(result);
 	}
 
+	/**
+	 * Determine the names of the bean definitions to check for the given type:
+	 * all bean definition names unless the configuration is frozen, otherwise
+	 * the candidates from the {@link BeanTypeIndex}.
+	 */
+	private List<String> getCandidateBeanNames(ResolvableType type) {
+		Class<?> resolved = type.resolve();
+		if (resolved == null || !this.configurationFrozen) {
+			return this.beanDefinitionNames;
+		}
+		BeanTypeIndex index = this.beanTypeIndex;
+		if (index == null) {
+			int changes = this.beanTypeIndexChanges.get();
+			index = new BeanTypeIndex();
+			for (String beanName : this.beanDefinitionNames) {
+				index.add(beanName, predictIndexedBeanType(beanName));
+				Object singleton = getSingleton(beanName, false);
+				if (singleton != null) {
+					index.addSingleton(beanName, singleton.getClass());
+				}
+			}
+			this.beanTypeIndex = index;
+			if (this.beanTypeIndexChanges.get() != changes) {
+				// Bean definitions or singletons changed while building the index:
+				// discard it, with the next lookup building a fresh one.
+				this.beanTypeIndex = null;
+				return this.beanDefinitionNames;
+			}
+		}
+		return index.getCandidateBeanNames(resolved);
+	}
+
+	/**
+	 * Predict the type to index the given bean definition under, analogous to
+	 * the checks in {@link #doGetBeanNamesForType} but without initializing any
+	 * {@code FactoryBean}.
+	 * @return the predicted type, or {@code null} if the bean definition needs
+	 * to be checked for every type
+	 */
+	@Nullable
+	private Class<?> predictIndexedBeanType(String beanName) {
+		if (isAlias(beanName)) {
+			return null;
+		}
+		try {
+			RootBeanDefinition mbd = getMergedLocalBeanDefinition(beanName);
+			if (mbd.isAbstract() || mbd.getDecoratedDefinition() != null ||
+					(!mbd.hasBeanClass() && mbd.isLazyInit() && !isAllowEagerClassLoading()) ||
+					requiresEagerInitForType(mbd.getFactoryBeanName())) {
+				return null;
+			}
+			Class<?> beanType = predictBeanType(beanName, mbd);
+			if (beanType == null || beanType.isArray() || FactoryBean.class.isAssignableFrom(beanType)) {
+				return null;
+			}
+			return beanType;
+		}
+		catch (RuntimeException ex) {
+			// Leave it to the actual type check on every lookup.
+			return null;
+		}
+	}
+
+	/**
+	 * Apply the given action to the current {@link BeanTypeIndex}, if any,
+	 * and signal the change to an index that is being built concurrently.
+	 */
+	private void updateBeanTypeIndex(Consumer<BeanTypeIndex> action) {
+		this.beanTypeIndexChanges.incrementAndGet();
+		BeanTypeIndex index = this.beanTypeIndex;
+		if (index != null) {
+			action.accept(index);
+		}
+	}
+
 	private boolean isSingleton(String beanName, RootBeanDefinition mbd, @Nullable BeanDefinitionHolder dbd) {
 		return (dbd != null ? mbd.isSingleton() : isSingleton(beanName));
 	}
@@ -944,6 +1072,8 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		super.clearMetadataCache();
 		this.mergedBeanDefinitionHolders.clear();
 		clearByTypeCache();
+		this.beanTypeIndexChanges.incrementAndGet();
+		this.beanTypeIndex = null;
 	}
 
 	@Override
@@ -1002,7 +1132,8 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 
 	@Override
 	protected boolean isCurrentThreadAllowedToHoldSingletonLock() {
-		return (this.preInstantiationThread.get() != PreInstantiation.BACKGROUND);
+		PreInstantiation preInstantiation = this.preInstantiationThread.get();
+		return (preInstantiation != PreInstantiation.BACKGROUND && preInstantiation != PreInstantiation.PARALLEL);
 	}
 
 	@Override
@@ -1016,29 +1147,28 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		List<String> beanNames = new ArrayList<>(this.beanDefinitionNames);
 
 		// Trigger initialization of all non-lazy singleton beans...
-		List<CompletableFuture<?>> futures = new ArrayList<>();
-		this.preInstantiationThread.set(PreInstantiation.MAIN);
-		try {
-			for (String beanName : beanNames) {
-				RootBeanDefinition mbd = getMergedLocalBeanDefinition(beanName);
-				if (!mbd.isAbstract() && mbd.isSingleton()) {
-					CompletableFuture<?> future = preInstantiateSingleton(beanName, mbd);
-					if (future != null) {
-						futures.add(future);
-					}
-				}
-			}
+		Executor executor = getBootstrapExecutor();
+		if (this.parallelPreInstantiation && executor != null) {
+			preInstantiateSingletonsInParallel(beanNames, executor);
 		}
-		finally {
-			this.preInstantiationThread.remove();
-		}
-		if (!futures.isEmpty()) {
+		else {
+			List<CompletableFuture<?>> futures = new ArrayList<>();
+			this.preInstantiationThread.set(PreInstantiation.MAIN);
 			try {
-				CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+				for (String beanName : beanNames) {
+					RootBeanDefinition mbd = getMergedLocalBeanDefinition(beanName);
+					if (!mbd.isAbstract() && mbd.isSingleton()) {
+						CompletableFuture<?> future = preInstantiateSingleton(beanName, mbd);
+						if (future != null) {
+							futures.add(future);
+						}
+					}
+				}
 			}
-			catch (CompletionException ex) {
-				ReflectionUtils.rethrowRuntimeException(ex.getCause());
+			finally {
+				this.preInstantiationThread.remove();
 			}
+			awaitPreInstantiation(futures);
 		}
 
 		// Trigger post-initialization callback for all applicable beans...
@@ -1116,6 +1246,266 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		}
 	}
 
+	private void awaitPreInstantiation(Collection<? extends CompletableFuture<?>> futures) {
+		if (!futures.isEmpty()) {
+			try {
+				CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+			}
+			catch (CompletionException ex) {
+				ReflectionUtils.rethrowRuntimeException(ex.getCause());
+			}
+		}
+	}
+
+	/**
+	 * Pre-instantiate the given singletons according to their dependency graph:
+	 * independent parts of the graph are instantiated on the given executor,
+	 * with each bean only being scheduled once its declared dependencies are
+	 * available. Cyclic or unresolvable parts of the graph, as well as beans
+	 * whose creation collided with a concurrent creation step in another thread,
+	 * are instantiated in the mainline thread afterwards.
+	 * @param beanNames the names of the beans to pre-instantiate, in registration order
+	 * @param executor the bootstrap executor to use
+	 * @see #setParallelPreInstantiation
+	 */
+	private void preInstantiateSingletonsInParallel(List<String> beanNames, Executor executor) {
+		StartupStep parallelInstantiate = getApplicationStartup().start("spring.beans.parallel-instantiate");
+
+		// Background-init and lazy-init singletons keep their regular semantics,
+		// all other singletons participate in the dependency graph.
+		Map<String, RootBeanDefinition> candidates = new LinkedHashMap<>();
+		List<CompletableFuture<?>> backgroundFutures = new ArrayList<>();
+		this.preInstantiationThread.set(PreInstantiation.MAIN);
+		try {
+			for (String beanName : beanNames) {
+				RootBeanDefinition mbd = getMergedLocalBeanDefinition(beanName);
+				if (!mbd.isAbstract() && mbd.isSingleton()) {
+					if (mbd.isBackgroundInit() || mbd.isLazyInit()) {
+						CompletableFuture<?> future = preInstantiateSingleton(beanName, mbd);
+						if (future != null) {
+							backgroundFutures.add(future);
+						}
+					}
+					else {
+						candidates.put(beanName, mbd);
+					}
+				}
+			}
+		}
+		finally {
+			this.preInstantiationThread.remove();
+		}
+
+		Map<String, Set<String>> dependencyGraph = new LinkedHashMap<>();
+		Set<String> serialBeanNames = new LinkedHashSet<>();
+		candidates.forEach((beanName, mbd) -> {
+			Set<String> dependencies = determineDeclaredDependencies(beanName, mbd);
+			if (dependencies != null) {
+				dependencies.retainAll(candidates.keySet());
+				dependencyGraph.put(beanName, dependencies);
+			}
+			else {
+				serialBeanNames.add(beanName);
+			}
+		});
+
+		AtomicInteger activeCount = new AtomicInteger();
+		AtomicInteger maxActiveCount = new AtomicInteger();
+		Map<String, CompletableFuture<Boolean>> futures = new LinkedHashMap<>();
+		for (String beanName : sortTopologically(dependencyGraph)) {
+			List<CompletableFuture<Boolean>> dependencyFutures = new ArrayList<>();
+			for (String dependency : dependencyGraph.get(beanName)) {
+				dependencyFutures.add(futures.get(dependency));
+			}
+			CompletableFuture<Boolean> future = CompletableFuture.allOf(dependencyFutures.toArray(new CompletableFuture<?>[0]))
+					.thenApplyAsync(result -> {
+						// Defer to mainline thread if any dependency got deferred as well
+						for (CompletableFuture<Boolean> dependencyFuture : dependencyFutures) {
+							if (!dependencyFuture.join()) {
+								return false;
+							}
+						}
+						return instantiateSingletonInParallelThread(beanName, activeCount, maxActiveCount);
+					}, executor);
+			futures.put(beanName, future);
+		}
+		// Beans in (or depending on) a dependency cycle or a serial bean did not make it
+		// into the topological order -> to be instantiated in mainline thread as well.
+		for (String beanName : dependencyGraph.keySet()) {
+			if (!futures.containsKey(beanName)) {
+				serialBeanNames.add(beanName);
+			}
+		}
+
+		awaitPreInstantiation(futures.values());
+		futures.forEach((beanName, future) -> {
+			if (!future.join()) {
+				serialBeanNames.add(beanName);
+			}
+		});
+		int parallelCount = candidates.size() - serialBeanNames.size();
+		if (logger.isDebugEnabled()) {
+			logger.debug("Pre-instantiated " + parallelCount + " singletons in parallel with a concurrency of " +
+					maxActiveCount.get() + ", continuing with " + serialBeanNames.size() +
+					" singletons in mainline thread: " + serialBeanNames);
+		}
+
+		// Remaining beans in mainline thread, in registration order...
+		this.preInstantiationThread.set(PreInstantiation.MAIN);
+		try {
+			for (String beanName : candidates.keySet()) {
+				if (serialBeanNames.contains(beanName)) {
+					instantiateSingleton(beanName);
+				}
+			}
+		}
+		finally {
+			this.preInstantiationThread.remove();
+		}
+		awaitPreInstantiation(backgroundFutures);
+
+		parallelInstantiate.tag("beanCount", String.valueOf(candidates.size()))
+				.tag("parallelCount", String.valueOf(parallelCount))
+				.tag("serialCount", String.valueOf(serialBeanNames.size()))
+				.tag("maxConcurrency", String.valueOf(maxActiveCount.get()));
+		parallelInstantiate.end();
+	}
+
+	private boolean instantiateSingletonInParallelThread(
+			String beanName, AtomicInteger activeCount, AtomicInteger maxActiveCount) {
+
+		maxActiveCount.accumulateAndGet(activeCount.incrementAndGet(), Math::max);
+		this.preInstantiationThread.set(PreInstantiation.PARALLEL);
+		try {
+			instantiateSingleton(beanName);
+			return true;
+		}
+		catch (BeanCreationException ex) {
+			if (ex.contains(BeanCurrentlyInCreationException.class)) {
+				// Undeclared dependency currently in creation in another thread...
+				if (logger.isDebugEnabled()) {
+					logger.debug("Deferring singleton bean '" + beanName + "' to mainline thread " +
+							"after concurrent creation collision: " + ex.getMessage());
+				}
+				return false;
+			}
+			if (logger.isWarnEnabled()) {
+				logger.warn("Failed to instantiate singleton bean '" + beanName + "' in parallel thread", ex);
+			}
+			throw ex;
+		}
+		finally {
+			this.preInstantiationThread.remove();
+			activeCount.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Determine the names of all beans that the given bean declares a dependency on,
+	 * through its bean definition or through dependencies registered so far.
+	 * @return the canonical names of the dependencies, or {@code null} if any of
+	 * them cannot be resolved in this factory
+	 */
+	@Nullable
+	private Set<String> determineDeclaredDependencies(String beanName, RootBeanDefinition mbd) {
+		Set<String> referencedBeanNames = new LinkedHashSet<>();
+		collectDeclaredDependencies(mbd, referencedBeanNames);
+		Collections.addAll(referencedBeanNames, getDependenciesForBean(beanName));
+		Set<String> dependencies = new LinkedHashSet<>(referencedBeanNames.size());
+		for (String referencedBeanName : referencedBeanNames) {
+			String dependency = transformedBeanName(referencedBeanName);
+			if (!dependency.equals(beanName)) {
+				if (!containsBean(dependency)) {
+					return null;
+				}
+				dependencies.add(dependency);
+			}
+		}
+		return dependencies;
+	}
+
+	private void collectDeclaredDependencies(BeanDefinition bd, Set<String> beanNames) {
+		String[] dependsOn = bd.getDependsOn();
+		if (dependsOn != null) {
+			Collections.addAll(beanNames, dependsOn);
+		}
+		String factoryBeanName = bd.getFactoryBeanName();
+		if (factoryBeanName != null) {
+			beanNames.add(factoryBeanName);
+		}
+		if (bd.hasConstructorArgumentValues()) {
+			ConstructorArgumentValues cav = bd.getConstructorArgumentValues();
+			for (ConstructorArgumentValues.ValueHolder valueHolder : cav.getIndexedArgumentValues().values()) {
+				collectReferencedBeanNames(valueHolder.getValue(), beanNames);
+			}
+			for (ConstructorArgumentValues.ValueHolder valueHolder : cav.getGenericArgumentValues()) {
+				collectReferencedBeanNames(valueHolder.getValue(), beanNames);
+			}
+		}
+		if (bd.hasPropertyValues()) {
+			for (PropertyValue pv : bd.getPropertyValues().getPropertyValues()) {
+				collectReferencedBeanNames(pv.getValue(), beanNames);
+			}
+		}
+	}
+
+	private void collectReferencedBeanNames(@Nullable Object value, Set<String> beanNames) {
+		if (value instanceof RuntimeBeanReference reference) {
+			if (!reference.isToParent()) {
+				beanNames.add(reference.getBeanName());
+			}
+		}
+		else if (value instanceof BeanDefinitionHolder holder) {
+			collectDeclaredDependencies(holder.getBeanDefinition(), beanNames);
+		}
+		else if (value instanceof BeanDefinition innerBd) {
+			collectDeclaredDependencies(innerBd, beanNames);
+		}
+		else if (value instanceof Collection<?> collection) {
+			for (Object element : collection) {
+				collectReferencedBeanNames(element, beanNames);
+			}
+		}
+		else if (value instanceof Map<?, ?> map) {
+			map.forEach((key, element) -> {
+				collectReferencedBeanNames(key, beanNames);
+				collectReferencedBeanNames(element, beanNames);
+			});
+		}
+	}
+
+	/**
+	 * Sort the given dependency graph topologically, leaving out any beans which
+	 * are part of a dependency cycle or depend on a bean outside of the graph.
+	 * @param dependencyGraph the graph as a map from bean name to dependencies
+	 * @return the sorted bean names, dependencies first
+	 */
+	private static List<String> sortTopologically(Map<String, Set<String>> dependencyGraph) {
+		Map<String, Integer> pendingCounts = new HashMap<>(dependencyGraph.size());
+		Map<String, List<String>> dependents = new HashMap<>(dependencyGraph.size());
+		Deque<String> ready = new ArrayDeque<>();
+		dependencyGraph.forEach((beanName, dependencies) -> {
+			pendingCounts.put(beanName, dependencies.size());
+			for (String dependency : dependencies) {
+				dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(beanName);
+			}
+			if (dependencies.isEmpty()) {
+				ready.add(beanName);
+			}
+		});
+		List<String> sorted = new ArrayList<>(dependencyGraph.size());
+		while (!ready.isEmpty()) {
+			String beanName = ready.poll();
+			sorted.add(beanName);
+			for (String dependent : dependents.getOrDefault(beanName, Collections.emptyList())) {
+				if (pendingCounts.merge(dependent, -1, Integer::sum) == 0) {
+					ready.add(dependent);
+				}
+			}
+		}
+		return sorted;
+	}
+
 
 	//---------------------------------------------------------------------
 	// Implementation of BeanDefinitionRegistry interface
@@ -1186,11 +1576,18 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 			this.frozenBeanDefinitionNames = null;
 		}
 
+		if (existingDefinition != null) {
+			updateBeanTypeIndex(index -> index.unindex(beanName));
+		}
+		else {
+			updateBeanTypeIndex(index -> index.add(beanName, null));
+		}
+
 		if (existingDefinition != null || containsSingleton(beanName)) {
 			resetBeanDefinition(beanName);
 		}
 		else if (isConfigurationFrozen()) {
-			clearByTypeCache();
+			clearByTypeCache(beanName, predictIndexedBeanType(beanName));
 		}
 
 		// Cache a primary marker for the given bean.
@@ -1262,6 +1659,7 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 			this.beanDefinitionNames.remove(beanName);
 		}
 		this.frozenBeanDefinitionNames = null;
+		updateBeanTypeIndex(index -> index.remove(beanName));
 
 		resetBeanDefinition(beanName);
 	}
@@ -1289,6 +1687,9 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		// Remove a cached primary marker for the given bean.
 		this.primaryBeanNames.remove(beanName);
 
+		// Check the given bean for every type from now on.
+		updateBeanTypeIndex(index -> index.unindex(beanName));
+
 		// Notify all post-processors that the specified bean definition has been reset.
 		for (MergedBeanDefinitionPostProcessor processor : getBeanPostProcessorCache().mergedDefinition) {
 			processor.resetBeanDefinition(beanName);
@@ -1341,7 +1742,18 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	public void registerSingleton(String beanName, Object singletonObject) throws IllegalStateException {
 		super.registerSingleton(beanName, singletonObject);
 		updateManualSingletonNames(set -> set.add(beanName), set -> !this.beanDefinitionMap.containsKey(beanName));
-		clearByTypeCache();
+		if (this.beanDefinitionMap.containsKey(beanName)) {
+			clearByTypeCache();
+		}
+		else {
+			clearByTypeCache(beanName, singletonObject.getClass());
+		}
+	}
+
+	@Override
+	protected void addSingleton(String beanName, Object singletonObject) {
+		super.addSingleton(beanName, singletonObject);
+		updateBeanTypeIndex(index -> index.addSingleton(beanName, singletonObject.getClass()));
 	}
 
 	@Override
@@ -1395,6 +1807,38 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		this.singletonBeanNamesByType.clear();
 	}
 
+	/**
+	 * Remove the by-type mappings that the given newly registered bean may affect.
+	 * <p>A bean of a plain type that no other bean definition refers to as parent
+	 * or factory bean only affects the mappings for that type and its supertypes.
+	 * All mappings get removed otherwise, as well as for overridden or removed
+	 * beans, since the types of other beans may depend on them.
+	 * @param beanName the name of the new bean
+	 * @param beanType the type of the new bean, or {@code null} if not predictable
+	 */
+	private void clearByTypeCache(String beanName, @Nullable Class<?> beanType) {
+		if (beanType == null || beanType.isArray() || FactoryBean.class.isAssignableFrom(beanType) ||
+				isAlias(beanName) || isReferencedByBeanDefinition(beanName)) {
+			clearByTypeCache();
+			return;
+		}
+		this.allBeanNamesByType.keySet().removeIf(type -> type.isAssignableFrom(beanType));
+		this.singletonBeanNamesByType.keySet().removeIf(type -> type.isAssignableFrom(beanType));
+	}
+
+	/**
+	 * Determine whether any bean definition refers to the given bean name as its
+	 * parent or as its factory bean, potentially resolving its type through it.
+	 */
+	private boolean isReferencedByBeanDefinition(String beanName) {
+		for (BeanDefinition bd : this.beanDefinitionMap.values()) {
+			if (beanName.equals(bd.getParentName()) || beanName.equals(bd.getFactoryBeanName())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 
 	//---------------------------------------------------------------------
 	// Dependency resolution functionality
@@ -2543,7 +2987,7 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 
 	private enum PreInstantiation {
 
-		MAIN, BACKGROUND
+		MAIN, BACKGROUND, PARALLEL
 	}
 
 }
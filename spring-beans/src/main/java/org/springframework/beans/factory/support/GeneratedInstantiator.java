@@ -0,0 +1,237 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.support;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.BeanInstantiationException;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.KotlinDetector;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Instantiator for a resolved bean constructor, invoking the constructor through
+ * a {@link MethodHandle} bound once instead of going through
+ * {@link BeanUtils#instantiateClass(Constructor, Object...)} on every instantiation.
+ * Constructors with up to two parameters are invoked through a function generated
+ * by {@link LambdaMetafactory}, constructors with more parameters through a handle
+ * spreading the argument array.
+ *
+ * <p>Cached in the {@link RootBeanDefinition} next to the resolved constructor and
+ * the prepared constructor arguments, so that it gets discarded along with the merged
+ * bean definition when the original bean definition changes. Falls back to reflection
+ * for Kotlin types, as well as for constructors that are not accessible through a
+ * private lookup in their declaring class.
+ *
+ * @since 6.2
+ * @see SimpleInstantiationStrategy#setGenerateInstantiators
+ * @see AbstractAutowireCapableBeanFactory#setGenerateInstantiators
+ */
+final class GeneratedInstantiator {
+
+	private static final Log logger = LogFactory.getLog(GeneratedInstantiator.class);
+
+	private static final MethodType SUPPLIER_FACTORY_TYPE = MethodType.methodType(Supplier.class);
+
+	private static final MethodType FUNCTION_FACTORY_TYPE = MethodType.methodType(Function.class);
+
+	private static final MethodType BI_FUNCTION_FACTORY_TYPE = MethodType.methodType(BiFunction.class);
+
+
+	private final Constructor<?> constructor;
+
+	@Nullable
+	private final Instantiator instantiator;
+
+	@Nullable
+	private final Object[] defaultValues;
+
+
+	private GeneratedInstantiator(Constructor<?> constructor, @Nullable Instantiator instantiator) {
+		this.constructor = constructor;
+		this.instantiator = instantiator;
+		this.defaultValues = (instantiator != null ? determineDefaultValues(constructor) : null);
+	}
+
+
+	/**
+	 * Determine whether this instantiator has been generated for the given constructor.
+	 */
+	boolean isFor(Constructor<?> constructor) {
+		return this.constructor.equals(constructor);
+	}
+
+	/**
+	 * Determine whether the constructor is invoked through a generated function,
+	 * as opposed to falling back to reflection.
+	 */
+	boolean isGenerated() {
+		return (this.instantiator != null);
+	}
+
+	/**
+	 * Create a new instance through the generated function, or through
+	 * reflection if no function could be generated for the constructor.
+	 * <p>Like {@link BeanUtils#instantiateClass(Constructor, Object...)},
+	 * {@code null} arguments for primitive parameters are replaced with
+	 * the corresponding default values.
+	 * @param args the constructor arguments to apply
+	 * @return the new instance
+	 * @throws BeanInstantiationException if the bean cannot be instantiated
+	 */
+	Object instantiate(Object... args) throws BeanInstantiationException {
+		Instantiator instantiator = this.instantiator;
+		if (instantiator == null || args.length != this.constructor.getParameterCount()) {
+			return BeanUtils.instantiateClass(this.constructor, args);
+		}
+		Object[] argsToUse = args;
+		if (this.defaultValues != null) {
+			for (int i = 0; i < args.length; i++) {
+				if (args[i] == null && this.defaultValues[i] != null) {
+					if (argsToUse == args) {
+						argsToUse = args.clone();
+					}
+					argsToUse[i] = this.defaultValues[i];
+				}
+			}
+		}
+		try {
+			return instantiator.instantiate(argsToUse);
+		}
+		catch (ClassCastException ex) {
+			if (!isAssignable(argsToUse)) {
+				throw new BeanInstantiationException(this.constructor, "Illegal arguments for constructor", ex);
+			}
+			throw new BeanInstantiationException(this.constructor, "Constructor threw exception", ex);
+		}
+		catch (Throwable ex) {
+			throw new BeanInstantiationException(this.constructor, "Constructor threw exception", ex);
+		}
+	}
+
+	private boolean isAssignable(Object[] args) {
+		Class<?>[] parameterTypes = this.constructor.getParameterTypes();
+		for (int i = 0; i < args.length; i++) {
+			if (!ClassUtils.isAssignableValue(parameterTypes[i], args[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+
+	/**
+	 * Generate an instantiator for the given constructor.
+	 * @param constructor the resolved constructor
+	 * @return the instantiator, falling back to reflection if no function
+	 * could be generated
+	 */
+	static GeneratedInstantiator generate(Constructor<?> constructor) {
+		return new GeneratedInstantiator(constructor, generateFunction(constructor));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Nullable
+	private static Instantiator generateFunction(Constructor<?> constructor) {
+		Class<?> declaringClass = constructor.getDeclaringClass();
+		if (Modifier.isAbstract(declaringClass.getModifiers()) ||
+				(KotlinDetector.isKotlinReflectPresent() && KotlinDetector.isKotlinType(declaringClass))) {
+			return null;
+		}
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+			MethodHandle target = lookup.unreflectConstructor(constructor);
+			int parameterCount = constructor.getParameterCount();
+			switch (parameterCount) {
+				case 0 -> {
+					Supplier<Object> supplier = (Supplier<Object>) spin(lookup, "get", SUPPLIER_FACTORY_TYPE, target);
+					return args -> supplier.get();
+				}
+				case 1 -> {
+					Function<Object, Object> function = (Function<Object, Object>) spin(lookup, "apply", FUNCTION_FACTORY_TYPE, target);
+					return args -> function.apply(args[0]);
+				}
+				case 2 -> {
+					BiFunction<Object, Object, Object> function =
+							(BiFunction<Object, Object, Object>) spin(lookup, "apply", BI_FUNCTION_FACTORY_TYPE, target);
+					return args -> function.apply(args[0], args[1]);
+				}
+				default -> {
+					MethodHandle fixedArity = target.asFixedArity();
+					MethodHandle spreader = fixedArity.asType(fixedArity.type().generic())
+							.asSpreader(Object[].class, parameterCount);
+					return args -> (Object) spreader.invokeExact(args);
+				}
+			}
+		}
+		catch (Throwable ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Could not generate instantiator for [" + constructor + "] - falling back to reflection", ex);
+			}
+			return null;
+		}
+	}
+
+	private static Object spin(MethodHandles.Lookup lookup, String methodName, MethodType factoryType,
+			MethodHandle target) throws Throwable {
+
+		MethodType instantiatedType = target.type().wrap();
+		CallSite callSite = LambdaMetafactory.metafactory(
+				lookup, methodName, factoryType, instantiatedType.erase(), target, instantiatedType);
+		return callSite.getTarget().invoke();
+	}
+
+	@Nullable
+	private static Object[] determineDefaultValues(Constructor<?> constructor) {
+		Class<?>[] parameterTypes = constructor.getParameterTypes();
+		Object[] defaultValues = null;
+		for (int i = 0; i < parameterTypes.length; i++) {
+			if (parameterTypes[i].isPrimitive()) {
+				if (defaultValues == null) {
+					defaultValues = new Object[parameterTypes.length];
+				}
+				defaultValues[i] = Array.get(Array.newInstance(parameterTypes[i], 1), 0);
+			}
+		}
+		return defaultValues;
+	}
+
+
+	/**
+	 * Function invoking the constructor with an argument array.
+	 */
+	@FunctionalInterface
+	private interface Instantiator {
+
+		Object instantiate(Object[] args) throws Throwable;
+	}
+
+}
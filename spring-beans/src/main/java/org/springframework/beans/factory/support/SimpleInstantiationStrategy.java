@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -43,6 +43,8 @@ public class SimpleInstantiationStrategy implements InstantiationStrategy {
 
 	private static final ThreadLocal<Method> currentlyInvokedFactoryMethod = new ThreadLocal<>();
 
+	private boolean generateInstantiators = false;
+
 
 	/**
 	 * Return the factory method currently being invoked or {@code null} if none.
@@ -64,6 +66,34 @@ public class SimpleInstantiationStrategy implements InstantiationStrategy {
 	}
 
 
+	/**
+	 * Set whether to generate instantiators for the resolved constructors of
+	 * non-singleton beans, i.e. prototype and custom-scoped beans, invoking the
+	 * constructor through a {@link java.lang.invoke.MethodHandle} bound once
+	 * instead of going through reflection on every creation.
+	 * <p>Only the constructor invocation itself is affected: constructor resolution
+	 * and argument preparation are cached in the merged bean definition either way,
+	 * and post-processors, property population and initialization callbacks still
+	 * run for every instance. The generated instantiator is cached with the merged
+	 * bean definition and discarded along with it when the bean definition changes.
+	 * <p>Default is "false". This can also be enabled for all instantiation
+	 * strategies of a factory through
+	 * {@link AbstractAutowireCapableBeanFactory#setGenerateInstantiators}.
+	 * @since 6.2
+	 */
+	public void setGenerateInstantiators(boolean generateInstantiators) {
+		this.generateInstantiators = generateInstantiators;
+	}
+
+	/**
+	 * Return whether to generate instantiators for the resolved constructors
+	 * of non-singleton beans.
+	 * @since 6.2
+	 */
+	public boolean isGenerateInstantiators() {
+		return this.generateInstantiators;
+	}
+
 	@Override
 	public Object instantiate(RootBeanDefinition bd, @Nullable String beanName, BeanFactory owner) {
 		// Don't override the class with CGLIB if no overrides.
@@ -85,7 +115,7 @@ public class SimpleInstantiationStrategy implements InstantiationStrategy {
 					}
 				}
 			}
-			return BeanUtils.instantiateClass(constructorToUse);
+			return instantiateClass(bd, owner, constructorToUse);
 		}
 		else {
 			// Must generate CGLIB subclass.
@@ -93,6 +123,19 @@ public class SimpleInstantiationStrategy implements InstantiationStrategy {
 		}
 	}
 
+	private Object instantiateClass(RootBeanDefinition bd, BeanFactory owner, Constructor<?> ctor, Object... args) {
+		if (!bd.isSingleton() && (this.generateInstantiators ||
+				(owner instanceof AbstractAutowireCapableBeanFactory factory && factory.isGenerateInstantiators()))) {
+			GeneratedInstantiator instantiator = bd.resolvedInstantiator;
+			if (instantiator == null || !instantiator.isFor(ctor)) {
+				instantiator = GeneratedInstantiator.generate(ctor);
+				bd.resolvedInstantiator = instantiator;
+			}
+			return instantiator.instantiate(args);
+		}
+		return BeanUtils.instantiateClass(ctor, args);
+	}
+
 	/**
 	 * Subclasses can override this method, which is implemented to throw
 	 * UnsupportedOperationException, if they can instantiate an object with
@@ -108,7 +151,7 @@ public class SimpleInstantiationStrategy implements InstantiationStrategy {
 			Constructor<?> ctor, Object... args) {
 
 		if (!bd.hasMethodOverrides()) {
-			return BeanUtils.instantiateClass(ctor, args);
+			return instantiateClass(bd, owner, ctor, args);
 		}
 		else {
 			return instantiateWithMethodInjection(bd, beanName, owner, ctor, args);
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.testfixture.beans.TestBean;
+import org.springframework.core.SpringProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Runs the {@link BeanWrapperTests} with
+ * {@link CachedIntrospectionResults#GENERATE_ACCESSORS_PROPERTY_NAME} enabled.
+ */
+class BeanWrapperGeneratedAccessorsTests extends BeanWrapperTests {
+
+	@BeforeAll
+	static void enableGeneratedAccessors() {
+		SpringProperties.setFlag(CachedIntrospectionResults.GENERATE_ACCESSORS_PROPERTY_NAME);
+		CachedIntrospectionResults.clearClassLoader(BeanWrapperGeneratedAccessorsTests.class.getClassLoader());
+	}
+
+	@AfterAll
+	static void disableGeneratedAccessors() {
+		SpringProperties.setProperty(CachedIntrospectionResults.GENERATE_ACCESSORS_PROPERTY_NAME, null);
+		CachedIntrospectionResults.clearClassLoader(BeanWrapperGeneratedAccessorsTests.class.getClassLoader());
+	}
+
+
+	@Test
+	void accessorsGenerated() {
+		GenericTypeAwarePropertyDescriptor pd = (GenericTypeAwarePropertyDescriptor)
+				CachedIntrospectionResults.forClass(TestBean.class).getPropertyDescriptor("age");
+		assertThat(pd).isNotNull();
+		assertThat(pd.getReadAccessor()).isNotNull();
+		assertThat(pd.getWriteAccessor(42)).isNotNull();
+		assertThat(pd.getWriteAccessor(null)).isNull();
+		assertThat(pd.getWriteAccessor("42")).isNull();
+
+		TestBean target = new TestBean();
+		BeanWrapper accessor = createAccessor(target);
+		accessor.setPropertyValue("age", 42);
+		assertThat(target.getAge()).isEqualTo(42);
+		assertThat(accessor.getPropertyValue("age")).isEqualTo(42);
+	}
+
+	@Test
+	void exceptionFromGeneratedSetter() {
+		ThrowingBean target = new ThrowingBean();
+		BeanWrapper accessor = createAccessor(target);
+		assertThatExceptionOfType(MethodInvocationException.class)
+				.isThrownBy(() -> accessor.setPropertyValue("name", "tom"))
+				.withCauseInstanceOf(UnsupportedOperationException.class);
+		assertThatExceptionOfType(InvalidPropertyException.class)
+				.isThrownBy(() -> accessor.getPropertyValue("name"))
+				.withRootCauseInstanceOf(UnsupportedOperationException.class);
+	}
+
+
+	@SuppressWarnings("unused")
+	private static class ThrowingBean {
+
+		public String getName() {
+			throw new UnsupportedOperationException();
+		}
+
+		public void setName(String name) {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+}
@@ -18,7 +18,9 @@ package org.springframework.beans.factory;
 
 import java.io.Closeable;
 import java.io.Serializable;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
 import java.net.MalformedURLException;
 import java.text.NumberFormat;
 import java.text.ParseException;
@@ -34,6 +36,11 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -57,6 +64,7 @@ import org.springframework.beans.factory.config.ConstructorArgumentValues;
 import org.springframework.beans.factory.config.InstantiationAwareBeanPostProcessor;
 import org.springframework.beans.factory.config.PropertiesFactoryBean;
 import org.springframework.beans.factory.config.RuntimeBeanReference;
+import org.springframework.beans.factory.config.SmartInstantiationAwareBeanPostProcessor;
 import org.springframework.beans.factory.config.TypedStringValue;
 import org.springframework.beans.factory.support.AbstractBeanDefinition;
 import org.springframework.beans.factory.support.AbstractBeanFactory;
@@ -1586,6 +1594,138 @@ class DefaultListableBeanFactoryTests {
 				.withMessageContaining("'tb1'");
 	}
 
+	@Test
+	void parallelPreInstantiation() {
+		for (int i = 0; i < 100; i++) {
+			RootBeanDefinition bd = new RootBeanDefinition(TestBean.class);
+			if (i % 10 != 0) {
+				bd.getPropertyValues().add("spouse", new RuntimeBeanReference("bean" + (i - 1)));
+			}
+			lbf.registerBeanDefinition("bean" + i, bd);
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			lbf.setBootstrapExecutor(executor);
+			lbf.setParallelPreInstantiation(true);
+			lbf.preInstantiateSingletons();
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		for (int i = 0; i < 100; i++) {
+			assertThat(lbf.containsSingleton("bean" + i)).isTrue();
+			TestBean bean = (TestBean) lbf.getBean("bean" + i);
+			if (i % 10 != 0) {
+				assertThat(bean.getSpouse()).isSameAs(lbf.getBean("bean" + (i - 1)));
+			}
+		}
+	}
+
+	@Test
+	void parallelPreInstantiationWithCircularReference() {
+		for (int i = 0; i < 100; i++) {
+			RootBeanDefinition bd = new RootBeanDefinition(TestBean.class);
+			bd.getPropertyValues().add("spouse", new RuntimeBeanReference("bean" + (i < 9 ? i + 1 : 0)));
+			lbf.registerBeanDefinition("bean" + i, bd);
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			lbf.setBootstrapExecutor(executor);
+			lbf.setParallelPreInstantiation(true);
+			lbf.preInstantiateSingletons();
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		for (int i = 0; i < 100; i++) {
+			TestBean bean = (TestBean) lbf.getBean("bean" + i);
+			assertThat(bean.getSpouse()).isSameAs(lbf.getBean("bean" + (i < 9 ? i + 1 : 0)));
+		}
+	}
+
+	@Test
+	void parallelPreInstantiationWithDependsOnCycle() {
+		RootBeanDefinition bd1 = new RootBeanDefinition(TestBean.class);
+		bd1.setDependsOn("tb2");
+		lbf.registerBeanDefinition("tb1", bd1);
+		RootBeanDefinition bd2 = new RootBeanDefinition(TestBean.class);
+		bd2.setDependsOn("tb1");
+		lbf.registerBeanDefinition("tb2", bd2);
+		lbf.registerBeanDefinition("tb3", new RootBeanDefinition(TestBean.class));
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			lbf.setBootstrapExecutor(executor);
+			lbf.setParallelPreInstantiation(true);
+			assertThatExceptionOfType(BeanCreationException.class)
+					.isThrownBy(lbf::preInstantiateSingletons)
+					.withMessageContaining("Circular")
+					.withMessageContaining("'tb2'")
+					.withMessageContaining("'tb1'");
+			assertThat(lbf.containsSingleton("tb3")).isTrue();
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void parallelPreInstantiationWithCollidingUndeclaredDependency() {
+		CountDownLatch sharedInCreation = new CountDownLatch(1);
+		CountDownLatch sharedRequestedAgain = new CountDownLatch(1);
+		AtomicInteger sharedInstances = new AtomicInteger();
+		AtomicInteger deferredAttempts = new AtomicInteger();
+		RootBeanDefinition shared = new RootBeanDefinition(TestBean.class, () -> {
+			sharedInCreation.countDown();
+			awaitLatch(sharedRequestedAgain);
+			sharedInstances.incrementAndGet();
+			return new TestBean("shared");
+		});
+		shared.setLazyInit(true);
+		lbf.registerBeanDefinition("shared", shared);
+		lbf.registerBeanDefinition("tb1", new RootBeanDefinition(TestBean.class, () ->
+				new TestBean((TestBean) lbf.getBean("shared"))));
+		lbf.registerBeanDefinition("tb2", new RootBeanDefinition(TestBean.class, () -> {
+			// Collides with the creation of "shared" in parallel, then retried in mainline thread
+			deferredAttempts.incrementAndGet();
+			awaitLatch(sharedInCreation);
+			try {
+				return new TestBean((TestBean) lbf.getBean("shared"));
+			}
+			finally {
+				sharedRequestedAgain.countDown();
+			}
+		}));
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			lbf.setBootstrapExecutor(executor);
+			lbf.setParallelPreInstantiation(true);
+			lbf.preInstantiateSingletons();
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(sharedInstances).hasValue(1);
+		assertThat(deferredAttempts).hasValue(2);
+		TestBean sharedBean = lbf.getBean("shared", TestBean.class);
+		assertThat(lbf.getBean("tb1", TestBean.class).getSpouse()).isSameAs(sharedBean);
+		assertThat(lbf.getBean("tb2", TestBean.class).getSpouse()).isSameAs(sharedBean);
+	}
+
+	private static void awaitLatch(CountDownLatch latch) {
+		try {
+			assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(ex);
+		}
+	}
+
 	@Test
 	void getBeanByTypeWithNoneFound() {
 		assertThatExceptionOfType(NoSuchBeanDefinitionException.class).isThrownBy(() ->
@@ -2145,6 +2285,84 @@ class DefaultListableBeanFactoryTests {
 		assertBeanNamesForType(CityRepository.class, true, false, "factoryBean");
 	}
 
+	@Test
+	void getBeanNamesForTypeWithFrozenConfiguration() {
+		lbf.registerBeanDefinition("tb", new RootBeanDefinition(TestBean.class));
+		lbf.registerBeanDefinition("nested", new RootBeanDefinition(NestedTestBean.class));
+		lbf.registerBeanDefinition("derived", new RootBeanDefinition(DerivedTestBean.class));
+		lbf.registerBeanDefinition("factory", new RootBeanDefinition(DummyFactory.class));
+		lbf.freezeConfiguration();
+
+		assertBeanNamesForType(ITestBean.class, true, false, "tb", "derived");
+		assertBeanNamesForType(FactoryBean.class, true, false, "&factory");
+		assertBeanNamesForType(DerivedTestBean.class, true, false, "derived");
+		assertBeanNamesForType(Serializable.class, true, false, "derived");
+		assertBeanNamesForType(NestedTestBean.class, true, false, "nested");
+
+		lbf.registerBeanDefinition("late", new RootBeanDefinition(DerivedTestBean.class));
+		lbf.registerBeanDefinition("nested", new RootBeanDefinition(DerivedTestBean.class));
+		lbf.removeBeanDefinition("tb");
+		assertBeanNamesForType(ITestBean.class, true, false, "nested", "derived", "late");
+		assertBeanNamesForType(DerivedTestBean.class, true, false, "nested", "derived", "late");
+		assertBeanNamesForType(NestedTestBean.class, true, false);
+	}
+
+	@Test
+	void getBeanNamesForTypeWithFrozenConfigurationKeepsUnaffectedMappings() {
+		lbf.registerBeanDefinition("tb", new RootBeanDefinition(TestBean.class));
+		lbf.registerBeanDefinition("nested", new RootBeanDefinition(NestedTestBean.class));
+		lbf.freezeConfiguration();
+
+		String[] testBeanNames = lbf.getBeanNamesForType(ITestBean.class);
+		String[] nestedBeanNames = lbf.getBeanNamesForType(NestedTestBean.class);
+		assertThat(lbf.getBeanNamesForType(ITestBean.class)).isSameAs(testBeanNames);
+
+		lbf.registerBeanDefinition("derived", new RootBeanDefinition(DerivedTestBean.class));
+		assertThat(lbf.getBeanNamesForType(ITestBean.class)).containsExactly("tb", "derived");
+		assertThat(lbf.getBeanNamesForType(NestedTestBean.class)).isSameAs(nestedBeanNames);
+
+		lbf.registerSingleton("singleton", new TestBean());
+		assertThat(lbf.getBeanNamesForType(ITestBean.class)).containsExactly("tb", "derived", "singleton");
+		assertThat(lbf.getBeanNamesForType(NestedTestBean.class)).isSameAs(nestedBeanNames);
+
+		lbf.registerBeanDefinition("factory", new RootBeanDefinition(DummyFactory.class));
+		assertThat(lbf.getBeanNamesForType(NestedTestBean.class)).isNotSameAs(nestedBeanNames).containsExactly("nested");
+	}
+
+	@Test
+	void getBeanNamesForTypeWithFrozenConfigurationAndNewFactoryBeanReference() {
+		RootBeanDefinition bd = new RootBeanDefinition();
+		bd.setFactoryBeanName("factory");
+		bd.setFactoryMethodName("createTestBeanNonStatic");
+		lbf.registerBeanDefinition("tb", bd);
+		lbf.freezeConfiguration();
+		assertThat(lbf.getBeanNamesForType(TestBean.class)).isEmpty();
+
+		lbf.registerBeanDefinition("factory", new RootBeanDefinition(TestBeanFactory.class));
+		assertThat(lbf.getBeanNamesForType(TestBean.class)).containsExactly("tb");
+	}
+
+	@Test
+	void getBeanNamesForTypeWithFrozenConfigurationAndProxiedSingleton() {
+		lbf.registerBeanDefinition("tb", new RootBeanDefinition(TestBean.class));
+		lbf.addBeanPostProcessor(new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				return Proxy.newProxyInstance(getClass().getClassLoader(),
+						new Class<?>[] {ITestBean.class, Runnable.class}, (proxy, method, args) -> null);
+			}
+		});
+		lbf.freezeConfiguration();
+
+		assertBeanNamesForType(TestBean.class, true, false, "tb");
+		assertBeanNamesForType(Runnable.class, true, false);
+
+		lbf.getBean("tb");
+		assertBeanNamesForType(TestBean.class, true, false);
+		assertBeanNamesForType(ITestBean.class, true, false, "tb");
+		assertBeanNamesForType(Runnable.class, true, false, "tb");
+	}
+
 	/**
 	 * Verifies that a dependency on a {@link FactoryBean} can <strong>not</strong>
 	 * be autowired <em>by name</em>, as &amp; is an illegal character in
@@ -2951,6 +3169,48 @@ class DefaultListableBeanFactoryTests {
 		}
 	}
 
+	@Test
+	void instantiationAwarePostProcessorNotApplicableToBeanClass() {
+		RootBeanDefinition bd = new RootBeanDefinition(TestBean.class);
+		bd.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+		lbf.registerBeanDefinition("test", bd);
+		RootBeanDefinition nestedBd = new RootBeanDefinition(NestedTestBean.class);
+		nestedBd.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+		lbf.registerBeanDefinition("nested", nestedBd);
+		List<Class<?>> probedClasses = new ArrayList<>();
+		List<String> processedBeanNames = new ArrayList<>();
+		lbf.addBeanPostProcessor(new SmartInstantiationAwareBeanPostProcessor() {
+			@Override
+			public boolean isApplicableTo(Class<?> beanClass) {
+				probedClasses.add(beanClass);
+				return NestedTestBean.class.isAssignableFrom(beanClass);
+			}
+			@Override
+			public Object postProcessBeforeInstantiation(Class<?> beanClass, String beanName) {
+				processedBeanNames.add(beanName);
+				return null;
+			}
+			@Override
+			public boolean postProcessAfterInstantiation(Object bean, String beanName) {
+				processedBeanNames.add(beanName);
+				return true;
+			}
+			@Override
+			public Constructor<?>[] determineCandidateConstructors(Class<?> beanClass, String beanName) {
+				processedBeanNames.add(beanName);
+				return null;
+			}
+		});
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(lbf.getBean("test")).isInstanceOf(TestBean.class);
+			assertThat(lbf.getBean("nested")).isInstanceOf(NestedTestBean.class);
+		}
+		assertThat(processedBeanNames).containsOnly("nested");
+		assertThat(probedClasses).containsOnly(TestBean.class, NestedTestBean.class);
+		assertThat(probedClasses).hasSize(4);
+	}
+
 	@Test
 	void containsBeanReturnsTrueEvenForAbstractBeanDefinition() {
 		lbf.registerBeanDefinition("abs", BeanDefinitionBuilder
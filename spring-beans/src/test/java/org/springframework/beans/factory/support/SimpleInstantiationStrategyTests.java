@@ -16,6 +16,7 @@
 
 package org.springframework.beans.factory.support;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 
 import org.junit.jupiter.api.Test;
@@ -112,6 +113,151 @@ class SimpleInstantiationStrategyTests {
 				.havingCause().isInstanceOf(IllegalStateException.class).withMessage("This a test message");
 	}
 
+	@Test
+	void instantiatePrototypeWithGeneratedInstantiator() {
+		this.strategy.setGenerateInstantiators(true);
+		RootBeanDefinition bd = new RootBeanDefinition(SampleBean.class);
+		bd.setScope(RootBeanDefinition.SCOPE_PROTOTYPE);
+		Object first = this.strategy.instantiate(bd, "sampleBean", this.beanFactory);
+		assertThat(first).isInstanceOf(SampleBean.class);
+		GeneratedInstantiator instantiator = bd.resolvedInstantiator;
+		assertThat(instantiator).isNotNull();
+		Object second = this.strategy.instantiate(bd, "sampleBean", this.beanFactory);
+		assertThat(second).isInstanceOf(SampleBean.class).isNotSameAs(first);
+		assertThat(bd.resolvedInstantiator).isSameAs(instantiator);
+	}
+
+	@Test
+	void instantiatePrototypeWithGeneratedInstantiatorAndArgs() throws Exception {
+		this.strategy.setGenerateInstantiators(true);
+		RootBeanDefinition bd = new RootBeanDefinition(SampleBean.class);
+		bd.setScope(RootBeanDefinition.SCOPE_PROTOTYPE);
+		Constructor<?> ctor = SampleBean.class.getDeclaredConstructor(String.class, int.class);
+		SampleBean bean = (SampleBean) this.strategy.instantiate(bd, "sampleBean", this.beanFactory, ctor, "Test", 42);
+		assertThat(bean.name).isEqualTo("Test");
+		assertThat(bean.age).isEqualTo(42);
+		bean = (SampleBean) this.strategy.instantiate(bd, "sampleBean", this.beanFactory, ctor, new Object[] {null, null});
+		assertThat(bean.name).isNull();
+		assertThat(bean.age).isZero();
+		assertThat(bd.resolvedInstantiator).isNotNull();
+		assertThat(bd.resolvedInstantiator.isFor(ctor)).isTrue();
+	}
+
+	@Test
+	void instantiatePrototypeWithGeneratedInstantiatorAndManyArgs() throws Exception {
+		this.strategy.setGenerateInstantiators(true);
+		RootBeanDefinition bd = new RootBeanDefinition(SampleBean.class);
+		bd.setScope(RootBeanDefinition.SCOPE_PROTOTYPE);
+		Constructor<?> ctor = SampleBean.class.getDeclaredConstructor(String.class, int.class, String.class, boolean.class);
+		SampleBean bean = (SampleBean) this.strategy.instantiate(bd, "sampleBean", this.beanFactory, ctor, "Test", 42, "Nick", true);
+		assertThat(bean.name).isEqualTo("Test");
+		assertThat(bean.age).isEqualTo(42);
+		assertThat(bean.nickname).isEqualTo("Nick");
+		assertThat(bean.active).isTrue();
+		bean = (SampleBean) this.strategy.instantiate(bd, "sampleBean", this.beanFactory, ctor, null, null, null, null);
+		assertThat(bean.age).isZero();
+		assertThat(bean.active).isFalse();
+		assertThat(bd.resolvedInstantiator).isNotNull();
+		assertThat(bd.resolvedInstantiator.isGenerated()).isTrue();
+		assertThatExceptionOfType(BeanInstantiationException.class).isThrownBy(() ->
+						this.strategy.instantiate(bd, "sampleBean", this.beanFactory, ctor, "Test", "42", "Nick", true))
+				.withMessageContaining("Illegal arguments for constructor");
+	}
+
+	@Test
+	void instantiatePrototypeWithGeneratedInstantiatorForResolvedConstructor() {
+		this.strategy.setGenerateInstantiators(true);
+		this.beanFactory.setInstantiationStrategy(this.strategy);
+		RootBeanDefinition bd = new RootBeanDefinition(SampleBean.class);
+		bd.setScope(RootBeanDefinition.SCOPE_PROTOTYPE);
+		bd.getConstructorArgumentValues().addGenericArgumentValue("Test");
+		bd.getConstructorArgumentValues().addGenericArgumentValue("42");
+		bd.getConstructorArgumentValues().addGenericArgumentValue("Nick");
+		bd.getConstructorArgumentValues().addGenericArgumentValue("true");
+		this.beanFactory.registerBeanDefinition("sampleBean", bd);
+		for (int i = 0; i < 3; i++) {
+			SampleBean bean = this.beanFactory.getBean("sampleBean", SampleBean.class);
+			assertThat(bean.nickname).isEqualTo("Nick");
+			assertThat(bean.active).isTrue();
+		}
+		assertThat(this.beanFactory.getMergedBeanDefinition("sampleBean")).isInstanceOfSatisfying(RootBeanDefinition.class,
+				mbd -> assertThat(mbd.resolvedInstantiator).isNotNull().satisfies(instantiator ->
+						assertThat(instantiator.isGenerated()).isTrue()));
+	}
+
+	@Test
+	void instantiatePrototypeWithGeneratedInstantiatorAndArgumentTypeMismatch() throws Exception {
+		this.strategy.setGenerateInstantiators(true);
+		RootBeanDefinition bd = new RootBeanDefinition(SampleBean.class);
+		bd.setScope(RootBeanDefinition.SCOPE_PROTOTYPE);
+		Constructor<?> ctor = SampleBean.class.getDeclaredConstructor(String.class, int.class);
+		assertThatExceptionOfType(BeanInstantiationException.class).isThrownBy(() ->
+						this.strategy.instantiate(bd, "sampleBean", this.beanFactory, ctor, 42, "Test"))
+				.withMessageContaining("Illegal arguments for constructor");
+	}
+
+	@Test
+	void instantiatePrototypeWithGeneratedInstantiatorAndException() throws Exception {
+		this.strategy.setGenerateInstantiators(true);
+		RootBeanDefinition bd = new RootBeanDefinition(SampleBean.class);
+		bd.setScope(RootBeanDefinition.SCOPE_PROTOTYPE);
+		Constructor<?> ctor = SampleBean.class.getDeclaredConstructor(String.class);
+		assertThatExceptionOfType(BeanInstantiationException.class).isThrownBy(() ->
+						this.strategy.instantiate(bd, "sampleBean", this.beanFactory, ctor, "This a test message"))
+				.withMessageContaining("Constructor threw exception")
+				.havingCause().isInstanceOf(IllegalStateException.class).withMessage("This a test message");
+	}
+
+	@Test
+	void instantiatePrototypeWithGeneratedInstantiatorEnabledOnBeanFactory() {
+		this.beanFactory.setGenerateInstantiators(true);
+		RootBeanDefinition bd = new RootBeanDefinition(SampleBean.class);
+		bd.setScope(RootBeanDefinition.SCOPE_PROTOTYPE);
+		this.beanFactory.registerBeanDefinition("sampleBean", bd);
+		SampleBean first = this.beanFactory.getBean("sampleBean", SampleBean.class);
+		assertThat(this.beanFactory.getBean("sampleBean", SampleBean.class)).isNotSameAs(first);
+		assertThat(this.beanFactory.getMergedBeanDefinition("sampleBean")).isInstanceOfSatisfying(RootBeanDefinition.class,
+				mbd -> assertThat(mbd.resolvedInstantiator).isNotNull());
+	}
+
+	@Test
+	void instantiatePrototypeWithoutGeneratedInstantiatorByDefault() {
+		RootBeanDefinition bd = new RootBeanDefinition(SampleBean.class);
+		bd.setScope(RootBeanDefinition.SCOPE_PROTOTYPE);
+		assertThat(this.strategy.instantiate(bd, "sampleBean", this.beanFactory)).isInstanceOf(SampleBean.class);
+		assertThat(bd.resolvedInstantiator).isNull();
+	}
+
+	@Test
+	void instantiateSingletonWithoutGeneratedInstantiator() {
+		this.strategy.setGenerateInstantiators(true);
+		RootBeanDefinition bd = new RootBeanDefinition(SampleBean.class);
+		assertThat(this.strategy.instantiate(bd, "sampleBean", this.beanFactory)).isInstanceOf(SampleBean.class);
+		assertThat(bd.resolvedInstantiator).isNull();
+	}
+
+	@Test
+	void generatedInstantiatorDiscardedOnBeanDefinitionChange() {
+		this.strategy.setGenerateInstantiators(true);
+		this.beanFactory.setInstantiationStrategy(this.strategy);
+		RootBeanDefinition bd = new RootBeanDefinition(SampleBean.class);
+		bd.setScope(RootBeanDefinition.SCOPE_PROTOTYPE);
+		this.beanFactory.registerBeanDefinition("sampleBean", bd);
+		assertThat(this.beanFactory.getBean("sampleBean")).isInstanceOf(SampleBean.class);
+		assertThat(this.beanFactory.getMergedBeanDefinition("sampleBean"))
+				.isInstanceOfSatisfying(RootBeanDefinition.class, mbd -> assertThat(mbd.resolvedInstantiator).isNotNull());
+
+		RootBeanDefinition changed = new RootBeanDefinition(SampleBean.class);
+		changed.setScope(RootBeanDefinition.SCOPE_PROTOTYPE);
+		changed.getConstructorArgumentValues().addGenericArgumentValue("Test");
+		changed.getConstructorArgumentValues().addGenericArgumentValue("42");
+		this.beanFactory.registerBeanDefinition("sampleBean", changed);
+		SampleBean bean = (SampleBean) this.beanFactory.getBean("sampleBean");
+		assertThat(bean.name).isEqualTo("Test");
+		assertThat(bean.age).isEqualTo(42);
+		assertThat(this.beanFactory.getBean("sampleBean")).isNotSameAs(bean);
+	}
+
 	private Object instantiate(RootBeanDefinition bd, Object factory, Method method, Object... args) {
 		return this.strategy.instantiate(bd, "simpleBean", this.beanFactory,
 				factory, method, args);
@@ -126,6 +272,36 @@ class SimpleInstantiationStrategyTests {
 	}
 
 
+	static class SampleBean {
+
+		String name;
+
+		int age;
+
+		String nickname;
+
+		boolean active;
+
+		SampleBean() {
+		}
+
+		SampleBean(String name, int age) {
+			this.name = name;
+			this.age = age;
+		}
+
+		SampleBean(String name, int age, String nickname, boolean active) {
+			this.name = name;
+			this.age = age;
+			this.nickname = nickname;
+			this.active = active;
+		}
+
+		SampleBean(String msg) {
+			throw new IllegalStateException(msg);
+		}
+	}
+
 	static class SampleFactory {
 
 		String simpleBean() {
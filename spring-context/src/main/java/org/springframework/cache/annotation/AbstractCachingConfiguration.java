@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
 package org.springframework.cache.annotation;
 
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -62,6 +63,9 @@ public abstract class AbstractCachingConfiguration implements ImportAware {
 	@Nullable
 	protected Supplier<CacheErrorHandler> errorHandler;
 
+	@Nullable
+	protected Supplier<Executor> refreshExecutor;
+
 
 	@Override
 	public void setImportMetadata(AnnotationMetadata importMetadata) {
@@ -99,6 +103,7 @@ public abstract class AbstractCachingConfiguration implements ImportAware {
 		this.cacheResolver = cachingConfigurerSupplier.adapt(CachingConfigurer::cacheResolver);
 		this.keyGenerator = cachingConfigurerSupplier.adapt(CachingConfigurer::keyGenerator);
 		this.errorHandler = cachingConfigurerSupplier.adapt(CachingConfigurer::errorHandler);
+		this.refreshExecutor = cachingConfigurerSupplier.adapt(CachingConfigurer::refreshExecutor);
 	}
 
 
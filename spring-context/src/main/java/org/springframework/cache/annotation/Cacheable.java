@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +23,7 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.aot.hint.annotation.Reflective;
 import org.springframework.core.annotation.AliasFor;
@@ -194,4 +195,42 @@ public @interface Cacheable {
 	 */
 	boolean sync() default false;
 
+	/**
+	 * The time after which a cached value is considered stale, expressed in the
+	 * {@link #timeUnit}: a stale value is still returned, while the method gets
+	 * invoked in the background in order to refresh the cached value. At most
+	 * one such refresh is in progress for each key at any given time.
+	 * <p>Default is -1, indicating that cached values never become stale.
+	 * <p>Requires {@link #sync()} to be enabled. Refreshes are performed by the
+	 * executor configured through
+	 * {@link CachingConfigurer#refreshExecutor()}, if any.
+	 * Note that the time at which a value has been computed is stored in the cache
+	 * along with the value, see
+	 * {@link org.springframework.cache.interceptor.TimestampedCacheValue}.
+	 * @since 6.2
+	 * @see #expireAfter()
+	 */
+	long refreshAfter() default -1;
+
+	/**
+	 * The time after which a cached value is not returned anymore, expressed
+	 * in the {@link #timeUnit}: an expired value gets recomputed as if it
+	 * was not present in the cache, regardless of the expiration policy of
+	 * the cache itself. Typically longer than {@link #refreshAfter()}.
+	 * <p>Default is -1, indicating that cached values never expire
+	 * beyond the expiration policy of the cache.
+	 * <p>Requires {@link #sync()} to be enabled.
+	 * @since 6.2
+	 * @see #refreshAfter()
+	 */
+	long expireAfter() default -1;
+
+	/**
+	 * The {@link TimeUnit} to use for {@link #refreshAfter()} and
+	 * {@link #expireAfter()}.
+	 * <p>Defaults to {@link TimeUnit#MILLISECONDS}.
+	 * @since 6.2
+	 */
+	TimeUnit timeUnit() default TimeUnit.MILLISECONDS;
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,8 @@
 
 package org.springframework.cache.annotation;
 
+import java.util.concurrent.Executor;
+
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.interceptor.CacheErrorHandler;
 import org.springframework.cache.interceptor.CacheResolver;
@@ -141,4 +143,17 @@ public interface CachingConfigurer {
 		return null;
 	}
 
+	/**
+	 * Return the {@link Executor} to use for refreshing stale cached values in the
+	 * background, for {@link Cacheable#refreshAfter() refresh-ahead} operations.
+	 * <p>By default, a {@link org.springframework.core.task.SimpleAsyncTaskExecutor}
+	 * is used.
+	 * @since 6.2
+	 * @see Cacheable#refreshAfter()
+	 */
+	@Nullable
+	default Executor refreshExecutor() {
+		return null;
+	}
+
 }
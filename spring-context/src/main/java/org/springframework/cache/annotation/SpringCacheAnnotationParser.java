@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,7 @@ import java.io.Serializable;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Set;
@@ -121,6 +122,12 @@ public class SpringCacheAnnotationParser implements CacheAnnotationParser, Seria
 		builder.setCacheManager(cacheable.cacheManager());
 		builder.setCacheResolver(cacheable.cacheResolver());
 		builder.setSync(cacheable.sync());
+		if (cacheable.refreshAfter() >= 0) {
+			builder.setRefreshAfter(Duration.of(cacheable.refreshAfter(), cacheable.timeUnit().toChronoUnit()));
+		}
+		if (cacheable.expireAfter() >= 0) {
+			builder.setExpireAfter(Duration.of(cacheable.expireAfter(), cacheable.timeUnit().toChronoUnit()));
+		}
 
 		defaultConfig.applyDefault(builder);
 		CacheableOperation op = builder.build();
@@ -212,6 +219,20 @@ public class SpringCacheAnnotationParser implements CacheAnnotationParser, Seria
 					"default cache resolver if none is set. If a cache resolver is set, the cache manager" +
 					"won't be used.");
 		}
+		if (operation instanceof CacheableOperation cacheable &&
+				(cacheable.getRefreshAfter() != null || cacheable.getExpireAfter() != null)) {
+			if (!cacheable.isSync()) {
+				throw new IllegalStateException("Invalid cache annotation configuration on '" +
+						ae.toString() + "'. The 'refreshAfter' and 'expireAfter' attributes require " +
+						"'sync' to be enabled.");
+			}
+			if (cacheable.getRefreshAfter() != null && cacheable.getExpireAfter() != null &&
+					cacheable.getRefreshAfter().compareTo(cacheable.getExpireAfter()) >= 0) {
+				throw new IllegalStateException("Invalid cache annotation configuration on '" +
+						ae.toString() + "'. The 'refreshAfter' time must be shorter than the " +
+						"'expireAfter' time: otherwise, stale values would never be returned.");
+			}
+		}
 	}
 
 	@Override
@@ -0,0 +1,692 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.concurrent;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.core.serializer.support.SerializationDelegate;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link org.springframework.cache.Cache} implementation based on the core
+ * JDK {@code java.util.concurrent} package, with a maximum number of entries
+ * and optional time-to-live and time-to-idle expiration of entries.
+ *
+ * <p>Entries are held in a {@link ConcurrentHashMap}, with lock-free reads.
+ * The eviction order is maintained in a number of independently locked stripes,
+ * each of them holding an approximate least-recently-used order for its share
+ * of the keys and its share of the maximum size. Reads only reorder an entry
+ * if its stripe is not locked at the time, never waiting for another thread.
+ * As a consequence, the maximum size is enforced per stripe, and entries may
+ * get evicted before the cache as a whole reaches its maximum size if the keys
+ * are unevenly distributed across the stripes.
+ *
+ * <p>Values to be computed through {@link #get(Object, Callable)} are loaded
+ * outside of any lock, with concurrent callers for the same key waiting for
+ * the ongoing load. Value loaders may therefore access the cache themselves.
+ *
+ * <p>Expired entries are never returned. They get removed on access, when
+ * they have made their way to the eviction end of their stripe on subsequent
+ * writes, or on {@link #cleanUp()}. Hits, misses and evictions (including
+ * expirations) are counted, see {@link #getHitCount()}, {@link #getMissCount()}
+ * and {@link #getEvictionCount()}.
+ *
+ * <p>Supports the {@link #retrieve(Object)} and {@link #retrieve(Object, Supplier)}
+ * operations in a best-effort fashion, relying on default {@link CompletableFuture}
+ * execution (typically within the JVM's {@link ForkJoinPool#commonPool()}).
+ *
+ * <p>Useful for simple local caching scenarios with limited memory, typically
+ * through {@link ConcurrentMapCacheManager#setMaximumSize} and related settings.
+ * For advanced local caching needs, consider
+ * {@link org.springframework.cache.caffeine.CaffeineCacheManager}.
+ *
+ * @since 6.2
+ * @see ConcurrentMapCacheManager#setMaximumSize
+ * @see ConcurrentMapCacheManager#setTimeToLive
+ * @see ConcurrentMapCacheManager#setTimeToIdle
+ */
+public class BoundedConcurrentMapCache extends AbstractValueAdaptingCache {
+
+	private static final int MAXIMUM_STRIPES = 64;
+
+	private static final int MINIMUM_STRIPE_SIZE = 16;
+
+
+	private final String name;
+
+	private final long timeToLive;
+
+	private final long timeToIdle;
+
+	@Nullable
+	private final SerializationDelegate serialization;
+
+	private final LongSupplier ticker;
+
+	private final ConcurrentHashMap<Object, CacheEntry> store = new ConcurrentHashMap<>(256);
+
+	private final ConcurrentHashMap<Object, Load> loads = new ConcurrentHashMap<>(16);
+
+	private final Stripe[] stripes;
+
+	private final LongAdder hitCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
+
+	private final LongAdder evictionCount = new LongAdder();
+
+
+	/**
+	 * Create a new BoundedConcurrentMapCache with the specified name
+	 * and maximum size, without expiration of entries.
+	 * @param name the name of the cache
+	 * @param maximumSize the maximum number of entries in the cache
+	 */
+	public BoundedConcurrentMapCache(String name, int maximumSize) {
+		this(name, maximumSize, null, null, true);
+	}
+
+	/**
+	 * Create a new BoundedConcurrentMapCache with the specified name and settings.
+	 * @param name the name of the cache
+	 * @param maximumSize the maximum number of entries in the cache,
+	 * or a negative value for no limit
+	 * @param timeToLive the duration after which an entry expires once it has
+	 * been written, or {@code null} for no such expiration
+	 * @param timeToIdle the duration after which an entry expires once it has
+	 * last been written or read, or {@code null} for no such expiration
+	 * @param allowNullValues whether to accept and convert {@code null}
+	 * values for this cache
+	 */
+	public BoundedConcurrentMapCache(String name, int maximumSize, @Nullable Duration timeToLive,
+			@Nullable Duration timeToIdle, boolean allowNullValues) {
+
+		this(name, maximumSize, timeToLive, timeToIdle, allowNullValues, null);
+	}
+
+	/**
+	 * Create a new BoundedConcurrentMapCache with the specified name and settings.
+	 * If the {@link SerializationDelegate} is specified,
+	 * {@link #isStoreByValue() store-by-value} is enabled.
+	 * @param name the name of the cache
+	 * @param maximumSize the maximum number of entries in the cache,
+	 * or a negative value for no limit
+	 * @param timeToLive the duration after which an entry expires once it has
+	 * been written, or {@code null} for no such expiration
+	 * @param timeToIdle the duration after which an entry expires once it has
+	 * last been written or read, or {@code null} for no such expiration
+	 * @param allowNullValues whether to accept and convert {@code null}
+	 * values for this cache
+	 * @param serialization the {@link SerializationDelegate} to use
+	 * to serialize cache entry or {@code null} to store the reference
+	 */
+	protected BoundedConcurrentMapCache(String name, int maximumSize, @Nullable Duration timeToLive,
+			@Nullable Duration timeToIdle, boolean allowNullValues, @Nullable SerializationDelegate serialization) {
+
+		this(name, maximumSize, timeToLive, timeToIdle, allowNullValues, serialization, System::nanoTime);
+	}
+
+	BoundedConcurrentMapCache(String name, int maximumSize, @Nullable Duration timeToLive,
+			@Nullable Duration timeToIdle, boolean allowNullValues, @Nullable SerializationDelegate serialization,
+			LongSupplier ticker) {
+
+		super(allowNullValues);
+		Assert.notNull(name, "Name must not be null");
+		Assert.isTrue(timeToLive == null || (!timeToLive.isNegative() && !timeToLive.isZero()),
+				"Time to live must be positive");
+		Assert.isTrue(timeToIdle == null || (!timeToIdle.isNegative() && !timeToIdle.isZero()),
+				"Time to idle must be positive");
+		this.name = name;
+		this.timeToLive = (timeToLive != null ? timeToLive.toNanos() : 0);
+		this.timeToIdle = (timeToIdle != null ? timeToIdle.toNanos() : 0);
+		this.serialization = serialization;
+		this.ticker = ticker;
+		this.stripes = createStripes(maximumSize);
+	}
+
+	private static Stripe[] createStripes(int maximumSize) {
+		int stripeCount = 1;
+		int targetCount = Math.min(Runtime.getRuntime().availableProcessors(), MAXIMUM_STRIPES);
+		while (stripeCount < targetCount &&
+				(maximumSize < 0 || maximumSize / (stripeCount << 1) >= MINIMUM_STRIPE_SIZE)) {
+			stripeCount <<= 1;
+		}
+		Stripe[] stripes = new Stripe[stripeCount];
+		for (int i = 0; i < stripeCount; i++) {
+			// Distribute the maximum size across the stripes, with the remainder in the first ones
+			int capacity = (maximumSize < 0 ? -1 : maximumSize / stripeCount + (i < maximumSize % stripeCount ? 1 : 0));
+			stripes[i] = new Stripe(capacity);
+		}
+		return stripes;
+	}
+
+
+	/**
+	 * Return whether this cache stores a copy of each entry ({@code true}) or
+	 * a reference ({@code false}, default). If store by value is enabled, each
+	 * entry in the cache must be serializable.
+	 */
+	public final boolean isStoreByValue() {
+		return (this.serialization != null);
+	}
+
+	@Override
+	public final String getName() {
+		return this.name;
+	}
+
+	/**
+	 * This implementation returns the cache itself, since its internal
+	 * store is not meant to be accessed directly.
+	 */
+	@Override
+	public final Object getNativeCache() {
+		return this;
+	}
+
+	/**
+	 * Return the number of lookups that found a present, non-expired entry.
+	 */
+	public long getHitCount() {
+		return this.hitCount.sum();
+	}
+
+	/**
+	 * Return the number of lookups that did not find a present, non-expired entry.
+	 */
+	public long getMissCount() {
+		return this.missCount.sum();
+	}
+
+	/**
+	 * Return the number of entries that have been removed because of the
+	 * maximum size or because they expired, not including explicit removals.
+	 */
+	public long getEvictionCount() {
+		return this.evictionCount.sum();
+	}
+
+	/**
+	 * Return the current number of entries in the cache,
+	 * possibly including expired entries that have not been removed yet.
+	 */
+	public int size() {
+		return this.store.size();
+	}
+
+	/**
+	 * Remove all expired entries right away, rather than waiting for them
+	 * to be removed on access or on subsequent writes.
+	 */
+	public void cleanUp() {
+		if (this.timeToLive == 0 && this.timeToIdle == 0) {
+			return;
+		}
+		for (Stripe stripe : this.stripes) {
+			stripe.lock();
+			try {
+				long now = this.ticker.getAsLong();
+				CacheEntry entry = stripe.head;
+				while (entry != null) {
+					CacheEntry next = entry.next;
+					if (isExpired(entry, now)) {
+						remove(stripe, entry);
+					}
+					entry = next;
+				}
+			}
+			finally {
+				stripe.unlock();
+			}
+		}
+	}
+
+
+	@Override
+	@Nullable
+	protected Object lookup(Object key) {
+		CacheEntry entry = getEntry(key);
+		if (entry != null) {
+			this.hitCount.increment();
+			return entry.value;
+		}
+		this.missCount.increment();
+		return null;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	@Nullable
+	public <T> T get(Object key, Callable<T> valueLoader) {
+		return (T) fromStoreValue(computeIfAbsent(key, k -> {
+			try {
+				return toStoreValue(valueLoader.call());
+			}
+			catch (Throwable ex) {
+				throw new ValueRetrievalException(key, valueLoader, ex);
+			}
+		}));
+	}
+
+	@Override
+	@Nullable
+	public CompletableFuture<?> retrieve(Object key) {
+		Object value = lookup(key);
+		return (value != null ? CompletableFuture.completedFuture(
+				isAllowNullValues() ? toValueWrapper(value) : fromStoreValue(value)) : null);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+		return CompletableFuture.supplyAsync(() ->
+				(T) fromStoreValue(computeIfAbsent(key, k -> toStoreValue(valueLoader.get().join()))));
+	}
+
+	@Override
+	public void put(Object key, @Nullable Object value) {
+		Object storeValue = toStoreValue(value);
+		Stripe stripe = stripeFor(key);
+		stripe.lock();
+		try {
+			long now = this.ticker.getAsLong();
+			CacheEntry entry = new CacheEntry(key, storeValue, now);
+			CacheEntry previous = this.store.put(key, entry);
+			if (previous != null) {
+				stripe.unlink(previous);
+			}
+			stripe.link(entry);
+			evictEntries(stripe, now);
+		}
+		finally {
+			stripe.unlock();
+		}
+	}
+
+	@Override
+	@Nullable
+	public ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+		CacheEntry existing = putEntryIfAbsent(key, toStoreValue(value));
+		return (existing != null ? toValueWrapper(existing.value) : null);
+	}
+
+	@Override
+	public void evict(Object key) {
+		evictIfPresent(key);
+	}
+
+	@Override
+	public boolean evictIfPresent(Object key) {
+		Stripe stripe = stripeFor(key);
+		stripe.lock();
+		try {
+			CacheEntry removed = this.store.remove(key);
+			if (removed != null) {
+				stripe.unlink(removed);
+				return true;
+			}
+			return false;
+		}
+		finally {
+			stripe.unlock();
+		}
+	}
+
+	@Override
+	public void clear() {
+		invalidate();
+	}
+
+	@Override
+	public boolean invalidate() {
+		for (Stripe stripe : this.stripes) {
+			stripe.lock();
+		}
+		try {
+			boolean notEmpty = !this.store.isEmpty();
+			this.store.clear();
+			for (Stripe stripe : this.stripes) {
+				stripe.reset();
+			}
+			return notEmpty;
+		}
+		finally {
+			for (Stripe stripe : this.stripes) {
+				stripe.unlock();
+			}
+		}
+	}
+
+	@Override
+	protected Object toStoreValue(@Nullable Object userValue) {
+		Object storeValue = super.toStoreValue(userValue);
+		if (this.serialization != null) {
+			try {
+				return this.serialization.serializeToByteArray(storeValue);
+			}
+			catch (Throwable ex) {
+				throw new IllegalArgumentException("Failed to serialize cache value '" + userValue +
+						"'. Does it implement Serializable?", ex);
+			}
+		}
+		else {
+			return storeValue;
+		}
+	}
+
+	@Override
+	@Nullable
+	protected Object fromStoreValue(@Nullable Object storeValue) {
+		if (storeValue != null && this.serialization != null) {
+			try {
+				return super.fromStoreValue(this.serialization.deserializeFromByteArray((byte[]) storeValue));
+			}
+			catch (Throwable ex) {
+				throw new IllegalArgumentException("Failed to deserialize cache value '" + storeValue + "'", ex);
+			}
+		}
+		else {
+			return super.fromStoreValue(storeValue);
+		}
+	}
+
+
+	/**
+	 * Return the non-expired entry for the given key, recording the access.
+	 */
+	@Nullable
+	private CacheEntry getEntry(Object key) {
+		CacheEntry entry = this.store.get(key);
+		if (entry == null) {
+			return null;
+		}
+		long now = this.ticker.getAsLong();
+		Stripe stripe = stripeFor(key);
+		if (isExpired(entry, now)) {
+			stripe.lock();
+			try {
+				remove(stripe, entry);
+			}
+			finally {
+				stripe.unlock();
+			}
+			return null;
+		}
+		entry.accessTime = now;
+		// Reorder opportunistically: a contended stripe just skips it
+		if (stripe.tryLock()) {
+			try {
+				stripe.moveToTail(entry);
+			}
+			finally {
+				stripe.unlock();
+			}
+		}
+		return entry;
+	}
+
+	/**
+	 * Return the store value for the given key, computing it through the given
+	 * function if necessary. The function is invoked without holding any lock,
+	 * with concurrent calls for the same key waiting for its result instead.
+	 */
+	private Object computeIfAbsent(Object key, Function<Object, Object> valueFunction) {
+		CacheEntry entry = getEntry(key);
+		if (entry != null) {
+			this.hitCount.increment();
+			return entry.value;
+		}
+		this.missCount.increment();
+		while (true) {
+			Load load = new Load();
+			Load existingLoad = this.loads.putIfAbsent(key, load);
+			if (existingLoad != null) {
+				if (existingLoad.thread == Thread.currentThread()) {
+					throw new IllegalStateException("Recursive load of cache entry for key '" + key + "'");
+				}
+				try {
+					return existingLoad.join();
+				}
+				catch (CompletionException ex) {
+					// Failed load in other thread -> try to load the value ourselves
+					continue;
+				}
+			}
+			try {
+				// An entry might have been loaded by another thread in the meantime
+				entry = getEntry(key);
+				Object value = (entry != null ? entry.value : valueFunction.apply(key));
+				if (entry == null) {
+					putEntryIfAbsent(key, value);
+				}
+				load.complete(value);
+				return value;
+			}
+			catch (Throwable ex) {
+				load.completeExceptionally(ex);
+				throw ex;
+			}
+			finally {
+				this.loads.remove(key, load);
+			}
+		}
+	}
+
+	/**
+	 * Add an entry for the given store value, unless a non-expired entry
+	 * exists for the given key already.
+	 * @return the existing entry, or {@code null} if the entry has been added
+	 */
+	@Nullable
+	private CacheEntry putEntryIfAbsent(Object key, Object storeValue) {
+		Stripe stripe = stripeFor(key);
+		stripe.lock();
+		try {
+			long now = this.ticker.getAsLong();
+			CacheEntry existing = this.store.get(key);
+			if (existing != null && !isExpired(existing, now)) {
+				return existing;
+			}
+			CacheEntry entry = new CacheEntry(key, storeValue, now);
+			this.store.put(key, entry);
+			if (existing != null) {
+				stripe.unlink(existing);
+				this.evictionCount.increment();
+			}
+			stripe.link(entry);
+			evictEntries(stripe, now);
+			return null;
+		}
+		finally {
+			stripe.unlock();
+		}
+	}
+
+	private Stripe stripeFor(Object key) {
+		int hash = key.hashCode();
+		return this.stripes[(hash ^ (hash >>> 16)) & (this.stripes.length - 1)];
+	}
+
+	private boolean isExpired(CacheEntry entry, long now) {
+		return ((this.timeToLive > 0 && now - entry.writeTime >= this.timeToLive) ||
+				(this.timeToIdle > 0 && now - entry.accessTime >= this.timeToIdle));
+	}
+
+	/**
+	 * Remove expired entries from the least recently used end of the given
+	 * stripe, and then evict entries beyond the capacity of the stripe.
+	 * To be called while holding the lock of the stripe.
+	 */
+	private void evictEntries(Stripe stripe, long now) {
+		CacheEntry head;
+		while ((head = stripe.head) != null && isExpired(head, now)) {
+			remove(stripe, head);
+		}
+		while (stripe.capacity >= 0 && stripe.size > stripe.capacity && (head = stripe.head) != null) {
+			remove(stripe, head);
+		}
+	}
+
+	/**
+	 * Remove the given entry as an eviction, unless it has been replaced already.
+	 * To be called while holding the lock of the stripe.
+	 */
+	private void remove(Stripe stripe, CacheEntry entry) {
+		if (this.store.remove(entry.key, entry)) {
+			stripe.unlink(entry);
+			this.evictionCount.increment();
+		}
+	}
+
+
+	/**
+	 * An ongoing load of a value through {@link #computeIfAbsent},
+	 * to be awaited by concurrent callers for the same key.
+	 */
+	private static final class Load extends CompletableFuture<Object> {
+
+		final Thread thread = Thread.currentThread();
+	}
+
+
+	/**
+	 * A cache entry, linked into the eviction order of its stripe.
+	 */
+	private static final class CacheEntry {
+
+		final Object key;
+
+		final Object value;
+
+		final long writeTime;
+
+		volatile long accessTime;
+
+		// Guarded by the lock of the stripe
+
+		@Nullable
+		CacheEntry prev;
+
+		@Nullable
+		CacheEntry next;
+
+		boolean linked;
+
+		CacheEntry(Object key, Object value, long writeTime) {
+			this.key = key;
+			this.value = value;
+			this.writeTime = writeTime;
+			this.accessTime = writeTime;
+		}
+	}
+
+
+	/**
+	 * A stripe of the cache, holding the eviction order for its share of the keys
+	 * in a doubly linked list, from least recently used (head) to most recently
+	 * used (tail). All operations require the lock of the stripe to be held.
+	 */
+	@SuppressWarnings("serial")
+	private static final class Stripe extends ReentrantLock {
+
+		final int capacity;
+
+		@Nullable
+		CacheEntry head;
+
+		@Nullable
+		CacheEntry tail;
+
+		int size;
+
+		Stripe(int capacity) {
+			this.capacity = capacity;
+		}
+
+		void link(CacheEntry entry) {
+			entry.prev = this.tail;
+			entry.next = null;
+			if (this.tail != null) {
+				this.tail.next = entry;
+			}
+			else {
+				this.head = entry;
+			}
+			this.tail = entry;
+			entry.linked = true;
+			this.size++;
+		}
+
+		void unlink(CacheEntry entry) {
+			if (!entry.linked) {
+				return;
+			}
+			CacheEntry prev = entry.prev;
+			CacheEntry next = entry.next;
+			if (prev != null) {
+				prev.next = next;
+			}
+			else {
+				this.head = next;
+			}
+			if (next != null) {
+				next.prev = prev;
+			}
+			else {
+				this.tail = prev;
+			}
+			entry.prev = null;
+			entry.next = null;
+			entry.linked = false;
+			this.size--;
+		}
+
+		void moveToTail(CacheEntry entry) {
+			if (entry.linked && entry != this.tail) {
+				unlink(entry);
+				link(entry);
+			}
+		}
+
+		void reset() {
+			CacheEntry entry = this.head;
+			while (entry != null) {
+				CacheEntry next = entry.next;
+				entry.prev = null;
+				entry.next = null;
+				entry.linked = false;
+				entry = next;
+			}
+			this.head = null;
+			this.tail = null;
+			this.size = 0;
+		}
+	}
+
+}
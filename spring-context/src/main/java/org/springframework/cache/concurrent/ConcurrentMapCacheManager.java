@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package org.springframework.cache.concurrent;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -29,6 +30,7 @@ import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.core.serializer.support.SerializationDelegate;
 import org.springframework.lang.Nullable;
+import org.springframework.util.ObjectUtils;
 
 /**
  * {@link CacheManager} implementation that lazily builds {@link ConcurrentMapCache}
@@ -40,7 +42,12 @@ import org.springframework.lang.Nullable;
  * {@link Cache#retrieve(Object, Supplier)} operations through basic
  * {@code CompletableFuture} adaptation, with early-determined cache misses.
  *
- * <p>Note: This is by no means a sophisticated CacheManager; it comes with no
+ * <p>By default, caches are unbounded and entries never expire. Setting a
+ * {@link #setMaximumSize maximum size}, {@link #setTimeToLive time to live} or
+ * {@link #setTimeToIdle time to idle} builds {@link BoundedConcurrentMapCache}
+ * instances instead.
+ *
+ * <p>Note: This is by no means a sophisticated CacheManager; it comes with few
  * cache configuration options. However, it may be useful for testing or simple
  * caching scenarios. For advanced local caching needs, consider
  * {@link org.springframework.cache.caffeine.CaffeineCacheManager} or
@@ -49,6 +56,7 @@ import org.springframework.lang.Nullable;
  * @author Juergen Hoeller
  * @since 3.1
  * @see ConcurrentMapCache
+ * @see BoundedConcurrentMapCache
  */
 public class ConcurrentMapCacheManager implements CacheManager, BeanClassLoaderAware {
 
@@ -60,6 +68,14 @@ public class ConcurrentMapCacheManager implements CacheManager, BeanClassLoaderA
 
 	private boolean storeByValue = false;
 
+	private int maximumSize = -1;
+
+	@Nullable
+	private Duration timeToLive;
+
+	@Nullable
+	private Duration timeToIdle;
+
 	@Nullable
 	private SerializationDelegate serialization;
 
@@ -150,6 +166,81 @@ public class ConcurrentMapCacheManager implements CacheManager, BeanClassLoaderA
 		return this.storeByValue;
 	}
 
+	/**
+	 * Specify the maximum number of entries for each cache in this cache manager,
+	 * evicting the least recently used entries beyond that number.
+	 * <p>Default is -1, indicating no limit.
+	 * <p>Note: A change of the maximum size will reset all existing caches,
+	 * if any, to reconfigure them with the new maximum size.
+	 * @since 6.2
+	 * @see BoundedConcurrentMapCache
+	 */
+	public void setMaximumSize(int maximumSize) {
+		if (maximumSize != this.maximumSize) {
+			this.maximumSize = maximumSize;
+			recreateCaches();
+		}
+	}
+
+	/**
+	 * Return the maximum number of entries for each cache in this cache manager.
+	 * @since 6.2
+	 */
+	public int getMaximumSize() {
+		return this.maximumSize;
+	}
+
+	/**
+	 * Specify the duration after which an entry expires once it has been written,
+	 * for all caches in this cache manager.
+	 * <p>Default is none, with entries not expiring after any such duration.
+	 * <p>Note: A change of the time to live will reset all existing caches,
+	 * if any, to reconfigure them with the new time to live.
+	 * @since 6.2
+	 * @see BoundedConcurrentMapCache
+	 */
+	public void setTimeToLive(@Nullable Duration timeToLive) {
+		if (!ObjectUtils.nullSafeEquals(timeToLive, this.timeToLive)) {
+			this.timeToLive = timeToLive;
+			recreateCaches();
+		}
+	}
+
+	/**
+	 * Return the duration after which an entry expires once it has been written.
+	 * @since 6.2
+	 */
+	@Nullable
+	public Duration getTimeToLive() {
+		return this.timeToLive;
+	}
+
+	/**
+	 * Specify the duration after which an entry expires once it has last been
+	 * written or read, for all caches in this cache manager.
+	 * <p>Default is none, with entries not expiring after any such duration.
+	 * <p>Note: A change of the time to idle will reset all existing caches,
+	 * if any, to reconfigure them with the new time to idle.
+	 * @since 6.2
+	 * @see BoundedConcurrentMapCache
+	 */
+	public void setTimeToIdle(@Nullable Duration timeToIdle) {
+		if (!ObjectUtils.nullSafeEquals(timeToIdle, this.timeToIdle)) {
+			this.timeToIdle = timeToIdle;
+			recreateCaches();
+		}
+	}
+
+	/**
+	 * Return the duration after which an entry expires once it has last been
+	 * written or read.
+	 * @since 6.2
+	 */
+	@Nullable
+	public Duration getTimeToIdle() {
+		return this.timeToIdle;
+	}
+
 	@Override
 	public void setBeanClassLoader(ClassLoader classLoader) {
 		this.serialization = new SerializationDelegate(classLoader);
@@ -182,12 +273,17 @@ public class ConcurrentMapCacheManager implements CacheManager, BeanClassLoaderA
 	}
 
 	/**
-	 * Create a new ConcurrentMapCache instance for the specified cache name.
+	 * Create a new ConcurrentMapCache instance for the specified cache name,
+	 * or a BoundedConcurrentMapCache if a maximum size or expiration is configured.
 	 * @param name the name of the cache
 	 * @return the ConcurrentMapCache (or a decorator thereof)
 	 */
 	protected Cache createConcurrentMapCache(String name) {
 		SerializationDelegate actualSerialization = (isStoreByValue() ? this.serialization : null);
+		if (this.maximumSize >= 0 || this.timeToLive != null || this.timeToIdle != null) {
+			return new BoundedConcurrentMapCache(name, this.maximumSize, this.timeToLive, this.timeToIdle,
+					isAllowNullValues(), actualSerialization);
+		}
 		return new ConcurrentMapCache(name, new ConcurrentHashMap<>(256), isAllowNullValues(), actualSerialization);
 	}
 
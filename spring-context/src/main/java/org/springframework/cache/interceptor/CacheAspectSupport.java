@@ -18,6 +18,7 @@ package org.springframework.cache.interceptor;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -26,6 +27,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import org.apache.commons.logging.Log;
@@ -46,6 +48,7 @@ import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.annotation.BeanFactoryAnnotationUtils;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.expression.AnnotatedElementKey;
 import org.springframework.context.expression.BeanFactoryResolver;
 import org.springframework.core.BridgeMethodResolver;
@@ -53,7 +56,9 @@ import org.springframework.core.KotlinDetector;
 import org.springframework.core.ReactiveAdapter;
 import org.springframework.core.ReactiveAdapterRegistry;
 import org.springframework.core.SpringProperties;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.spel.standard.SpelExpressionCache;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -80,6 +85,11 @@ import org.springframework.util.function.SupplierUtils;
  * used for determining caching operations, a {@link KeyGenerator} will build the
  * cache keys, and a {@link CacheResolver} will resolve the actual cache(s) to use.
  *
+ * <p>Cached values of {@link CacheableOperation}s with refresh or expiration
+ * settings are stored as {@link TimestampedCacheValue}s. Stale values are
+ * refreshed in the background, using the {@link #setRefreshExecutor refresh executor}.
+ * Other operations on the same cache get such values unwrapped, regardless of their age.
+ *
  * <p>Note: A cache aspect is serializable but does not perform any actual caching
  * after deserialization.
  *
@@ -126,8 +136,14 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 
 	private final StandardEvaluationContext originalEvaluationContext = new StandardEvaluationContext();
 
-	private final CacheOperationExpressionEvaluator evaluator = new CacheOperationExpressionEvaluator(
-			new CacheEvaluationContextFactory(this.originalEvaluationContext));
+	private final CacheEvaluationContextFactory evaluationContextFactory =
+			new CacheEvaluationContextFactory(this.originalEvaluationContext);
+
+	private CacheOperationExpressionEvaluator evaluator =
+			new CacheOperationExpressionEvaluator(this.evaluationContextFactory);
+
+	@Nullable
+	private SpelExpressionCache expressionCache;
 
 	@Nullable
 	private final ReactiveCachingHandler reactiveCachingHandler;
@@ -140,6 +156,10 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 	@Nullable
 	private SingletonSupplier<CacheResolver> cacheResolver;
 
+	private SingletonSupplier<Executor> refreshExecutor = SingletonSupplier.of(CacheAspectSupport::defaultRefreshExecutor);
+
+	private final Map<RefreshKey, Boolean> refreshesInProgress = new ConcurrentHashMap<>();
+
 	@Nullable
 	private BeanFactory beanFactory;
 
@@ -167,6 +187,21 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 				() -> SimpleCacheResolver.of(SupplierUtils.resolve(cacheManager)));
 	}
 
+	/**
+	 * Configure this aspect with the given error handler, key generator, cache resolver/manager
+	 * and refresh executor suppliers, applying the corresponding default if a supplier is not
+	 * resolvable.
+	 * @since 6.2
+	 */
+	public void configure(
+			@Nullable Supplier<CacheErrorHandler> errorHandler, @Nullable Supplier<KeyGenerator> keyGenerator,
+			@Nullable Supplier<CacheResolver> cacheResolver, @Nullable Supplier<CacheManager> cacheManager,
+			@Nullable Supplier<Executor> refreshExecutor) {
+
+		configure(errorHandler, keyGenerator, cacheResolver, cacheManager);
+		this.refreshExecutor = new SingletonSupplier<>(refreshExecutor, CacheAspectSupport::defaultRefreshExecutor);
+	}
+
 
 	/**
 	 * Set one or more cache operation sources which are used to find the cache
@@ -243,6 +278,40 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 		this.cacheResolver = SingletonSupplier.of(new SimpleCacheResolver(cacheManager));
 	}
 
+	/**
+	 * Set the {@link Executor} to use for refreshing stale cached values in the
+	 * background, for {@link CacheableOperation}s with refresh settings.
+	 * <p>The default is a {@link SimpleAsyncTaskExecutor}.
+	 * @since 6.2
+	 * @see CacheableOperation#getRefreshAfter()
+	 */
+	public void setRefreshExecutor(Executor refreshExecutor) {
+		this.refreshExecutor = SingletonSupplier.of(refreshExecutor);
+	}
+
+	/**
+	 * Return the {@link Executor} to use for refreshing stale cached values.
+	 * @since 6.2
+	 */
+	public Executor getRefreshExecutor() {
+		return this.refreshExecutor.obtain();
+	}
+
+	/**
+	 * Set the {@link SpelExpressionCache} to parse the SpEL expressions of
+	 * cache operations with, e.g. for monitoring its
+	 * {@linkplain SpelExpressionCache#getStatistics() statistics}.
+	 * <p>The default is the cache of the containing application context, registered
+	 * as {@link ConfigurableApplicationContext#EXPRESSION_CACHE_BEAN_NAME}, if any,
+	 * or a cache local to this aspect otherwise.
+	 * @since 6.2
+	 */
+	public void setExpressionCache(SpelExpressionCache expressionCache) {
+		Assert.notNull(expressionCache, "SpelExpressionCache must not be null");
+		this.expressionCache = expressionCache;
+		this.evaluator = new CacheOperationExpressionEvaluator(this.evaluationContextFactory, expressionCache);
+	}
+
 	/**
 	 * Set the containing {@link BeanFactory} for {@link CacheManager} and other
 	 * service lookups.
@@ -252,6 +321,11 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 	public void setBeanFactory(BeanFactory beanFactory) {
 		this.beanFactory = beanFactory;
 		this.originalEvaluationContext.setBeanResolver(new BeanFactoryResolver(beanFactory));
+		String expressionCacheName = ConfigurableApplicationContext.EXPRESSION_CACHE_BEAN_NAME;
+		if (this.expressionCache == null && beanFactory.containsBean(expressionCacheName) &&
+				beanFactory.isTypeMatch(expressionCacheName, SpelExpressionCache.class)) {
+			setExpressionCache(beanFactory.getBean(expressionCacheName, SpelExpressionCache.class));
+		}
 	}
 
 
@@ -385,7 +459,6 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 	 */
 	protected void clearMetadataCache() {
 		this.metadataCache.clear();
-		this.evaluator.clear();
 	}
 
 	@Nullable
@@ -446,8 +519,13 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 		if (isConditionPassing(context, CacheOperationExpressionEvaluator.NO_RESULT)) {
 			Object key = generateKey(context, CacheOperationExpressionEvaluator.NO_RESULT);
 			Cache cache = context.getCaches().iterator().next();
+			if (context.getOperation() instanceof CacheableOperation cacheable &&
+					(cacheable.getRefreshAfter() != null || cacheable.getExpireAfter() != null)) {
+				return executeWithRefresh(invoker, method, cacheable, cache, key);
+			}
 			if (CompletableFuture.class.isAssignableFrom(method.getReturnType())) {
-				return cache.retrieve(key, () -> (CompletableFuture<?>) invokeOperation(invoker));
+				return cache.retrieve(key, () -> (CompletableFuture<?>) invokeOperation(invoker))
+						.thenApply(this::unwrapTimestampedValue);
 			}
 			if (this.reactiveCachingHandler != null) {
 				Object returnValue = this.reactiveCachingHandler.executeSynchronized(invoker, method, cache, key);
@@ -456,7 +534,8 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 				}
 			}
 			try {
-				return wrapCacheValue(method, cache.get(key, () -> unwrapReturnValue(invokeOperation(invoker))));
+				return wrapCacheValue(method, unwrapTimestampedValue(
+						cache.get(key, () -> unwrapReturnValue(invokeOperation(invoker)))));
 			}
 			catch (Cache.ValueRetrievalException ex) {
 				// Directly propagate ThrowableWrapper from the invoker,
@@ -472,6 +551,144 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 		}
 	}
 
+	@Nullable
+	private Object executeWithRefresh(CacheOperationInvoker invoker, Method method,
+			CacheableOperation operation, Cache cache, Object key) {
+
+		if (CompletableFuture.class.isAssignableFrom(method.getReturnType())) {
+			return retrieveWithRefresh(operation, cache, key, () -> (CompletableFuture<?>) invokeOperation(invoker));
+		}
+		if (this.reactiveCachingHandler != null) {
+			Object returnValue = this.reactiveCachingHandler.executeWithRefresh(invoker, method, operation, cache, key);
+			if (returnValue != ReactiveCachingHandler.NOT_HANDLED) {
+				return returnValue;
+			}
+		}
+		Supplier<Object> valueLoader = () -> unwrapReturnValue(invokeOperation(invoker));
+		Cache.ValueWrapper wrapper = doGet(cache, key);
+		if (wrapper != null) {
+			Object cachedValue = wrapper.get();
+			if (!(cachedValue instanceof TimestampedCacheValue timestamped)) {
+				return wrapCacheValue(method, cachedValue);
+			}
+			if (!isExpired(operation, timestamped)) {
+				if (isStale(operation, timestamped)) {
+					refreshInBackground(cache, key, () -> {
+						doPut(cache, key, timestampValue(valueLoader.get()));
+						return CompletableFuture.completedFuture(null);
+					});
+				}
+				return wrapCacheValue(method, timestamped.getValue());
+			}
+			doEvict(cache, key, true);
+		}
+		try {
+			return wrapCacheValue(method, unwrapTimestampedValue(
+					cache.get(key, () -> timestampValue(valueLoader.get()))));
+		}
+		catch (Cache.ValueRetrievalException ex) {
+			// Directly propagate ThrowableWrapper from the invoker,
+			// or potentially also an IllegalArgumentException etc.
+			ReflectionUtils.rethrowRuntimeException(ex.getCause());
+			// Never reached
+			return null;
+		}
+	}
+
+	private CompletableFuture<Object> retrieveWithRefresh(CacheableOperation operation, Cache cache, Object key,
+			Supplier<? extends CompletableFuture<?>> valueLoader) {
+
+		Supplier<CompletableFuture<Object>> timestampingLoader =
+				() -> valueLoader.get().thenApply(this::timestampValue);
+		CompletableFuture<?> cachedFuture = cache.retrieve(key);
+		if (cachedFuture == null) {
+			return cache.retrieve(key, timestampingLoader).thenApply(this::unwrapTimestampedValue);
+		}
+		return cachedFuture.thenCompose(cached -> {
+			if (cached != null) {
+				Object cachedValue = (cached instanceof Cache.ValueWrapper wrapper ? wrapper.get() : cached);
+				if (!(cachedValue instanceof TimestampedCacheValue timestamped)) {
+					return CompletableFuture.completedFuture(cachedValue);
+				}
+				if (!isExpired(operation, timestamped)) {
+					if (isStale(operation, timestamped)) {
+						refreshInBackground(cache, key, () -> valueLoader.get().thenAccept(
+								value -> doPut(cache, key, timestampValue(value))));
+					}
+					return CompletableFuture.completedFuture(timestamped.getValue());
+				}
+				doEvict(cache, key, true);
+			}
+			return cache.retrieve(key, timestampingLoader).thenApply(this::unwrapTimestampedValue);
+		});
+	}
+
+	private boolean isStale(CacheableOperation operation, TimestampedCacheValue cachedValue) {
+		Duration refreshAfter = operation.getRefreshAfter();
+		return (refreshAfter != null &&
+				System.currentTimeMillis() - cachedValue.getTimestamp() >= refreshAfter.toMillis());
+	}
+
+	private boolean isExpired(CacheableOperation operation, TimestampedCacheValue cachedValue) {
+		Duration expireAfter = operation.getExpireAfter();
+		return (expireAfter != null &&
+				System.currentTimeMillis() - cachedValue.getTimestamp() >= expireAfter.toMillis());
+	}
+
+	private Object timestampValue(@Nullable Object value) {
+		return new TimestampedCacheValue(value, System.currentTimeMillis());
+	}
+
+	@Nullable
+	private Object unwrapTimestampedValue(@Nullable Object cachedValue) {
+		return (cachedValue instanceof TimestampedCacheValue timestamped ? timestamped.getValue() : cachedValue);
+	}
+
+	/**
+	 * Refresh the cached value for the given key through the given operation on
+	 * the refresh executor, unless a refresh for the same key is in progress already.
+	 * A failed refresh leaves the stale value in place.
+	 */
+	private void refreshInBackground(Cache cache, Object key, Supplier<CompletableFuture<?>> refresh) {
+		RefreshKey refreshKey = new RefreshKey(cache, key);
+		if (this.refreshesInProgress.putIfAbsent(refreshKey, Boolean.TRUE) != null) {
+			return;
+		}
+		try {
+			getRefreshExecutor().execute(() -> {
+				CompletableFuture<?> result;
+				try {
+					result = refresh.get();
+				}
+				catch (Throwable ex) {
+					result = CompletableFuture.failedFuture(ex);
+				}
+				result.whenComplete((value, ex) -> {
+					this.refreshesInProgress.remove(refreshKey);
+					if (ex != null) {
+						logRefreshFailure(cache, key, ex);
+					}
+				});
+			});
+		}
+		catch (Throwable ex) {
+			this.refreshesInProgress.remove(refreshKey);
+			logRefreshFailure(cache, key, ex);
+		}
+	}
+
+	private void logRefreshFailure(Cache cache, Object key, Throwable ex) {
+		if (logger.isWarnEnabled()) {
+			Throwable cause = (ex instanceof CacheOperationInvoker.ThrowableWrapper wrapper ? wrapper.getOriginal() : ex);
+			logger.warn("Failed to refresh cache entry for key '" + key + "' in cache '" + cache.getName() +
+					"' - keeping stale value", cause);
+		}
+	}
+
+	private static Executor defaultRefreshExecutor() {
+		return new SimpleAsyncTaskExecutor("cache-refresh-");
+	}
+
 	/**
 	 * Find a cached value only for {@link CacheableOperation} that passes the condition.
 	 * @param contexts the cacheable operations
@@ -581,9 +798,13 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 		return returnValue;
 	}
 
+	/**
+	 * Unwrap the given cache hit, including a {@link TimestampedCacheValue}
+	 * put by an operation with refresh or expiration settings on the same cache.
+	 */
 	@Nullable
 	private Object unwrapCacheValue(@Nullable Object cacheValue) {
-		return (cacheValue instanceof Cache.ValueWrapper wrapper ? wrapper.get() : cacheValue);
+		return unwrapTimestampedValue(cacheValue instanceof Cache.ValueWrapper wrapper ? wrapper.get() : cacheValue);
 	}
 
 	@Nullable
@@ -956,6 +1177,24 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 	}
 
 
+	/**
+	 * Key for a refresh in progress: cache identity and cache key.
+	 */
+	private record RefreshKey(Cache cache, Object key) {
+
+		@Override
+		public boolean equals(@Nullable Object other) {
+			return (this == other || (other instanceof RefreshKey that &&
+					this.cache == that.cache && this.key.equals(that.key)));
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(this.cache) * 31 + this.key.hashCode();
+		}
+	}
+
+
 	private static final class CacheOperationCacheKey implements Comparable<CacheOperationCacheKey> {
 
 		private final CacheOperation cacheOperation;
@@ -1082,6 +1321,7 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 
 		private final ReactiveAdapterRegistry registry = ReactiveAdapterRegistry.getSharedInstance();
 
+		@SuppressWarnings({"unchecked", "rawtypes"})
 		@Nullable
 		public Object executeSynchronized(CacheOperationInvoker invoker, Method method, Cache cache, Object key) {
 			ReactiveAdapter adapter = this.registry.getAdapter(method.getReturnType());
@@ -1091,13 +1331,14 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 					return adapter.fromPublisher(Flux.from(Mono.fromFuture(
 							cache.retrieve(key,
 									() -> Flux.from(adapter.toPublisher(invokeOperation(invoker))).collectList().toFuture())))
-							.flatMap(Flux::fromIterable));
+							.flatMap(value -> Flux.fromIterable((Iterable) unwrapTimestampedValue(value))));
 				}
 				else {
 					// Mono or similar
 					return adapter.fromPublisher(Mono.fromFuture(
 							cache.retrieve(key,
-									() -> Mono.from(adapter.toPublisher(invokeOperation(invoker))).toFuture())));
+									() -> Mono.from(adapter.toPublisher(invokeOperation(invoker))).toFuture()))
+							.flatMap(value -> Mono.justOrEmpty(unwrapTimestampedValue(value))));
 				}
 			}
 			if (KotlinDetector.isKotlinReflectPresent() && KotlinDetector.isSuspendingFunction(method)) {
@@ -1107,6 +1348,39 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 						mono = Mono.empty();
 					}
 					return mono.toFuture();
+				})).flatMap(value -> Mono.justOrEmpty(unwrapTimestampedValue(value)));
+			}
+			return NOT_HANDLED;
+		}
+
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		@Nullable
+		public Object executeWithRefresh(CacheOperationInvoker invoker, Method method,
+				CacheableOperation operation, Cache cache, Object key) {
+
+			ReactiveAdapter adapter = this.registry.getAdapter(method.getReturnType());
+			if (adapter != null) {
+				if (adapter.isMultiValue()) {
+					// Flux or similar
+					return adapter.fromPublisher(Flux.from(Mono.fromFuture(
+							retrieveWithRefresh(operation, cache, key,
+									() -> Flux.from(adapter.toPublisher(invokeOperation(invoker))).collectList().toFuture())))
+							.flatMap(value -> Flux.fromIterable((Iterable) value)));
+				}
+				else {
+					// Mono or similar
+					return adapter.fromPublisher(Mono.fromFuture(
+							retrieveWithRefresh(operation, cache, key,
+									() -> Mono.from(adapter.toPublisher(invokeOperation(invoker))).toFuture())));
+				}
+			}
+			if (KotlinDetector.isKotlinReflectPresent() && KotlinDetector.isSuspendingFunction(method)) {
+				return Mono.fromFuture(retrieveWithRefresh(operation, cache, key, () -> {
+					Mono<?> mono = ((Mono<?>) invokeOperation(invoker));
+					if (mono == null) {
+						mono = Mono.empty();
+					}
+					return mono.toFuture();
 				}));
 			}
 			return NOT_HANDLED;
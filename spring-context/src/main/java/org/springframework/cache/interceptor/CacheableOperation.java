@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,8 @@
 
 package org.springframework.cache.interceptor;
 
+import java.time.Duration;
+
 import org.springframework.lang.Nullable;
 
 /**
@@ -33,6 +35,12 @@ public class CacheableOperation extends CacheOperation {
 
 	private final boolean sync;
 
+	@Nullable
+	private final Duration refreshAfter;
+
+	@Nullable
+	private final Duration expireAfter;
+
 
 	/**
 	 * Create a new {@link CacheableOperation} instance from the given builder.
@@ -42,6 +50,8 @@ public class CacheableOperation extends CacheOperation {
 		super(b);
 		this.unless = b.unless;
 		this.sync = b.sync;
+		this.refreshAfter = b.refreshAfter;
+		this.expireAfter = b.expireAfter;
 	}
 
 
@@ -54,6 +64,25 @@ public class CacheableOperation extends CacheOperation {
 		return this.sync;
 	}
 
+	/**
+	 * Return the time after which a cached value is considered stale
+	 * and gets refreshed in the background, if any.
+	 * @since 6.2
+	 */
+	@Nullable
+	public Duration getRefreshAfter() {
+		return this.refreshAfter;
+	}
+
+	/**
+	 * Return the time after which a cached value is not returned anymore, if any.
+	 * @since 6.2
+	 */
+	@Nullable
+	public Duration getExpireAfter() {
+		return this.expireAfter;
+	}
+
 
 	/**
 	 * A builder that can be used to create a {@link CacheableOperation}.
@@ -66,6 +95,12 @@ public class CacheableOperation extends CacheOperation {
 
 		private boolean sync;
 
+		@Nullable
+		private Duration refreshAfter;
+
+		@Nullable
+		private Duration expireAfter;
+
 		public void setUnless(String unless) {
 			this.unless = unless;
 		}
@@ -74,6 +109,22 @@ public class CacheableOperation extends CacheOperation {
 			this.sync = sync;
 		}
 
+		/**
+		 * Set the time after which a cached value is considered stale.
+		 * @since 6.2
+		 */
+		public void setRefreshAfter(@Nullable Duration refreshAfter) {
+			this.refreshAfter = refreshAfter;
+		}
+
+		/**
+		 * Set the time after which a cached value is not returned anymore.
+		 * @since 6.2
+		 */
+		public void setExpireAfter(@Nullable Duration expireAfter) {
+			this.expireAfter = expireAfter;
+		}
+
 		@Override
 		protected StringBuilder getOperationDescription() {
 			StringBuilder sb = super.getOperationDescription();
@@ -83,6 +134,16 @@ public class CacheableOperation extends CacheOperation {
 			sb.append(" | sync='");
 			sb.append(this.sync);
 			sb.append('\'');
+			if (this.refreshAfter != null) {
+				sb.append(" | refreshAfter='");
+				sb.append(this.refreshAfter);
+				sb.append('\'');
+			}
+			if (this.expireAfter != null) {
+				sb.append(" | expireAfter='");
+				sb.append(this.expireAfter);
+				sb.append('\'');
+			}
 			return sb;
 		}
 
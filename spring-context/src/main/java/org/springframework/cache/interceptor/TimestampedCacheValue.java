@@ -0,0 +1,99 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.interceptor;
+
+import java.io.Serializable;
+
+import org.springframework.cache.support.NullValue;
+import org.springframework.lang.Nullable;
+
+/**
+ * Holder for a value cached by a {@link CacheableOperation} with
+ * {@link CacheableOperation#getRefreshAfter() refresh} or
+ * {@link CacheableOperation#getExpireAfter() expiration} settings,
+ * along with the time at which the value has been computed.
+ *
+ * <p>Stored in the target cache in place of the actual value. For caches that
+ * store entries by value, the actual value needs to be serializable as well.
+ * Cached values that are not held in a {@code TimestampedCacheValue}, e.g. as
+ * put by a {@link CachePutOperation}, are considered fresh. A {@code null} value
+ * is held as {@link NullValue}, so that it is subject to refresh and expiration
+ * just like any other value.
+ *
+ * <p>Cache operations without refresh or expiration settings on the same cache
+ * receive the actual value instead. Programmatic readers of such a cache through
+ * the {@link org.springframework.cache.Cache} API need to unwrap it themselves.
+ *
+ * @since 6.2
+ * @see org.springframework.cache.annotation.Cacheable#refreshAfter()
+ * @see org.springframework.cache.annotation.Cacheable#expireAfter()
+ */
+@SuppressWarnings("serial")
+public final class TimestampedCacheValue implements Serializable {
+
+	private final Object value;
+
+	private final long timestamp;
+
+
+	/**
+	 * Create a new {@code TimestampedCacheValue} for the given value.
+	 * @param value the actual value (may be {@code null})
+	 * @param timestamp the time at which the value has been computed,
+	 * in milliseconds since the epoch
+	 */
+	public TimestampedCacheValue(@Nullable Object value, long timestamp) {
+		this.value = (value != null ? value : NullValue.INSTANCE);
+		this.timestamp = timestamp;
+	}
+
+
+	/**
+	 * Return the actual value.
+	 * @return the value, or {@code null} if a {@code null} value has been cached
+	 */
+	@Nullable
+	public Object getValue() {
+		return (this.value != NullValue.INSTANCE ? this.value : null);
+	}
+
+	/**
+	 * Return the time at which the value has been computed,
+	 * in milliseconds since the epoch.
+	 */
+	public long getTimestamp() {
+		return this.timestamp;
+	}
+
+
+	@Override
+	public boolean equals(@Nullable Object other) {
+		return (this == other || (other instanceof TimestampedCacheValue that &&
+				this.value.equals(that.value) && this.timestamp == that.timestamp));
+	}
+
+	@Override
+	public int hashCode() {
+		return this.value.hashCode() * 31 + Long.hashCode(this.timestamp);
+	}
+
+	@Override
+	public String toString() {
+		return "TimestampedCacheValue [value=" + this.value + ", timestamp=" + this.timestamp + "]";
+	}
+
+}
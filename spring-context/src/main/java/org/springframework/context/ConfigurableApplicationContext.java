@@ -105,6 +105,15 @@ public interface ConfigurableApplicationContext extends ApplicationContext, Life
 	 */
 	String APPLICATION_STARTUP_BEAN_NAME = "applicationStartup";
 
+	/**
+	 * Name of the {@link org.springframework.expression.spel.standard.SpelExpressionCache}
+	 * bean in the factory, shared by the SpEL evaluators of the context's
+	 * infrastructure such as caching annotations and event listener conditions.
+	 * @since 6.2
+	 * @see org.springframework.expression.spel.standard.SpelExpressionCache#getStatistics()
+	 */
+	String EXPRESSION_CACHE_BEAN_NAME = "expressionCache";
+
 	/**
 	 * {@link Thread#getName() Name} of the {@linkplain #registerShutdownHook()
 	 * shutdown hook} thread: {@value}.
@@ -557,6 +557,11 @@ public class ConfigurationClassPostProcessor implements BeanDefinitionRegistryPo
 			this.beanFactory = beanFactory;
 		}
 
+		@Override
+		public boolean isApplicableTo(Class<?> beanClass) {
+			return EnhancedConfiguration.class.isAssignableFrom(beanClass);
+		}
+
 		@Override
 		@Nullable
 		public PropertyValues postProcessProperties(@Nullable PropertyValues pvs, Object bean, String beanName) {
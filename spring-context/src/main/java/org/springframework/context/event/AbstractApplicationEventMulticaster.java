@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,13 +17,17 @@
 package org.springframework.context.event;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.springframework.aop.framework.AopProxyUtils;
@@ -66,7 +70,8 @@ import org.springframework.util.ObjectUtils;
 public abstract class AbstractApplicationEventMulticaster
 		implements ApplicationEventMulticaster, BeanClassLoaderAware, BeanFactoryAware {
 
-	private final DefaultListenerRetriever defaultRetriever = new DefaultListenerRetriever();
+	private final AtomicReference<DefaultListenerRetriever> defaultRetriever =
+			new AtomicReference<>(new DefaultListenerRetriever(Collections.emptySet(), Collections.emptySet()));
 
 	final Map<ListenerCacheKey, CachedListenerRetriever> retrieverCache = new ConcurrentHashMap<>(64);
 
@@ -104,65 +109,77 @@ public abstract class AbstractApplicationEventMulticaster
 
 	@Override
 	public void addApplicationListener(ApplicationListener<?> listener) {
-		synchronized (this.defaultRetriever) {
+		updateDefaultRetriever(listeners -> {
 			// Explicitly remove target for a proxy, if registered already,
 			// in order to avoid double invocations of the same listener.
 			Object singletonTarget = AopProxyUtils.getSingletonTarget(listener);
 			if (singletonTarget instanceof ApplicationListener) {
-				this.defaultRetriever.applicationListeners.remove(singletonTarget);
+				listeners.remove(singletonTarget);
 			}
-			this.defaultRetriever.applicationListeners.add(listener);
-			this.retrieverCache.clear();
-		}
+			listeners.add(listener);
+		}, null);
 	}
 
 	@Override
 	public void addApplicationListenerBean(String listenerBeanName) {
-		synchronized (this.defaultRetriever) {
-			this.defaultRetriever.applicationListenerBeans.add(listenerBeanName);
-			this.retrieverCache.clear();
-		}
+		updateDefaultRetriever(null, listenerBeans -> listenerBeans.add(listenerBeanName));
 	}
 
 	@Override
 	public void removeApplicationListener(ApplicationListener<?> listener) {
-		synchronized (this.defaultRetriever) {
-			this.defaultRetriever.applicationListeners.remove(listener);
-			this.retrieverCache.clear();
-		}
+		updateDefaultRetriever(listeners -> listeners.remove(listener), null);
 	}
 
 	@Override
 	public void removeApplicationListenerBean(String listenerBeanName) {
-		synchronized (this.defaultRetriever) {
-			this.defaultRetriever.applicationListenerBeans.remove(listenerBeanName);
-			this.retrieverCache.clear();
-		}
+		updateDefaultRetriever(null, listenerBeans -> listenerBeans.remove(listenerBeanName));
 	}
 
 	@Override
 	public void removeApplicationListeners(Predicate<ApplicationListener<?>> predicate) {
-		synchronized (this.defaultRetriever) {
-			this.defaultRetriever.applicationListeners.removeIf(predicate);
-			this.retrieverCache.clear();
-		}
+		updateDefaultRetriever(listeners -> listeners.removeIf(predicate), null);
 	}
 
 	@Override
 	public void removeApplicationListenerBeans(Predicate<String> predicate) {
-		synchronized (this.defaultRetriever) {
-			this.defaultRetriever.applicationListenerBeans.removeIf(predicate);
-			this.retrieverCache.clear();
-		}
+		updateDefaultRetriever(null, listenerBeans -> listenerBeans.removeIf(predicate));
 	}
 
 	@Override
 	public void removeAllListeners() {
-		synchronized (this.defaultRetriever) {
-			this.defaultRetriever.applicationListeners.clear();
-			this.defaultRetriever.applicationListenerBeans.clear();
-			this.retrieverCache.clear();
+		this.defaultRetriever.set(new DefaultListenerRetriever(Collections.emptySet(), Collections.emptySet()));
+		this.retrieverCache.clear();
+	}
+
+	/**
+	 * Replace the registered listeners with an updated copy, without locking:
+	 * concurrent updates get retried against the latest registration state.
+	 * The cached retrievers are cleared afterwards, so that they get rebuilt
+	 * from the updated registration state.
+	 * @param listenersUpdate the update for a copy of the listener instances, if any
+	 * @param listenerBeansUpdate the update for a copy of the listener bean names, if any
+	 */
+	private void updateDefaultRetriever(@Nullable Consumer<Set<ApplicationListener<?>>> listenersUpdate,
+			@Nullable Consumer<Set<String>> listenerBeansUpdate) {
+
+		DefaultListenerRetriever current;
+		DefaultListenerRetriever updated;
+		do {
+			current = this.defaultRetriever.get();
+			Set<ApplicationListener<?>> listeners = current.applicationListeners;
+			if (listenersUpdate != null) {
+				listeners = new LinkedHashSet<>(listeners);
+				listenersUpdate.accept(listeners);
+			}
+			Set<String> listenerBeans = current.applicationListenerBeans;
+			if (listenerBeansUpdate != null) {
+				listenerBeans = new LinkedHashSet<>(listenerBeans);
+				listenerBeansUpdate.accept(listenerBeans);
+			}
+			updated = new DefaultListenerRetriever(listeners, listenerBeans);
 		}
+		while (!this.defaultRetriever.compareAndSet(current, updated));
+		this.retrieverCache.clear();
 	}
 
 
@@ -172,9 +189,7 @@ public abstract class AbstractApplicationEventMulticaster
 	 * @see org.springframework.context.ApplicationListener
 	 */
 	protected Collection<ApplicationListener<?>> getApplicationListeners() {
-		synchronized (this.defaultRetriever) {
-			return this.defaultRetriever.getApplicationListeners();
-		}
+		return this.defaultRetriever.get().getApplicationListeners();
 	}
 
 	/**
@@ -238,12 +253,11 @@ public abstract class AbstractApplicationEventMulticaster
 		Set<ApplicationListener<?>> filteredListeners = (retriever != null ? new LinkedHashSet<>() : null);
 		Set<String> filteredListenerBeans = (retriever != null ? new LinkedHashSet<>() : null);
 
-		Set<ApplicationListener<?>> listeners;
-		Set<String> listenerBeans;
-		synchronized (this.defaultRetriever) {
-			listeners = new LinkedHashSet<>(this.defaultRetriever.applicationListeners);
-			listenerBeans = new LinkedHashSet<>(this.defaultRetriever.applicationListenerBeans);
-		}
+		// Immutable registration state, read after the retriever has been put into the cache:
+		// a concurrent registration change clears the cache after replacing this state.
+		DefaultListenerRetriever defaultRetriever = this.defaultRetriever.get();
+		Set<ApplicationListener<?>> listeners = defaultRetriever.applicationListeners;
+		Set<String> listenerBeans = defaultRetriever.applicationListenerBeans;
 
 		// Add programmatically registered listeners, including ones coming
 		// from ApplicationListenerDetector (singleton beans and inner beans).
@@ -316,12 +330,10 @@ public abstract class AbstractApplicationEventMulticaster
 		AnnotationAwareOrderComparator.sort(allListeners);
 		if (retriever != null) {
 			if (CollectionUtils.isEmpty(filteredListenerBeans)) {
-				retriever.applicationListeners = new LinkedHashSet<>(allListeners);
-				retriever.applicationListenerBeans = filteredListenerBeans;
+				retriever.populate(new LinkedHashSet<>(allListeners), filteredListenerBeans);
 			}
 			else {
-				retriever.applicationListeners = filteredListeners;
-				retriever.applicationListenerBeans = filteredListenerBeans;
+				retriever.populate(filteredListeners, filteredListenerBeans);
 			}
 		}
 		return allListeners;
@@ -454,6 +466,9 @@ public abstract class AbstractApplicationEventMulticaster
 	 * Helper class that encapsulates a specific set of target listeners,
 	 * allowing for efficient retrieval of pre-filtered listeners.
 	 * <p>An instance of this helper gets cached per event type and source type.
+	 * Unless it contains non-singleton listener beans, the pre-filtered and
+	 * sorted listeners are kept as an immutable dispatch list, returned as-is
+	 * for every event of that type.
 	 */
 	private class CachedListenerRetriever {
 
@@ -463,8 +478,25 @@ public abstract class AbstractApplicationEventMulticaster
 		@Nullable
 		public volatile Set<String> applicationListenerBeans;
 
+		@Nullable
+		private volatile List<ApplicationListener<?>> dispatchListeners;
+
+		public void populate(Set<ApplicationListener<?>> applicationListeners, Set<String> applicationListenerBeans) {
+			if (applicationListenerBeans.isEmpty()) {
+				this.dispatchListeners = Collections.unmodifiableList(
+						Arrays.asList(applicationListeners.toArray(new ApplicationListener<?>[0])));
+			}
+			this.applicationListeners = applicationListeners;
+			this.applicationListenerBeans = applicationListenerBeans;
+		}
+
 		@Nullable
 		public Collection<ApplicationListener<?>> getApplicationListeners() {
+			List<ApplicationListener<?>> dispatchListeners = this.dispatchListeners;
+			if (dispatchListeners != null) {
+				return dispatchListeners;
+			}
+
 			Set<ApplicationListener<?>> applicationListeners = this.applicationListeners;
 			Set<String> applicationListenerBeans = this.applicationListenerBeans;
 			if (applicationListeners == null || applicationListenerBeans == null) {
@@ -497,12 +529,21 @@ public abstract class AbstractApplicationEventMulticaster
 
 	/**
 	 * Helper class that encapsulates a general set of target listeners.
+	 * <p>Instances are immutable: they get replaced as a whole on every
+	 * registration change.
 	 */
 	private class DefaultListenerRetriever {
 
-		public final Set<ApplicationListener<?>> applicationListeners = new LinkedHashSet<>();
+		public final Set<ApplicationListener<?>> applicationListeners;
 
-		public final Set<String> applicationListenerBeans = new LinkedHashSet<>();
+		public final Set<String> applicationListenerBeans;
+
+		public DefaultListenerRetriever(Set<ApplicationListener<?>> applicationListeners,
+				Set<String> applicationListenerBeans) {
+
+			this.applicationListeners = applicationListeners;
+			this.applicationListenerBeans = applicationListenerBeans;
+		}
 
 		public Collection<ApplicationListener<?>> getApplicationListeners() {
 			List<ApplicationListener<?>> allListeners = new ArrayList<>(
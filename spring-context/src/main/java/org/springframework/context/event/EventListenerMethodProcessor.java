@@ -43,6 +43,7 @@ import org.springframework.core.MethodIntrospector;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.expression.spel.standard.SpelExpressionCache;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
@@ -79,7 +80,10 @@ public class EventListenerMethodProcessor
 	private final StandardEvaluationContext originalEvaluationContext;
 
 	@Nullable
-	private final EventExpressionEvaluator evaluator;
+	private EventExpressionEvaluator evaluator;
+
+	@Nullable
+	private SpelExpressionCache expressionCache;
 
 	private final Set<Class<?>> nonAnnotatedClasses = ConcurrentHashMap.newKeySet(64);
 
@@ -89,6 +93,21 @@ public class EventListenerMethodProcessor
 		this.evaluator = new EventExpressionEvaluator(this.originalEvaluationContext);
 	}
 
+	/**
+	 * Set the {@link SpelExpressionCache} to parse the SpEL conditions of event
+	 * listener methods with, e.g. for monitoring its
+	 * {@linkplain SpelExpressionCache#getStatistics() statistics}.
+	 * <p>The default is the cache of the containing application context, registered
+	 * as {@link ConfigurableApplicationContext#EXPRESSION_CACHE_BEAN_NAME}, if any,
+	 * or a cache local to this processor otherwise.
+	 * @since 6.2
+	 */
+	public void setExpressionCache(SpelExpressionCache expressionCache) {
+		Assert.notNull(expressionCache, "SpelExpressionCache must not be null");
+		this.expressionCache = expressionCache;
+		this.evaluator = new EventExpressionEvaluator(this.originalEvaluationContext, expressionCache);
+	}
+
 	@Override
 	public void setApplicationContext(ApplicationContext applicationContext) {
 		Assert.isTrue(applicationContext instanceof ConfigurableApplicationContext,
@@ -100,6 +119,11 @@ public class EventListenerMethodProcessor
 	public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
 		this.beanFactory = beanFactory;
 		this.originalEvaluationContext.setBeanResolver(new BeanFactoryResolver(this.beanFactory));
+		String expressionCacheName = ConfigurableApplicationContext.EXPRESSION_CACHE_BEAN_NAME;
+		if (this.expressionCache == null && beanFactory.containsBean(expressionCacheName) &&
+				beanFactory.isTypeMatch(expressionCacheName, SpelExpressionCache.class)) {
+			setExpressionCache(beanFactory.getBean(expressionCacheName, SpelExpressionCache.class));
+		}
 
 		Map<String, EventListenerFactory> beans = beanFactory.getBeansOfType(EventListenerFactory.class, false, false);
 		List<EventListenerFactory> factories = new ArrayList<>(beans.values());
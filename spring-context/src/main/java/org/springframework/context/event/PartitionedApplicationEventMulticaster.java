@@ -0,0 +1,493 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.event;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Asynchronous {@link ApplicationEventMulticaster} which preserves the order
+ * of events that share a partition key, for example the identifier of the
+ * aggregate an event refers to.
+ *
+ * <p>Each event is assigned to one of a fixed number of partitions, based on
+ * the hash code of the key returned by the {@linkplain #setPartitionKeyResolver
+ * partition key resolver}. Every partition has a bounded queue, which is drained
+ * by at most one task at a time on the {@linkplain #setTaskExecutor task executor},
+ * handing up to {@linkplain #setBatchSize batch size} events to the listeners
+ * before the task gets rescheduled. Events of the same partition are therefore
+ * delivered sequentially and in publication order, while different partitions
+ * are dispatched concurrently. Events without a key are distributed across all
+ * partitions in a round-robin fashion and are not ordered.
+ *
+ * <p>Once the queue of a partition is full, the {@link OverflowPolicy} determines
+ * whether the publisher blocks until there is room in the queue (the default),
+ * or dispatches the event itself.
+ *
+ * <p>As with {@link SimpleApplicationEventMulticaster}, listeners that do not
+ * {@linkplain ApplicationListener#supportsAsyncExecution() support asynchronous
+ * execution} are invoked in the publishing thread. Exceptions thrown by the
+ * listeners are passed to the {@linkplain #setErrorHandler error handler}, or
+ * logged if there is none, and do not affect the dispatching of other events.
+ *
+ * <p>The current queue depth and the latency between the publication and the
+ * dispatching of events are available through {@link #getStatistics()}.
+ *
+ * <p>On {@link #destroy()}, e.g. when the application context is closed, the
+ * events that are still queued get dispatched before the default executor is
+ * shut down. Events published afterwards are dispatched in the publishing thread.
+ *
+ * @since 6.2
+ * @see #setPartitionKeyResolver
+ * @see #setOverflowPolicy
+ */
+public class PartitionedApplicationEventMulticaster extends SimpleApplicationEventMulticaster
+		implements DisposableBean {
+
+	/**
+	 * Default maximum number of queued events per partition.
+	 */
+	public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+	/**
+	 * Default maximum number of events dispatched by a single task.
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 64;
+
+	private static final Log logger = LogFactory.getLog(PartitionedApplicationEventMulticaster.class);
+
+
+	@Nullable
+	private Function<? super ApplicationEvent, ?> partitionKeyResolver;
+
+	private int partitionCount = Runtime.getRuntime().availableProcessors();
+
+	private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
+	private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
+	private Duration shutdownTimeout = Duration.ofSeconds(10);
+
+	@Nullable
+	private SimpleAsyncTaskExecutor defaultExecutor;
+
+	@Nullable
+	private volatile Partition[] partitions;
+
+	private volatile boolean active = true;
+
+	private final AtomicInteger roundRobinCounter = new AtomicInteger();
+
+	private final LongAdder dispatchedEvents = new LongAdder();
+
+	private final LongAdder callerRunsEvents = new LongAdder();
+
+	private final LongAdder blockedPublications = new LongAdder();
+
+	private final LongAdder totalDispatchLatency = new LongAdder();
+
+	private final LongAccumulator maxDispatchLatency = new LongAccumulator(Long::max, 0);
+
+
+	/**
+	 * Create a new PartitionedApplicationEventMulticaster.
+	 */
+	public PartitionedApplicationEventMulticaster() {
+	}
+
+	/**
+	 * Create a new PartitionedApplicationEventMulticaster for the given BeanFactory.
+	 */
+	public PartitionedApplicationEventMulticaster(BeanFactory beanFactory) {
+		super(beanFactory);
+	}
+
+
+	/**
+	 * Set the function that determines the partition key of an event, for example
+	 * the identifier of the aggregate that a {@link org.springframework.context.PayloadApplicationEvent}
+	 * payload refers to. Events with equal keys are dispatched in publication order.
+	 * <p>Default is none, with all events being distributed across the partitions
+	 * without any ordering guarantee. The function may also return {@code null}
+	 * for individual events that do not need to be ordered.
+	 */
+	public void setPartitionKeyResolver(@Nullable Function<? super ApplicationEvent, ?> partitionKeyResolver) {
+		this.partitionKeyResolver = partitionKeyResolver;
+	}
+
+	/**
+	 * Set the number of partitions, that is, the maximum number of tasks that
+	 * dispatch events concurrently.
+	 * <p>Default is the number of available processors. Needs to be set
+	 * before the first event is published.
+	 */
+	public void setPartitionCount(int partitionCount) {
+		Assert.isTrue(partitionCount > 0, "Partition count must be greater than 0");
+		this.partitionCount = partitionCount;
+	}
+
+	/**
+	 * Set the maximum number of queued events per partition.
+	 * <p>Default is {@value #DEFAULT_QUEUE_CAPACITY}. Needs to be set
+	 * before the first event is published.
+	 */
+	public void setQueueCapacity(int queueCapacity) {
+		Assert.isTrue(queueCapacity > 0, "Queue capacity must be greater than 0");
+		this.queueCapacity = queueCapacity;
+	}
+
+	/**
+	 * Set the maximum number of events that a single task dispatches before
+	 * rescheduling itself, giving other tasks on a shared executor a chance to run.
+	 * <p>Default is {@value #DEFAULT_BATCH_SIZE}.
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than 0");
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Set the policy to apply when publishing an event to a partition whose
+	 * queue is full.
+	 * <p>Default is {@link OverflowPolicy#BLOCK}.
+	 */
+	public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+		Assert.notNull(overflowPolicy, "OverflowPolicy must not be null");
+		this.overflowPolicy = overflowPolicy;
+	}
+
+	/**
+	 * Set the maximum time to wait on {@link #destroy()} for dispatching tasks
+	 * that are in progress to complete, before the remaining queued events are
+	 * dispatched in the calling thread.
+	 * <p>Default is 10 seconds.
+	 */
+	public void setShutdownTimeout(Duration shutdownTimeout) {
+		Assert.notNull(shutdownTimeout, "Shutdown timeout must not be null");
+		this.shutdownTimeout = shutdownTimeout;
+	}
+
+	/**
+	 * Set the executor to run the dispatching tasks with.
+	 * <p>Default is a {@link SimpleAsyncTaskExecutor}, which is shut down on
+	 * {@link #destroy()}. Note that each partition occupies at most one thread
+	 * at a time, so an executor with fewer threads than {@linkplain #setPartitionCount
+	 * partitions} limits the dispatch concurrency. Needs to be set before the
+	 * first event is published.
+	 * @throws IllegalStateException if events have been published already
+	 */
+	@Override
+	public void setTaskExecutor(@Nullable Executor taskExecutor) {
+		Assert.state(this.partitions == null, "Task executor cannot be changed once events have been published");
+		super.setTaskExecutor(taskExecutor);
+	}
+
+
+	@Override
+	public void multicastEvent(ApplicationEvent event, @Nullable ResolvableType eventType) {
+		ResolvableType type = (eventType != null ? eventType : ResolvableType.forInstance(event));
+		List<ApplicationListener<?>> asyncListeners = null;
+		for (ApplicationListener<?> listener : getApplicationListeners(event, type)) {
+			if (listener.supportsAsyncExecution()) {
+				if (asyncListeners == null) {
+					asyncListeners = new ArrayList<>();
+				}
+				asyncListeners.add(listener);
+			}
+			else {
+				invokeListener(listener, event);
+			}
+		}
+		if (asyncListeners != null) {
+			getPartition(event).enqueue(new Dispatch(event, asyncListeners, System.nanoTime()));
+		}
+	}
+
+	/**
+	 * Return a snapshot of the dispatch statistics.
+	 */
+	public Statistics getStatistics() {
+		int queueDepth = 0;
+		Partition[] partitions = this.partitions;
+		if (partitions != null) {
+			for (Partition partition : partitions) {
+				queueDepth += partition.queue.size();
+			}
+		}
+		return new Statistics(queueDepth, this.dispatchedEvents.sum(), this.callerRunsEvents.sum(),
+				this.blockedPublications.sum(), Duration.ofNanos(this.totalDispatchLatency.sum()),
+				Duration.ofNanos(this.maxDispatchLatency.get()));
+	}
+
+	/**
+	 * Dispatch all queued events and shut down the default executor, if used.
+	 * <p>Waits for dispatching tasks that are in progress to complete, up to
+	 * the {@linkplain #setShutdownTimeout shutdown timeout}, and dispatches
+	 * the remaining events of their partitions in the calling thread.
+	 */
+	@Override
+	public void destroy() {
+		this.active = false;
+		Partition[] partitions = this.partitions;
+		if (partitions != null) {
+			long deadline = System.nanoTime() + this.shutdownTimeout.toNanos();
+			for (Partition partition : partitions) {
+				if (!partition.flush(deadline)) {
+					logger.warn("Timed out waiting for dispatching task to complete - " +
+							partition.queue.size() + " queued events have not been dispatched");
+				}
+			}
+		}
+		synchronized (this) {
+			if (this.defaultExecutor != null) {
+				this.defaultExecutor.close();
+			}
+		}
+	}
+
+	private Partition getPartition(ApplicationEvent event) {
+		Partition[] partitions = getPartitions();
+		Function<? super ApplicationEvent, ?> keyResolver = this.partitionKeyResolver;
+		Object key = (keyResolver != null ? keyResolver.apply(event) : null);
+		int hash = (key != null ? key.hashCode() : this.roundRobinCounter.getAndIncrement());
+		return partitions[Math.floorMod(hash, partitions.length)];
+	}
+
+	private Partition[] getPartitions() {
+		Partition[] partitions = this.partitions;
+		if (partitions == null) {
+			synchronized (this) {
+				partitions = this.partitions;
+				if (partitions == null) {
+					Executor executor = getTaskExecutor();
+					if (executor == null) {
+						this.defaultExecutor = new SimpleAsyncTaskExecutor("event-partition-");
+						executor = this.defaultExecutor;
+					}
+					partitions = new Partition[this.partitionCount];
+					for (int i = 0; i < partitions.length; i++) {
+						partitions[i] = new Partition(this.queueCapacity, executor);
+					}
+					this.partitions = partitions;
+				}
+			}
+		}
+		return partitions;
+	}
+
+	private void dispatch(Dispatch dispatch) {
+		for (ApplicationListener<?> listener : dispatch.listeners()) {
+			try {
+				invokeListener(listener, dispatch.event());
+			}
+			catch (Throwable ex) {
+				logger.error("Unexpected exception occurred invoking listener " + listener +
+						" with event " + dispatch.event(), ex);
+			}
+		}
+	}
+
+
+	/**
+	 * Policy for publishing an event to a partition whose queue is full.
+	 */
+	public enum OverflowPolicy {
+
+		/**
+		 * Block the publishing thread until there is room in the queue,
+		 * preserving the order of events with equal keys.
+		 * <p>Note that a listener publishing events with this policy may
+		 * wait for its own partition and therefore never complete.
+		 */
+		BLOCK,
+
+		/**
+		 * Dispatch the event in the publishing thread, which slows down the
+		 * publisher without blocking it on the queue. The event may then be
+		 * delivered before events with the same key that are still queued.
+		 */
+		CALLER_RUNS
+	}
+
+
+	/**
+	 * Snapshot of the statistics of a {@link PartitionedApplicationEventMulticaster}.
+	 * @param queueDepth the number of currently queued events across all partitions
+	 * @param dispatchedEvents the number of events dispatched from a queue
+	 * @param callerRunsEvents the number of events dispatched in the publishing thread
+	 * according to {@link OverflowPolicy#CALLER_RUNS}
+	 * @param blockedPublications the number of publications that waited for room
+	 * in a queue according to {@link OverflowPolicy#BLOCK}
+	 * @param totalDispatchLatency the accumulated time between the publication
+	 * and the dispatching of all dispatched events
+	 * @param maxDispatchLatency the longest time between the publication and
+	 * the dispatching of an event
+	 */
+	public record Statistics(int queueDepth, long dispatchedEvents, long callerRunsEvents,
+			long blockedPublications, Duration totalDispatchLatency, Duration maxDispatchLatency) {
+
+		/**
+		 * Return the average time between the publication and the dispatching
+		 * of an event, or {@link Duration#ZERO} if no events have been dispatched yet.
+		 */
+		public Duration averageDispatchLatency() {
+			return (this.dispatchedEvents == 0 ? Duration.ZERO :
+					this.totalDispatchLatency.dividedBy(this.dispatchedEvents));
+		}
+	}
+
+
+	/**
+	 * A queued event along with the listeners to dispatch it to.
+	 */
+	private record Dispatch(ApplicationEvent event, List<ApplicationListener<?>> listeners, long enqueuedAt) {
+	}
+
+
+	/**
+	 * Queue of events which is drained by at most one task at a time.
+	 */
+	private final class Partition implements Runnable {
+
+		final BlockingQueue<Dispatch> queue;
+
+		private final Executor executor;
+
+		private final AtomicBoolean scheduled = new AtomicBoolean();
+
+		Partition(int capacity, Executor executor) {
+			this.queue = new ArrayBlockingQueue<>(capacity);
+			this.executor = executor;
+		}
+
+		void enqueue(Dispatch dispatch) {
+			if (!active) {
+				callerRunsEvents.increment();
+				dispatch(dispatch);
+				return;
+			}
+			if (!this.queue.offer(dispatch)) {
+				if (overflowPolicy == OverflowPolicy.CALLER_RUNS) {
+					callerRunsEvents.increment();
+					dispatch(dispatch);
+					return;
+				}
+				blockedPublications.increment();
+				try {
+					// Make sure that the queue is being drained while we are waiting
+					schedule();
+					this.queue.put(dispatch);
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+					callerRunsEvents.increment();
+					dispatch(dispatch);
+					return;
+				}
+			}
+			schedule();
+		}
+
+		private void schedule() {
+			if (this.scheduled.compareAndSet(false, true)) {
+				if (!active) {
+					// Shutting down -> drain the queue locally
+					run();
+					return;
+				}
+				try {
+					this.executor.execute(this);
+				}
+				catch (RejectedExecutionException ex) {
+					// Probably on shutdown -> drain the queue locally instead
+					run();
+				}
+			}
+		}
+
+		/**
+		 * Wait for a dispatching task in progress to complete, then drain the
+		 * queue locally, unless the task keeps draining it since the multicaster
+		 * is not active anymore.
+		 * @param deadline the {@link System#nanoTime()} to wait until at most
+		 * @return {@code true} if the queue has been drained,
+		 * {@code false} if the deadline has passed or the thread has been interrupted
+		 */
+		boolean flush(long deadline) {
+			while (!this.scheduled.compareAndSet(false, true)) {
+				if (System.nanoTime() - deadline >= 0) {
+					return false;
+				}
+				try {
+					Thread.sleep(10);
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+					return false;
+				}
+			}
+			run();
+			return true;
+		}
+
+		@Override
+		public void run() {
+			try {
+				List<Dispatch> batch = new ArrayList<>(Math.min(batchSize, this.queue.size()));
+				this.queue.drainTo(batch, batchSize);
+				for (Dispatch dispatch : batch) {
+					long latency = System.nanoTime() - dispatch.enqueuedAt();
+					totalDispatchLatency.add(latency);
+					maxDispatchLatency.accumulate(latency);
+					dispatch(dispatch);
+					dispatchedEvents.increment();
+				}
+			}
+			finally {
+				this.scheduled.set(false);
+				if (!this.queue.isEmpty()) {
+					schedule();
+				}
+			}
+		}
+	}
+
+}
@@ -21,6 +21,7 @@ import java.util.Map;
 import org.springframework.core.DefaultParameterNameDiscoverer;
 import org.springframework.core.ParameterNameDiscoverer;
 import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionCache;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -37,6 +38,9 @@ public abstract class CachedExpressionEvaluator {
 
 	private final SpelExpressionParser parser;
 
+	@Nullable
+	private final SpelExpressionCache expressionCache;
+
 	private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
 
 
@@ -53,6 +57,23 @@ public abstract class CachedExpressionEvaluator {
 	protected CachedExpressionEvaluator(SpelExpressionParser parser) {
 		Assert.notNull(parser, "SpelExpressionParser must not be null");
 		this.parser = parser;
+		this.expressionCache = null;
+	}
+
+	/**
+	 * Create a new instance parsing expressions through the specified
+	 * {@link SpelExpressionCache}, sharing parsed and compiled expressions
+	 * with other components that use the same cache.
+	 * <p>Expressions are cached per evaluator type and {@link AnnotatedElementKey},
+	 * since their compiled form is specific to the types that they are evaluated
+	 * with. The maps passed to {@link #getExpression(Map, AnnotatedElementKey, String)}
+	 * are not used in that case.
+	 * @since 6.2
+	 */
+	protected CachedExpressionEvaluator(SpelExpressionCache expressionCache) {
+		Assert.notNull(expressionCache, "SpelExpressionCache must not be null");
+		this.parser = expressionCache.getParser();
+		this.expressionCache = expressionCache;
 	}
 
 
@@ -74,7 +95,9 @@ public abstract class CachedExpressionEvaluator {
 	/**
 	 * Return the parsed {@link Expression} for the specified SpEL expression.
 	 * <p>{@linkplain #parseExpression(String) Parses} the expression if it hasn't
-	 * already been parsed and cached.
+	 * already been parsed and cached. If this evaluator has been created with a
+	 * {@link SpelExpressionCache}, the expression is retrieved from that cache
+	 * for the given element instead, and the given map is not used.
 	 * @param cache the cache to use
 	 * @param elementKey the {@code AnnotatedElementKey} containing the element
 	 * on which the expression is defined
@@ -83,10 +106,30 @@ public abstract class CachedExpressionEvaluator {
 	protected Expression getExpression(Map<ExpressionKey, Expression> cache,
 			AnnotatedElementKey elementKey, String expression) {
 
+		if (this.expressionCache != null) {
+			return getExpression(elementKey, expression);
+		}
 		ExpressionKey expressionKey = createKey(elementKey, expression);
 		return cache.computeIfAbsent(expressionKey, key -> parseExpression(expression));
 	}
 
+	/**
+	 * Return the parsed {@link Expression} for the specified SpEL expression
+	 * from the {@link SpelExpressionCache} that this evaluator has been created
+	 * with, parsing it if it hasn't been cached for the given element yet.
+	 * @param elementKey the {@code AnnotatedElementKey} containing the element
+	 * on which the expression is defined
+	 * @param expression the expression to parse
+	 * @throws IllegalStateException if this evaluator has been created without
+	 * a {@code SpelExpressionCache}
+	 * @since 6.2
+	 */
+	protected Expression getExpression(AnnotatedElementKey elementKey, String expression) {
+		SpelExpressionCache expressionCache = this.expressionCache;
+		Assert.state(expressionCache != null, "No SpelExpressionCache set");
+		return expressionCache.getExpression(expression, null, new ExpressionScope(getClass(), elementKey));
+	}
+
 	/**
 	 * Parse the specified {@code expression}.
 	 * @param expression the expression to parse
@@ -101,6 +144,15 @@ public abstract class CachedExpressionEvaluator {
 	}
 
 
+	/**
+	 * Scope of an expression in a shared {@link SpelExpressionCache}, keeping
+	 * expressions apart per evaluator type since each evaluator type evaluates
+	 * its expressions against its own root object.
+	 */
+	private record ExpressionScope(Class<?> evaluatorType, AnnotatedElementKey element) {
+	}
+
+
 	/**
 	 * An expression key.
 	 */
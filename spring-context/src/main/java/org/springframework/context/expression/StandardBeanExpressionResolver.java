@@ -32,6 +32,7 @@ import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
 import org.springframework.expression.ParserContext;
 import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionCache;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.expression.spel.support.StandardTypeConverter;
@@ -82,6 +83,9 @@ public class StandardBeanExpressionResolver implements BeanExpressionResolver {
 
 	private final Map<String, Expression> expressionCache = new ConcurrentHashMap<>(256);
 
+	@Nullable
+	private SpelExpressionCache sharedExpressionCache;
+
 	private final Map<BeanExpressionContext, StandardEvaluationContext> evaluationCache = new ConcurrentHashMap<>(8);
 
 	private final ParserContext beanExpressionParserContext = new ParserContext() {
@@ -153,6 +157,19 @@ public class StandardBeanExpressionResolver implements BeanExpressionResolver {
 		this.expressionParser = expressionParser;
 	}
 
+	/**
+	 * Specify a {@link SpelExpressionCache} to parse and cache expressions with,
+	 * sharing parsed and compiled expressions with other components that use
+	 * the same cache.
+	 * <p>If set, the cache's own parser is used instead of the
+	 * {@linkplain #setExpressionParser expression parser} of this resolver.
+	 * Default is none, parsing expressions with a local cache.
+	 * @since 6.2
+	 */
+	public void setExpressionCache(@Nullable SpelExpressionCache expressionCache) {
+		this.sharedExpressionCache = expressionCache;
+	}
+
 
 	@Override
 	@Nullable
@@ -161,8 +178,11 @@ public class StandardBeanExpressionResolver implements BeanExpressionResolver {
 			return value;
 		}
 		try {
-			Expression expr = this.expressionCache.computeIfAbsent(value, expression ->
-					this.expressionParser.parseExpression(expression, this.beanExpressionParserContext));
+			SpelExpressionCache sharedExpressionCache = this.sharedExpressionCache;
+			Expression expr = (sharedExpressionCache != null ?
+					sharedExpressionCache.getExpression(value, this.beanExpressionParserContext) :
+					this.expressionCache.computeIfAbsent(value, expression ->
+							this.expressionParser.parseExpression(expression, this.beanExpressionParserContext)));
 			EvaluationContext evalContext = this.evaluationCache.computeIfAbsent(beanExpressionContext, bec -> {
 					ConfigurableBeanFactory beanFactory = bec.getBeanFactory();
 					StandardEvaluationContext sec = new StandardEvaluationContext(bec);
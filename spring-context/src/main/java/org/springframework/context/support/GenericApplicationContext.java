@@ -199,6 +199,18 @@ public class GenericApplicationContext extends AbstractApplicationContext implem
 		this.beanFactory.setAllowCircularReferences(allowCircularReferences);
 	}
 
+	/**
+	 * Set whether to generate instantiators for the resolved constructors of
+	 * prototype and custom-scoped beans, rather than invoking them through
+	 * reflection on every creation.
+	 * <p>Default is "false".
+	 * @since 6.2
+	 * @see org.springframework.beans.factory.support.DefaultListableBeanFactory#setGenerateInstantiators
+	 */
+	public void setGenerateInstantiators(boolean generateInstantiators) {
+		this.beanFactory.setGenerateInstantiators(generateInstantiators);
+	}
+
 	/**
 	 * Set a ResourceLoader to use for this context. If set, the context will
 	 * delegate all {@code getResource} calls to the given ResourceLoader.
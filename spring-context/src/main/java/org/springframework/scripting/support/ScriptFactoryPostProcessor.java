@@ -247,6 +247,12 @@ public class ScriptFactoryPostProcessor implements SmartInstantiationAwareBeanPo
 	}
 
 
+	@Override
+	public boolean isApplicableTo(Class<?> beanClass) {
+		// We only apply special treatment to ScriptFactory implementations.
+		return ScriptFactory.class.isAssignableFrom(beanClass);
+	}
+
 	@Override
 	@Nullable
 	public Class<?> predictBeanType(Class<?> beanClass, String beanName) {
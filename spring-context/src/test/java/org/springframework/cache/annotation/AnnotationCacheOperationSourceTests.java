@@ -21,7 +21,9 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.Collection;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import org.junit.jupiter.api.Test;
@@ -143,6 +145,27 @@ class AnnotationCacheOperationSourceTests {
 				getOps(AnnotatedClass.class, "invalidKeyAndKeyGeneratorSet"));
 	}
 
+	@Test
+	void refreshSettings() {
+		Collection<CacheOperation> ops = getOps(AnnotatedClass.class, "refreshAhead", 1);
+		assertThat(ops).singleElement().isInstanceOfSatisfying(CacheableOperation.class, cacheOperation -> {
+			assertThat(cacheOperation.getRefreshAfter()).isEqualTo(Duration.ofSeconds(30));
+			assertThat(cacheOperation.getExpireAfter()).isEqualTo(Duration.ofSeconds(300));
+		});
+	}
+
+	@Test
+	void refreshSettingsRequireSync() {
+		assertThatIllegalStateException().isThrownBy(() ->
+				getOps(AnnotatedClass.class, "invalidRefreshAheadWithoutSync"));
+	}
+
+	@Test
+	void refreshAfterMustBeShorterThanExpireAfter() {
+		assertThatIllegalStateException().isThrownBy(() ->
+				getOps(AnnotatedClass.class, "invalidRefreshAfterExpiration"));
+	}
+
 	@Test
 	void customCacheManager() {
 		Collection<CacheOperation> ops = getOps(AnnotatedClass.class, "customCacheManager", 1);
@@ -364,6 +387,18 @@ class AnnotationCacheOperationSourceTests {
 		public void invalidKeyAndKeyGeneratorSet() {
 		}
 
+		@Cacheable(cacheNames = "test", sync = true, refreshAfter = 30, expireAfter = 300, timeUnit = TimeUnit.SECONDS)
+		public void refreshAhead() {
+		}
+
+		@Cacheable(cacheNames = "test", refreshAfter = 30)
+		public void invalidRefreshAheadWithoutSync() {
+		}
+
+		@Cacheable(cacheNames = "test", sync = true, refreshAfter = 300, expireAfter = 30)
+		public void invalidRefreshAfterExpiration() {
+		}
+
 		@CacheableFooCustomCacheManager
 		public void customCacheManagerInherited() {
 		}
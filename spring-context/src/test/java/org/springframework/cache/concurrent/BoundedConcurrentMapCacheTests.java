@@ -0,0 +1,298 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.concurrent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cache.Cache;
+import org.springframework.context.testfixture.cache.AbstractValueAdaptingCacheTests;
+import org.springframework.core.serializer.support.SerializationDelegate;
+import org.springframework.lang.Nullable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link BoundedConcurrentMapCache}.
+ */
+class BoundedConcurrentMapCacheTests extends AbstractValueAdaptingCacheTests<BoundedConcurrentMapCache> {
+
+	private final AtomicLong ticker = new AtomicLong();
+
+	private BoundedConcurrentMapCache cache;
+
+	private BoundedConcurrentMapCache cacheNoNull;
+
+
+	@BeforeEach
+	void setup() {
+		this.cache = new BoundedConcurrentMapCache(CACHE_NAME, 100);
+		this.cacheNoNull = new BoundedConcurrentMapCache(CACHE_NAME_NO_NULL, 100, null, null, false);
+	}
+
+	@Override
+	protected BoundedConcurrentMapCache getCache() {
+		return getCache(true);
+	}
+
+	@Override
+	protected BoundedConcurrentMapCache getCache(boolean allowNull) {
+		return (allowNull ? this.cache : this.cacheNoNull);
+	}
+
+	@Override
+	protected Object getNativeCache() {
+		return this.cache;
+	}
+
+
+	@Test
+	void evictsLeastRecentlyUsedEntries() {
+		BoundedConcurrentMapCache cache = new BoundedConcurrentMapCache(CACHE_NAME, 3);
+		cache.put("a", 1);
+		cache.put("b", 2);
+		cache.put("c", 3);
+		assertThat(cache.get("a")).isNotNull();
+
+		cache.put("d", 4);
+		assertThat(cache.size()).isEqualTo(3);
+		assertThat(cache.get("b")).isNull();
+		assertThat(cache.get("a")).isNotNull();
+		assertThat(cache.get("c")).isNotNull();
+		assertThat(cache.get("d")).isNotNull();
+		assertThat(cache.getEvictionCount()).isEqualTo(1);
+
+		assertThat(cache.get("e", () -> 5)).isEqualTo(5);
+		assertThat(cache.size()).isEqualTo(3);
+		assertThat(cache.get("a")).isNull();
+		assertThat(cache.getEvictionCount()).isEqualTo(2);
+	}
+
+	@Test
+	void evictsWithinMaximumSizeUnderLoad() {
+		BoundedConcurrentMapCache cache = new BoundedConcurrentMapCache(CACHE_NAME, 1000);
+		for (int i = 0; i < 10000; i++) {
+			cache.put(i, i);
+			cache.get(i / 2);
+		}
+		assertThat(cache.size()).isLessThanOrEqualTo(1000);
+		assertThat(cache.getEvictionCount()).isEqualTo(10000 - cache.size());
+	}
+
+	@Test
+	void entriesExpireAfterTimeToLive() {
+		BoundedConcurrentMapCache cache = createCache(Duration.ofSeconds(10), null);
+		cache.put("a", 1);
+		this.ticker.addAndGet(TimeUnit.SECONDS.toNanos(5));
+		assertThat(cache.get("a", Integer.class)).isEqualTo(1);
+		cache.put("b", 2);
+
+		this.ticker.addAndGet(TimeUnit.SECONDS.toNanos(5));
+		assertThat(cache.get("a")).isNull();
+		assertThat(cache.get("b", Integer.class)).isEqualTo(2);
+		assertThat(cache.size()).isEqualTo(1);
+		assertThat(cache.getEvictionCount()).isEqualTo(1);
+
+		assertThat(cache.putIfAbsent("a", 3)).isNull();
+		assertThat(cache.get("a", Integer.class)).isEqualTo(3);
+	}
+
+	@Test
+	void entriesExpireAfterTimeToIdle() {
+		BoundedConcurrentMapCache cache = createCache(null, Duration.ofSeconds(10));
+		cache.put("a", 1);
+		cache.put("b", 2);
+		for (int i = 0; i < 3; i++) {
+			this.ticker.addAndGet(TimeUnit.SECONDS.toNanos(5));
+			assertThat(cache.get("a", Integer.class)).isEqualTo(1);
+		}
+		assertThat(cache.get("b")).isNull();
+		assertThat(cache.get("a", () -> 3)).isEqualTo(1);
+
+		this.ticker.addAndGet(TimeUnit.SECONDS.toNanos(10));
+		assertThat(cache.get("a", () -> 3)).isEqualTo(3);
+	}
+
+	@Test
+	void cleanUpRemovesExpiredEntries() {
+		BoundedConcurrentMapCache cache = createCache(Duration.ofSeconds(10), null);
+		cache.put("a", 1);
+		cache.put("b", 2);
+		this.ticker.addAndGet(TimeUnit.SECONDS.toNanos(5));
+		cache.put("c", 3);
+		this.ticker.addAndGet(TimeUnit.SECONDS.toNanos(5));
+
+		cache.cleanUp();
+		assertThat(cache.size()).isEqualTo(1);
+		assertThat(cache.getEvictionCount()).isEqualTo(2);
+		assertThat(cache.get("c", Integer.class)).isEqualTo(3);
+	}
+
+	@Test
+	void countsHitsAndMisses() {
+		BoundedConcurrentMapCache cache = new BoundedConcurrentMapCache(CACHE_NAME, 10);
+		cache.get("a");
+		cache.put("a", 1);
+		cache.get("a");
+		cache.get("a", Integer.class);
+		cache.get("b", () -> 2);
+		cache.get("b", () -> 3);
+		assertThat(cache.getHitCount()).isEqualTo(3);
+		assertThat(cache.getMissCount()).isEqualTo(2);
+
+		cache.evict("a");
+		cache.clear();
+		assertThat(cache.getEvictionCount()).isZero();
+	}
+
+	@Test
+	void retrieve() {
+		BoundedConcurrentMapCache cache = new BoundedConcurrentMapCache(CACHE_NAME, 10);
+		assertThat(cache.retrieve("a")).isNull();
+		assertThat(cache.retrieve("a", () -> CompletableFuture.completedFuture(1)).join()).isEqualTo(1);
+		assertThat(cache.retrieve("a", () -> CompletableFuture.completedFuture(2)).join()).isEqualTo(1);
+		assertThat(cache.retrieve("a").join()).isInstanceOfSatisfying(Cache.ValueWrapper.class,
+				wrapper -> assertThat(wrapper.get()).isEqualTo(1));
+
+		assertThat(this.cacheNoNull.retrieve("a", () -> CompletableFuture.completedFuture(1)).join()).isEqualTo(1);
+		assertThat(this.cacheNoNull.retrieve("a").join()).isEqualTo(1);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void storeByValue() {
+		BoundedConcurrentMapCache serializeCache = new BoundedConcurrentMapCache(CACHE_NAME, 10, null, null, true,
+				new SerializationDelegate(BoundedConcurrentMapCacheTests.class.getClassLoader()));
+		assertThat(serializeCache.isStoreByValue()).isTrue();
+
+		List<String> content = new ArrayList<>(Arrays.asList("one", "two", "three"));
+		serializeCache.put("key", content);
+		content.remove(0);
+		assertThat((List<String>) serializeCache.get("key").get()).containsExactly("one", "two", "three");
+	}
+
+	@Test
+	void valueLoaderMayWriteToCache() {
+		BoundedConcurrentMapCache cache = new BoundedConcurrentMapCache(CACHE_NAME, 10);
+		assertThat(cache.get(new CollidingKey(1), () -> {
+			cache.put(new CollidingKey(2), 2);
+			return cache.get(new CollidingKey(3), () -> 3) + 1;
+		})).isEqualTo(4);
+		assertThat(cache.get(new CollidingKey(1), Integer.class)).isEqualTo(4);
+		assertThat(cache.get(new CollidingKey(2), Integer.class)).isEqualTo(2);
+		assertThat(cache.get(new CollidingKey(3), Integer.class)).isEqualTo(3);
+	}
+
+	@Test
+	void recursiveValueLoaderForSameKeyFails() {
+		BoundedConcurrentMapCache cache = new BoundedConcurrentMapCache(CACHE_NAME, 10);
+		assertThatExceptionOfType(Cache.ValueRetrievalException.class)
+				.isThrownBy(() -> cache.get("a", () -> cache.get("a", () -> 1)))
+				.withCauseInstanceOf(IllegalStateException.class);
+		assertThat(cache.get("a", () -> 2)).isEqualTo(2);
+	}
+
+	@Test
+	void concurrentCallersWaitForOngoingLoad() throws Exception {
+		BoundedConcurrentMapCache cache = new BoundedConcurrentMapCache(CACHE_NAME, 10);
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger loads = new AtomicInteger();
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<Integer> first = executor.submit(() -> cache.get("a", () -> {
+				loading.countDown();
+				release.await();
+				return loads.incrementAndGet();
+			}));
+			assertThat(loading.await(10, TimeUnit.SECONDS)).isTrue();
+			CompletableFuture<Integer> second = CompletableFuture.supplyAsync(
+					() -> cache.get("a", loads::incrementAndGet));
+			release.countDown();
+			assertThat(first.get(10, TimeUnit.SECONDS)).isEqualTo(1);
+			assertThat(second.get(10, TimeUnit.SECONDS)).isEqualTo(1);
+			assertThat(loads).hasValue(1);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void concurrentValueLoadersWritingToCacheDoNotDeadlock() throws Exception {
+		BoundedConcurrentMapCache cache = new BoundedConcurrentMapCache(CACHE_NAME, 16);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < 4; i++) {
+				futures.add(executor.submit(() -> {
+					ThreadLocalRandom random = ThreadLocalRandom.current();
+					for (int j = 0; j < 10000; j++) {
+						// Nested loads for a separate range of keys, avoiding cyclic waits
+						cache.get(new CollidingKey(random.nextInt(16)), () -> {
+							cache.put(new CollidingKey(random.nextInt(32)), 0);
+							return cache.get(new CollidingKey(16 + random.nextInt(16)), () -> 1);
+						});
+						cache.put(new CollidingKey(random.nextInt(32)), 2);
+						cache.evict(new CollidingKey(random.nextInt(32)));
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get(30, TimeUnit.SECONDS);
+			}
+			assertThat(cache.size()).isLessThanOrEqualTo(16);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+
+	private BoundedConcurrentMapCache createCache(@Nullable Duration timeToLive, @Nullable Duration timeToIdle) {
+		return new BoundedConcurrentMapCache(CACHE_NAME, -1, timeToLive, timeToIdle, true, null, this.ticker::get);
+	}
+
+
+	/**
+	 * Key with a constant hash code, sharing both the stripe and the
+	 * {@code ConcurrentHashMap} bin with all other such keys.
+	 */
+	private record CollidingKey(int id) {
+
+		@Override
+		public int hashCode() {
+			return 0;
+		}
+	}
+
+}
@@ -16,6 +16,8 @@
 
 package org.springframework.cache.concurrent;
 
+import java.time.Duration;
+
 import org.junit.jupiter.api.Test;
 
 import org.springframework.cache.Cache;
@@ -131,4 +133,29 @@ class ConcurrentMapCacheManagerTests {
 		assertThat(cache1x.get("key")).isNull();
 	}
 
+	@Test
+	void testBoundedCaches() {
+		ConcurrentMapCacheManager cm = new ConcurrentMapCacheManager("c1");
+		Cache cache1 = cm.getCache("c1");
+		assertThat(cache1).isInstanceOf(ConcurrentMapCache.class);
+
+		cm.setMaximumSize(2);
+		Cache cache1x = cm.getCache("c1");
+		assertThat(cache1x).isInstanceOf(BoundedConcurrentMapCache.class);
+		cache1x.put("key1", "value1");
+		cache1x.put("key2", "value2");
+		cache1x.put("key3", "value3");
+		assertThat(cache1x.get("key1")).isNull();
+		assertThat(((BoundedConcurrentMapCache) cache1x).size()).isEqualTo(2);
+
+		cm.setMaximumSize(-1);
+		cm.setTimeToIdle(Duration.ofMinutes(1));
+		Cache cache1y = cm.getCache("c1");
+		assertThat(cache1y).isInstanceOf(BoundedConcurrentMapCache.class);
+		assertThat(cache1y).isNotSameAs(cache1x);
+
+		cm.setTimeToIdle(null);
+		assertThat(cm.getCache("c1")).isInstanceOf(ConcurrentMapCache.class);
+	}
+
 }
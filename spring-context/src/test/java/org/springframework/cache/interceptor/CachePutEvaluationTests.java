@@ -34,6 +34,7 @@ import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.expression.spel.standard.SpelExpressionCache;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -104,6 +105,21 @@ class CachePutEvaluationTests {
 		assertThat(this.cache.get(anotherValue + 100).get()).as("Wrong value for @CachePut key").isEqualTo(anotherValue);
 	}
 
+	@Test
+	void expressionsParsedThroughContextExpressionCache() {
+		SpelExpressionCache expressionCache = this.context.getBean(
+				ConfigurableApplicationContext.EXPRESSION_CACHE_BEAN_NAME, SpelExpressionCache.class);
+
+		this.service.getOrPut("1", true);
+		assertThat(expressionCache.size()).isEqualTo(3);
+		assertThat(expressionCache.getStatistics().missCount()).isEqualTo(3);
+
+		this.service.getOrPut("1", true);
+		assertThat(expressionCache.size()).isEqualTo(3);
+		assertThat(expressionCache.getStatistics().missCount()).isEqualTo(3);
+		assertThat(expressionCache.getStatistics().hitCount()).isPositive();
+	}
+
 	@Configuration
 	@EnableCaching
 	static class Config implements CachingConfigurer {
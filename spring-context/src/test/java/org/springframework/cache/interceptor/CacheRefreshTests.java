@@ -0,0 +1,301 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.interceptor;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.lang.Nullable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link Cacheable#refreshAfter()} and {@link Cacheable#expireAfter()}.
+ */
+class CacheRefreshTests {
+
+	private ConfigurableApplicationContext context;
+
+	private Cache cache;
+
+	private SimpleService simpleService;
+
+
+	@BeforeEach
+	void setup() {
+		this.context = new AnnotationConfigApplicationContext(Config.class);
+		this.cache = this.context.getBean(CacheManager.class).getCache("testCache");
+		this.simpleService = this.context.getBean(SimpleService.class);
+	}
+
+	@AfterEach
+	void closeContext() {
+		if (this.context != null) {
+			this.context.close();
+		}
+	}
+
+
+	@Test
+	void freshValueIsCachedWithTimestamp() {
+		assertThat(this.simpleService.get("key")).isEqualTo(0L);
+		assertThat(this.simpleService.get("key")).isEqualTo(0L);
+		assertThat(this.cache.get("key").get()).isInstanceOfSatisfying(TimestampedCacheValue.class,
+				cachedValue -> assertThat(cachedValue.getValue()).isEqualTo(0L));
+	}
+
+	@Test
+	void staleValueIsReturnedAndRefreshed() {
+		this.cache.put("key", timestamped(-1L, 10_000));
+		assertThat(this.simpleService.get("key")).isEqualTo(-1L);
+		assertThat(this.simpleService.get("key")).isEqualTo(0L);
+		assertThat(this.simpleService.get("key")).isEqualTo(0L);
+	}
+
+	@Test
+	void expiredValueIsRecomputed() {
+		this.cache.put("key", timestamped(-1L, 100_000));
+		assertThat(this.simpleService.get("key")).isEqualTo(0L);
+		assertThat(this.simpleService.get("key")).isEqualTo(0L);
+	}
+
+	@Test
+	void failedRefreshKeepsStaleValue() {
+		TimestampedCacheValue staleValue = timestamped(-1L, 10_000);
+		this.cache.put("failing", staleValue);
+		assertThat(this.simpleService.getOrFail("failing")).isEqualTo(-1L);
+		assertThat(this.cache.get("failing").get()).isEqualTo(staleValue);
+	}
+
+	@Test
+	void plainValueIsConsideredFresh() {
+		this.cache.put("key", -1L);
+		assertThat(this.simpleService.get("key")).isEqualTo(-1L);
+		assertThat(this.cache.get("key").get()).isEqualTo(-1L);
+	}
+
+	@Test
+	void staleValueIsReturnedAndRefreshedWithCompletableFuture() {
+		this.cache.put("key", timestamped(-1L, 10_000));
+		assertThat(this.simpleService.getFuture("key").join()).isEqualTo(-1L);
+		assertThat(this.simpleService.getFuture("key").join()).isEqualTo(0L);
+	}
+
+	@Test
+	void expiredValueIsRecomputedWithCompletableFuture() {
+		this.cache.put("key", timestamped(-1L, 100_000));
+		assertThat(this.simpleService.getFuture("key").join()).isEqualTo(0L);
+		assertThat(this.simpleService.getFuture("key").join()).isEqualTo(0L);
+	}
+
+	@Test
+	void staleValueIsReturnedAndRefreshedWithMono() {
+		this.cache.put("key", timestamped(-1L, 10_000));
+		assertThat(this.simpleService.getMono("key").block()).isEqualTo(-1L);
+		assertThat(this.simpleService.getMono("key").block()).isEqualTo(0L);
+		assertThat(this.cache.get("key").get()).isInstanceOfSatisfying(TimestampedCacheValue.class,
+				cachedValue -> assertThat(cachedValue.getValue()).isEqualTo(0L));
+	}
+
+	@Test
+	void expiredValueIsRecomputedWithMono() {
+		this.cache.put("key", timestamped(-1L, 100_000));
+		assertThat(this.simpleService.getMono("key").block()).isEqualTo(0L);
+		assertThat(this.simpleService.getMono("key").block()).isEqualTo(0L);
+	}
+
+	@Test
+	void staleValueIsReturnedAndRefreshedWithFlux() {
+		this.cache.put("key", timestamped(List.of(-2L, -1L), 10_000));
+		assertThat(this.simpleService.getFlux("key").collectList().block()).containsExactly(-2L, -1L);
+		assertThat(this.simpleService.getFlux("key").collectList().block()).containsExactly(0L, 1L);
+		assertThat(this.cache.get("key").get()).isInstanceOfSatisfying(TimestampedCacheValue.class,
+				cachedValue -> assertThat(cachedValue.getValue()).isEqualTo(List.of(0L, 1L)));
+	}
+
+	@Test
+	void expiredValueIsRecomputedWithFlux() {
+		this.cache.put("key", timestamped(List.of(-1L), 100_000));
+		assertThat(this.simpleService.getFlux("key").collectList().block()).containsExactly(0L, 1L);
+		assertThat(this.simpleService.getFlux("key").collectList().block()).containsExactly(0L, 1L);
+	}
+
+	@Test
+	void nullValueIsCachedWithTimestamp() {
+		assertThat(this.simpleService.getNull("key")).isNull();
+		assertThat(this.simpleService.getNull("key")).isNull();
+		assertThat(this.simpleService.counter).hasValue(1);
+		assertThat(this.cache.get("key").get()).isInstanceOfSatisfying(TimestampedCacheValue.class,
+				cachedValue -> assertThat(cachedValue.getValue()).isNull());
+	}
+
+	@Test
+	void staleNullValueIsReturnedAndRefreshed() {
+		this.cache.put("key", timestamped(null, 10_000));
+		assertThat(this.simpleService.get("key")).isNull();
+		assertThat(this.simpleService.get("key")).isEqualTo(0L);
+	}
+
+	@Test
+	void expiredNullValueIsRecomputed() {
+		this.cache.put("key", timestamped(null, 100_000));
+		assertThat(this.simpleService.get("key")).isEqualTo(0L);
+		assertThat(this.simpleService.get("key")).isEqualTo(0L);
+	}
+
+	@Test
+	void timestampedValueIsUnwrappedForOperationsWithoutRefresh() {
+		assertThat(this.simpleService.get("key")).isEqualTo(0L);
+		assertThat(this.simpleService.getPlain("key")).isEqualTo(0L);
+		assertThat(this.simpleService.getPlainSynchronized("key")).isEqualTo(0L);
+		assertThat(this.simpleService.getPlainFuture("key").join()).isEqualTo(0L);
+		assertThat(this.simpleService.getPlainMono("key").block()).isEqualTo(0L);
+		assertThat(this.simpleService.counter).hasValue(1);
+	}
+
+	@Test
+	void timestampedListIsUnwrappedForFluxOperationWithoutRefresh() {
+		assertThat(this.simpleService.getFlux("key").collectList().block()).containsExactly(0L, 1L);
+		assertThat(this.simpleService.getPlainFlux("key").collectList().block()).containsExactly(0L, 1L);
+		assertThat(this.simpleService.counter).hasValue(2);
+	}
+
+	@Test
+	void expiredTimestampedValueIsUnwrappedForOperationWithoutRefresh() {
+		this.cache.put("key", timestamped(-1L, 100_000));
+		assertThat(this.simpleService.getPlain("key")).isEqualTo(-1L);
+		assertThat(this.simpleService.getPlainSynchronized("key")).isEqualTo(-1L);
+		assertThat(this.simpleService.counter).hasValue(0);
+	}
+
+	@Test
+	void timestampedNullValueIsUnwrappedForOperationWithoutRefresh() {
+		this.cache.put("key", timestamped(null, 0));
+		assertThat(this.simpleService.getPlain("key")).isNull();
+		assertThat(this.simpleService.counter).hasValue(0);
+	}
+
+
+	private static TimestampedCacheValue timestamped(@Nullable Object value, long age) {
+		return new TimestampedCacheValue(value, System.currentTimeMillis() - age);
+	}
+
+
+	static class SimpleService {
+
+		private final AtomicLong counter = new AtomicLong();
+
+		@Cacheable(cacheNames = "testCache", sync = true, refreshAfter = 5_000, expireAfter = 60_000)
+		public Long get(String key) {
+			return this.counter.getAndIncrement();
+		}
+
+		@Cacheable(cacheNames = "testCache", sync = true, refreshAfter = 5_000, expireAfter = 60_000)
+		public Long getOrFail(String key) {
+			throw new IllegalStateException("Refresh failure");
+		}
+
+		@Cacheable(cacheNames = "testCache", sync = true, refreshAfter = 5_000, expireAfter = 60_000)
+		public CompletableFuture<Long> getFuture(String key) {
+			return CompletableFuture.completedFuture(this.counter.getAndIncrement());
+		}
+
+		@Cacheable(cacheNames = "testCache", sync = true, refreshAfter = 5_000, expireAfter = 60_000)
+		public Mono<Long> getMono(String key) {
+			return Mono.fromSupplier(this.counter::getAndIncrement);
+		}
+
+		@Cacheable(cacheNames = "testCache", sync = true, refreshAfter = 5_000, expireAfter = 60_000)
+		public Flux<Long> getFlux(String key) {
+			return Flux.defer(() -> Flux.just(this.counter.getAndIncrement(), this.counter.getAndIncrement()));
+		}
+
+		@Cacheable(cacheNames = "testCache", sync = true, refreshAfter = 5_000, expireAfter = 60_000)
+		@Nullable
+		public Long getNull(String key) {
+			this.counter.getAndIncrement();
+			return null;
+		}
+
+		@Cacheable("testCache")
+		public Long getPlain(String key) {
+			return this.counter.getAndIncrement();
+		}
+
+		@Cacheable(cacheNames = "testCache", sync = true)
+		public Long getPlainSynchronized(String key) {
+			return this.counter.getAndIncrement();
+		}
+
+		@Cacheable("testCache")
+		public CompletableFuture<Long> getPlainFuture(String key) {
+			return CompletableFuture.completedFuture(this.counter.getAndIncrement());
+		}
+
+		@Cacheable("testCache")
+		public Mono<Long> getPlainMono(String key) {
+			return Mono.fromSupplier(this.counter::getAndIncrement);
+		}
+
+		@Cacheable("testCache")
+		public Flux<Long> getPlainFlux(String key) {
+			return Flux.defer(() -> Flux.just(this.counter.getAndIncrement(), this.counter.getAndIncrement()));
+		}
+	}
+
+
+	@Configuration
+	@EnableCaching
+	static class Config implements CachingConfigurer {
+
+		@Override
+		@Bean
+		public CacheManager cacheManager() {
+			return new ConcurrentMapCacheManager("testCache");
+		}
+
+		@Override
+		public Executor refreshExecutor() {
+			return new SyncTaskExecutor();
+		}
+
+		@Bean
+		public SimpleService simpleService() {
+			return new SimpleService();
+		}
+	}
+
+}
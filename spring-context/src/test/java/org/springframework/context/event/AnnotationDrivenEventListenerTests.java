@@ -61,6 +61,7 @@ import org.springframework.context.event.test.TestEvent;
 import org.springframework.context.support.ClassPathXmlApplicationContext;
 import org.springframework.core.annotation.AliasFor;
 import org.springframework.core.annotation.Order;
+import org.springframework.expression.spel.standard.SpelExpressionCache;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.stereotype.Component;
@@ -637,6 +638,22 @@ class AnnotationDrivenEventListenerTests {
 		this.eventCollector.assertTotalEventsCount(0);
 	}
 
+	@Test
+	void conditionsParsedThroughContextExpressionCache() {
+		load(ConditionalEventListener.class);
+		SpelExpressionCache expressionCache = this.context.getBean(
+				ConfigurableApplicationContext.EXPRESSION_CACHE_BEAN_NAME, SpelExpressionCache.class);
+		assertThat(expressionCache.size()).isZero();
+
+		this.context.publishEvent("OK");
+		this.context.publishEvent("KO");
+		assertThat(expressionCache.size()).isEqualTo(1);
+		SpelExpressionCache.Statistics statistics = expressionCache.getStatistics();
+		assertThat(statistics.missCount()).isEqualTo(1);
+		assertThat(statistics.hitCount()).isEqualTo(1);
+		assertThat(statistics.interpretedInvocations()).isEqualTo(2);
+	}
+
 	@Test
 	void orderedListeners() {
 		load(OrderedTestListener.class);
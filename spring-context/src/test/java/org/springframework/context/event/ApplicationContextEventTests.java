@@ -17,9 +17,14 @@
 package org.springframework.context.event;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 
@@ -279,6 +284,53 @@ class ApplicationContextEventTests extends AbstractApplicationEventListenerTests
 		assertThat(listener1.seenEvents).hasSize(2);
 	}
 
+	@Test
+	void concurrentListenerRegistration() throws Exception {
+		SimpleApplicationEventMulticaster smc = new SimpleApplicationEventMulticaster();
+		List<MyOrderedListener1> listeners = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			listeners.add(new MyOrderedListener1());
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			CompletableFuture.allOf(listeners.stream()
+					.map(listener -> CompletableFuture.runAsync(() -> {
+						smc.addApplicationListener(listener);
+						MyEvent event = new MyEvent(this);
+						assertThat(smc.getApplicationListeners(event, ResolvableType.forInstance(event))).contains(listener);
+					}, executor))
+					.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(smc.getApplicationListeners()).hasSize(200);
+		MyEvent event = new MyEvent(this);
+		smc.multicastEvent(event);
+		assertThat(listeners).allSatisfy(listener -> assertThat(listener.seenEvents).contains(event));
+	}
+
+	@Test
+	void listenersForEventTypeAreReused() {
+		MyOrderedListener1 listener1 = new MyOrderedListener1();
+		MyOrderedListener2 listener2 = new MyOrderedListener2(listener1);
+		SimpleApplicationEventMulticaster smc = new SimpleApplicationEventMulticaster();
+		smc.addApplicationListener(listener2);
+		smc.addApplicationListener(listener1);
+
+		MyEvent event = new MyEvent(this);
+		ResolvableType eventType = ResolvableType.forInstance(event);
+		assertThat(smc.getApplicationListeners(event, eventType)).containsExactly(listener1, listener2);
+		Collection<ApplicationListener<?>> listeners = smc.getApplicationListeners(event, eventType);
+		assertThat(listeners).containsExactly(listener1, listener2);
+		assertThat(smc.getApplicationListeners(new MyEvent(this), eventType)).isSameAs(listeners);
+
+		smc.removeApplicationListener(listener2);
+		assertThat(smc.getApplicationListeners(event, eventType)).containsExactly(listener1);
+	}
+
 	/**
 	 * Regression test for <a href="https://github.com/spring-projects/spring-framework/issues/28283">issue 28283</a>,
 	 * where event listeners proxied due to e.g.
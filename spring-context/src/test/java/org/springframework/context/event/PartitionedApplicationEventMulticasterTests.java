@@ -0,0 +1,288 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link PartitionedApplicationEventMulticaster}.
+ */
+class PartitionedApplicationEventMulticasterTests {
+
+	private final List<Runnable> tasks = new ArrayList<>();
+
+	private final PartitionedApplicationEventMulticaster multicaster = new PartitionedApplicationEventMulticaster();
+
+
+	@Test
+	void eventsWithEqualKeysAreDispatchedInOrder() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			CountDownLatch latch = new CountDownLatch(1000);
+			Map<Integer, List<Integer>> received = new ConcurrentHashMap<>();
+			this.multicaster.setTaskExecutor(executor);
+			this.multicaster.setPartitionCount(4);
+			this.multicaster.setBatchSize(8);
+			this.multicaster.setPartitionKeyResolver(event -> payload(event) % 10);
+			this.multicaster.addApplicationListener(event -> {
+				int payload = payload(event);
+				received.computeIfAbsent(payload % 10, key -> new CopyOnWriteArrayList<>()).add(payload);
+				latch.countDown();
+			});
+
+			IntStream.range(0, 1000).forEach(i -> this.multicaster.multicastEvent(new PayloadApplicationEvent<>(this, i)));
+			assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+
+			assertThat(received).hasSize(10);
+			received.forEach((key, payloads) -> assertThat(payloads).hasSize(100).isSorted());
+			assertThat(this.multicaster.getStatistics().dispatchedEvents()).isEqualTo(1000);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void eventsAreDispatchedInBatches() {
+		List<Integer> received = new ArrayList<>();
+		this.multicaster.setTaskExecutor(this.tasks::add);
+		this.multicaster.setPartitionCount(1);
+		this.multicaster.setBatchSize(2);
+		this.multicaster.addApplicationListener(event -> received.add(payload(event)));
+
+		IntStream.range(0, 3).forEach(i -> this.multicaster.multicastEvent(new PayloadApplicationEvent<>(this, i)));
+		assertThat(received).isEmpty();
+		assertThat(this.tasks).hasSize(1);
+		assertThat(this.multicaster.getStatistics().queueDepth()).isEqualTo(3);
+
+		runNextTask();
+		assertThat(received).containsExactly(0, 1);
+		assertThat(this.tasks).hasSize(1);
+		assertThat(this.multicaster.getStatistics().queueDepth()).isEqualTo(1);
+
+		runNextTask();
+		assertThat(received).containsExactly(0, 1, 2);
+		assertThat(this.tasks).isEmpty();
+
+		PartitionedApplicationEventMulticaster.Statistics statistics = this.multicaster.getStatistics();
+		assertThat(statistics.queueDepth()).isZero();
+		assertThat(statistics.dispatchedEvents()).isEqualTo(3);
+		assertThat(statistics.maxDispatchLatency()).isPositive();
+		assertThat(statistics.averageDispatchLatency()).isLessThanOrEqualTo(statistics.maxDispatchLatency());
+	}
+
+	@Test
+	void callerRunsWhenQueueIsFull() {
+		List<String> received = new ArrayList<>();
+		this.multicaster.setTaskExecutor(this.tasks::add);
+		this.multicaster.setPartitionCount(1);
+		this.multicaster.setQueueCapacity(1);
+		this.multicaster.setOverflowPolicy(PartitionedApplicationEventMulticaster.OverflowPolicy.CALLER_RUNS);
+		this.multicaster.addApplicationListener(event ->
+				received.add(payload(event) + " in " + Thread.currentThread().getName()));
+
+		String thread = Thread.currentThread().getName();
+		this.multicaster.multicastEvent(new PayloadApplicationEvent<>(this, 1));
+		this.multicaster.multicastEvent(new PayloadApplicationEvent<>(this, 2));
+		assertThat(received).containsExactly("2 in " + thread);
+		assertThat(this.multicaster.getStatistics().callerRunsEvents()).isEqualTo(1);
+
+		runNextTask();
+		assertThat(received).containsExactly("2 in " + thread, "1 in " + thread);
+	}
+
+	@Test
+	void blockUntilQueueIsDrained() throws Exception {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			CountDownLatch release = new CountDownLatch(1);
+			List<Integer> received = new CopyOnWriteArrayList<>();
+			this.multicaster.setTaskExecutor(executor);
+			this.multicaster.setPartitionCount(1);
+			this.multicaster.setQueueCapacity(1);
+			this.multicaster.setBatchSize(1);
+			this.multicaster.addApplicationListener(event -> {
+				try {
+					release.await();
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+				received.add(payload(event));
+			});
+
+			Thread publisher = new Thread(() -> IntStream.range(0, 3).forEach(i ->
+					this.multicaster.multicastEvent(new PayloadApplicationEvent<>(this, i))));
+			publisher.start();
+			while (this.multicaster.getStatistics().blockedPublications() == 0) {
+				Thread.sleep(10);
+			}
+			assertThat(publisher.isAlive()).isTrue();
+			assertThat(received).isEmpty();
+
+			release.countDown();
+			publisher.join(10000);
+			executor.shutdown();
+			assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+			assertThat(received).containsExactly(0, 1, 2);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void listenerWithoutAsyncSupportIsInvokedInCallerThread() {
+		List<Integer> received = new ArrayList<>();
+		this.multicaster.setTaskExecutor(this.tasks::add);
+		this.multicaster.addApplicationListener(new ApplicationListener<PayloadApplicationEvent<Integer>>() {
+			@Override
+			public void onApplicationEvent(PayloadApplicationEvent<Integer> event) {
+				received.add(event.getPayload());
+			}
+			@Override
+			public boolean supportsAsyncExecution() {
+				return false;
+			}
+		});
+
+		this.multicaster.multicastEvent(new PayloadApplicationEvent<>(this, 1));
+		assertThat(received).containsExactly(1);
+		assertThat(this.tasks).isEmpty();
+	}
+
+	@Test
+	void listenerExceptionDoesNotAffectOtherEvents() {
+		List<Throwable> errors = new ArrayList<>();
+		List<Integer> received = new ArrayList<>();
+		this.multicaster.setTaskExecutor(this.tasks::add);
+		this.multicaster.setPartitionCount(1);
+		this.multicaster.setErrorHandler(errors::add);
+		this.multicaster.addApplicationListener(event -> {
+			if (payload(event) == 1) {
+				throw new IllegalStateException("fail");
+			}
+			received.add(payload(event));
+		});
+
+		IntStream.range(0, 3).forEach(i -> this.multicaster.multicastEvent(new PayloadApplicationEvent<>(this, i)));
+		runNextTask();
+		assertThat(received).containsExactly(0, 2);
+		assertThat(errors).singleElement().isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void queuedEventsAreDispatchedOnDestroy() {
+		List<Integer> received = new CopyOnWriteArrayList<>();
+		this.multicaster.setPartitionCount(4);
+		this.multicaster.setPartitionKeyResolver(event -> payload(event));
+		this.multicaster.addApplicationListener(event -> received.add(payload(event)));
+
+		IntStream.range(0, 1000).forEach(i -> this.multicaster.multicastEvent(new PayloadApplicationEvent<>(this, i)));
+		this.multicaster.destroy();
+		assertThat(received).hasSize(1000);
+		assertThat(this.multicaster.getStatistics().queueDepth()).isZero();
+	}
+
+	@Test
+	void destroyWaitsForDispatchingTaskInProgress() throws Exception {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			CountDownLatch started = new CountDownLatch(1);
+			CountDownLatch release = new CountDownLatch(1);
+			List<Integer> received = new CopyOnWriteArrayList<>();
+			this.multicaster.setTaskExecutor(executor);
+			this.multicaster.setPartitionCount(1);
+			this.multicaster.setBatchSize(1);
+			this.multicaster.addApplicationListener(event -> {
+				if (payload(event) == 0) {
+					started.countDown();
+					try {
+						release.await();
+					}
+					catch (InterruptedException ex) {
+						Thread.currentThread().interrupt();
+					}
+				}
+				received.add(payload(event));
+			});
+
+			IntStream.range(0, 5).forEach(i -> this.multicaster.multicastEvent(new PayloadApplicationEvent<>(this, i)));
+			assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+			Thread destroyer = new Thread(this.multicaster::destroy);
+			destroyer.start();
+			Thread.sleep(50);
+			assertThat(destroyer.isAlive()).isTrue();
+
+			release.countDown();
+			destroyer.join(10000);
+			assertThat(destroyer.isAlive()).isFalse();
+			assertThat(received).containsExactly(0, 1, 2, 3, 4);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void eventsPublishedAfterDestroyAreDispatchedInCallerThread() {
+		List<Integer> received = new ArrayList<>();
+		this.multicaster.setTaskExecutor(this.tasks::add);
+		this.multicaster.addApplicationListener(event -> received.add(payload(event)));
+
+		this.multicaster.destroy();
+		this.multicaster.multicastEvent(new PayloadApplicationEvent<>(this, 1));
+		assertThat(received).containsExactly(1);
+		assertThat(this.tasks).isEmpty();
+		assertThat(this.multicaster.getStatistics().callerRunsEvents()).isEqualTo(1);
+	}
+
+	@Test
+	void taskExecutorCannotBeChangedOnceEventsHaveBeenPublished() {
+		this.multicaster.setTaskExecutor(this.tasks::add);
+		this.multicaster.multicastEvent(new PayloadApplicationEvent<>(this, 1));
+		assertThatIllegalStateException().isThrownBy(() -> this.multicaster.setTaskExecutor(Runnable::run));
+	}
+
+
+	private void runNextTask() {
+		this.tasks.remove(0).run();
+	}
+
+	private static int payload(ApplicationEvent event) {
+		return (Integer) ((PayloadApplicationEvent<?>) event).getPayload();
+	}
+
+}
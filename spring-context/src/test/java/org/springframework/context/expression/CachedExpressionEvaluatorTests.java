@@ -22,7 +22,12 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import org.junit.jupiter.api.Test;
 
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionCache;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.util.ReflectionUtils;
 
@@ -67,10 +72,74 @@ class CachedExpressionEvaluatorTests {
 		assertThat(expressionEvaluator.testCache).as("Cached expression should be based on type").hasSize(2);
 	}
 
+	@Test
+	void shareExpressionsThroughExpressionCache() {
+		Method method = ReflectionUtils.findMethod(getClass(), "toString");
+		SpelExpressionCache expressionCache = new SpelExpressionCache();
+		TestExpressionEvaluator evaluator1 = new TestExpressionEvaluator(expressionCache);
+		TestExpressionEvaluator evaluator2 = new TestExpressionEvaluator(expressionCache);
+
+		Expression expression = evaluator1.getTestExpression("true", method, getClass());
+		assertThat(evaluator2.getTestExpression("true", method, getClass())).isSameAs(expression);
+		assertThat(evaluator1.getParser()).isSameAs(expressionCache.getParser());
+		assertThat(expressionCache.size()).isEqualTo(1);
+
+		assertThat(evaluator2.getTestExpression("true", method, Object.class)).isNotSameAs(expression);
+		assertThat(expressionCache.size()).isEqualTo(2);
+		assertThat(evaluator1.testCache).isEmpty();
+		assertThat(evaluator2.testCache).isEmpty();
+	}
+
+	@Test
+	void separateExpressionsPerEvaluatorTypeThroughExpressionCache() {
+		Method method = ReflectionUtils.findMethod(getClass(), "toString");
+		SpelExpressionCache expressionCache = new SpelExpressionCache();
+		TestExpressionEvaluator evaluator = new TestExpressionEvaluator(expressionCache);
+		TestExpressionEvaluator otherEvaluator = new OtherTestExpressionEvaluator(expressionCache);
+
+		Expression expression = evaluator.getTestExpression("true", method, getClass());
+		assertThat(otherEvaluator.getTestExpression("true", method, getClass())).isNotSameAs(expression);
+		assertThat(expressionCache.size()).isEqualTo(2);
+	}
+
+	@Test
+	void compileExpressionsPerElementThroughExpressionCache() {
+		SpelExpressionCache expressionCache = new SpelExpressionCache(
+				new SpelParserConfiguration(SpelCompilerMode.IMMEDIATE, getClass().getClassLoader()));
+		TestExpressionEvaluator evaluator = new TestExpressionEvaluator(expressionCache);
+		Method stringMethod = ReflectionUtils.findMethod(SampleMethods.class, "handle", String.class);
+		Method builderMethod = ReflectionUtils.findMethod(SampleMethods.class, "handle", StringBuilder.class);
+
+		Expression stringExpression = evaluator.getTestExpression("#p0.length()", stringMethod, SampleMethods.class);
+		Expression builderExpression = evaluator.getTestExpression("#p0.length()", builderMethod, SampleMethods.class);
+		assertThat(builderExpression).isNotSameAs(stringExpression);
+		for (int i = 0; i < 3; i++) {
+			assertThat(stringExpression.getValue(createEvaluationContext(stringMethod, "abc"))).isEqualTo(3);
+			assertThat(builderExpression.getValue(createEvaluationContext(builderMethod, new StringBuilder("ab"))))
+					.isEqualTo(2);
+		}
+		assertThat(expressionCache.getStatistics().compilations()).isEqualTo(2);
+	}
+
+	private EvaluationContext createEvaluationContext(Method method, Object argument) {
+		return new MethodBasedEvaluationContext(
+				this, method, new Object[] {argument}, new DefaultParameterNameDiscoverer());
+	}
+
 	private void hasParsedExpression(String expression) {
 		verify(expressionEvaluator.getParser(), times(1)).parseExpression(expression);
 	}
 
+	@SuppressWarnings("unused")
+	private static class SampleMethods {
+
+		public void handle(String value) {
+		}
+
+		public void handle(StringBuilder value) {
+		}
+	}
+
 	private static class TestExpressionEvaluator extends CachedExpressionEvaluator {
 
 		private final Map<ExpressionKey, Expression> testCache = new ConcurrentHashMap<>();
@@ -79,6 +148,10 @@ class CachedExpressionEvaluatorTests {
 			super(mockSpelExpressionParser());
 		}
 
+		public TestExpressionEvaluator(SpelExpressionCache expressionCache) {
+			super(expressionCache);
+		}
+
 		public Expression getTestExpression(String expression, Method method, Class<?> type) {
 			return getExpression(this.testCache, new AnnotatedElementKey(method, type), expression);
 		}
@@ -89,4 +162,11 @@ class CachedExpressionEvaluatorTests {
 		}
 	}
 
+	private static class OtherTestExpressionEvaluator extends TestExpressionEvaluator {
+
+		public OtherTestExpressionEvaluator(SpelExpressionCache expressionCache) {
+			super(expressionCache);
+		}
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,7 +16,9 @@
 
 package org.springframework.core.env;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
@@ -37,7 +39,8 @@ import org.springframework.util.AlternativeJdkIdGenerator;
 import org.springframework.util.IdGenerator;
 
 /**
- * Benchmarks for {@link CompositePropertySource}.
+ * Benchmarks for {@link CompositePropertySource} and for property lookups
+ * through {@link PropertySourcesPropertyResolver}.
  *
  * @author Yike Xiao
  */
@@ -52,6 +55,13 @@ public class CompositePropertySourceBenchmark {
 		blackhole.consume(state.composite.getPropertyNames());
 	}
 
+	@Benchmark
+	public void getProperty(ResolverState state, Blackhole blackhole) {
+		for (String key : state.keys) {
+			blackhole.consume(state.resolver.getProperty(key));
+		}
+	}
+
 	@State(Scope.Benchmark)
 	public static class BenchmarkState {
 
@@ -82,4 +92,51 @@ public class CompositePropertySourceBenchmark {
 
 	}
 
+
+	@State(Scope.Benchmark)
+	public static class ResolverState {
+
+		private static final IdGenerator ID_GENERATOR = new AlternativeJdkIdGenerator();
+
+		PropertySourcesPropertyResolver resolver;
+
+		List<String> keys;
+
+		@Param({ "5", "20" })
+		int numberOfPropertySources;
+
+		@Param({ "100", "1000" })
+		int numberOfPropertyNamesPerSource;
+
+		@Param({ "false", "true" })
+		boolean propertyIndexEnabled;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			MutablePropertySources propertySources = new MutablePropertySources();
+			this.keys = new ArrayList<>();
+			for (int i = 0; i < this.numberOfPropertySources; i++) {
+				Map<String, Object> map = new HashMap<>(this.numberOfPropertyNamesPerSource);
+				for (int j = 0; j < this.numberOfPropertyNamesPerSource; j++) {
+					String name = ID_GENERATOR.generateId().toString();
+					map.put(name, "value");
+					if (j % 10 == 0) {
+						this.keys.add(name);
+					}
+				}
+				propertySources.addLast(new MapPropertySource("propertySource" + i, map));
+			}
+			Map<String, Object> environment = new HashMap<>();
+			for (int i = 0; i < this.numberOfPropertyNamesPerSource; i++) {
+				environment.put("ENV_VARIABLE_" + i, "value");
+			}
+			propertySources.addLast(new SystemEnvironmentPropertySource("systemEnvironment", environment));
+			this.keys.add("env.variable-0");
+			this.keys.add("missing.key");
+			this.resolver = new PropertySourcesPropertyResolver(propertySources);
+			this.resolver.setPropertyIndexEnabled(this.propertyIndexEnabled);
+		}
+
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -46,6 +46,15 @@ public class ConcurrentLruCacheBenchmark {
 		}
 	}
 
+	@Benchmark
+	public void lruCacheWithScan(ScanBenchmarkData data, Blackhole bh) {
+		for (String element : data.elements) {
+			String value = data.lruCache.get(element);
+			bh.consume(value);
+		}
+		bh.consume(data.lruCache.statistics().hitRate());
+	}
+
 	@State(Scope.Benchmark)
 	public static class BenchmarkData {
 
@@ -57,6 +66,9 @@ public class ConcurrentLruCacheBenchmark {
 		@Param({"0.1"})
 		public float cacheMissRate;
 
+		@Param({"false", "true"})
+		public boolean frequencyAdmission;
+
 		public List<String> elements;
 
 		public Function<String, String> generator;
@@ -64,7 +76,7 @@ public class ConcurrentLruCacheBenchmark {
 		@Setup(Level.Iteration)
 		public void setup() {
 			this.generator = key -> key + "value";
-			this.lruCache = new ConcurrentLruCache<>(this.capacity, this.generator);
+			this.lruCache = new ConcurrentLruCache<>(this.capacity, this.generator, this.frequencyAdmission);
 			Assert.isTrue(this.cacheMissRate < 1, "cache miss rate should be < 1");
 			Random random = new Random();
 			int elementsCount = Math.round(this.capacity * (1 + this.cacheMissRate));
@@ -73,4 +85,41 @@ public class ConcurrentLruCacheBenchmark {
 			this.elements.sort(String::compareTo);
 		}
 	}
+
+	/**
+	 * Workload mixing repeated lookups of a hot key set (half the capacity)
+	 * with a scan of keys that are only requested once, which tends to flush
+	 * the hot keys out of a pure LRU cache.
+	 */
+	@State(Scope.Benchmark)
+	public static class ScanBenchmarkData {
+
+		ConcurrentLruCache<String, String> lruCache;
+
+		@Param({"100"})
+		public int capacity;
+
+		@Param({"4"})
+		public int scanFactor;
+
+		@Param({"false", "true"})
+		public boolean frequencyAdmission;
+
+		public List<String> elements;
+
+		@Setup(Level.Iteration)
+		public void setup() {
+			this.lruCache = new ConcurrentLruCache<>(this.capacity, key -> key + "value", this.frequencyAdmission);
+			Random random = new Random();
+			int hotCount = Math.max(1, this.capacity / 2);
+			int scanCount = this.capacity * this.scanFactor;
+			this.elements = new ArrayList<>(hotCount * 4 + scanCount);
+			for (int i = 0; i < scanCount; i++) {
+				this.elements.add("scan" + random.nextLong());
+				for (int j = 0; j < 4 && i % this.scanFactor == 0; j++) {
+					this.elements.add("hot" + random.nextInt(hotCount));
+				}
+			}
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package org.springframework.core.codec;
 
+import java.io.IOException;
 import java.util.Map;
 
 import reactor.core.publisher.Flux;
@@ -46,6 +47,8 @@ public class ResourceEncoder extends AbstractSingleValueEncoder<Resource> {
 
 	private final int bufferSize;
 
+	private long memoryMappingThreshold = -1;
+
 
 	public ResourceEncoder() {
 		this(DEFAULT_BUFFER_SIZE);
@@ -58,6 +61,27 @@ public class ResourceEncoder extends AbstractSingleValueEncoder<Resource> {
 	}
 
 
+	/**
+	 * Set the minimum size of a file resource to read it by mapping the
+	 * file into memory rather than copying its contents into buffers.
+	 * <p>By default this is set to -1, i.e. files are never mapped.
+	 * @param memoryMappingThreshold the minimum size in bytes, or -1 to disable
+	 * @since 6.2
+	 * @see DataBufferUtils#readMapped(Resource, long, DataBufferFactory, int)
+	 */
+	public void setMemoryMappingThreshold(long memoryMappingThreshold) {
+		this.memoryMappingThreshold = memoryMappingThreshold;
+	}
+
+	/**
+	 * Return the {@link #setMemoryMappingThreshold configured} memory mapping threshold.
+	 * @since 6.2
+	 */
+	public long getMemoryMappingThreshold() {
+		return this.memoryMappingThreshold;
+	}
+
+
 	@Override
 	public boolean canEncode(ResolvableType elementType, @Nullable MimeType mimeType) {
 		Class<?> clazz = elementType.toClass();
@@ -72,7 +96,20 @@ public class ResourceEncoder extends AbstractSingleValueEncoder<Resource> {
 			String logPrefix = Hints.getLogPrefix(hints);
 			logger.debug(logPrefix + "Writing [" + resource + "]");
 		}
+		if (this.memoryMappingThreshold >= 0 && resource.isFile() &&
+				contentLength(resource) >= this.memoryMappingThreshold) {
+			return DataBufferUtils.readMapped(resource, 0, bufferFactory, this.bufferSize);
+		}
 		return DataBufferUtils.read(resource, bufferFactory, this.bufferSize);
 	}
 
+	private static long contentLength(Resource resource) {
+		try {
+			return resource.contentLength();
+		}
+		catch (IOException ex) {
+			return -1;
+		}
+	}
+
 }
@@ -65,6 +65,16 @@ public abstract class AbstractEnvironment implements ConfigurableEnvironment {
 	 */
 	public static final String IGNORE_GETENV_PROPERTY_NAME = "spring.getenv.ignore";
 
+	/**
+	 * System property that instructs Spring to look up {@code Environment} properties
+	 * through an index of the property names exposed by each enumerable property source,
+	 * i.e. to enable {@link #setPropertyIndexEnabled} by default: {@value}.
+	 * <p>The default is "false", querying every property source in turn.
+	 * @since 6.2
+	 * @see #setPropertyIndexEnabled
+	 */
+	public static final String PROPERTY_INDEX_ENABLED_PROPERTY_NAME = "spring.env.propertyIndex.enabled";
+
 	/**
 	 * Name of the property to set to specify active profiles: {@value}.
 	 * <p>The value may be comma delimited.
@@ -135,6 +145,10 @@ public abstract class AbstractEnvironment implements ConfigurableEnvironment {
 	protected AbstractEnvironment(MutablePropertySources propertySources) {
 		this.propertySources = propertySources;
 		this.propertyResolver = createPropertyResolver(propertySources);
+		if (SpringProperties.getFlag(PROPERTY_INDEX_ENABLED_PROPERTY_NAME) &&
+				this.propertyResolver instanceof PropertySourcesPropertyResolver resolver) {
+			resolver.setPropertyIndexEnabled(true);
+		}
 		customizePropertySources(propertySources);
 	}
 
@@ -469,6 +483,37 @@ public abstract class AbstractEnvironment implements ConfigurableEnvironment {
 		return SpringProperties.getFlag(IGNORE_GETENV_PROPERTY_NAME);
 	}
 
+	/**
+	 * Set whether to look up properties through an index of the names exposed by
+	 * each {@link EnumerablePropertySource}, instead of querying every property
+	 * source in turn. Only applies to the default {@link PropertySourcesPropertyResolver}.
+	 * <p>The index is rebuilt whenever a property source is added, removed or
+	 * replaced. Names that get added to an already registered property source,
+	 * for example system properties set at runtime, are not visible until
+	 * {@link #invalidatePropertyIndex()} has been called.
+	 * <p>Default is "false", unless the {@link #PROPERTY_INDEX_ENABLED_PROPERTY_NAME}
+	 * flag has been set.
+	 * @since 6.2
+	 * @see PropertySourcesPropertyResolver#setPropertyIndexEnabled
+	 */
+	public void setPropertyIndexEnabled(boolean propertyIndexEnabled) {
+		if (this.propertyResolver instanceof PropertySourcesPropertyResolver resolver) {
+			resolver.setPropertyIndexEnabled(propertyIndexEnabled);
+		}
+	}
+
+	/**
+	 * Discard the current property index, if any, so that it is rebuilt from
+	 * the property names available at the time of the next lookup.
+	 * @since 6.2
+	 * @see #setPropertyIndexEnabled
+	 */
+	public void invalidatePropertyIndex() {
+		if (this.propertyResolver instanceof PropertySourcesPropertyResolver resolver) {
+			resolver.invalidatePropertyIndex();
+		}
+	}
+
 	@Override
 	public void merge(ConfigurableEnvironment parent) {
 		for (PropertySource<?> ps : parent.getPropertySources()) {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,11 @@
 
 package org.springframework.core.env;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.lang.Nullable;
 
 /**
@@ -34,6 +39,11 @@ public class PropertySourcesPropertyResolver extends AbstractPropertyResolver {
 	@Nullable
 	private final PropertySources propertySources;
 
+	private boolean propertyIndexEnabled = false;
+
+	@Nullable
+	private volatile PropertyIndex propertyIndex;
+
 
 	/**
 	 * Create a new resolver against the given property sources.
@@ -44,10 +54,38 @@ public class PropertySourcesPropertyResolver extends AbstractPropertyResolver {
 	}
 
 
+	/**
+	 * Set whether to look up properties through a snapshot index of the names
+	 * exposed by each {@link EnumerablePropertySource}, instead of querying every
+	 * property source in turn.
+	 * <p>The index is only used for {@link MutablePropertySources} and is rebuilt
+	 * whenever a property source is added, removed or replaced. Property values
+	 * are still obtained from the property sources, but names that are added to
+	 * an already registered enumerable property source are not visible until the
+	 * next rebuild, or until {@link #invalidatePropertyIndex()} has been called.
+	 * <p>Default is "false".
+	 * @since 6.2
+	 */
+	public void setPropertyIndexEnabled(boolean propertyIndexEnabled) {
+		this.propertyIndexEnabled = propertyIndexEnabled;
+		this.propertyIndex = null;
+	}
+
+	/**
+	 * Discard the current property index, if any, so that it is rebuilt from
+	 * the property names available at the time of the next lookup.
+	 * @since 6.2
+	 * @see #setPropertyIndexEnabled
+	 */
+	public void invalidatePropertyIndex() {
+		this.propertyIndex = null;
+	}
+
+
 	@Override
 	public boolean containsProperty(String key) {
 		if (this.propertySources != null) {
-			for (PropertySource<?> propertySource : this.propertySources) {
+			for (PropertySource<?> propertySource : getCandidatePropertySources(key, this.propertySources)) {
 				if (propertySource.containsProperty(key)) {
 					return true;
 				}
@@ -77,7 +115,7 @@ public class PropertySourcesPropertyResolver extends AbstractPropertyResolver {
 	@Nullable
 	protected <T> T getProperty(String key, Class<T> targetValueType, boolean resolveNestedPlaceholders) {
 		if (this.propertySources != null) {
-			for (PropertySource<?> propertySource : this.propertySources) {
+			for (PropertySource<?> propertySource : getCandidatePropertySources(key, this.propertySources)) {
 				if (logger.isTraceEnabled()) {
 					logger.trace("Searching for key '" + key + "' in PropertySource '" +
 							propertySource.getName() + "'");
@@ -98,6 +136,23 @@ public class PropertySourcesPropertyResolver extends AbstractPropertyResolver {
 		return null;
 	}
 
+	/**
+	 * Return the property sources that need to be searched for the given key,
+	 * in order of precedence.
+	 */
+	private Iterable<PropertySource<?>> getCandidatePropertySources(String key, PropertySources propertySources) {
+		if (!this.propertyIndexEnabled || !(propertySources instanceof MutablePropertySources mps)) {
+			return propertySources;
+		}
+		PropertyIndex index = this.propertyIndex;
+		int modificationCount = mps.getModificationCount();
+		if (index == null || index.modificationCount != modificationCount) {
+			index = new PropertyIndex(mps, modificationCount);
+			this.propertyIndex = index;
+		}
+		return index.getCandidates(key);
+	}
+
 	/**
 	 * Log the given key as found in the given {@link PropertySource}, resulting in
 	 * the given value.
@@ -117,4 +172,99 @@ public class PropertySourcesPropertyResolver extends AbstractPropertyResolver {
 		}
 	}
 
+
+	/**
+	 * Snapshot of the property names of all enumerable property sources, mapping
+	 * each name to the position of the first property source that contains it.
+	 */
+	private static final class PropertyIndex {
+
+		final int modificationCount;
+
+		private final List<PropertySource<?>> propertySources;
+
+		private final Map<String, Integer> names = new HashMap<>();
+
+		private final Map<String, Integer> environmentNames = new HashMap<>();
+
+		private final List<PropertySource<?>> unindexedPropertySources = new ArrayList<>();
+
+		PropertyIndex(MutablePropertySources propertySources, int modificationCount) {
+			this.modificationCount = modificationCount;
+			this.propertySources = new ArrayList<>(propertySources.size());
+			for (PropertySource<?> propertySource : propertySources) {
+				int position = this.propertySources.size();
+				this.propertySources.add(propertySource);
+				if (!index(propertySource, position)) {
+					this.unindexedPropertySources.add(propertySource);
+				}
+			}
+		}
+
+		private boolean index(PropertySource<?> propertySource, int position) {
+			if (!(propertySource instanceof EnumerablePropertySource<?> enumerable)) {
+				return false;
+			}
+			String[] propertyNames;
+			try {
+				propertyNames = enumerable.getPropertyNames();
+			}
+			catch (IllegalStateException ex) {
+				// e.g. CompositePropertySource with non-enumerable nested sources
+				return false;
+			}
+			// System environment variables are looked up through relaxed name variants,
+			// so index them by their canonical form rather than by their actual name.
+			Map<String, Integer> target =
+					(propertySource instanceof SystemEnvironmentPropertySource ? this.environmentNames : this.names);
+			for (String propertyName : propertyNames) {
+				target.putIfAbsent(target == this.names ? propertyName : canonicalName(propertyName), position);
+			}
+			return true;
+		}
+
+		/**
+		 * Return the property sources to search for the given key: any non-enumerable
+		 * property sources with higher precedence than the first indexed property source
+		 * containing the key, followed by that property source and - in case of the
+		 * property having been removed in the meantime - all lower precedence ones.
+		 */
+		List<PropertySource<?>> getCandidates(String key) {
+			int position = this.propertySources.size();
+			Integer indexed = this.names.get(key);
+			if (indexed != null) {
+				position = indexed;
+			}
+			if (!this.environmentNames.isEmpty()) {
+				indexed = this.environmentNames.get(canonicalName(key));
+				if (indexed != null && indexed < position) {
+					position = indexed;
+				}
+			}
+			if (position == this.propertySources.size()) {
+				return this.unindexedPropertySources;
+			}
+			if (this.unindexedPropertySources.isEmpty()) {
+				return this.propertySources.subList(position, this.propertySources.size());
+			}
+			List<PropertySource<?>> candidates = new ArrayList<>();
+			for (int i = 0; i < position; i++) {
+				PropertySource<?> propertySource = this.propertySources.get(i);
+				if (this.unindexedPropertySources.contains(propertySource)) {
+					candidates.add(propertySource);
+				}
+			}
+			candidates.addAll(this.propertySources.subList(position, this.propertySources.size()));
+			return candidates;
+		}
+
+		/**
+		 * Return the form that all name variants accepted by
+		 * {@link SystemEnvironmentPropertySource} have in common.
+		 */
+		private static String canonicalName(String name) {
+			return name.replace('.', '_').replace('-', '_').toUpperCase();
+		}
+	}
+
 }
@@ -0,0 +1,527 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+
+import org.springframework.util.Assert;
+
+/**
+ * Read-only {@link DataBuffer} that presents the readable bytes of several
+ * buffers as a single buffer, without copying them.
+ *
+ * <p>The composite buffer takes ownership of its components: they must not be
+ * used directly anymore, and are {@linkplain DataBufferUtils#release released}
+ * once the composite buffer is released. The capacity of a composite buffer is
+ * the sum of the readable bytes of the components at construction time, all of
+ * which are considered written; any operation that would write to the buffer
+ * or grow it throws an {@link UnsupportedOperationException}.
+ *
+ * <p>Typically obtained through
+ * {@link DataBufferUtils#joinComposite(org.reactivestreams.Publisher, int)}
+ * for consumers that read the joined content sequentially, e.g. through
+ * {@link #asInputStream()} or {@link #readableByteBuffers()}.
+ *
+ * @since 6.2
+ * @see DataBufferUtils#joinComposite(org.reactivestreams.Publisher, int)
+ */
+public final class CompositeDataBuffer implements PooledDataBuffer {
+
+	private final DataBufferFactory dataBufferFactory;
+
+	private DataBuffer[] components;
+
+	/*
+	 * Index of the first readable byte of each component, as of construction.
+	 */
+	private int[] componentStarts;
+
+	/*
+	 * Index of each component in this buffer, followed by the capacity.
+	 */
+	private int[] offsets;
+
+	private int readPosition;
+
+	private int writePosition;
+
+	private final AtomicInteger refCount = new AtomicInteger(1);
+
+
+	/**
+	 * Create a new {@code CompositeDataBuffer} for the given buffers.
+	 * @param dataBufferFactory the factory to expose from {@link #factory()}
+	 * @param components the buffers to compose, in order
+	 */
+	public CompositeDataBuffer(DataBufferFactory dataBufferFactory, List<? extends DataBuffer> components) {
+		Assert.notNull(dataBufferFactory, "DataBufferFactory must not be null");
+		Assert.notNull(components, "Components must not be null");
+		this.dataBufferFactory = dataBufferFactory;
+		initComponents(components.toArray(new DataBuffer[0]));
+		this.writePosition = capacity();
+	}
+
+	private void initComponents(DataBuffer[] components) {
+		int[] componentStarts = new int[components.length];
+		int[] offsets = new int[components.length + 1];
+		int offset = 0;
+		for (int i = 0; i < components.length; i++) {
+			componentStarts[i] = components[i].readPosition();
+			offsets[i] = offset;
+			offset = Math.addExact(offset, components[i].readableByteCount());
+		}
+		offsets[components.length] = offset;
+		this.components = components;
+		this.componentStarts = componentStarts;
+		this.offsets = offsets;
+	}
+
+
+	/**
+	 * Return the number of buffers composed by this buffer.
+	 */
+	public int componentCount() {
+		return this.components.length;
+	}
+
+	@Override
+	public DataBufferFactory factory() {
+		return this.dataBufferFactory;
+	}
+
+	@Override
+	public int indexOf(IntPredicate predicate, int fromIndex) {
+		Assert.notNull(predicate, "IntPredicate must not be null");
+		if (fromIndex < 0) {
+			fromIndex = 0;
+		}
+		else if (fromIndex >= this.writePosition) {
+			return -1;
+		}
+		for (int i = componentIndex(fromIndex); i < this.components.length; i++) {
+			int offset = this.offsets[i];
+			if (offset >= this.writePosition) {
+				break;
+			}
+			int start = this.componentStarts[i];
+			int from = start + Math.max(fromIndex - offset, 0);
+			int index = this.components[i].indexOf(predicate, from);
+			if (index != -1) {
+				index = offset + (index - start);
+				return (index < this.writePosition ? index : -1);
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public int lastIndexOf(IntPredicate predicate, int fromIndex) {
+		Assert.notNull(predicate, "IntPredicate must not be null");
+		int i = Math.min(fromIndex, this.writePosition - 1);
+		if (i < 0) {
+			return -1;
+		}
+		for (int k = componentIndex(i); k >= 0; k--) {
+			int offset = this.offsets[k];
+			int start = this.componentStarts[k];
+			int index = this.components[k].lastIndexOf(predicate, start + Math.min(i - offset, length(k) - 1));
+			if (index >= start) {
+				return offset + (index - start);
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public int readableByteCount() {
+		return this.writePosition - this.readPosition;
+	}
+
+	@Override
+	public int writableByteCount() {
+		return 0;
+	}
+
+	@Override
+	public int capacity() {
+		return this.offsets[this.components.length];
+	}
+
+	@Override
+	@Deprecated
+	public DataBuffer capacity(int capacity) {
+		throw readOnly();
+	}
+
+	@Override
+	public DataBuffer ensureWritable(int capacity) {
+		if (capacity > 0) {
+			throw readOnly();
+		}
+		return this;
+	}
+
+	@Override
+	public int readPosition() {
+		return this.readPosition;
+	}
+
+	@Override
+	public CompositeDataBuffer readPosition(int readPosition) {
+		assertIndex(readPosition >= 0, "'readPosition' %d must be >= 0", readPosition);
+		assertIndex(readPosition <= this.writePosition, "'readPosition' %d must be <= %d",
+				readPosition, this.writePosition);
+		this.readPosition = readPosition;
+		return this;
+	}
+
+	@Override
+	public int writePosition() {
+		return this.writePosition;
+	}
+
+	@Override
+	public CompositeDataBuffer writePosition(int writePosition) {
+		assertIndex(writePosition >= this.readPosition, "'writePosition' %d must be >= %d",
+				writePosition, this.readPosition);
+		assertIndex(writePosition <= capacity(), "'writePosition' %d must be <= %d",
+				writePosition, capacity());
+		this.writePosition = writePosition;
+		return this;
+	}
+
+	@Override
+	public byte getByte(int index) {
+		assertIndex(index >= 0, "index %d must be >= 0", index);
+		assertIndex(index <= this.writePosition - 1, "index %d must be <= %d", index, this.writePosition - 1);
+		int i = componentIndex(index);
+		return this.components[i].getByte(this.componentStarts[i] + (index - this.offsets[i]));
+	}
+
+	@Override
+	public byte read() {
+		assertIndex(this.readPosition <= this.writePosition - 1, "readPosition %d must be <= %d",
+				this.readPosition, this.writePosition - 1);
+		byte b = getByte(this.readPosition);
+		this.readPosition++;
+		return b;
+	}
+
+	@Override
+	public CompositeDataBuffer read(byte[] destination) {
+		Assert.notNull(destination, "Byte array must not be null");
+		return read(destination, 0, destination.length);
+	}
+
+	@Override
+	public CompositeDataBuffer read(byte[] destination, int offset, int length) {
+		Assert.notNull(destination, "Byte array must not be null");
+		assertIndex(this.readPosition <= this.writePosition - length,
+				"readPosition %d and length %d should be smaller than writePosition %d",
+				this.readPosition, length, this.writePosition);
+		toByteBuffer(this.readPosition, ByteBuffer.wrap(destination), offset, length);
+		this.readPosition += length;
+		return this;
+	}
+
+	@Override
+	public DataBuffer write(byte b) {
+		throw readOnly();
+	}
+
+	@Override
+	public DataBuffer write(byte[] source) {
+		throw readOnly();
+	}
+
+	@Override
+	public DataBuffer write(byte[] source, int offset, int length) {
+		throw readOnly();
+	}
+
+	@Override
+	public DataBuffer write(DataBuffer... buffers) {
+		throw readOnly();
+	}
+
+	@Override
+	public DataBuffer write(ByteBuffer... buffers) {
+		throw readOnly();
+	}
+
+	@Override
+	public DataBuffer write(CharSequence charSequence, Charset charset) {
+		throw readOnly();
+	}
+
+	@Override
+	@Deprecated
+	public DataBuffer slice(int index, int length) {
+		throw new UnsupportedOperationException("Slicing a composite buffer is not supported");
+	}
+
+	@Override
+	@Deprecated
+	public DataBuffer retainedSlice(int index, int length) {
+		throw new UnsupportedOperationException("Slicing a composite buffer is not supported");
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>The returned buffer takes ownership of the components, or parts
+	 * thereof, before the given index, and is released independently.
+	 */
+	@Override
+	public CompositeDataBuffer split(int index) {
+		assertIndex(index >= 0, "index %d must be >= 0", index);
+		assertIndex(index <= capacity(), "index %d must be <= %d", index, capacity());
+
+		List<DataBuffer> head = new ArrayList<>();
+		List<DataBuffer> tail = new ArrayList<>();
+		for (int i = 0; i < this.components.length; i++) {
+			DataBuffer component = this.components[i];
+			int offset = this.offsets[i];
+			if (offset + length(i) <= index) {
+				head.add(component);
+			}
+			else if (offset >= index) {
+				tail.add(component);
+			}
+			else {
+				head.add(component.split(this.componentStarts[i] + (index - offset)));
+				tail.add(component);
+			}
+		}
+
+		CompositeDataBuffer result = new CompositeDataBuffer(this.dataBufferFactory, head);
+		result.writePosition = Math.min(this.writePosition, index);
+		result.readPosition = Math.min(this.readPosition, index);
+
+		initComponents(tail.toArray(new DataBuffer[0]));
+		this.writePosition = Math.max(this.writePosition, index) - index;
+		this.readPosition = Math.max(this.readPosition, index) - index;
+		return result;
+	}
+
+	@Override
+	@Deprecated
+	public ByteBuffer asByteBuffer() {
+		return asByteBuffer(this.readPosition, readableByteCount());
+	}
+
+	@Override
+	@Deprecated
+	public ByteBuffer asByteBuffer(int index, int length) {
+		throw new UnsupportedOperationException("A composite buffer cannot be exposed as a single ByteBuffer");
+	}
+
+	@Override
+	@Deprecated
+	public ByteBuffer toByteBuffer(int index, int length) {
+		ByteBuffer copy = ByteBuffer.allocate(length);
+		toByteBuffer(index, copy, 0, length);
+		return copy;
+	}
+
+	@Override
+	public void toByteBuffer(int srcPos, ByteBuffer dest, int destPos, int length) {
+		checkIndex(srcPos, length);
+		Assert.notNull(dest, "Dest must not be null");
+		int i = (length > 0 ? componentIndex(srcPos) : this.components.length);
+		while (length > 0) {
+			int local = srcPos - this.offsets[i];
+			int count = Math.min(length, length(i) - local);
+			this.components[i].toByteBuffer(this.componentStarts[i] + local, dest, destPos, count);
+			srcPos += count;
+			destPos += count;
+			length -= count;
+			i++;
+		}
+	}
+
+	@Override
+	public DataBuffer.ByteBufferIterator readableByteBuffers() {
+		return new CompositeByteBufferIterator(this.readPosition, this.writePosition);
+	}
+
+	@Override
+	public DataBuffer.ByteBufferIterator writableByteBuffers() {
+		return new CompositeByteBufferIterator(0, 0);
+	}
+
+	@Override
+	public String toString(int index, int length, Charset charset) {
+		checkIndex(index, length);
+		Assert.notNull(charset, "Charset must not be null");
+		if (length > 0) {
+			int i = componentIndex(index);
+			int local = index - this.offsets[i];
+			if (local + length <= length(i)) {
+				return this.components[i].toString(this.componentStarts[i] + local, length, charset);
+			}
+		}
+		byte[] bytes = new byte[length];
+		toByteBuffer(index, ByteBuffer.wrap(bytes), 0, length);
+		return new String(bytes, charset);
+	}
+
+	@Override
+	public boolean isAllocated() {
+		return (this.refCount.get() > 0);
+	}
+
+	@Override
+	public CompositeDataBuffer retain() {
+		this.refCount.incrementAndGet();
+		return this;
+	}
+
+	@Override
+	public CompositeDataBuffer touch(Object hint) {
+		for (DataBuffer component : this.components) {
+			DataBufferUtils.touch(component, hint);
+		}
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>Releases all components once the reference count reaches zero.
+	 */
+	@Override
+	public boolean release() {
+		int refCount = this.refCount.decrementAndGet();
+		if (refCount > 0) {
+			return false;
+		}
+		else if (refCount < 0) {
+			this.refCount.incrementAndGet();
+			throw new IllegalStateException("Composite buffer has already been released");
+		}
+		for (DataBuffer component : this.components) {
+			DataBufferUtils.release(component);
+		}
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("CompositeDataBuffer (r: %d, w: %d, c: %d, components: %d)",
+				this.readPosition, this.writePosition, capacity(), this.components.length);
+	}
+
+
+	private int componentIndex(int index) {
+		int i = Arrays.binarySearch(this.offsets, 0, this.components.length, index);
+		if (i < 0) {
+			return -(i + 1) - 1;
+		}
+		// Skip empty components starting at the same index
+		while (i < this.components.length - 1 && this.offsets[i + 1] == index) {
+			i++;
+		}
+		return i;
+	}
+
+	private int length(int componentIndex) {
+		return this.offsets[componentIndex + 1] - this.offsets[componentIndex];
+	}
+
+	private void checkIndex(int index, int length) {
+		assertIndex(index >= 0, "index %d must be >= 0", index);
+		assertIndex(length >= 0, "length %d must be >= 0", length);
+		assertIndex(index + length <= capacity(), "index %d and length %d must be <= %d",
+				index, length, capacity());
+	}
+
+	private static void assertIndex(boolean expression, String format, Object... args) {
+		if (!expression) {
+			String message = String.format(format, args);
+			throw new IndexOutOfBoundsException(message);
+		}
+	}
+
+	private static UnsupportedOperationException readOnly() {
+		return new UnsupportedOperationException("Writing to a composite buffer is not supported");
+	}
+
+
+	/**
+	 * Iterator over the {@link ByteBuffer ByteBuffers} of the components
+	 * within a given range, closing the component iterators when closed.
+	 */
+	private final class CompositeByteBufferIterator implements DataBuffer.ByteBufferIterator {
+
+		private final List<ByteBuffer> byteBuffers = new ArrayList<>();
+
+		private final List<DataBuffer.ByteBufferIterator> iterators = new ArrayList<>();
+
+		private int index;
+
+		CompositeByteBufferIterator(int from, int to) {
+			for (int i = (from < to ? componentIndex(from) : components.length); i < components.length; i++) {
+				int offset = offsets[i];
+				if (offset >= to) {
+					break;
+				}
+				// Readable range of component i to include, relative to its first readable byte
+				int skip = Math.max(from - offset, 0);
+				int limit = Math.min(to - offset, length(i));
+				DataBuffer.ByteBufferIterator iterator = components[i].readableByteBuffers();
+				this.iterators.add(iterator);
+				int position = 0;
+				while (iterator.hasNext() && position < limit) {
+					ByteBuffer byteBuffer = iterator.next();
+					int start = Math.max(skip - position, 0);
+					int end = Math.min(limit - position, byteBuffer.remaining());
+					if (start < end) {
+						this.byteBuffers.add(byteBuffer.slice(byteBuffer.position() + start, end - start));
+					}
+					position += byteBuffer.remaining();
+				}
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return (this.index < this.byteBuffers.size());
+		}
+
+		@Override
+		public ByteBuffer next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return this.byteBuffers.get(this.index++);
+		}
+
+		@Override
+		public void close() {
+			for (DataBuffer.ByteBufferIterator iterator : this.iterators) {
+				iterator.close();
+			}
+		}
+	}
+
+}
@@ -21,15 +21,18 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.channels.AsynchronousFileChannel;
 import java.nio.channels.Channel;
 import java.nio.channels.Channels;
 import java.nio.channels.CompletionHandler;
+import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Executor;
@@ -70,6 +73,8 @@ public abstract class DataBufferUtils {
 
 	private static final int DEFAULT_CHUNK_SIZE = 1024;
 
+	private static final int MAPPED_REGION_SIZE = 64 * 1024 * 1024;
+
 
 	//---------------------------------------------------------------------
 	// Reading
@@ -237,6 +242,82 @@ public abstract class DataBufferUtils {
 		return position == 0 ? result : skipUntilByteCount(result, position);
 	}
 
+	/**
+	 * Read the given file {@code Path} into a {@code Flux} of {@code DataBuffer}s
+	 * by mapping it into memory rather than copying its contents.
+	 * @param path the path to read bytes from
+	 * @param bufferFactory the factory to wrap the mapped regions with
+	 * @param bufferSize the maximum size of the data buffers
+	 * @return a Flux of data buffers backed by the mapped file
+	 * @since 6.2
+	 * @see #readMapped(Path, long, DataBufferFactory, int)
+	 */
+	public static Flux<DataBuffer> readMapped(Path path, DataBufferFactory bufferFactory, int bufferSize) {
+		return readMapped(path, 0, bufferFactory, bufferSize);
+	}
+
+	/**
+	 * Read the given file {@code Path} into a {@code Flux} of {@code DataBuffer}s
+	 * starting at the given position, by mapping it into memory rather than
+	 * copying its contents.
+	 * <p>The file is mapped in read-only regions of up to 64 MB, each emitted as
+	 * a sequence of {@linkplain DataBufferFactory#wrap(ByteBuffer) wrapped}
+	 * slices of {@code bufferSize} bytes, which avoids copying data for factories
+	 * that wrap a {@code ByteBuffer} without copying it. This is worthwhile for
+	 * large files only, given the cost of setting up a memory mapping.
+	 * <p>A mapped region remains valid after the file has been closed, and is
+	 * unmapped once all buffers for it have been released and garbage collected.
+	 * The file should not be truncated while buffers for it are in use.
+	 * @param path the path to read bytes from
+	 * @param position the position to start reading from
+	 * @param bufferFactory the factory to wrap the mapped regions with
+	 * @param bufferSize the maximum size of the data buffers
+	 * @return a Flux of data buffers backed by the mapped file
+	 * @since 6.2
+	 * @see FileChannel#map(FileChannel.MapMode, long, long)
+	 */
+	public static Flux<DataBuffer> readMapped(
+			Path path, long position, DataBufferFactory bufferFactory, int bufferSize) {
+
+		Assert.notNull(path, "Path must not be null");
+		Assert.notNull(bufferFactory, "DataBufferFactory must not be null");
+		Assert.isTrue(position >= 0, "'position' must be >= 0");
+		Assert.isTrue(bufferSize > 0, "'bufferSize' must be > 0");
+
+		Flux<DataBuffer> flux = Flux.using(() -> FileChannel.open(path, StandardOpenOption.READ),
+				channel -> Flux.generate(new MappedFileGenerator(channel, position, bufferFactory, bufferSize)),
+				DataBufferUtils::closeChannel);
+
+		return flux.doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+	}
+
+	/**
+	 * Read the given {@code Resource} into a {@code Flux} of {@code DataBuffer}s
+	 * starting at the given position, mapping it into memory if it is a file.
+	 * <p>If the resource is a file, it is read via
+	 * {@link #readMapped(Path, long, DataBufferFactory, int)}, or else
+	 * through {@link #read(Resource, long, DataBufferFactory, int)}.
+	 * @param resource the resource to read from
+	 * @param position the position to start reading from
+	 * @param bufferFactory the factory to create data buffers with
+	 * @param bufferSize the maximum size of the data buffers
+	 * @return a Flux of data buffers read from the given resource
+	 * @since 6.2
+	 */
+	public static Flux<DataBuffer> readMapped(
+			Resource resource, long position, DataBufferFactory bufferFactory, int bufferSize) {
+
+		try {
+			if (resource.isFile()) {
+				return readMapped(resource.getFile().toPath(), position, bufferFactory, bufferSize);
+			}
+		}
+		catch (IOException ignore) {
+			// fallback to read(Resource), below
+		}
+		return read(resource, position, bufferFactory, bufferSize);
+	}
+
 
 	//---------------------------------------------------------------------
 	// Writing
@@ -686,6 +767,37 @@ public abstract class DataBufferUtils {
 				.doOnDiscard(DataBuffer.class, DataBufferUtils::release);
 	}
 
+	/**
+	 * Variant of {@link #join(Publisher, int)} that presents the given data
+	 * buffers as a single read-only {@link CompositeDataBuffer} rather than
+	 * copying them into a new buffer, if there is more than one.
+	 * <p>The composed buffer supports all read operations including
+	 * {@link DataBuffer#asInputStream()} and {@link DataBuffer#readableByteBuffers()},
+	 * but cannot be written to. Use this for consumers that only read the joined
+	 * content, in order to avoid a full copy of it.
+	 * @param buffers the data buffers that are to be composed
+	 * @param maxByteCount the max number of bytes to buffer, or -1 for unlimited
+	 * @return a buffer with the aggregated content, possibly an empty Mono if
+	 * the max number of bytes to buffer is exceeded.
+	 * @throws DataBufferLimitException if maxByteCount is exceeded
+	 * @since 6.2
+	 */
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	public static Mono<DataBuffer> joinComposite(Publisher<? extends DataBuffer> buffers, int maxByteCount) {
+		Assert.notNull(buffers, "'buffers' must not be null");
+
+		if (buffers instanceof Mono mono) {
+			return mono;
+		}
+
+		return Flux.from(buffers)
+				.collect(() -> new LimitedDataBufferList(maxByteCount), LimitedDataBufferList::add)
+				.filter(list -> !list.isEmpty())
+				.map(list -> (list.size() == 1 ? list.get(0) :
+						new CompositeDataBuffer(list.get(0).factory(), list)))
+				.doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+	}
+
 	/**
 	 * Return a {@link Matcher} for the given delimiter.
 	 * The matcher can be used to find the delimiters in a stream of data buffers.
@@ -758,10 +870,17 @@ public abstract class DataBufferUtils {
 
 		private final NestedMatcher[] matchers;
 
+		private final ByteScanner firstByteScanner;
+
 		byte[] longestDelimiter = NO_DELIMITER;
 
 		CompositeMatcher(byte[][] delimiters) {
 			this.matchers = initMatchers(delimiters);
+			byte[] firstBytes = new byte[delimiters.length];
+			for (int i = 0; i < delimiters.length; i++) {
+				firstBytes[i] = delimiters[i][0];
+			}
+			this.firstByteScanner = new ByteScanner(firstBytes);
 		}
 
 		private static NestedMatcher[] initMatchers(byte[][] delimiters) {
@@ -777,6 +896,13 @@ public abstract class DataBufferUtils {
 			this.longestDelimiter = NO_DELIMITER;
 
 			for (int pos = dataBuffer.readPosition(); pos < dataBuffer.writePosition(); pos++) {
+				if (!hasPartialMatch()) {
+					// Skip bytes that cannot start any delimiter
+					pos = this.firstByteScanner.indexOf(dataBuffer, pos);
+					if (pos == -1) {
+						return -1;
+					}
+				}
 				byte b = dataBuffer.getByte(pos);
 
 				for (NestedMatcher matcher : this.matchers) {
@@ -793,6 +919,15 @@ public abstract class DataBufferUtils {
 			return -1;
 		}
 
+		private boolean hasPartialMatch() {
+			for (NestedMatcher matcher : this.matchers) {
+				if (matcher.hasPartialMatch()) {
+					return true;
+				}
+			}
+			return false;
+		}
+
 		@Override
 		public byte[] delimiter() {
 			Assert.state(this.longestDelimiter != NO_DELIMITER, "'delimiter' not set");
@@ -820,6 +955,12 @@ public abstract class DataBufferUtils {
 		 */
 		boolean match(byte b);
 
+		/**
+		 * Whether the bytes passed to {@link #match(byte)} since the last
+		 * full match or reset end with a prefix of the delimiter.
+		 */
+		boolean hasPartialMatch();
+
 	}
 
 
@@ -832,20 +973,17 @@ public abstract class DataBufferUtils {
 
 		private final byte[] delimiter;
 
+		private final ByteScanner scanner;
+
 		SingleByteMatcher(byte[] delimiter) {
 			Assert.isTrue(delimiter.length == 1, "Expected a 1 byte delimiter");
 			this.delimiter = delimiter;
+			this.scanner = new ByteScanner(delimiter);
 		}
 
 		@Override
 		public int match(DataBuffer dataBuffer) {
-			for (int pos = dataBuffer.readPosition(); pos < dataBuffer.writePosition(); pos++) {
-				byte b = dataBuffer.getByte(pos);
-				if (match(b)) {
-					return pos;
-				}
-			}
-			return -1;
+			return this.scanner.indexOf(dataBuffer, dataBuffer.readPosition());
 		}
 
 		@Override
@@ -853,6 +991,11 @@ public abstract class DataBufferUtils {
 			return this.delimiter[0] == b;
 		}
 
+		@Override
+		public boolean hasPartialMatch() {
+			return false;
+		}
+
 		@Override
 		public byte[] delimiter() {
 			return this.delimiter;
@@ -871,11 +1014,14 @@ public abstract class DataBufferUtils {
 
 		private final byte[] delimiter;
 
+		private final ByteScanner firstByteScanner;
+
 		private int matches = 0;
 
 
 		protected AbstractNestedMatcher(byte[] delimiter) {
 			this.delimiter = delimiter;
+			this.firstByteScanner = new ByteScanner(new byte[] {delimiter[0]});
 		}
 
 		protected void setMatches(int index) {
@@ -889,6 +1035,13 @@ public abstract class DataBufferUtils {
 		@Override
 		public int match(DataBuffer dataBuffer) {
 			for (int pos = dataBuffer.readPosition(); pos < dataBuffer.writePosition(); pos++) {
+				if (this.matches == 0) {
+					// Skip bytes that cannot start the delimiter
+					pos = this.firstByteScanner.indexOf(dataBuffer, pos);
+					if (pos == -1) {
+						return -1;
+					}
+				}
 				byte b = dataBuffer.getByte(pos);
 				if (match(b)) {
 					reset();
@@ -898,6 +1051,11 @@ public abstract class DataBufferUtils {
 			return -1;
 		}
 
+		@Override
+		public boolean hasPartialMatch() {
+			return (this.matches > 0);
+		}
+
 		@Override
 		public boolean match(byte b) {
 			if (b == this.delimiter[this.matches]) {
@@ -971,6 +1129,113 @@ public abstract class DataBufferUtils {
 	}
 
 
+	/**
+	 * Finds the next occurrence of any of a few given bytes, comparing 8 bytes
+	 * at a time within a {@code long} word ("SWAR") where enough bytes are
+	 * available, and falling back on a byte-by-byte search otherwise.
+	 */
+	private static final class ByteScanner {
+
+		private static final int MIN_WORD_SCAN_LENGTH = 16;
+
+		private static final long REPEATED_BYTE = 0x0101010101010101L;
+
+		private static final long LOW_BITS = 0x7F7F7F7F7F7F7F7FL;
+
+		private final byte[] targets;
+
+		private final long[] patterns;
+
+		ByteScanner(byte[] targets) {
+			byte[] distinctTargets = new byte[targets.length];
+			int count = 0;
+			for (byte target : targets) {
+				if (!contains(distinctTargets, count, target)) {
+					distinctTargets[count++] = target;
+				}
+			}
+			this.targets = Arrays.copyOf(distinctTargets, count);
+			this.patterns = new long[count];
+			for (int i = 0; i < count; i++) {
+				this.patterns[i] = (this.targets[i] & 0xFFL) * REPEATED_BYTE;
+			}
+		}
+
+		/**
+		 * Return the index of the first target byte in the readable bytes of
+		 * the given buffer at or after the given index, or -1 if none found.
+		 */
+		int indexOf(DataBuffer dataBuffer, int fromIndex) {
+			int readPosition = dataBuffer.readPosition();
+			int writePosition = dataBuffer.writePosition();
+			if (writePosition - fromIndex < MIN_WORD_SCAN_LENGTH) {
+				for (int pos = fromIndex; pos < writePosition; pos++) {
+					if (contains(this.targets, this.targets.length, dataBuffer.getByte(pos))) {
+						return pos;
+					}
+				}
+				return -1;
+			}
+			try (DataBuffer.ByteBufferIterator iterator = dataBuffer.readableByteBuffers()) {
+				int offset = readPosition;
+				while (iterator.hasNext()) {
+					ByteBuffer byteBuffer = iterator.next();
+					int length = byteBuffer.remaining();
+					if (fromIndex < offset + length) {
+						int start = byteBuffer.position() + Math.max(fromIndex - offset, 0);
+						int index = indexOf(byteBuffer, start, byteBuffer.limit());
+						if (index != -1) {
+							return offset + (index - byteBuffer.position());
+						}
+					}
+					offset += length;
+				}
+			}
+			return -1;
+		}
+
+		private int indexOf(ByteBuffer byteBuffer, int from, int to) {
+			boolean bigEndian = (byteBuffer.order() == ByteOrder.BIG_ENDIAN);
+			int pos = from;
+			for (; pos <= to - Long.BYTES; pos += Long.BYTES) {
+				long word = byteBuffer.getLong(pos);
+				long found = 0;
+				for (long pattern : this.patterns) {
+					found |= zeroBytes(word ^ pattern);
+				}
+				if (found != 0) {
+					int zeros = (bigEndian ? Long.numberOfLeadingZeros(found) : Long.numberOfTrailingZeros(found));
+					return pos + (zeros >>> 3);
+				}
+			}
+			for (; pos < to; pos++) {
+				if (contains(this.targets, this.targets.length, byteBuffer.get(pos))) {
+					return pos;
+				}
+			}
+			return -1;
+		}
+
+		/**
+		 * Return a word with the high bit set in exactly those bytes that are 0
+		 * in the given word, without false positives from carries.
+		 */
+		private static long zeroBytes(long word) {
+			long sum = (word & LOW_BITS) + LOW_BITS;
+			return ~(sum | word | LOW_BITS);
+		}
+
+		private static boolean contains(byte[] bytes, int length, byte b) {
+			for (int i = 0; i < length; i++) {
+				if (bytes[i] == b) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+
 	private static class ReadableByteChannelGenerator implements Consumer<SynchronousSink<DataBuffer>> {
 
 		private final ReadableByteChannel channel;
@@ -1017,6 +1282,59 @@ public abstract class DataBufferUtils {
 	}
 
 
+	private static class MappedFileGenerator implements Consumer<SynchronousSink<DataBuffer>> {
+
+		private final FileChannel channel;
+
+		private final DataBufferFactory dataBufferFactory;
+
+		private final int bufferSize;
+
+		private final long regionSize;
+
+		private long position;
+
+		@Nullable
+		private ByteBuffer region;
+
+		public MappedFileGenerator(
+				FileChannel channel, long position, DataBufferFactory dataBufferFactory, int bufferSize) {
+
+			this.channel = channel;
+			this.position = position;
+			this.dataBufferFactory = dataBufferFactory;
+			this.bufferSize = bufferSize;
+			this.regionSize = Math.max(1, MAPPED_REGION_SIZE / bufferSize) * (long) bufferSize;
+		}
+
+		@Override
+		public void accept(SynchronousSink<DataBuffer> sink) {
+			try {
+				ByteBuffer region = this.region;
+				if (region == null || !region.hasRemaining()) {
+					long size = this.channel.size();
+					if (this.position >= size) {
+						this.region = null;
+						sink.complete();
+						return;
+					}
+					long length = Math.min(this.regionSize, size - this.position);
+					region = this.channel.map(FileChannel.MapMode.READ_ONLY, this.position, length);
+					this.region = region;
+				}
+				int length = Math.min(this.bufferSize, region.remaining());
+				ByteBuffer slice = region.slice(region.position(), length);
+				region.position(region.position() + length);
+				this.position += length;
+				sink.next(this.dataBufferFactory.wrap(slice));
+			}
+			catch (IOException ex) {
+				sink.error(ex);
+			}
+		}
+	}
+
+
 	private static class ReadCompletionHandler implements CompletionHandler<Integer, ReadCompletionHandler.Attachment> {
 
 		private final AsynchronousFileChannel channel;
@@ -58,7 +58,7 @@ public class DefaultDataBuffer implements DataBuffer {
 	private int writePosition;
 
 
-	private DefaultDataBuffer(DefaultDataBufferFactory dataBufferFactory, ByteBuffer byteBuffer) {
+	DefaultDataBuffer(DefaultDataBufferFactory dataBufferFactory, ByteBuffer byteBuffer) {
 		Assert.notNull(dataBufferFactory, "DefaultDataBufferFactory must not be null");
 		Assert.notNull(byteBuffer, "ByteBuffer must not be null");
 		this.dataBufferFactory = dataBufferFactory;
@@ -363,7 +363,7 @@ public class DefaultDataBuffer implements DataBuffer {
 			.limit(index)
 			.slice();
 
-		DefaultDataBuffer result = new DefaultDataBuffer(this.dataBufferFactory, split);
+		DefaultDataBuffer result = createSplitBuffer(split);
 		result.writePosition = Math.min(this.writePosition, index);
 		result.readPosition = Math.min(this.readPosition, index);
 
@@ -378,6 +378,14 @@ public class DefaultDataBuffer implements DataBuffer {
 		return result;
 	}
 
+	/**
+	 * Create the buffer to return from {@link #split(int)}, sharing the given
+	 * part of the memory of this buffer.
+	 */
+	DefaultDataBuffer createSplitBuffer(ByteBuffer split) {
+		return new DefaultDataBuffer(this.dataBufferFactory, split);
+	}
+
 	@Override
 	@Deprecated
 	public ByteBuffer asByteBuffer() {
@@ -0,0 +1,488 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Variant of {@link DefaultDataBufferFactory} that recycles the memory of
+ * released buffers, in order to reduce allocation rates and garbage collection
+ * pressure on runtimes that do not provide their own buffer pooling
+ * (i.e. Servlet containers), without requiring Netty on the classpath.
+ *
+ * <p>Buffers returned from {@link #allocateBuffer(int)} implement
+ * {@link PooledDataBuffer} and must be released through
+ * {@link DataBufferUtils#release(DataBuffer)} once consumed. Requested
+ * capacities are rounded up to power-of-two size classes between
+ * {@value #MIN_POOLED_CAPACITY} and {@value #MAX_POOLED_CAPACITY} bytes;
+ * larger buffers are allocated on demand and not recycled. Released memory
+ * goes to a small per-thread cache first and to a shared cache per size class
+ * next, and is dropped if both are full. Buffers created through
+ * {@link #wrap(ByteBuffer)} or {@link #wrap(byte[])} are not pooled.
+ *
+ * <p>Note that a buffer which grows beyond its initial capacity is moved to
+ * unpooled memory, and that {@link DataBuffer#split(int) split} buffers share
+ * the memory of the original buffer which is only recycled once all of them
+ * have been released. Buffers must not be used after they have been released.
+ *
+ * <p>A {@link LeakListener} can be registered in order to get notified about
+ * buffers that got garbage collected without having been released.
+ *
+ * @since 6.2
+ * @see DefaultDataBufferFactory
+ */
+public class PooledDataBufferFactory extends DefaultDataBufferFactory {
+
+	/**
+	 * The capacity of the smallest size class.
+	 */
+	public static final int MIN_POOLED_CAPACITY = 256;
+
+	/**
+	 * The capacity of the largest size class; buffers with a larger initial
+	 * capacity are not pooled.
+	 */
+	public static final int MAX_POOLED_CAPACITY = 64 * 1024;
+
+	/**
+	 * The default number of buffers per size class in a per-thread cache.
+	 * @see #setThreadLocalCacheSize(int)
+	 */
+	public static final int DEFAULT_THREAD_LOCAL_CACHE_SIZE = 16;
+
+	/**
+	 * The default number of buffers per size class in the shared cache.
+	 * @see #setSharedCacheSize(int)
+	 */
+	public static final int DEFAULT_SHARED_CACHE_SIZE = 256;
+
+	private static final int MIN_SIZE_SHIFT = Integer.numberOfTrailingZeros(MIN_POOLED_CAPACITY);
+
+	private static final int SIZE_CLASS_COUNT =
+			Integer.numberOfTrailingZeros(MAX_POOLED_CAPACITY) - MIN_SIZE_SHIFT + 1;
+
+
+	private final SharedCache[] sharedCaches = new SharedCache[SIZE_CLASS_COUNT];
+
+	private final ThreadLocal<ThreadCache> threadCaches = ThreadLocal.withInitial(ThreadCache::new);
+
+	private volatile int threadLocalCacheSize = DEFAULT_THREAD_LOCAL_CACHE_SIZE;
+
+	private volatile int sharedCacheSize = DEFAULT_SHARED_CACHE_SIZE;
+
+	@Nullable
+	private volatile LeakListener leakListener;
+
+
+	/**
+	 * Create a new {@code PooledDataBufferFactory} for heap buffers.
+	 */
+	public PooledDataBufferFactory() {
+		this(false);
+	}
+
+	/**
+	 * Create a new {@code PooledDataBufferFactory}, indicating whether direct
+	 * buffers should be pooled.
+	 * @param preferDirect {@code true} if direct buffers are to be preferred;
+	 * {@code false} otherwise
+	 */
+	public PooledDataBufferFactory(boolean preferDirect) {
+		this(preferDirect, DEFAULT_INITIAL_CAPACITY);
+	}
+
+	/**
+	 * Create a new {@code PooledDataBufferFactory}, indicating whether direct
+	 * buffers should be pooled, and what the capacity is to be used for
+	 * {@link #allocateBuffer()}.
+	 * @param preferDirect {@code true} if direct buffers are to be preferred;
+	 * {@code false} otherwise
+	 */
+	public PooledDataBufferFactory(boolean preferDirect, int defaultInitialCapacity) {
+		super(preferDirect, defaultInitialCapacity);
+		for (int i = 0; i < SIZE_CLASS_COUNT; i++) {
+			this.sharedCaches[i] = new SharedCache();
+		}
+	}
+
+
+	/**
+	 * Set the maximum number of released buffers per size class to keep in a
+	 * cache local to the releasing thread.
+	 * <p>Default is {@value #DEFAULT_THREAD_LOCAL_CACHE_SIZE}. Set this to 0
+	 * when running on virtual threads or on a large number of short-lived
+	 * threads, in order to only use the shared cache.
+	 */
+	public void setThreadLocalCacheSize(int threadLocalCacheSize) {
+		Assert.isTrue(threadLocalCacheSize >= 0, "'threadLocalCacheSize' must be >= 0");
+		this.threadLocalCacheSize = threadLocalCacheSize;
+	}
+
+	/**
+	 * Return the maximum number of buffers per size class in a per-thread cache.
+	 */
+	public int getThreadLocalCacheSize() {
+		return this.threadLocalCacheSize;
+	}
+
+	/**
+	 * Set the maximum number of released buffers per size class to keep in
+	 * the cache shared by all threads.
+	 * <p>Default is {@value #DEFAULT_SHARED_CACHE_SIZE}. Set this to 0 in
+	 * order to only recycle memory within the same thread.
+	 */
+	public void setSharedCacheSize(int sharedCacheSize) {
+		Assert.isTrue(sharedCacheSize >= 0, "'sharedCacheSize' must be >= 0");
+		this.sharedCacheSize = sharedCacheSize;
+	}
+
+	/**
+	 * Return the maximum number of buffers per size class in the shared cache.
+	 */
+	public int getSharedCacheSize() {
+		return this.sharedCacheSize;
+	}
+
+	/**
+	 * Set a listener to notify about buffers that got garbage collected
+	 * without having been released.
+	 * <p>Leak detection tracks every buffer allocated after this method has
+	 * been called, which comes with some overhead. It is disabled by default.
+	 */
+	public void setLeakListener(@Nullable LeakListener leakListener) {
+		this.leakListener = leakListener;
+	}
+
+	/**
+	 * Return the configured {@link LeakListener}, if any.
+	 */
+	@Nullable
+	public LeakListener getLeakListener() {
+		return this.leakListener;
+	}
+
+
+	/**
+	 * {@inheritDoc}
+	 * <p>This implementation returns a {@link PooledDataBuffer} with the
+	 * requested capacity, reusing the memory of a released buffer if possible.
+	 */
+	@Override
+	public DefaultDataBuffer allocateBuffer(int initialCapacity) {
+		Assert.isTrue(initialCapacity >= 0, "'initialCapacity' must be >= 0");
+		int sizeClass = sizeClass(initialCapacity);
+		ByteBuffer byteBuffer = null;
+		if (sizeClass >= 0) {
+			if (this.threadLocalCacheSize > 0) {
+				byteBuffer = this.threadCaches.get().poll(sizeClass);
+			}
+			if (byteBuffer == null) {
+				byteBuffer = this.sharedCaches[sizeClass].poll();
+			}
+		}
+		if (byteBuffer == null) {
+			int capacity = (sizeClass >= 0 ? MIN_POOLED_CAPACITY << sizeClass : initialCapacity);
+			byteBuffer = (isDirect() ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity));
+		}
+		PooledMemory memory = new PooledMemory(byteBuffer, sizeClass);
+		return new PooledDefaultDataBuffer(this, byteBuffer.slice(0, initialCapacity), memory, this.leakListener);
+	}
+
+	private void recycle(ByteBuffer byteBuffer, int sizeClass) {
+		if (sizeClass < 0) {
+			return;
+		}
+		int threadLocalCacheSize = this.threadLocalCacheSize;
+		if (threadLocalCacheSize > 0 && this.threadCaches.get().offer(byteBuffer, sizeClass, threadLocalCacheSize)) {
+			return;
+		}
+		this.sharedCaches[sizeClass].offer(byteBuffer, this.sharedCacheSize);
+	}
+
+	@Override
+	public String toString() {
+		return "PooledDataBufferFactory (preferDirect=" + isDirect() + ")";
+	}
+
+	private static int sizeClass(int capacity) {
+		if (capacity > MAX_POOLED_CAPACITY) {
+			return -1;
+		}
+		if (capacity <= MIN_POOLED_CAPACITY) {
+			return 0;
+		}
+		return (32 - Integer.numberOfLeadingZeros(capacity - 1)) - MIN_SIZE_SHIFT;
+	}
+
+
+	/**
+	 * Callback interface for buffers that got garbage collected without
+	 * having been released.
+	 * @see #setLeakListener(LeakListener)
+	 */
+	@FunctionalInterface
+	public interface LeakListener {
+
+		/**
+		 * Notification that a buffer has been leaked.
+		 * @param capacity the initial capacity of the leaked buffer
+		 * @param hint the last hint passed to {@link PooledDataBuffer#touch(Object)},
+		 * if any
+		 */
+		void leakDetected(int capacity, @Nullable Object hint);
+	}
+
+
+	/**
+	 * Memory shared by a buffer and the buffers split from it,
+	 * recycled once all of them have been released.
+	 */
+	private final class PooledMemory {
+
+		private final ByteBuffer byteBuffer;
+
+		private final int sizeClass;
+
+		private final AtomicInteger holders = new AtomicInteger(1);
+
+		PooledMemory(ByteBuffer byteBuffer, int sizeClass) {
+			this.byteBuffer = byteBuffer;
+			this.sizeClass = sizeClass;
+		}
+
+		PooledMemory retain() {
+			this.holders.incrementAndGet();
+			return this;
+		}
+
+		void release() {
+			if (this.holders.decrementAndGet() == 0) {
+				recycle(this.byteBuffer, this.sizeClass);
+			}
+		}
+	}
+
+
+	/**
+	 * Reference counted {@link DefaultDataBuffer} based on pooled memory.
+	 */
+	private static final class PooledDefaultDataBuffer extends DefaultDataBuffer implements PooledDataBuffer {
+
+		private static final AtomicIntegerFieldUpdater<PooledDefaultDataBuffer> REF_COUNT_UPDATER =
+				AtomicIntegerFieldUpdater.newUpdater(PooledDefaultDataBuffer.class, "refCount");
+
+		private final PooledMemory memory;
+
+		@Nullable
+		private final LeakTracker leakTracker;
+
+		private volatile int refCount = 1;
+
+		PooledDefaultDataBuffer(PooledDataBufferFactory factory, ByteBuffer byteBuffer,
+				PooledMemory memory, @Nullable LeakListener leakListener) {
+
+			super(factory, byteBuffer);
+			this.memory = memory;
+			this.leakTracker = (leakListener != null ?
+					new LeakTracker(this, leakListener, byteBuffer.remaining()) : null);
+		}
+
+		@Override
+		public PooledDataBufferFactory factory() {
+			return (PooledDataBufferFactory) super.factory();
+		}
+
+		@Override
+		DefaultDataBuffer createSplitBuffer(ByteBuffer split) {
+			return new PooledDefaultDataBuffer(factory(), split, this.memory.retain(), factory().leakListener);
+		}
+
+		@Override
+		@Deprecated
+		public DataBuffer retainedSlice(int index, int length) {
+			DefaultDataBuffer slice = new PooledDefaultDataBuffer(
+					factory(), asByteBuffer(index, length), this.memory.retain(), factory().leakListener);
+			return slice.writePosition(length);
+		}
+
+		@Override
+		public boolean isAllocated() {
+			return (this.refCount > 0);
+		}
+
+		@Override
+		public PooledDataBuffer retain() {
+			for (;;) {
+				int refCount = this.refCount;
+				if (refCount <= 0) {
+					throw new IllegalStateException("Buffer has already been released: " + this);
+				}
+				if (REF_COUNT_UPDATER.compareAndSet(this, refCount, refCount + 1)) {
+					return this;
+				}
+			}
+		}
+
+		@Override
+		public PooledDataBuffer touch(Object hint) {
+			if (this.leakTracker != null) {
+				this.leakTracker.hint = hint;
+			}
+			return this;
+		}
+
+		@Override
+		public boolean release() {
+			for (;;) {
+				int refCount = this.refCount;
+				if (refCount <= 0) {
+					throw new IllegalStateException("Buffer has already been released: " + this);
+				}
+				if (REF_COUNT_UPDATER.compareAndSet(this, refCount, refCount - 1)) {
+					if (refCount > 1) {
+						return false;
+					}
+					if (this.leakTracker != null) {
+						this.leakTracker.close();
+					}
+					this.memory.release();
+					return true;
+				}
+			}
+		}
+	}
+
+
+	/**
+	 * Cleaning action that reports a buffer which has not been released
+	 * before becoming unreachable. Must not refer to the buffer itself.
+	 */
+	private static final class LeakTracker implements Runnable {
+
+		private static final Cleaner cleaner = Cleaner.create();
+
+		private final LeakListener leakListener;
+
+		private final int capacity;
+
+		private final Cleaner.Cleanable cleanable;
+
+		@Nullable
+		private volatile Object hint;
+
+		private volatile boolean released;
+
+		LeakTracker(Object buffer, LeakListener leakListener, int capacity) {
+			this.leakListener = leakListener;
+			this.capacity = capacity;
+			this.cleanable = cleaner.register(buffer, this);
+		}
+
+		void close() {
+			this.released = true;
+			this.cleanable.clean();
+		}
+
+		@Override
+		public void run() {
+			if (!this.released) {
+				this.leakListener.leakDetected(this.capacity, this.hint);
+			}
+		}
+	}
+
+
+	/**
+	 * Bounded cache of released buffers of one size class, shared by all threads.
+	 */
+	private static final class SharedCache {
+
+		private final Queue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+
+		private final AtomicInteger size = new AtomicInteger();
+
+		@Nullable
+		ByteBuffer poll() {
+			ByteBuffer byteBuffer = this.buffers.poll();
+			if (byteBuffer != null) {
+				this.size.decrementAndGet();
+			}
+			return byteBuffer;
+		}
+
+		void offer(ByteBuffer byteBuffer, int maxSize) {
+			if (this.size.incrementAndGet() <= maxSize) {
+				this.buffers.offer(byteBuffer);
+			}
+			else {
+				this.size.decrementAndGet();
+			}
+		}
+	}
+
+
+	/**
+	 * Cache of released buffers per size class, confined to a single thread.
+	 */
+	private static final class ThreadCache {
+
+		private final ByteBuffer[][] buffers = new ByteBuffer[SIZE_CLASS_COUNT][];
+
+		private final int[] sizes = new int[SIZE_CLASS_COUNT];
+
+		@Nullable
+		ByteBuffer poll(int sizeClass) {
+			int size = this.sizes[sizeClass];
+			if (size == 0) {
+				return null;
+			}
+			ByteBuffer[] stack = this.buffers[sizeClass];
+			ByteBuffer byteBuffer = stack[--size];
+			stack[size] = null;
+			this.sizes[sizeClass] = size;
+			return byteBuffer;
+		}
+
+		boolean offer(ByteBuffer byteBuffer, int sizeClass, int maxSize) {
+			int size = this.sizes[sizeClass];
+			if (size >= maxSize) {
+				return false;
+			}
+			ByteBuffer[] stack = this.buffers[sizeClass];
+			if (stack == null || stack.length <= size) {
+				ByteBuffer[] newStack = new ByteBuffer[maxSize];
+				if (stack != null) {
+					System.arraycopy(stack, 0, newStack, 0, size);
+				}
+				stack = newStack;
+				this.buffers[sizeClass] = stack;
+			}
+			stack[size] = byteBuffer;
+			this.sizes[sizeClass] = size + 1;
+			return true;
+		}
+	}
+
+}
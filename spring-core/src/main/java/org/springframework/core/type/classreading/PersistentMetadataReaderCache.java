@@ -0,0 +1,457 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Enumeration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.asm.AnnotationVisitor;
+import org.springframework.asm.Attribute;
+import org.springframework.asm.ClassReader;
+import org.springframework.asm.ClassVisitor;
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.FieldVisitor;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.RecordComponentVisitor;
+import org.springframework.asm.SpringAsmInfo;
+import org.springframework.asm.TypePath;
+import org.springframework.core.SpringProperties;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ResourceUtils;
+
+/**
+ * Persistent cache of class file metadata for {@link MetadataReader} instances,
+ * reusable across JVM runs for classes residing in jar files.
+ *
+ * <p>Each jar file is identified by a fingerprint derived from the content of
+ * its entries (entry names, sizes and CRC-32 checksums as recorded in the
+ * central directory), so a changed jar simply leads to a separate cache file
+ * while unchanged jars keep being served from their existing cache files.
+ * A cache file holds a compact class file per entry, stripped down to the
+ * structure that is relevant for {@link AnnotationMetadata} and {@link MethodMetadata}:
+ * class header, runtime-visible annotations, inner class attributes and
+ * method declarations with their runtime-visible annotations. Reading such
+ * a stripped class file avoids decompressing and parsing the original bytecode
+ * while producing exactly the same metadata as a regular ASM-based reader.
+ *
+ * <p>Classes from the file system (for example, in a build output directory)
+ * are not cached since they are expected to change frequently.
+ *
+ * <p>Newly read metadata is written back to disk on {@link #flush()}.
+ * {@link CachingMetadataReaderFactory} does so whenever its cache gets cleared,
+ * which the framework does after configuration class processing.
+ *
+ * @since 6.2
+ * @see CachingMetadataReaderFactory#setPersistentCache
+ * @see #CACHE_DIRECTORY_PROPERTY_NAME
+ */
+public class PersistentMetadataReaderCache {
+
+	/**
+	 * System property that specifies a directory for a shared persistent
+	 * metadata cache, to be picked up by every {@link CachingMetadataReaderFactory}
+	 * by default: {@value}.
+	 * <p>The directory is created on demand if it does not exist yet.
+	 * @see #forDirectory
+	 */
+	public static final String CACHE_DIRECTORY_PROPERTY_NAME = "spring.classreading.cache.dir";
+
+	private static final String CACHE_FILE_SUFFIX = ".metadata";
+
+	private static final int CACHE_FILE_MAGIC = 0x53504D44;
+
+	private static final int CACHE_FILE_VERSION = 1;
+
+	private static final int PARSING_OPTIONS =
+			(ClassReader.SKIP_DEBUG | ClassReader.SKIP_CODE | ClassReader.SKIP_FRAMES);
+
+	private static final Map<Path, PersistentMetadataReaderCache> sharedCaches = new ConcurrentHashMap<>();
+
+	private static final Log logger = LogFactory.getLog(PersistentMetadataReaderCache.class);
+
+
+	private final Path directory;
+
+	/** Cached content per jar file: jar file to fingerprinted entry index. */
+	private final Map<File, JarCache> jarCaches = new ConcurrentHashMap<>();
+
+
+	/**
+	 * Create a new PersistentMetadataReaderCache for the given directory.
+	 * @param directory the directory to keep the cache files in
+	 * (created on demand if it does not exist yet)
+	 * @see #forDirectory
+	 */
+	public PersistentMetadataReaderCache(Path directory) {
+		Assert.notNull(directory, "Directory must not be null");
+		this.directory = directory;
+	}
+
+
+	/**
+	 * Return the directory that this cache keeps its cache files in.
+	 */
+	public final Path getDirectory() {
+		return this.directory;
+	}
+
+	/**
+	 * Obtain a {@link MetadataReader} for the given resource, from the cache
+	 * if possible or otherwise from the original class file (remembering the
+	 * result for subsequent calls as well as for the next {@link #flush()}).
+	 * @param resource the resource (pointing to a ".class" file)
+	 * @param classLoader the ClassLoader to resolve annotation types against
+	 * @return a holder for the ClassReader instance (never {@code null})
+	 * @throws IOException in case of I/O failure
+	 */
+	public MetadataReader getMetadataReader(Resource resource, @Nullable ClassLoader classLoader) throws IOException {
+		JarCache jarCache = null;
+		String entryName = null;
+		URL url = resource.getURL();
+		if (ResourceUtils.isJarURL(url)) {
+			String urlFile = url.getFile();
+			int separatorIndex = urlFile.indexOf(ResourceUtils.JAR_URL_SEPARATOR);
+			URL jarFileUrl = ResourceUtils.extractJarFileURL(url);
+			if (separatorIndex != -1 && ResourceUtils.isFileURL(jarFileUrl)) {
+				entryName = urlFile.substring(separatorIndex + ResourceUtils.JAR_URL_SEPARATOR.length());
+				jarCache = getJarCache(ResourceUtils.getFile(jarFileUrl));
+			}
+		}
+		if (jarCache == null || entryName == null) {
+			return new SimpleMetadataReader(resource, classLoader);
+		}
+
+		byte[] classFile = jarCache.entries.get(entryName);
+		if (classFile == null) {
+			classFile = stripClassFile(resource);
+			jarCache.entries.put(entryName, classFile);
+			jarCache.dirty = true;
+		}
+		return new SimpleMetadataReader(resource, classFile, classLoader);
+	}
+
+	/**
+	 * Write all metadata read since the last flush to the cache directory.
+	 * <p>Failures are logged but not propagated since the cache is just
+	 * an optimization for subsequent runs.
+	 */
+	public void flush() {
+		for (JarCache jarCache : this.jarCaches.values()) {
+			if (jarCache.dirty) {
+				jarCache.dirty = false;
+				try {
+					writeCacheFile(jarCache);
+				}
+				catch (IOException ex) {
+					if (logger.isDebugEnabled()) {
+						logger.debug("Failed to write metadata cache file for jar [" + jarCache.jarFile + "]", ex);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Remove all in-memory state, re-reading cache files on demand.
+	 * The cache files themselves remain untouched.
+	 */
+	public void clear() {
+		this.jarCaches.clear();
+	}
+
+
+	private JarCache getJarCache(File jarFile) throws IOException {
+		JarCache jarCache = this.jarCaches.get(jarFile);
+		if (jarCache == null || !jarCache.isUpToDate()) {
+			jarCache = new JarCache(jarFile);
+			readCacheFile(jarCache);
+			this.jarCaches.put(jarFile, jarCache);
+		}
+		return jarCache;
+	}
+
+	private void readCacheFile(JarCache jarCache) {
+		Path cacheFile = this.directory.resolve(jarCache.fingerprint + CACHE_FILE_SUFFIX);
+		if (!Files.isReadable(cacheFile)) {
+			return;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(cacheFile)))) {
+			if (in.readInt() != CACHE_FILE_MAGIC || in.readInt() != CACHE_FILE_VERSION) {
+				return;
+			}
+			int entryCount = in.readInt();
+			for (int i = 0; i < entryCount; i++) {
+				String entryName = in.readUTF();
+				byte[] classFile = new byte[in.readInt()];
+				in.readFully(classFile);
+				jarCache.entries.put(entryName, classFile);
+			}
+			if (logger.isTraceEnabled()) {
+				logger.trace("Read " + entryCount + " metadata entries for jar [" + jarCache.jarFile +
+						"] from cache file [" + cacheFile + "]");
+			}
+		}
+		catch (IOException ex) {
+			// Corrupt or concurrently written cache file -> start from scratch for this jar.
+			jarCache.entries.clear();
+			if (logger.isDebugEnabled()) {
+				logger.debug("Ignoring unreadable metadata cache file [" + cacheFile + "]", ex);
+			}
+		}
+	}
+
+	private void writeCacheFile(JarCache jarCache) throws IOException {
+		Files.createDirectories(this.directory);
+		Path cacheFile = this.directory.resolve(jarCache.fingerprint + CACHE_FILE_SUFFIX);
+		Path tempFile = Files.createTempFile(this.directory, jarCache.fingerprint, ".tmp");
+		try {
+			Map<String, byte[]> entries = Map.copyOf(jarCache.entries);
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+				out.writeInt(CACHE_FILE_MAGIC);
+				out.writeInt(CACHE_FILE_VERSION);
+				out.writeInt(entries.size());
+				for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+					out.writeUTF(entry.getKey());
+					out.writeInt(entry.getValue().length);
+					out.write(entry.getValue());
+				}
+			}
+			try {
+				Files.move(tempFile, cacheFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			}
+			catch (AtomicMoveNotSupportedException ex) {
+				Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		finally {
+			Files.deleteIfExists(tempFile);
+		}
+	}
+
+	private static byte[] stripClassFile(Resource resource) throws IOException {
+		ClassReader classReader;
+		try (InputStream is = resource.getInputStream()) {
+			classReader = SimpleMetadataReader.getClassReader(is, resource);
+		}
+		ClassWriter classWriter = new ClassWriter(0);
+		classReader.accept(new MetadataRetainingClassVisitor(classWriter), PARSING_OPTIONS);
+		return classWriter.toByteArray();
+	}
+
+
+	/**
+	 * Return a shared PersistentMetadataReaderCache for the given directory.
+	 * @param directory the directory to keep the cache files in
+	 * @return the shared cache instance
+	 */
+	public static PersistentMetadataReaderCache forDirectory(Path directory) {
+		return sharedCaches.computeIfAbsent(directory.toAbsolutePath().normalize(), PersistentMetadataReaderCache::new);
+	}
+
+	/**
+	 * Return the shared PersistentMetadataReaderCache for the directory specified
+	 * through the {@link #CACHE_DIRECTORY_PROPERTY_NAME} property, if any.
+	 * @return the shared cache instance, or {@code null} if none configured
+	 */
+	@Nullable
+	public static PersistentMetadataReaderCache getDefaultCache() {
+		String directory = SpringProperties.getProperty(CACHE_DIRECTORY_PROPERTY_NAME);
+		return (directory != null ? forDirectory(Path.of(directory)) : null);
+	}
+
+	private static String computeFingerprint(File jarFile) throws IOException {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException("SHA-256 not supported on this platform", ex);
+		}
+		byte[] buffer = new byte[Long.BYTES * 2];
+		try (ZipFile zipFile = new ZipFile(jarFile)) {
+			Enumeration<? extends ZipEntry> entries = zipFile.entries();
+			while (entries.hasMoreElements()) {
+				ZipEntry entry = entries.nextElement();
+				digest.update(entry.getName().getBytes(StandardCharsets.UTF_8));
+				long crc = entry.getCrc();
+				long size = entry.getSize();
+				for (int i = 0; i < Long.BYTES; i++) {
+					buffer[i] = (byte) (crc >>> (i * 8));
+					buffer[Long.BYTES + i] = (byte) (size >>> (i * 8));
+				}
+				digest.update(buffer);
+			}
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+
+	/**
+	 * In-memory index of stripped class files for a specific jar file.
+	 */
+	private static final class JarCache {
+
+		final File jarFile;
+
+		final long lastModified;
+
+		final long length;
+
+		final String fingerprint;
+
+		final Map<String, byte[]> entries = new ConcurrentHashMap<>(256);
+
+		volatile boolean dirty;
+
+		JarCache(File jarFile) throws IOException {
+			this.jarFile = jarFile;
+			this.lastModified = jarFile.lastModified();
+			this.length = jarFile.length();
+			this.fingerprint = computeFingerprint(jarFile);
+		}
+
+		boolean isUpToDate() {
+			return (this.jarFile.lastModified() == this.lastModified && this.jarFile.length() == this.length);
+		}
+	}
+
+
+	/**
+	 * {@link ClassVisitor} that retains the class file structure relevant for
+	 * {@link SimpleAnnotationMetadataReadingVisitor} only.
+	 */
+	private static final class MetadataRetainingClassVisitor extends ClassVisitor {
+
+		MetadataRetainingClassVisitor(ClassVisitor classVisitor) {
+			super(SpringAsmInfo.ASM_VERSION, classVisitor);
+		}
+
+		@Override
+		@Nullable
+		public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+			return (visible ? super.visitAnnotation(descriptor, true) : null);
+		}
+
+		@Override
+		@Nullable
+		public AnnotationVisitor visitTypeAnnotation(int typeRef, TypePath typePath, String descriptor, boolean visible) {
+			return null;
+		}
+
+		@Override
+		public void visitAttribute(Attribute attribute) {
+		}
+
+		@Override
+		@Nullable
+		public RecordComponentVisitor visitRecordComponent(String name, String descriptor, String signature) {
+			return null;
+		}
+
+		@Override
+		@Nullable
+		public FieldVisitor visitField(int access, String name, String descriptor, String signature, Object value) {
+			return null;
+		}
+
+		@Override
+		@Nullable
+		public MethodVisitor visitMethod(
+				int access, String name, String descriptor, String signature, String[] exceptions) {
+
+			// Same methods as considered by SimpleAnnotationMetadataReadingVisitor
+			if ((access & Opcodes.ACC_BRIDGE) != 0 || name.equals("<init>")) {
+				return null;
+			}
+			MethodVisitor methodVisitor = super.visitMethod(access, name, descriptor, null, null);
+			return (methodVisitor != null ? new MetadataRetainingMethodVisitor(methodVisitor) : null);
+		}
+	}
+
+
+	/**
+	 * {@link MethodVisitor} that retains runtime-visible method annotations only.
+	 */
+	private static final class MetadataRetainingMethodVisitor extends MethodVisitor {
+
+		MetadataRetainingMethodVisitor(MethodVisitor methodVisitor) {
+			super(SpringAsmInfo.ASM_VERSION, methodVisitor);
+		}
+
+		@Override
+		@Nullable
+		public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+			return (visible ? super.visitAnnotation(descriptor, true) : null);
+		}
+
+		@Override
+		@Nullable
+		public AnnotationVisitor visitAnnotationDefault() {
+			return null;
+		}
+
+		@Override
+		@Nullable
+		public AnnotationVisitor visitTypeAnnotation(int typeRef, TypePath typePath, String descriptor, boolean visible) {
+			return null;
+		}
+
+		@Override
+		@Nullable
+		public AnnotationVisitor visitParameterAnnotation(int parameter, String descriptor, boolean visible) {
+			return null;
+		}
+
+		@Override
+		public void visitAnnotableParameterCount(int parameterCount, boolean visible) {
+		}
+
+		@Override
+		public void visitParameter(String name, int access) {
+		}
+
+		@Override
+		public void visitAttribute(Attribute attribute) {
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -44,23 +44,40 @@ final class SimpleMetadataReader implements MetadataReader {
 
 
 	SimpleMetadataReader(Resource resource, @Nullable ClassLoader classLoader) throws IOException {
+		this(resource, getClassReader(resource), classLoader);
+	}
+
+	/**
+	 * Create a reader for the given pre-read class file content.
+	 * @since 6.2
+	 * @see PersistentMetadataReaderCache
+	 */
+	SimpleMetadataReader(Resource resource, byte[] classFile, @Nullable ClassLoader classLoader) {
+		this(resource, new ClassReader(classFile), classLoader);
+	}
+
+	private SimpleMetadataReader(Resource resource, ClassReader classReader, @Nullable ClassLoader classLoader) {
 		SimpleAnnotationMetadataReadingVisitor visitor = new SimpleAnnotationMetadataReadingVisitor(classLoader);
-		getClassReader(resource).accept(visitor, PARSING_OPTIONS);
+		classReader.accept(visitor, PARSING_OPTIONS);
 		this.resource = resource;
 		this.annotationMetadata = visitor.getMetadata();
 	}
 
 	private static ClassReader getClassReader(Resource resource) throws IOException {
 		try (InputStream is = resource.getInputStream()) {
-			try {
-				return new ClassReader(is);
-			}
-			catch (IllegalArgumentException ex) {
-				throw new ClassFormatException("ASM ClassReader failed to parse class file - " +
-						"probably due to a new Java class file version that is not supported yet. " +
-						"Consider compiling with a lower '-target' or upgrade your framework version. " +
-						"Affected class: " + resource, ex);
-			}
+			return getClassReader(is, resource);
+		}
+	}
+
+	static ClassReader getClassReader(InputStream is, Resource resource) throws IOException {
+		try {
+			return new ClassReader(is);
+		}
+		catch (IllegalArgumentException ex) {
+			throw new ClassFormatException("ASM ClassReader failed to parse class file - " +
+					"probably due to a new Java class file version that is not supported yet. " +
+					"Consider compiling with a lower '-target' or upgrade your framework version. " +
+					"Affected class: " + resource, ex);
 		}
 	}
 
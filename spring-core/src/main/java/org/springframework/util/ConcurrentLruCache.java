@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,8 +24,10 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.springframework.lang.Nullable;
@@ -37,6 +39,15 @@ import org.springframework.lang.Nullable;
  * <a href="https://github.com/ben-manes/concurrentlinkedhashmap">ConcurrentLinkedHashMap</a>.
  * <p>Read and write operations are internally recorded in dedicated buffers,
  * then drained at chosen times to avoid contention.
+ * <p>Optionally, a frequency-based admission policy inspired by W-TinyLFU
+ * (as implemented in <a href="https://github.com/ben-manes/caffeine">Caffeine</a>)
+ * protects frequently used entries from being flushed out by a scan of keys
+ * that are requested only once: new entries enter a small LRU window first and
+ * only replace an entry in the main LRU region if they were requested more
+ * often than the least recently used main entry, according to a compact
+ * frequency sketch which also remembers keys that are not in the cache.
+ * <p>Hits, misses and evictions are recorded in striped counters and exposed
+ * through {@link #statistics()}.
  *
  * @author Brian Clozel
  * @author Ben Manes
@@ -56,6 +67,11 @@ public final class ConcurrentLruCache<K, V> {
 
 	private final Function<K, V> generator;
 
+	@Nullable
+	private final FrequencySketch frequencySketch;
+
+	private final int windowCapacity;
+
 	private final ReadOperations<K, V> readOperations;
 
 	private final WriteOperations writeOperations;
@@ -68,8 +84,26 @@ public final class ConcurrentLruCache<K, V> {
 	 */
 	private final EvictionQueue<K, V> evictionQueue = new EvictionQueue<>();
 
+	/*
+	 * Queue that contains recently added entries in case of frequency-based admission,
+	 * ordered with least recently used entries first. Entries overflowing from this
+	 * window are candidates for admission into the main eviction queue.
+	 */
+	private final EvictionQueue<K, V> windowQueue = new EvictionQueue<>();
+
+	/*
+	 * Number of entries in the window queue, only accessed under the eviction lock.
+	 */
+	private int windowSize;
+
 	private final AtomicReference<DrainStatus> drainStatus = new AtomicReference<>(DrainStatus.IDLE);
 
+	private final LongAdder hitCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
+
+	private final LongAdder evictionCount = new LongAdder();
+
 	/**
 	 * Create a new cache instance with the given capacity and generator function.
 	 * @param capacity the maximum number of entries in the cache
@@ -77,15 +111,41 @@ public final class ConcurrentLruCache<K, V> {
 	 * @param generator a function to generate a new value for a given key
 	 */
 	public ConcurrentLruCache(int capacity, Function<K, V> generator) {
-		this(capacity, generator, 16);
+		this(capacity, generator, false);
+	}
+
+	/**
+	 * Create a new cache instance with the given capacity and generator function,
+	 * optionally applying a frequency-based admission policy.
+	 * @param capacity the maximum number of entries in the cache
+	 * (0 indicates no caching, always generating a new value)
+	 * @param generator a function to generate a new value for a given key
+	 * @param frequencyAdmission whether to only admit new entries into the main
+	 * region of the cache if they are more frequently requested than the
+	 * least recently used entry that they would replace (scan-resistant),
+	 * or to always evict the least recently used entry (pure LRU)
+	 * @since 6.2
+	 */
+	public ConcurrentLruCache(int capacity, Function<K, V> generator, boolean frequencyAdmission) {
+		this(capacity, generator, frequencyAdmission, 16);
 	}
 
-	private ConcurrentLruCache(int capacity, Function<K, V> generator, int concurrencyLevel) {
+	private ConcurrentLruCache(int capacity, Function<K, V> generator, boolean frequencyAdmission,
+			int concurrencyLevel) {
+
 		Assert.isTrue(capacity >= 0, "Capacity must be >= 0");
 		this.capacity = capacity;
 		this.cache = new ConcurrentHashMap<>(16, 0.75f, concurrencyLevel);
 		this.generator = generator;
-		this.readOperations = new ReadOperations<>(this.evictionQueue);
+		if (frequencyAdmission && capacity > 1) {
+			this.frequencySketch = new FrequencySketch(capacity);
+			this.windowCapacity = Math.max(1, capacity / 100);
+		}
+		else {
+			this.frequencySketch = null;
+			this.windowCapacity = 0;
+		}
+		this.readOperations = new ReadOperations<>(this::onAccess);
 		this.writeOperations = new WriteOperations();
 	}
 
@@ -100,10 +160,12 @@ public final class ConcurrentLruCache<K, V> {
 		}
 		final Node<K, V> node = this.cache.get(key);
 		if (node == null) {
+			this.missCount.increment();
 			V value = this.generator.apply(key);
 			put(key, value);
 			return value;
 		}
+		this.hitCount.increment();
 		processRead(node);
 		return node.getValue();
 	}
@@ -136,6 +198,20 @@ public final class ConcurrentLruCache<K, V> {
 		drainOperations();
 	}
 
+	/*
+	 * Apply a buffered read of the given node, only called under the eviction lock.
+	 */
+	private void onAccess(Node<K, V> node) {
+		if (this.frequencySketch != null) {
+			this.frequencySketch.increment(node.key);
+			if (node.inWindow) {
+				this.windowQueue.moveToBack(node);
+				return;
+			}
+		}
+		this.evictionQueue.moveToBack(node);
+	}
+
 	private void drainOperations() {
 		if (this.evictionLock.tryLock()) {
 			try {
@@ -175,6 +251,16 @@ public final class ConcurrentLruCache<K, V> {
 		return this.cache.size();
 	}
 
+	/**
+	 * Return a snapshot of the hit, miss and eviction counts of this cache.
+	 * <p>A miss is recorded for every value generation, including generations
+	 * whose result does not get admitted into the cache.
+	 * @since 6.2
+	 */
+	public Statistics statistics() {
+		return new Statistics(this.hitCount.sum(), this.missCount.sum(), this.evictionCount.sum());
+	}
+
 	/**
 	 * Immediately remove all entries from this cache.
 	 */
@@ -182,6 +268,11 @@ public final class ConcurrentLruCache<K, V> {
 		this.evictionLock.lock();
 		try {
 			Node<K, V> node;
+			while ((node = this.windowQueue.poll()) != null) {
+				this.cache.remove(node.key, node);
+				markAsRemoved(node);
+			}
+			this.windowSize = 0;
 			while ((node = this.evictionQueue.poll()) != null) {
 				this.cache.remove(node.key, node);
 				markAsRemoved(node);
@@ -265,8 +356,17 @@ public final class ConcurrentLruCache<K, V> {
 		public void run() {
 			currentSize.lazySet(currentSize.get() + 1);
 			if (this.node.get().isActive()) {
-				evictionQueue.add(this.node);
-				evictEntries();
+				if (frequencySketch != null) {
+					frequencySketch.increment(this.node.key);
+					this.node.inWindow = true;
+					windowQueue.add(this.node);
+					windowSize++;
+					admitEntries();
+				}
+				else {
+					evictionQueue.add(this.node);
+					evictEntries();
+				}
 			}
 		}
 
@@ -276,11 +376,40 @@ public final class ConcurrentLruCache<K, V> {
 				if (node == null) {
 					return;
 				}
-				cache.remove(node.key, node);
-				markAsRemoved(node);
+				evict(node);
+			}
+		}
+
+		private void admitEntries() {
+			while (windowSize > windowCapacity) {
+				final Node<K, V> candidate = windowQueue.poll();
+				if (candidate == null) {
+					return;
+				}
+				windowSize--;
+				candidate.inWindow = false;
+				if (currentSize.get() > capacity) {
+					// Main region full: admit candidate only if used more often than the LRU victim.
+					final Node<K, V> victim = evictionQueue.first;
+					if (victim != null &&
+							frequencySketch.frequency(candidate.key) <= frequencySketch.frequency(victim.key)) {
+						evict(candidate);
+						continue;
+					}
+					if (victim != null) {
+						evict(evictionQueue.poll());
+					}
+				}
+				evictionQueue.add(candidate);
 			}
 		}
 
+		private void evict(Node<K, V> node) {
+			cache.remove(node.key, node);
+			markAsRemoved(node);
+			evictionCount.increment();
+		}
+
 	}
 
 
@@ -296,7 +425,15 @@ public final class ConcurrentLruCache<K, V> {
 
 		@Override
 		public void run() {
-			evictionQueue.remove(this.node);
+			if (this.node.inWindow) {
+				if (windowQueue.remove(this.node)) {
+					windowSize--;
+				}
+				this.node.inWindow = false;
+			}
+			else {
+				evictionQueue.remove(this.node);
+			}
 			markAsRemoved(this.node);
 		}
 	}
@@ -394,10 +531,10 @@ public final class ConcurrentLruCache<K, V> {
 		@SuppressWarnings("rawtypes")
 		private final AtomicReferenceArray<Node<K, V>>[] buffers = new AtomicReferenceArray[BUFFER_COUNT];
 
-		private final EvictionQueue<K, V> evictionQueue;
+		private final Consumer<Node<K, V>> accessHandler;
 
-		ReadOperations(EvictionQueue<K, V> evictionQueue) {
-			this.evictionQueue = evictionQueue;
+		ReadOperations(Consumer<Node<K, V>> accessHandler) {
+			this.accessHandler = accessHandler;
 			for (int i = 0; i < BUFFER_COUNT; i++) {
 				this.buffers[i] = new AtomicReferenceArray<>(BUFFER_SIZE);
 			}
@@ -446,7 +583,7 @@ public final class ConcurrentLruCache<K, V> {
 					break;
 				}
 				buffer.lazySet(index, null);
-				this.evictionQueue.moveToBack(node);
+				this.accessHandler.accept(node);
 				this.readCount[bufferIndex]++;
 			}
 			this.processedCount.lazySet(bufferIndex, writeCount);
@@ -492,6 +629,12 @@ public final class ConcurrentLruCache<K, V> {
 		@Nullable
 		Node<K, V> next;
 
+		/*
+		 * Whether the node is in the window queue rather than the main eviction queue,
+		 * only accessed under the eviction lock.
+		 */
+		boolean inWindow;
+
 		Node(K key, CacheEntry<V> cacheEntry) {
 			super(cacheEntry);
 			this.key = key;
@@ -601,12 +744,123 @@ public final class ConcurrentLruCache<K, V> {
 			}
 		}
 
-		void remove(Node<K, V> e) {
+		boolean remove(Node<K, V> e) {
 			if (contains(e)) {
 				unlink(e);
+				return true;
+			}
+			return false;
+		}
+
+	}
+
+
+	/**
+	 * Count-Min sketch with 4-bit counters for estimating the access frequency
+	 * of keys, periodically halving all counters in order to age out stale keys.
+	 * Only accessed under the eviction lock.
+	 */
+	private static final class FrequencySketch {
+
+		private static final long[] SEEDS = {
+				0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+
+		private static final long RESET_MASK = 0x7777777777777777L;
+
+		private final long[] table;
+
+		private final int tableMask;
+
+		private final int sampleSize;
+
+		private int additions;
+
+		FrequencySketch(int capacity) {
+			int tableSize = Integer.highestOneBit(Math.max(capacity, 8) - 1) << 1;
+			this.table = new long[tableSize];
+			this.tableMask = tableSize - 1;
+			this.sampleSize = 10 * capacity;
+		}
+
+		int frequency(Object key) {
+			int hash = spread(key.hashCode());
+			int start = (hash & 3) << 2;
+			int frequency = Integer.MAX_VALUE;
+			for (int i = 0; i < 4; i++) {
+				int index = indexOf(hash, i);
+				int count = (int) ((this.table[index] >>> ((start + i) << 2)) & 0xFL);
+				frequency = Math.min(frequency, count);
 			}
+			return frequency;
 		}
 
+		void increment(Object key) {
+			int hash = spread(key.hashCode());
+			int start = (hash & 3) << 2;
+			boolean added = false;
+			for (int i = 0; i < 4; i++) {
+				added |= incrementAt(indexOf(hash, i), start + i);
+			}
+			if (added && ++this.additions == this.sampleSize) {
+				reset();
+			}
+		}
+
+		private boolean incrementAt(int index, int counter) {
+			int offset = counter << 2;
+			long mask = (0xFL << offset);
+			if ((this.table[index] & mask) != mask) {
+				this.table[index] += (1L << offset);
+				return true;
+			}
+			return false;
+		}
+
+		private void reset() {
+			for (int i = 0; i < this.table.length; i++) {
+				this.table[i] = (this.table[i] >>> 1) & RESET_MASK;
+			}
+			this.additions = (this.additions >>> 1);
+		}
+
+		private int indexOf(int hash, int i) {
+			long hashValue = (hash + SEEDS[i]) * SEEDS[i];
+			hashValue += (hashValue >>> 32);
+			return ((int) hashValue) & this.tableMask;
+		}
+
+		private static int spread(int hash) {
+			int spread = hash * 0x31848bab;
+			return spread ^ (spread >>> 14);
+		}
+	}
+
+
+	/**
+	 * Snapshot of the statistics of a {@link ConcurrentLruCache}.
+	 * @param hitCount the number of lookups that found a cached value
+	 * @param missCount the number of lookups that generated a new value
+	 * @param evictionCount the number of entries evicted due to capacity constraints
+	 * (not including explicit removals)
+	 * @since 6.2
+	 */
+	public record Statistics(long hitCount, long missCount, long evictionCount) {
+
+		/**
+		 * Return the total number of lookups.
+		 */
+		public long requestCount() {
+			return this.hitCount + this.missCount;
+		}
+
+		/**
+		 * Return the ratio of lookups that found a cached value,
+		 * or {@code 1.0} if there were no lookups yet.
+		 */
+		public double hitRate() {
+			long requestCount = requestCount();
+			return (requestCount == 0 ? 1.0 : (double) this.hitCount / requestCount);
+		}
 	}
 
 }
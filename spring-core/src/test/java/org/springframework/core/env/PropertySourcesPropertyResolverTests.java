@@ -165,6 +165,88 @@ class PropertySourcesPropertyResolverTests {
 		assertThat(propertySources).hasSize(2);
 	}
 
+	@Test
+	void getProperty_withPropertyIndex() {
+		MutablePropertySources propertySources = new MutablePropertySources();
+		propertySources.addLast(new MockPropertySource("local").withProperty("foo", "localValue"));
+		propertySources.addLast(new MockPropertySource("system")
+				.withProperty("foo", "systemValue")
+				.withProperty("bar", "baz"));
+		PropertySourcesPropertyResolver propertyResolver = new PropertySourcesPropertyResolver(propertySources);
+		propertyResolver.setPropertyIndexEnabled(true);
+
+		assertThat(propertyResolver.getProperty("foo")).isEqualTo("localValue");
+		assertThat(propertyResolver.getProperty("bar")).isEqualTo("baz");
+		assertThat(propertyResolver.getProperty("bogus")).isNull();
+		assertThat(propertyResolver.containsProperty("bar")).isTrue();
+		assertThat(propertyResolver.containsProperty("bogus")).isFalse();
+
+		// index is rebuilt after property source mutations
+		propertySources.addFirst(new MockPropertySource("new").withProperty("bogus", "newValue"));
+		assertThat(propertyResolver.getProperty("bogus")).isEqualTo("newValue");
+		propertySources.remove("local");
+		assertThat(propertyResolver.getProperty("foo")).isEqualTo("systemValue");
+	}
+
+	@Test
+	void getProperty_withPropertyIndex_readsCurrentValues() {
+		HashMap<String, Object> map = new HashMap<>();
+		map.put("foo", "bar");
+		MutablePropertySources propertySources = new MutablePropertySources();
+		propertySources.addLast(new MapPropertySource("first", map));
+		propertySources.addLast(new MockPropertySource("second").withProperty("foo", "second"));
+		PropertySourcesPropertyResolver propertyResolver = new PropertySourcesPropertyResolver(propertySources);
+		propertyResolver.setPropertyIndexEnabled(true);
+		assertThat(propertyResolver.getProperty("foo")).isEqualTo("bar");
+
+		map.put("foo", "biz");
+		assertThat(propertyResolver.getProperty("foo")).isEqualTo("biz");
+		map.remove("foo");
+		assertThat(propertyResolver.getProperty("foo")).isEqualTo("second");
+
+		// names added to an indexed property source require invalidation
+		map.put("new", "42");
+		assertThat(propertyResolver.getProperty("new")).isNull();
+		propertyResolver.invalidatePropertyIndex();
+		assertThat(propertyResolver.getProperty("new")).isEqualTo("42");
+	}
+
+	@Test
+	void getProperty_withPropertyIndex_andNonEnumerablePropertySource() {
+		MutablePropertySources propertySources = new MutablePropertySources();
+		propertySources.addLast(new MockPropertySource("first").withProperty("foo", "first"));
+		propertySources.addLast(new PropertySource<>("nonEnumerable") {
+			@Override
+			public Object getProperty(String name) {
+				return (name.startsWith("dynamic.") ? name.substring(8) : null);
+			}
+		});
+		propertySources.addLast(new MockPropertySource("last").withProperty("dynamic.bar", "last"));
+		PropertySourcesPropertyResolver propertyResolver = new PropertySourcesPropertyResolver(propertySources);
+		propertyResolver.setPropertyIndexEnabled(true);
+
+		assertThat(propertyResolver.getProperty("foo")).isEqualTo("first");
+		assertThat(propertyResolver.getProperty("dynamic.foo")).isEqualTo("foo");
+		assertThat(propertyResolver.getProperty("dynamic.bar")).isEqualTo("bar");
+	}
+
+	@Test
+	void getProperty_withPropertyIndex_andSystemEnvironmentPropertySource() {
+		MutablePropertySources propertySources = new MutablePropertySources();
+		propertySources.addLast(new MockPropertySource("first").withProperty("other", "first"));
+		propertySources.addLast(new SystemEnvironmentPropertySource("env",
+				Map.of("FOO_BAR_BAZ", "env", "Mixed_Case", "mixed")));
+		propertySources.addLast(new MockPropertySource("last").withProperty("foo.bar-baz", "last"));
+		PropertySourcesPropertyResolver propertyResolver = new PropertySourcesPropertyResolver(propertySources);
+		propertyResolver.setPropertyIndexEnabled(true);
+
+		assertThat(propertyResolver.getProperty("foo.bar-baz")).isEqualTo("env");
+		assertThat(propertyResolver.getProperty("foo.bar.baz")).isEqualTo("env");
+		assertThat(propertyResolver.getProperty("FOO_BAR_BAZ")).isEqualTo("env");
+		assertThat(propertyResolver.getProperty("Mixed_Case")).isEqualTo("mixed");
+		assertThat(propertyResolver.getProperty("mixed.case")).isNull();
+	}
+
 	@Test
 	void getRequiredProperty() {
 		testProperties.put("exists", "xyz");
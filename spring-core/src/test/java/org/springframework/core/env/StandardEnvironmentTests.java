@@ -289,6 +289,44 @@ class StandardEnvironmentTests {
 		}
 	}
 
+	@Test
+	void propertyIndex() {
+		StandardEnvironment environment = new StandardEnvironment();
+		MockPropertySource propertySource = new MockPropertySource().withProperty("foo", "bar");
+		environment.getPropertySources().addFirst(propertySource);
+		environment.setPropertyIndexEnabled(true);
+		assertThat(environment.getProperty("foo")).isEqualTo("bar");
+		assertThat(environment.getProperty("baz")).isNull();
+
+		propertySource.setProperty("baz", "qux");
+		assertThat(environment.getProperty("baz")).isNull();
+		environment.invalidatePropertyIndex();
+		assertThat(environment.getProperty("baz")).isEqualTo("qux");
+
+		environment.setPropertyIndexEnabled(false);
+		propertySource.setProperty("quux", "corge");
+		assertThat(environment.getProperty("quux")).isEqualTo("corge");
+	}
+
+	@Test
+	void propertyIndexThroughSpringFlag() {
+		try {
+			SpringProperties.setFlag(AbstractEnvironment.PROPERTY_INDEX_ENABLED_PROPERTY_NAME);
+			StandardEnvironment environment = new StandardEnvironment();
+			MockPropertySource propertySource = new MockPropertySource();
+			environment.getPropertySources().addFirst(propertySource);
+			assertThat(environment.getProperty("foo")).isNull();
+
+			propertySource.setProperty("foo", "bar");
+			assertThat(environment.getProperty("foo")).isNull();
+			environment.invalidatePropertyIndex();
+			assertThat(environment.getProperty("foo")).isEqualTo("bar");
+		}
+		finally {
+			SpringProperties.setProperty(AbstractEnvironment.PROPERTY_INDEX_ENABLED_PROPERTY_NAME, null);
+		}
+	}
+
 	@Test
 	void getSystemProperties() {
 		try {
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link CompositeDataBuffer}.
+ */
+class CompositeDataBufferTests {
+
+	private final PooledDataBufferFactory bufferFactory = new PooledDataBufferFactory();
+
+
+	@Test
+	void readAcrossComponents() {
+		CompositeDataBuffer buffer = composite("foo", "", "bar", "baz");
+		assertThat(buffer.capacity()).isEqualTo(9);
+		assertThat(buffer.readableByteCount()).isEqualTo(9);
+		assertThat(buffer.writableByteCount()).isZero();
+		assertThat((char) buffer.getByte(3)).isEqualTo('b');
+
+		byte[] bytes = new byte[5];
+		buffer.readPosition(2).read(bytes);
+		assertThat(new String(bytes, UTF_8)).isEqualTo("obarb");
+		assertThat((char) buffer.read()).isEqualTo('a');
+		assertThat(buffer.toString(UTF_8)).isEqualTo("z");
+		assertThat(buffer.toString(0, 9, UTF_8)).isEqualTo("foobarbaz");
+		DataBufferUtils.release(buffer);
+	}
+
+	@Test
+	void componentsReadFromReadPosition() {
+		DataBuffer foo = stringBuffer("--foo");
+		foo.readPosition(2);
+		CompositeDataBuffer buffer = new CompositeDataBuffer(this.bufferFactory, List.of(foo, stringBuffer("bar")));
+		assertThat(buffer.toString(UTF_8)).isEqualTo("foobar");
+		assertThat(buffer.indexOf(b -> b == '-', 0)).isEqualTo(-1);
+		assertThat(buffer.lastIndexOf(b -> b == '-', 5)).isEqualTo(-1);
+		DataBufferUtils.release(buffer);
+	}
+
+	@Test
+	void indexOf() {
+		CompositeDataBuffer buffer = composite("foo", "bar", "baz");
+		assertThat(buffer.indexOf(b -> b == 'b', 0)).isEqualTo(3);
+		assertThat(buffer.indexOf(b -> b == 'b', 4)).isEqualTo(6);
+		assertThat(buffer.indexOf(b -> b == 'x', 0)).isEqualTo(-1);
+		assertThat(buffer.lastIndexOf(b -> b == 'b', 8)).isEqualTo(6);
+		assertThat(buffer.lastIndexOf(b -> b == 'o', 8)).isEqualTo(2);
+		buffer.writePosition(6);
+		assertThat(buffer.indexOf(b -> b == 'z', 0)).isEqualTo(-1);
+		DataBufferUtils.release(buffer);
+	}
+
+	@Test
+	void asInputStream() throws Exception {
+		CompositeDataBuffer buffer = composite("foo", "bar", "baz");
+		try (InputStream inputStream = buffer.asInputStream(true)) {
+			assertThat(new String(inputStream.readAllBytes(), UTF_8)).isEqualTo("foobarbaz");
+		}
+		assertThat(buffer.isAllocated()).isFalse();
+	}
+
+	@Test
+	void readableByteBuffers() {
+		CompositeDataBuffer buffer = composite("foo", "bar", "baz");
+		buffer.readPosition(1).writePosition(7);
+		StringBuilder result = new StringBuilder();
+		try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+			while (iterator.hasNext()) {
+				ByteBuffer byteBuffer = iterator.next();
+				byte[] bytes = new byte[byteBuffer.remaining()];
+				byteBuffer.get(bytes);
+				result.append(new String(bytes, UTF_8)).append('|');
+			}
+		}
+		assertThat(result).hasToString("oo|bar|b|");
+		DataBufferUtils.release(buffer);
+	}
+
+	@Test
+	void split() {
+		CompositeDataBuffer buffer = composite("foo", "bar", "baz");
+		buffer.readPosition(1);
+		CompositeDataBuffer head = buffer.split(4);
+		assertThat(head.capacity()).isEqualTo(4);
+		assertThat(head.toString(UTF_8)).isEqualTo("oob");
+		assertThat(buffer.capacity()).isEqualTo(5);
+		assertThat(buffer.readPosition()).isZero();
+		assertThat(buffer.toString(UTF_8)).isEqualTo("arbaz");
+		DataBufferUtils.release(head);
+		DataBufferUtils.release(buffer);
+	}
+
+	@Test
+	void releaseReleasesComponents() {
+		DataBuffer foo = stringBuffer("foo");
+		DataBuffer bar = stringBuffer("bar");
+		CompositeDataBuffer buffer = new CompositeDataBuffer(this.bufferFactory, List.of(foo, bar));
+		buffer.retain();
+		assertThat(buffer.release()).isFalse();
+		assertThat(((PooledDataBuffer) foo).isAllocated()).isTrue();
+		assertThat(buffer.release()).isTrue();
+		assertThat(((PooledDataBuffer) foo).isAllocated()).isFalse();
+		assertThat(((PooledDataBuffer) bar).isAllocated()).isFalse();
+	}
+
+	@Test
+	void writeNotSupported() {
+		CompositeDataBuffer buffer = composite("foo", "bar");
+		assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> buffer.write((byte) 'x'));
+		assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> buffer.ensureWritable(1));
+		DataBufferUtils.release(buffer);
+	}
+
+
+	private CompositeDataBuffer composite(String... values) {
+		return new CompositeDataBuffer(this.bufferFactory,
+				Arrays.stream(values).map(this::stringBuffer).toList());
+	}
+
+	private DataBuffer stringBuffer(String value) {
+		return this.bufferFactory.allocateBuffer(value.length()).write(value, UTF_8);
+	}
+
+}
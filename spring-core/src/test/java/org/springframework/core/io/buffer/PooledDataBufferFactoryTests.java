@@ -0,0 +1,139 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PooledDataBufferFactory}.
+ */
+class PooledDataBufferFactoryTests {
+
+	private final PooledDataBufferFactory factory = new PooledDataBufferFactory();
+
+
+	@Test
+	void allocateBufferWithRequestedCapacity() {
+		DefaultDataBuffer buffer = this.factory.allocateBuffer(100);
+		assertThat(buffer).isInstanceOf(PooledDataBuffer.class);
+		assertThat(buffer.capacity()).isEqualTo(100);
+		assertThat(buffer.getNativeBuffer().capacity()).isEqualTo(PooledDataBufferFactory.MIN_POOLED_CAPACITY);
+		DataBufferUtils.release(buffer);
+	}
+
+	@Test
+	void memoryRecycledWithinSizeClass() {
+		DefaultDataBuffer buffer = this.factory.allocateBuffer(300);
+		byte[] memory = buffer.getNativeBuffer().array();
+		buffer.write("foo", UTF_8);
+		assertThat(DataBufferUtils.release(buffer)).isTrue();
+
+		DefaultDataBuffer other = this.factory.allocateBuffer(500);
+		assertThat(other.getNativeBuffer().array()).isSameAs(memory);
+		assertThat(other.capacity()).isEqualTo(500);
+		assertThat(other.readableByteCount()).isZero();
+		DataBufferUtils.release(other);
+
+		DefaultDataBuffer smaller = this.factory.allocateBuffer(200);
+		assertThat(smaller.getNativeBuffer().array()).isNotSameAs(memory);
+		DataBufferUtils.release(smaller);
+	}
+
+	@Test
+	void memoryRecycledAcrossThreads() throws Exception {
+		this.factory.setThreadLocalCacheSize(0);
+		DefaultDataBuffer buffer = this.factory.allocateBuffer(100);
+		byte[] memory = buffer.getNativeBuffer().array();
+		Thread thread = new Thread(() -> DataBufferUtils.release(buffer));
+		thread.start();
+		thread.join();
+
+		DefaultDataBuffer other = this.factory.allocateBuffer(100);
+		assertThat(other.getNativeBuffer().array()).isSameAs(memory);
+		DataBufferUtils.release(other);
+	}
+
+	@Test
+	void memoryNotRecycledWhileRetained() {
+		DefaultDataBuffer buffer = this.factory.allocateBuffer(100);
+		byte[] memory = buffer.getNativeBuffer().array();
+		DataBufferUtils.retain(buffer);
+		assertThat(DataBufferUtils.release(buffer)).isFalse();
+		assertThat(this.factory.allocateBuffer(100).getNativeBuffer().array()).isNotSameAs(memory);
+		assertThat(DataBufferUtils.release(buffer)).isTrue();
+		assertThat(this.factory.allocateBuffer(100).getNativeBuffer().array()).isSameAs(memory);
+	}
+
+	@Test
+	void memoryNotRecycledWhileSplitBufferInUse() {
+		DefaultDataBuffer buffer = this.factory.allocateBuffer(100);
+		byte[] memory = buffer.getNativeBuffer().array();
+		buffer.write("foobar", UTF_8);
+		DataBuffer split = buffer.split(3);
+		assertThat(split).isInstanceOf(PooledDataBuffer.class);
+		assertThat(DataBufferUtils.release(buffer)).isTrue();
+		assertThat(this.factory.allocateBuffer(100).getNativeBuffer().array()).isNotSameAs(memory);
+
+		assertThat(split.toString(UTF_8)).isEqualTo("foo");
+		assertThat(DataBufferUtils.release(split)).isTrue();
+		assertThat(this.factory.allocateBuffer(100).getNativeBuffer().array()).isSameAs(memory);
+	}
+
+	@Test
+	void largeBufferNotPooled() {
+		int capacity = PooledDataBufferFactory.MAX_POOLED_CAPACITY + 1;
+		DefaultDataBuffer buffer = this.factory.allocateBuffer(capacity);
+		byte[] memory = buffer.getNativeBuffer().array();
+		assertThat(buffer.capacity()).isEqualTo(capacity);
+		DataBufferUtils.release(buffer);
+		assertThat(this.factory.allocateBuffer(capacity).getNativeBuffer().array()).isNotSameAs(memory);
+	}
+
+	@Test
+	void wrappedBufferNotPooled() {
+		DataBuffer buffer = this.factory.wrap("foo".getBytes(UTF_8));
+		assertThat(buffer).isNotInstanceOf(PooledDataBuffer.class);
+		assertThat(buffer.factory()).isSameAs(this.factory);
+	}
+
+	@Test
+	void joinReleasesBuffers() {
+		DataBuffer foo = this.factory.allocateBuffer(3).write("foo", UTF_8);
+		DataBuffer bar = this.factory.allocateBuffer(3).write("bar", UTF_8);
+		DataBuffer result = this.factory.join(List.of(foo, bar));
+		assertThat(result.toString(UTF_8)).isEqualTo("foobar");
+		assertThat(((PooledDataBuffer) foo).isAllocated()).isFalse();
+		assertThat(((PooledDataBuffer) bar).isAllocated()).isFalse();
+		DataBufferUtils.release(result);
+	}
+
+	@Test
+	void directBuffers() {
+		PooledDataBufferFactory factory = new PooledDataBufferFactory(true);
+		DefaultDataBuffer buffer = factory.allocateBuffer(100);
+		assertThat(buffer.getNativeBuffer().isDirect()).isTrue();
+		buffer.write("foo", UTF_8);
+		assertThat(buffer.toString(UTF_8)).isEqualTo("foo");
+		DataBufferUtils.release(buffer);
+	}
+
+}
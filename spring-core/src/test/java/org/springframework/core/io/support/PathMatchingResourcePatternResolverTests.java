@@ -25,6 +25,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Nested;
@@ -279,6 +280,29 @@ class PathMatchingResourcePatternResolverTests {
 	}
 
 
+	@Nested
+	class ParallelTraversal {
+
+		@Test
+		void classpathStarWithPatternInMultipleRoots() throws IOException {
+			assertSameResourcesAsSequentialTraversal("classpath*:org/springframework/core/io/**/*.class");
+		}
+
+		@Test
+		void classpathStarWithPatternInMultipleJars() throws IOException {
+			assertSameResourcesAsSequentialTraversal("classpath*:META-INF/*.MF");
+		}
+
+		private void assertSameResourcesAsSequentialTraversal(String pattern) throws IOException {
+			Resource[] expected = new PathMatchingResourcePatternResolver().getResources(pattern);
+			resolver.setTraversalPool(ForkJoinPool.commonPool());
+			assertThat(resolver.getResources(pattern)).isNotEmpty().containsExactly(expected);
+			// Once more against cached root directories and jar entries
+			assertThat(resolver.getResources(pattern)).containsExactly(expected);
+		}
+	}
+
+
 	private void assertFilenames(String pattern, String... filenames) {
 		assertFilenames(pattern, false, filenames);
 	}
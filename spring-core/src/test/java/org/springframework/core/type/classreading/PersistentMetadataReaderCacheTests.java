@@ -0,0 +1,123 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.UrlResource;
+import org.springframework.core.type.AbstractAnnotationMetadataTests;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.util.ClassUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PersistentMetadataReaderCache}, verifying that metadata
+ * read back from a cache file matches the metadata of the original class.
+ */
+class PersistentMetadataReaderCacheTests extends AbstractAnnotationMetadataTests {
+
+	@TempDir
+	static Path tempDir;
+
+
+	@Override
+	protected AnnotationMetadata get(Class<?> source) {
+		try {
+			Resource resource = createJarEntryResource(source);
+			Path cacheDir = tempDir.resolve("cache");
+			PersistentMetadataReaderCache cache = new PersistentMetadataReaderCache(cacheDir);
+			cache.getMetadataReader(resource, source.getClassLoader());
+			cache.flush();
+			return new PersistentMetadataReaderCache(cacheDir)
+					.getMetadataReader(resource, source.getClassLoader()).getAnnotationMetadata();
+		}
+		catch (Exception ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	@Test
+	void cacheFilePerJar() throws Exception {
+		Path cacheDir = tempDir.resolve("perJar");
+		PersistentMetadataReaderCache cache = new PersistentMetadataReaderCache(cacheDir);
+		cache.getMetadataReader(createJarEntryResource(TestClass.class), null);
+		cache.getMetadataReader(createJarEntryResource(TestInterface.class), null);
+		cache.flush();
+		try (var files = Files.list(cacheDir)) {
+			assertThat(files).hasSize(2).allMatch(file -> file.toString().endsWith(".metadata"));
+		}
+	}
+
+	@Test
+	void cacheFileReusedForUnchangedJar() throws Exception {
+		Path cacheDir = tempDir.resolve("reused");
+		Resource resource = createJarEntryResource(TestClass.class);
+		PersistentMetadataReaderCache cache = new PersistentMetadataReaderCache(cacheDir);
+		cache.getMetadataReader(resource, null);
+		cache.flush();
+		Path cacheFile;
+		try (var files = Files.list(cacheDir)) {
+			cacheFile = files.findFirst().orElseThrow();
+		}
+		long size = Files.size(cacheFile);
+
+		// Re-created jar with same content -> same fingerprint
+		resource = createJarEntryResource(TestClass.class);
+		PersistentMetadataReaderCache newCache = new PersistentMetadataReaderCache(cacheDir);
+		AnnotationMetadata metadata = newCache.getMetadataReader(resource, null).getAnnotationMetadata();
+		newCache.flush();
+		assertThat(metadata.getClassName()).isEqualTo(TestClass.class.getName());
+		try (var files = Files.list(cacheDir)) {
+			assertThat(files).containsExactly(cacheFile);
+		}
+		assertThat(Files.size(cacheFile)).isEqualTo(size);
+	}
+
+	@Test
+	void fileSystemResourceNotCached() throws Exception {
+		Path cacheDir = tempDir.resolve("fileSystem");
+		PersistentMetadataReaderCache cache = new PersistentMetadataReaderCache(cacheDir);
+		Resource resource = new SimpleMetadataReaderFactory().getResourceLoader().getResource(
+				"classpath:" + ClassUtils.convertClassNameToResourcePath(TestClass.class.getName()) + ".class");
+		assertThat(cache.getMetadataReader(resource, null).getAnnotationMetadata().getClassName())
+				.isEqualTo(TestClass.class.getName());
+		cache.flush();
+		assertThat(cacheDir).doesNotExist();
+	}
+
+
+	private static Resource createJarEntryResource(Class<?> source) throws Exception {
+		String entryName = ClassUtils.convertClassNameToResourcePath(source.getName()) + ".class";
+		Path jarFile = tempDir.resolve(source.getName() + ".jar");
+		try (InputStream in = source.getClassLoader().getResourceAsStream(entryName);
+				JarOutputStream out = new JarOutputStream(Files.newOutputStream(jarFile))) {
+			out.putNextEntry(new JarEntry(entryName));
+			in.transferTo(out);
+		}
+		return new UrlResource("jar:" + jarFile.toUri() + "!/" + entryName);
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -108,4 +108,56 @@ class ConcurrentLruCacheTests {
 		assertThat(this.cache.contains("k3")).isTrue();
 	}
 
+	@Test
+	void statistics() {
+		assertThat(this.cache.statistics().hitRate()).isEqualTo(1.0);
+		this.cache.get("k1");
+		this.cache.get("k1");
+		this.cache.get("k2");
+		this.cache.get("k3");
+		ConcurrentLruCache.Statistics statistics = this.cache.statistics();
+		assertThat(statistics.hitCount()).isEqualTo(1);
+		assertThat(statistics.missCount()).isEqualTo(3);
+		assertThat(statistics.requestCount()).isEqualTo(4);
+		assertThat(statistics.evictionCount()).isEqualTo(1);
+		assertThat(statistics.hitRate()).isEqualTo(0.25);
+	}
+
+	@Test
+	void frequencyAdmissionAndSize() {
+		ConcurrentLruCache<String, String> cache = new ConcurrentLruCache<>(10, key -> key + "value", true);
+		for (int i = 0; i < 100; i++) {
+			assertThat(cache.get("k" + i)).isEqualTo("k" + i + "value");
+			assertThat(cache.size()).isLessThanOrEqualTo(10);
+		}
+		assertThat(cache.size()).isEqualTo(10);
+		assertThat(cache.statistics().evictionCount()).isEqualTo(90);
+		cache.remove("k99");
+		assertThat(cache.contains("k99")).isFalse();
+		cache.clear();
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	void frequencyAdmissionIsScanResistant() {
+		ConcurrentLruCache<String, String> cache = new ConcurrentLruCache<>(100, key -> key + "value", true);
+		for (int round = 0; round < 5; round++) {
+			for (int i = 0; i < 50; i++) {
+				cache.get("hot" + i);
+			}
+		}
+		for (int i = 0; i < 1000; i++) {
+			cache.get("scan" + i);
+		}
+		// a pure LRU cache would retain none of the hot keys at this point
+		int retained = 0;
+		for (int i = 0; i < 50; i++) {
+			if (cache.contains("hot" + i)) {
+				retained++;
+			}
+		}
+		assertThat(retained).isGreaterThanOrEqualTo(45);
+		assertThat(cache.size()).isEqualTo(100);
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,12 +17,16 @@
 package org.springframework.expression.spel;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 
 import org.springframework.expression.EvaluationContext;
@@ -82,6 +86,29 @@ public class SpelBenchmark {
 		return data.methodExpression.getValue(data.eContext);
 	}
 
+	@State(Scope.Benchmark)
+	public static class MethodArgumentsBenchmarkData extends BenchmarkData {
+
+		public Expression methodWithArguments;
+
+		public Expression methodWithArgumentConversion;
+
+		public MethodArgumentsBenchmarkData() {
+			this.methodWithArguments = this.parser.parseExpression("joinThreeStrings('a', name, placeOfBirth.city)");
+			this.methodWithArgumentConversion = this.parser.parseExpression("printDouble(42)");
+		}
+	}
+
+	@Benchmark
+	public Object cachingMethodWithArgumentsExecution(MethodArgumentsBenchmarkData data) {
+		return data.methodWithArguments.getValue(data.eContext);
+	}
+
+	@Benchmark
+	public Object cachingMethodWithArgumentConversionExecution(MethodArgumentsBenchmarkData data) {
+		return data.methodWithArgumentConversion.getValue(data.eContext);
+	}
+
 	@State(Scope.Benchmark)
 	public static class ValueBenchmarkData {
 
@@ -103,4 +130,88 @@ public class SpelBenchmark {
 		return data.expression.getValue(data.context);
 	}
 
+	@State(Scope.Benchmark)
+	public static class CompilerBenchmarkData {
+
+		@Param({"OFF", "IMMEDIATE"})
+		public SpelCompilerMode compilerMode;
+
+		public EvaluationContext context;
+
+		public Expression selection;
+
+		public Expression projection;
+
+		public Expression matches;
+
+		public Expression between;
+
+		public Expression power;
+
+		public Expression inlineMap;
+
+		public Expression beanReference;
+
+		public Expression assign;
+
+		@Setup
+		public void setup() {
+			List<Integer> numbers = IntStream.rangeClosed(1, 100).boxed().toList();
+			StandardEvaluationContext context = new StandardEvaluationContext(numbers);
+			context.setVariable("code", "order-42");
+			context.setBeanResolver((evaluationContext, beanName) -> numbers);
+			this.context = context;
+			ExpressionParser parser = new SpelExpressionParser(
+					new SpelParserConfiguration(this.compilerMode, getClass().getClassLoader()));
+			this.selection = parser.parseExpression("?[#this % 2 == 0]");
+			this.projection = parser.parseExpression("![#this * 2]");
+			this.matches = parser.parseExpression("#code matches '[a-z]+-\\d+'");
+			this.between = parser.parseExpression("size() between {1, 1000}");
+			this.power = parser.parseExpression("size() ^ 2");
+			this.inlineMap = parser.parseExpression("{size: size(), first: #root[0]}");
+			this.beanReference = parser.parseExpression("@numbers.size()");
+			this.assign = parser.parseExpression("#last = size()");
+		}
+	}
+
+	@Benchmark
+	public Object selection(CompilerBenchmarkData data) {
+		return data.selection.getValue(data.context);
+	}
+
+	@Benchmark
+	public Object projection(CompilerBenchmarkData data) {
+		return data.projection.getValue(data.context);
+	}
+
+	@Benchmark
+	public Object matches(CompilerBenchmarkData data) {
+		return data.matches.getValue(data.context);
+	}
+
+	@Benchmark
+	public Object between(CompilerBenchmarkData data) {
+		return data.between.getValue(data.context);
+	}
+
+	@Benchmark
+	public Object power(CompilerBenchmarkData data) {
+		return data.power.getValue(data.context);
+	}
+
+	@Benchmark
+	public Object inlineMap(CompilerBenchmarkData data) {
+		return data.inlineMap.getValue(data.context);
+	}
+
+	@Benchmark
+	public Object beanReference(CompilerBenchmarkData data) {
+		return data.beanReference.getValue(data.context);
+	}
+
+	@Benchmark
+	public Object assign(CompilerBenchmarkData data) {
+		return data.assign.getValue(data.context);
+	}
+
 }
@@ -101,9 +101,17 @@ public class CodeFlow implements Opcodes {
 
 	/**
 	 * When code generation requires an intermediate variable within a method,
-	 * this method records the next available variable (variable 0 is 'this').
+	 * this method records the next available variable (variable 0 is 'this',
+	 * variables 1 and 2 are the target and the evaluation context).
 	 */
-	private int nextFreeVariableId = 1;
+	private int nextFreeVariableId = 3;
+
+	/**
+	 * The local variables holding the current target for nested expressions
+	 * that are evaluated against another object than the root object, for
+	 * example the current element of a collection selection or projection.
+	 */
+	private final Deque<Integer> targetVariables = new ArrayDeque<>();
 
 
 	/**
@@ -125,9 +133,52 @@ public class CodeFlow implements Opcodes {
 	 * @param mv the method visitor into which the load instruction should be inserted
 	 */
 	public void loadTarget(MethodVisitor mv) {
+		Integer targetVariable = this.targetVariables.peek();
+		mv.visitVarInsn(ALOAD, (targetVariable != null ? targetVariable : 1));
+	}
+
+	/**
+	 * Push the bytecode to load the root object (i.e. what was passed as the first
+	 * argument to CompiledExpression.getValue(target, context)), even within a
+	 * target scope.
+	 * @param mv the method visitor into which the load instruction should be inserted
+	 * @since 6.2
+	 * @see #enterTargetScope(int)
+	 */
+	public void loadRootObject(MethodVisitor mv) {
 		mv.visitVarInsn(ALOAD, 1);
 	}
 
+	/**
+	 * Enter a target scope, in which {@link #loadTarget(MethodVisitor)} loads the
+	 * given local variable instead of the root object. For example, the criteria of
+	 * a collection selection are evaluated against the current element.
+	 * @param variable the local variable holding the target
+	 * @since 6.2
+	 * @see #nextFreeVariableId()
+	 */
+	public void enterTargetScope(int variable) {
+		this.targetVariables.push(variable);
+	}
+
+	/**
+	 * Enter a target scope, in which {@link #loadTarget(MethodVisitor)} loads the
+	 * root object again. For example, the key of an indexer is always evaluated
+	 * against the root object.
+	 * @since 6.2
+	 */
+	public void enterRootTargetScope() {
+		this.targetVariables.push(1);
+	}
+
+	/**
+	 * Exit a target scope, returning to the target of the previous (outer) scope.
+	 * @since 6.2
+	 */
+	public void exitTargetScope() {
+		this.targetVariables.pop();
+	}
+
 	/**
 	 * Push the bytecode to load the EvaluationContext (the second parameter passed to
 	 * the compiled expression method).
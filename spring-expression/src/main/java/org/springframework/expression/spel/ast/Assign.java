@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,9 +16,13 @@
 
 package org.springframework.expression.spel.ast;
 
+import org.springframework.asm.MethodVisitor;
+import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.EvaluationException;
 import org.springframework.expression.TypedValue;
+import org.springframework.expression.spel.CodeFlow;
 import org.springframework.expression.spel.ExpressionState;
+import org.springframework.lang.Nullable;
 
 /**
  * Represents assignment. An alternative to calling {@code setValue}
@@ -39,7 +43,10 @@ public class Assign extends SpelNodeImpl {
 
 	@Override
 	public TypedValue getValueInternal(ExpressionState state) throws EvaluationException {
-		return this.children[0].setValueInternal(state, () -> this.children[1].getValueInternal(state));
+		TypedValue result = this.children[0].setValueInternal(state, () -> this.children[1].getValueInternal(state));
+		String valueDesc = this.children[1].exitTypeDescriptor;
+		this.exitTypeDescriptor = (CodeFlow.isPrimitive(valueDesc) ? CodeFlow.toBoxedDescriptor(valueDesc) : valueDesc);
+		return result;
 	}
 
 	@Override
@@ -47,4 +54,51 @@ public class Assign extends SpelNodeImpl {
 		return getChild(0).toStringAST() + "=" + getChild(1).toStringAST();
 	}
 
+	/**
+	 * An assignment is compilable if it assigns the result of a compilable
+	 * expression to a variable in the evaluation context. Assignments to
+	 * properties and indexed elements are not compilable.
+	 */
+	@Override
+	public boolean isCompilable() {
+		return (this.children[0] instanceof VariableReference variableReference &&
+				variableReference.isContextVariable() && this.children[1].isCompilable() &&
+				this.exitTypeDescriptor != null);
+	}
+
+	@Override
+	public void generateCode(MethodVisitor mv, CodeFlow cf) {
+		VariableReference variableReference = (VariableReference) this.children[0];
+		SpelNodeImpl value = this.children[1];
+		cf.loadEvaluationContext(mv);
+		mv.visitLdcInsn(variableReference.getName());
+		cf.enterCompilationScope();
+		value.generateCode(mv, cf);
+		cf.exitCompilationScope();
+		CodeFlow.insertBoxIfNecessary(mv, value.exitTypeDescriptor);
+		String evaluationContextClassName = EvaluationContext.class.getName().replace('.', '/');
+		mv.visitMethodInsn(INVOKESTATIC, Assign.class.getName().replace('.', '/'), "assignVariable",
+				"(L" + evaluationContextClassName + ";Ljava/lang/String;Ljava/lang/Object;)Ljava/lang/Object;", false);
+		CodeFlow.insertCheckCast(mv, this.exitTypeDescriptor);
+		cf.pushDescriptor(this.exitTypeDescriptor);
+	}
+
+
+	/**
+	 * Assign the given value to the variable with the given name through
+	 * {@link EvaluationContext#assignVariable}, which allows the evaluation
+	 * context to reject the assignment.
+	 * <p>This method is called from compiled expression code, which is why
+	 * it needs to be declared as {@code public static} here.
+	 * @param context the current evaluation context
+	 * @param name the name of the variable
+	 * @param value the value to assign
+	 * @return the assigned value
+	 * @since 6.2
+	 */
+	@Nullable
+	public static Object assignVariable(EvaluationContext context, String name, @Nullable Object value) {
+		return context.assignVariable(name, () -> new TypedValue(value)).getValue();
+	}
+
 }
@@ -16,13 +16,19 @@
 
 package org.springframework.expression.spel.ast;
 
+import java.lang.reflect.Modifier;
+
+import org.springframework.asm.MethodVisitor;
 import org.springframework.expression.AccessException;
 import org.springframework.expression.BeanResolver;
+import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.EvaluationException;
 import org.springframework.expression.TypedValue;
+import org.springframework.expression.spel.CodeFlow;
 import org.springframework.expression.spel.ExpressionState;
 import org.springframework.expression.spel.SpelEvaluationException;
 import org.springframework.expression.spel.SpelMessage;
+import org.springframework.lang.Nullable;
 
 /**
  * Represents a reference to a bean, for example {@code @orderService} or
@@ -66,7 +72,9 @@ public class BeanReference extends SpelNodeImpl {
 		}
 
 		try {
-			return new TypedValue(beanResolver.resolve(state.getEvaluationContext(), this.beanName));
+			Object bean = beanResolver.resolve(state.getEvaluationContext(), this.beanName);
+			setExitTypeDescriptor(bean);
+			return new TypedValue(bean);
 		}
 		catch (AccessException ex) {
 			throw new SpelEvaluationException(getStartPosition(), ex, SpelMessage.EXCEPTION_DURING_BEAN_RESOLUTION,
@@ -74,6 +82,20 @@ public class BeanReference extends SpelNodeImpl {
 		}
 	}
 
+	/**
+	 * Set the exit type descriptor for the resolved bean, falling back to
+	 * {@code Object} for a bean whose type is not public, since a checkcast
+	 * to a non-public type in the generated byte code would fail.
+	 */
+	private void setExitTypeDescriptor(@Nullable Object bean) {
+		if (bean == null || !Modifier.isPublic(bean.getClass().getModifiers())) {
+			this.exitTypeDescriptor = "Ljava/lang/Object";
+		}
+		else {
+			this.exitTypeDescriptor = CodeFlow.toDescriptorFromObject(bean);
+		}
+	}
+
 	@Override
 	public String toStringAST() {
 		StringBuilder sb = new StringBuilder();
@@ -89,4 +111,54 @@ public class BeanReference extends SpelNodeImpl {
 		return sb.toString();
 	}
 
+	@Override
+	public boolean isCompilable() {
+		return (this.exitTypeDescriptor != null);
+	}
+
+	/**
+	 * The bean is resolved through the {@link BeanResolver} of the evaluation
+	 * context on every evaluation, just like in interpreted mode, in order to
+	 * respect the scope of the bean.
+	 */
+	@Override
+	public void generateCode(MethodVisitor mv, CodeFlow cf) {
+		String beanReferenceClassName = BeanReference.class.getName().replace('.', '/');
+		String evaluationContextClassName = EvaluationContext.class.getName().replace('.', '/');
+		cf.loadEvaluationContext(mv);
+		mv.visitLdcInsn(this.beanName);
+		mv.visitMethodInsn(INVOKESTATIC, beanReferenceClassName, "resolveBean",
+				"(L" + evaluationContextClassName + ";Ljava/lang/String;)Ljava/lang/Object;", false);
+		CodeFlow.insertCheckCast(mv, this.exitTypeDescriptor);
+		cf.pushDescriptor(this.exitTypeDescriptor);
+	}
+
+
+	/**
+	 * Resolve the bean with the given name through the {@link BeanResolver}
+	 * of the given evaluation context.
+	 * <p>This method is called from compiled expression code, which is why
+	 * it needs to be declared as {@code public static} here.
+	 * @param context the current evaluation context
+	 * @param beanName the name of the bean to resolve
+	 * @return the resolved bean
+	 * @throws SpelEvaluationException if no bean resolver is registered or
+	 * if the bean resolution fails
+	 * @since 6.2
+	 */
+	@Nullable
+	public static Object resolveBean(EvaluationContext context, String beanName) {
+		BeanResolver beanResolver = context.getBeanResolver();
+		if (beanResolver == null) {
+			throw new SpelEvaluationException(SpelMessage.NO_BEAN_RESOLVER_REGISTERED, beanName);
+		}
+		try {
+			return beanResolver.resolve(context, beanName);
+		}
+		catch (AccessException ex) {
+			throw new SpelEvaluationException(ex, SpelMessage.EXCEPTION_DURING_BEAN_RESOLUTION,
+					beanName, ex.getMessage());
+		}
+	}
+
 }
@@ -443,7 +443,10 @@ public class Indexer extends SpelNodeImpl {
 	}
 
 	private void generateIndexCode(MethodVisitor mv, CodeFlow cf, SpelNodeImpl indexNode, Class<?> indexType) {
+		// The index is evaluated against the root object, as in getValueRef()
+		cf.enterRootTargetScope();
 		cf.generateCodeForArgument(mv, indexNode, indexType);
+		cf.exitTargetScope();
 	}
 
 	@Override
@@ -20,8 +20,10 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
+import org.springframework.asm.MethodVisitor;
 import org.springframework.expression.EvaluationException;
 import org.springframework.expression.TypedValue;
+import org.springframework.expression.spel.CodeFlow;
 import org.springframework.expression.spel.ExpressionState;
 import org.springframework.expression.spel.SpelNode;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
@@ -46,6 +48,7 @@ public class InlineMap extends SpelNodeImpl {
 	public InlineMap(int startPos, int endPos, SpelNodeImpl... args) {
 		super(startPos, endPos, args);
 		this.constant = computeConstantValue();
+		this.exitTypeDescriptor = "Ljava/util/Map";
 	}
 
 
@@ -169,4 +172,104 @@ public class InlineMap extends SpelNodeImpl {
 		return (Map<Object, Object>) this.constant.getValue();
 	}
 
+	/**
+	 * A constant map is compilable into a static field of the generated class.
+	 * Any other map is compilable if all of its values and all of its keys
+	 * (except for unquoted keys, which are used as-is) are compilable.
+	 */
+	@Override
+	public boolean isCompilable() {
+		if (isConstant()) {
+			return true;
+		}
+		for (int c = 0; c < getChildCount(); c++) {
+			SpelNodeImpl child = this.children[c];
+			boolean unquotedKey = (c % 2 == 0 && child instanceof PropertyOrFieldReference);
+			if (!unquotedKey && (!child.isCompilable() || child.exitTypeDescriptor == null)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public void generateCode(MethodVisitor mv, CodeFlow codeflow) {
+		if (isConstant()) {
+			final String constantFieldName = "inlineMap$" + codeflow.nextFieldId();
+			final String className = codeflow.getClassName();
+
+			codeflow.registerNewField((cw, cflow) ->
+					cw.visitField(ACC_PRIVATE | ACC_STATIC | ACC_FINAL, constantFieldName, "Ljava/util/Map;", null, null));
+
+			codeflow.registerNewClinit((mVisitor, cflow) ->
+					generateClinitCode(className, constantFieldName, mVisitor, cflow, false));
+
+			mv.visitFieldInsn(GETSTATIC, className, constantFieldName, "Ljava/util/Map;");
+		}
+		else {
+			mv.visitTypeInsn(NEW, "java/util/LinkedHashMap");
+			mv.visitInsn(DUP);
+			mv.visitMethodInsn(INVOKESPECIAL, "java/util/LinkedHashMap", "<init>", "()V", false);
+			for (int c = 0; c < getChildCount(); c++) {
+				mv.visitInsn(DUP);
+				generateKeyCode(this.children[c++], mv, codeflow);
+				codeflow.enterCompilationScope();
+				this.children[c].generateCode(mv, codeflow);
+				codeflow.exitCompilationScope();
+				CodeFlow.insertBoxIfNecessary(mv, this.children[c].exitTypeDescriptor);
+				mv.visitMethodInsn(INVOKEINTERFACE, "java/util/Map", "put",
+						"(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object;", true);
+				mv.visitInsn(POP);
+			}
+		}
+		codeflow.pushDescriptor(this.exitTypeDescriptor);
+	}
+
+	void generateClinitCode(String clazzname, String constantFieldName, MethodVisitor mv, CodeFlow codeflow, boolean nested) {
+		mv.visitTypeInsn(NEW, "java/util/LinkedHashMap");
+		mv.visitInsn(DUP);
+		mv.visitMethodInsn(INVOKESPECIAL, "java/util/LinkedHashMap", "<init>", "()V", false);
+		for (int c = 0; c < getChildCount(); c++) {
+			mv.visitInsn(DUP);
+			generateKeyCode(this.children[c++], mv, codeflow);
+			// Nested lists and maps are built directly here instead of calling back
+			// into generateCode(), since that would register another clinit adder.
+			SpelNodeImpl valueChild = this.children[c];
+			if (valueChild instanceof InlineList inlineList) {
+				inlineList.generateClinitCode(clazzname, constantFieldName, mv, codeflow, true);
+			}
+			else if (valueChild instanceof InlineMap inlineMap) {
+				inlineMap.generateClinitCode(clazzname, constantFieldName, mv, codeflow, true);
+			}
+			else {
+				valueChild.generateCode(mv, codeflow);
+				String lastDesc = codeflow.lastDescriptor();
+				if (CodeFlow.isPrimitive(lastDesc)) {
+					CodeFlow.insertBoxIfNecessary(mv, lastDesc.charAt(0));
+				}
+			}
+			mv.visitMethodInsn(INVOKEINTERFACE, "java/util/Map", "put",
+					"(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object;", true);
+			mv.visitInsn(POP);
+		}
+		// As in computeConstantValue()
+		mv.visitMethodInsn(INVOKESTATIC, "java/util/Collections", "unmodifiableMap",
+				"(Ljava/util/Map;)Ljava/util/Map;", false);
+		if (!nested) {
+			mv.visitFieldInsn(PUTSTATIC, clazzname, constantFieldName, "Ljava/util/Map;");
+		}
+	}
+
+	private static void generateKeyCode(SpelNodeImpl keyChild, MethodVisitor mv, CodeFlow codeflow) {
+		if (keyChild instanceof PropertyOrFieldReference reference) {
+			mv.visitLdcInsn(reference.getName());
+		}
+		else {
+			codeflow.enterCompilationScope();
+			keyChild.generateCode(mv, codeflow);
+			codeflow.exitCompilationScope();
+			CodeFlow.insertBoxIfNecessary(mv, keyChild.exitTypeDescriptor);
+		}
+	}
+
 }
@@ -18,12 +18,16 @@ package org.springframework.expression.spel.ast;
 
 import java.util.List;
 
+import org.springframework.asm.MethodVisitor;
+import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.EvaluationException;
 import org.springframework.expression.TypeComparator;
+import org.springframework.expression.spel.CodeFlow;
 import org.springframework.expression.spel.ExpressionState;
 import org.springframework.expression.spel.SpelEvaluationException;
 import org.springframework.expression.spel.SpelMessage;
 import org.springframework.expression.spel.support.BooleanTypedValue;
+import org.springframework.lang.Nullable;
 
 /**
  * Represents the {@code between} operator.
@@ -44,6 +48,7 @@ public class OperatorBetween extends Operator {
 
 	public OperatorBetween(int startPos, int endPos, SpelNodeImpl... operands) {
 		super("between", startPos, endPos, operands);
+		this.exitTypeDescriptor = "Z";
 	}
 
 
@@ -76,4 +81,89 @@ public class OperatorBetween extends Operator {
 		}
 	}
 
+	/**
+	 * A between operation is compilable if the left operand is compilable and
+	 * the right operand is either a 2-element inline list of compilable bounds
+	 * or any other compilable expression that evaluates to a list.
+	 */
+	@Override
+	public boolean isCompilable() {
+		SpelNodeImpl left = getLeftOperand();
+		SpelNodeImpl right = getRightOperand();
+		if (!left.isCompilable() || left.exitTypeDescriptor == null) {
+			return false;
+		}
+		if (right instanceof InlineList inlineList && inlineList.getChildCount() == 2) {
+			return (isCompilableBound(inlineList.children[0]) && isCompilableBound(inlineList.children[1]));
+		}
+		return (right.isCompilable() && right.exitTypeDescriptor != null);
+	}
+
+	private static boolean isCompilableBound(SpelNodeImpl bound) {
+		return (bound.isCompilable() && bound.exitTypeDescriptor != null);
+	}
+
+	@Override
+	public void generateCode(MethodVisitor mv, CodeFlow cf) {
+		String operatorClassName = OperatorBetween.class.getName().replace('.', '/');
+		String evaluationContextClassName = EvaluationContext.class.getName().replace('.', '/');
+		SpelNodeImpl right = getRightOperand();
+
+		cf.loadEvaluationContext(mv);
+		generateBoxedCode(getLeftOperand(), mv, cf);
+		if (right instanceof InlineList inlineList && inlineList.getChildCount() == 2) {
+			generateBoxedCode(inlineList.children[0], mv, cf);
+			generateBoxedCode(inlineList.children[1], mv, cf);
+			mv.visitMethodInsn(INVOKESTATIC, operatorClassName, "between",
+					"(L" + evaluationContextClassName + ";Ljava/lang/Object;Ljava/lang/Object;Ljava/lang/Object;)Z", false);
+		}
+		else {
+			generateBoxedCode(right, mv, cf);
+			mv.visitMethodInsn(INVOKESTATIC, operatorClassName, "between",
+					"(L" + evaluationContextClassName + ";Ljava/lang/Object;Ljava/lang/Object;)Z", false);
+		}
+		cf.pushDescriptor(this.exitTypeDescriptor);
+	}
+
+	private static void generateBoxedCode(SpelNodeImpl operand, MethodVisitor mv, CodeFlow cf) {
+		cf.enterCompilationScope();
+		operand.generateCode(mv, cf);
+		cf.exitCompilationScope();
+		CodeFlow.insertBoxIfNecessary(mv, operand.exitTypeDescriptor);
+	}
+
+
+	/**
+	 * Check whether the given value lies within the given range.
+	 * <p>This method is called from compiled expression code, which is why
+	 * it needs to be declared as {@code public static} here.
+	 * @param context the current evaluation context
+	 * @param value the value to check
+	 * @param range the range to check against, expected to be a 2-element list
+	 * @since 6.2
+	 */
+	public static boolean between(EvaluationContext context, @Nullable Object value, @Nullable Object range) {
+		if (!(range instanceof List<?> list) || list.size() != 2) {
+			throw new SpelEvaluationException(SpelMessage.BETWEEN_RIGHT_OPERAND_MUST_BE_TWO_ELEMENT_LIST);
+		}
+		return between(context, value, list.get(0), list.get(1));
+	}
+
+	/**
+	 * Check whether the given value lies between the given bounds (inclusive).
+	 * <p>This method is called from compiled expression code, which is why
+	 * it needs to be declared as {@code public static} here.
+	 * @param context the current evaluation context
+	 * @param value the value to check
+	 * @param low the lower bound
+	 * @param high the upper bound
+	 * @since 6.2
+	 */
+	public static boolean between(EvaluationContext context, @Nullable Object value,
+			@Nullable Object low, @Nullable Object high) {
+
+		TypeComparator comp = context.getTypeComparator();
+		return (comp.compare(value, low) >= 0 && comp.compare(value, high) <= 0);
+	}
+
 }
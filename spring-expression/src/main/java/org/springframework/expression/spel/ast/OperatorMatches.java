@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,11 +22,15 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
+import org.springframework.asm.MethodVisitor;
 import org.springframework.expression.EvaluationException;
+import org.springframework.expression.spel.CodeFlow;
 import org.springframework.expression.spel.ExpressionState;
 import org.springframework.expression.spel.SpelEvaluationException;
 import org.springframework.expression.spel.SpelMessage;
 import org.springframework.expression.spel.support.BooleanTypedValue;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ConcurrentLruCache;
 
 /**
  * Implements the matches operator. Matches takes two operands:
@@ -49,6 +53,13 @@ public class OperatorMatches extends Operator {
 	 */
 	private static final int MAX_REGEX_LENGTH = 1000;
 
+	/**
+	 * Patterns for regular expressions that are not known until runtime
+	 * in compiled expression code.
+	 */
+	private static final ConcurrentLruCache<String, Pattern> compiledPatternCache =
+			new ConcurrentLruCache<>(256, Pattern::compile);
+
 	private final ConcurrentMap<String, Pattern> patternCache;
 
 
@@ -70,6 +81,7 @@ public class OperatorMatches extends Operator {
 	public OperatorMatches(ConcurrentMap<String, Pattern> patternCache, int startPos, int endPos, SpelNodeImpl... operands) {
 		super("matches", startPos, endPos, operands);
 		this.patternCache = patternCache;
+		this.exitTypeDescriptor = "Z";
 	}
 
 	/**
@@ -104,8 +116,7 @@ public class OperatorMatches extends Operator {
 				pattern = Pattern.compile(regex);
 				this.patternCache.putIfAbsent(regex, pattern);
 			}
-			Matcher matcher = pattern.matcher(new MatcherInput(input, new AccessCount()));
-			return BooleanTypedValue.forValue(matcher.matches());
+			return BooleanTypedValue.forValue(doMatch(pattern, input));
 		}
 		catch (PatternSyntaxException ex) {
 			throw new SpelEvaluationException(
@@ -124,6 +135,135 @@ public class OperatorMatches extends Operator {
 		}
 	}
 
+	/**
+	 * A matches operation is compilable if the input is known to be a
+	 * {@code String}. A regular expression given as a string literal is
+	 * precompiled into a static field of the generated class, provided that
+	 * it is valid; any other regular expression is compiled at runtime
+	 * through a shared cache of patterns.
+	 */
+	@Override
+	public boolean isCompilable() {
+		SpelNodeImpl leftOp = getLeftOperand();
+		SpelNodeImpl rightOp = getRightOperand();
+		if (!leftOp.isCompilable() || !rightOp.isCompilable() ||
+				!"Ljava/lang/String".equals(leftOp.exitTypeDescriptor) || rightOp.exitTypeDescriptor == null) {
+			return false;
+		}
+		String regex = getLiteralRegex();
+		if (regex != null) {
+			try {
+				checkRegexLength(regex);
+				this.patternCache.computeIfAbsent(regex, Pattern::compile);
+			}
+			catch (RuntimeException ex) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public void generateCode(MethodVisitor mv, CodeFlow cf) {
+		String operatorClassName = OperatorMatches.class.getName().replace('.', '/');
+		SpelNodeImpl rightOp = getRightOperand();
+
+		cf.enterCompilationScope();
+		getLeftOperand().generateCode(mv, cf);
+		cf.exitCompilationScope();
+
+		String regex = getLiteralRegex();
+		if (regex != null) {
+			String patternFieldName = "pattern$" + cf.nextFieldId();
+			String className = cf.getClassName();
+			cf.registerNewField((cw, codeflow) ->
+					cw.visitField(ACC_PRIVATE | ACC_STATIC | ACC_FINAL, patternFieldName, "Ljava/util/regex/Pattern;", null, null));
+			cf.registerNewClinit((clinit, codeflow) -> {
+				clinit.visitLdcInsn(regex);
+				clinit.visitMethodInsn(INVOKESTATIC, "java/util/regex/Pattern", "compile",
+						"(Ljava/lang/String;)Ljava/util/regex/Pattern;", false);
+				clinit.visitFieldInsn(PUTSTATIC, className, patternFieldName, "Ljava/util/regex/Pattern;");
+			});
+			mv.visitFieldInsn(GETSTATIC, className, patternFieldName, "Ljava/util/regex/Pattern;");
+			mv.visitMethodInsn(INVOKESTATIC, operatorClassName, "matches",
+					"(Ljava/lang/String;Ljava/util/regex/Pattern;)Z", false);
+		}
+		else {
+			cf.enterCompilationScope();
+			rightOp.generateCode(mv, cf);
+			cf.exitCompilationScope();
+			CodeFlow.insertBoxIfNecessary(mv, rightOp.exitTypeDescriptor);
+			mv.visitMethodInsn(INVOKESTATIC, operatorClassName, "matches",
+					"(Ljava/lang/String;Ljava/lang/Object;)Z", false);
+		}
+		cf.pushDescriptor(this.exitTypeDescriptor);
+	}
+
+	@Nullable
+	private String getLiteralRegex() {
+		return (getRightOperand() instanceof StringLiteral literal ?
+				(String) literal.getLiteralValue().getValue() : null);
+	}
+
+
+	/**
+	 * Check whether the given input matches the given precompiled pattern.
+	 * <p>This method is called from compiled expression code, which is why
+	 * it needs to be declared as {@code public static} here.
+	 * @param input the input to match
+	 * @param pattern the pattern to match against
+	 * @throws SpelEvaluationException if the input is {@code null} or if
+	 * the pattern is too expensive to evaluate against the input
+	 * @since 6.2
+	 */
+	public static boolean matches(@Nullable String input, Pattern pattern) {
+		if (input == null) {
+			throw new SpelEvaluationException(SpelMessage.INVALID_FIRST_OPERAND_FOR_MATCHES_OPERATOR, (Object) null);
+		}
+		try {
+			return doMatch(pattern, input);
+		}
+		catch (IllegalStateException ex) {
+			throw new SpelEvaluationException(ex, SpelMessage.FLAWED_PATTERN, pattern.pattern());
+		}
+	}
+
+	/**
+	 * Check whether the given input matches the given regular expression.
+	 * <p>This method is called from compiled expression code, which is why
+	 * it needs to be declared as {@code public static} here.
+	 * @param input the input to match
+	 * @param regex the regular expression to match against
+	 * @throws SpelEvaluationException if the input is {@code null}, if the
+	 * regular expression is not a {@code String} or is invalid, or if the
+	 * pattern is too expensive to evaluate against the input
+	 * @since 6.2
+	 */
+	public static boolean matches(@Nullable String input, @Nullable Object regex) {
+		if (input == null) {
+			throw new SpelEvaluationException(SpelMessage.INVALID_FIRST_OPERAND_FOR_MATCHES_OPERATOR, (Object) null);
+		}
+		if (!(regex instanceof String regexString)) {
+			throw new SpelEvaluationException(SpelMessage.INVALID_SECOND_OPERAND_FOR_MATCHES_OPERATOR, regex);
+		}
+		if (regexString.length() > MAX_REGEX_LENGTH) {
+			throw new SpelEvaluationException(SpelMessage.MAX_REGEX_LENGTH_EXCEEDED, MAX_REGEX_LENGTH);
+		}
+		Pattern pattern;
+		try {
+			pattern = compiledPatternCache.get(regexString);
+		}
+		catch (PatternSyntaxException ex) {
+			throw new SpelEvaluationException(ex, SpelMessage.INVALID_PATTERN, regex);
+		}
+		return matches(input, pattern);
+	}
+
+	private static boolean doMatch(Pattern pattern, String input) {
+		Matcher matcher = pattern.matcher(new MatcherInput(input, new AccessCount()));
+		return matcher.matches();
+	}
+
 
 	private static class AccessCount {
 
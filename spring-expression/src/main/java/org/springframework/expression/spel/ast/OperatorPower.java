@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,10 +19,18 @@ package org.springframework.expression.spel.ast;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 
+import org.springframework.asm.MethodVisitor;
+import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.EvaluationException;
 import org.springframework.expression.Operation;
+import org.springframework.expression.OperatorOverloader;
 import org.springframework.expression.TypedValue;
+import org.springframework.expression.spel.CodeFlow;
 import org.springframework.expression.spel.ExpressionState;
+import org.springframework.expression.spel.SpelEvaluationException;
+import org.springframework.expression.spel.SpelMessage;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 import org.springframework.util.NumberUtils;
 
 /**
@@ -47,32 +55,128 @@ public class OperatorPower extends Operator {
 		Object leftOperand = leftOp.getValueInternal(state).getValue();
 		Object rightOperand = rightOp.getValueInternal(state).getValue();
 
-		if (leftOperand instanceof Number leftNumber && rightOperand instanceof Number rightNumber) {
+		String leftDesc = leftOp.exitTypeDescriptor;
+		String rightDesc = rightOp.exitTypeDescriptor;
+		if (CodeFlow.isPrimitiveOrUnboxableSupportedNumber(leftDesc) &&
+				CodeFlow.isPrimitiveOrUnboxableSupportedNumber(rightDesc) &&
+				(isFloatingPoint(leftDesc) || isFloatingPoint(rightDesc))) {
+			this.exitTypeDescriptor = "D";
+		}
+		else {
+			this.exitTypeDescriptor = "Ljava/lang/Object";
+		}
+
+		return new TypedValue(power(state.getEvaluationContext(), leftOperand, rightOperand));
+	}
+
+	private static boolean isFloatingPoint(String descriptor) {
+		char type = CodeFlow.toPrimitiveTargetDesc(descriptor);
+		return (type == 'D' || type == 'F');
+	}
+
+	@Override
+	public boolean isCompilable() {
+		return (getLeftOperand().isCompilable() && getRightOperand().isCompilable() &&
+				this.exitTypeDescriptor != null);
+	}
+
+	/**
+	 * Operands known to be floating-point numbers are raised to a power
+	 * through {@link Math#pow} directly; all other operands are handled
+	 * through {@link #power(EvaluationContext, Object, Object)}.
+	 */
+	@Override
+	public void generateCode(MethodVisitor mv, CodeFlow cf) {
+		SpelNodeImpl leftOp = getLeftOperand();
+		SpelNodeImpl rightOp = getRightOperand();
+		String leftDesc = leftOp.exitTypeDescriptor;
+		String rightDesc = rightOp.exitTypeDescriptor;
+
+		if ("D".equals(this.exitTypeDescriptor)) {
+			Assert.state(leftDesc != null && rightDesc != null, "No operand descriptors");
+			// Floats are only widened after the operands have been converted, as in getValueInternal()
+			char targetDesc = (CodeFlow.toPrimitiveTargetDesc(leftDesc) == 'D' ||
+					CodeFlow.toPrimitiveTargetDesc(rightDesc) == 'D' ? 'D' : 'F');
+			generateNumericCode(leftOp, targetDesc, mv, cf);
+			generateNumericCode(rightOp, targetDesc, mv, cf);
+			mv.visitMethodInsn(INVOKESTATIC, "java/lang/Math", "pow", "(DD)D", false);
+		}
+		else {
+			cf.loadEvaluationContext(mv);
+			cf.enterCompilationScope();
+			leftOp.generateCode(mv, cf);
+			cf.exitCompilationScope();
+			CodeFlow.insertBoxIfNecessary(mv, leftDesc);
+			cf.enterCompilationScope();
+			rightOp.generateCode(mv, cf);
+			cf.exitCompilationScope();
+			CodeFlow.insertBoxIfNecessary(mv, rightDesc);
+			String operatorClassName = OperatorPower.class.getName().replace('.', '/');
+			String evaluationContextClassName = EvaluationContext.class.getName().replace('.', '/');
+			mv.visitMethodInsn(INVOKESTATIC, operatorClassName, "power",
+					"(L" + evaluationContextClassName + ";Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object;", false);
+		}
+		cf.pushDescriptor(this.exitTypeDescriptor);
+	}
+
+	private static void generateNumericCode(SpelNodeImpl operand, char targetDesc, MethodVisitor mv, CodeFlow cf) {
+		cf.enterCompilationScope();
+		operand.generateCode(mv, cf);
+		cf.exitCompilationScope();
+		CodeFlow.insertNumericUnboxOrPrimitiveTypeCoercion(mv, operand.exitTypeDescriptor, targetDesc);
+		if (targetDesc == 'F') {
+			mv.visitInsn(F2D);
+		}
+	}
+
+
+	/**
+	 * Raise the given base to the given exponent, delegating to the
+	 * {@link OperatorOverloader} of the given context for operands
+	 * that are not both numbers.
+	 * <p>This method is not just used for interpreted evaluation but also
+	 * from compiled expression code, which is why it needs to be declared
+	 * as {@code public static} here.
+	 * @param context the current evaluation context
+	 * @param left the base
+	 * @param right the exponent
+	 * @since 6.2
+	 */
+	@Nullable
+	public static Object power(EvaluationContext context, @Nullable Object left, @Nullable Object right) {
+		if (left instanceof Number leftNumber && right instanceof Number rightNumber) {
 			if (leftNumber instanceof BigDecimal) {
 				BigDecimal leftBigDecimal = NumberUtils.convertNumberToTargetClass(leftNumber, BigDecimal.class);
-				return new TypedValue(leftBigDecimal.pow(rightNumber.intValue()));
+				return leftBigDecimal.pow(rightNumber.intValue());
 			}
 			else if (leftNumber instanceof BigInteger) {
 				BigInteger leftBigInteger = NumberUtils.convertNumberToTargetClass(leftNumber, BigInteger.class);
-				return new TypedValue(leftBigInteger.pow(rightNumber.intValue()));
+				return leftBigInteger.pow(rightNumber.intValue());
 			}
 			else if (leftNumber instanceof Double || rightNumber instanceof Double) {
-				return new TypedValue(Math.pow(leftNumber.doubleValue(), rightNumber.doubleValue()));
+				return Math.pow(leftNumber.doubleValue(), rightNumber.doubleValue());
 			}
 			else if (leftNumber instanceof Float || rightNumber instanceof Float) {
-				return new TypedValue(Math.pow(leftNumber.floatValue(), rightNumber.floatValue()));
+				return Math.pow(leftNumber.floatValue(), rightNumber.floatValue());
 			}
 
 			double d = Math.pow(leftNumber.doubleValue(), rightNumber.doubleValue());
 			if (d > Integer.MAX_VALUE || leftNumber instanceof Long || rightNumber instanceof Long) {
-				return new TypedValue((long) d);
+				return (long) d;
 			}
 			else {
-				return new TypedValue((int) d);
+				return (int) d;
 			}
 		}
 
-		return state.operate(Operation.POWER, leftOperand, rightOperand);
+		OperatorOverloader overloader = context.getOperatorOverloader();
+		if (overloader.overridesOperation(Operation.POWER, left, right)) {
+			return overloader.operate(Operation.POWER, left, right);
+		}
+		String leftType = (left == null ? "null" : left.getClass().getName());
+		String rightType = (right == null ? "null" : right.getClass().getName());
+		throw new SpelEvaluationException(SpelMessage.OPERATOR_NOT_SUPPORTED_BETWEEN_TYPES,
+				Operation.POWER, leftType, rightType);
 	}
 
 }
@@ -22,8 +22,11 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.asm.Label;
+import org.springframework.asm.MethodVisitor;
 import org.springframework.expression.EvaluationException;
 import org.springframework.expression.TypedValue;
+import org.springframework.expression.spel.CodeFlow;
 import org.springframework.expression.spel.ExpressionState;
 import org.springframework.expression.spel.SpelEvaluationException;
 import org.springframework.expression.spel.SpelMessage;
@@ -79,6 +82,7 @@ public class Projection extends SpelNodeImpl {
 		// that can be referenced in the operation -- for example,
 		// {'a':'y', 'b':'n'}.![value == 'y' ? key : null] evaluates to ['a', null].
 		if (operand instanceof Map<?, ?> mapData) {
+			this.exitTypeDescriptor = null;
 			List<Object> result = new ArrayList<>();
 			for (Map.Entry<?, ?> entry : mapData.entrySet()) {
 				try {
@@ -98,6 +102,9 @@ public class Projection extends SpelNodeImpl {
 		if (operand instanceof Iterable || operandIsArray) {
 			Iterable<?> data = (operand instanceof Iterable<?> iterable ?
 					iterable : Arrays.asList(ObjectUtils.toObjectArray(operand)));
+			// Only projection over an Iterable is compilable, since an array projection
+			// results in an array of the common type of the projected values
+			this.exitTypeDescriptor = (operandIsArray ? null : "Ljava/util/List");
 
 			List<Object> result = new ArrayList<>();
 			Class<?> arrayElementType = null;
@@ -145,6 +152,74 @@ public class Projection extends SpelNodeImpl {
 		return "![" + getChild(0).toStringAST() + "]";
 	}
 
+	/**
+	 * A projection is compilable if it has been evaluated against an
+	 * {@link Iterable} and if its projection expression is compilable.
+	 */
+	@Override
+	public boolean isCompilable() {
+		SpelNodeImpl projection = this.children[0];
+		return (this.exitTypeDescriptor != null && projection.isCompilable() &&
+				projection.exitTypeDescriptor != null);
+	}
+
+	/**
+	 * The projection expression is evaluated within a loop over the elements,
+	 * with the current element as the target for the projection expression.
+	 */
+	@Override
+	public void generateCode(MethodVisitor mv, CodeFlow cf) {
+		SpelNodeImpl projection = this.children[0];
+		if (cf.lastDescriptor() == null) {
+			cf.loadTarget(mv);
+		}
+		mv.visitInsn(this.nullSafe ? ICONST_1 : ICONST_0);
+		mv.visitMethodInsn(INVOKESTATIC, Projection.class.getName().replace('.', '/'), "toIterable",
+				"(Ljava/lang/Object;Z)Ljava/lang/Iterable;", false);
+
+		Label endOfProjection = new Label();
+		if (this.nullSafe) {
+			mv.visitInsn(DUP);
+			mv.visitJumpInsn(IFNULL, endOfProjection);
+		}
+		int iteratorVariable = cf.nextFreeVariableId();
+		int elementVariable = cf.nextFreeVariableId();
+		int resultVariable = cf.nextFreeVariableId();
+		mv.visitMethodInsn(INVOKEINTERFACE, "java/lang/Iterable", "iterator", "()Ljava/util/Iterator;", true);
+		mv.visitVarInsn(ASTORE, iteratorVariable);
+		mv.visitTypeInsn(NEW, "java/util/ArrayList");
+		mv.visitInsn(DUP);
+		mv.visitMethodInsn(INVOKESPECIAL, "java/util/ArrayList", "<init>", "()V", false);
+		mv.visitVarInsn(ASTORE, resultVariable);
+
+		Label nextElement = new Label();
+		Label endOfElements = new Label();
+		mv.visitLabel(nextElement);
+		mv.visitVarInsn(ALOAD, iteratorVariable);
+		mv.visitMethodInsn(INVOKEINTERFACE, "java/util/Iterator", "hasNext", "()Z", true);
+		mv.visitJumpInsn(IFEQ, endOfElements);
+		mv.visitVarInsn(ALOAD, iteratorVariable);
+		mv.visitMethodInsn(INVOKEINTERFACE, "java/util/Iterator", "next", "()Ljava/lang/Object;", true);
+		mv.visitVarInsn(ASTORE, elementVariable);
+
+		mv.visitVarInsn(ALOAD, resultVariable);
+		mv.visitTypeInsn(CHECKCAST, "java/util/List");
+		cf.enterCompilationScope();
+		cf.enterTargetScope(elementVariable);
+		projection.generateCode(mv, cf);
+		cf.exitTargetScope();
+		cf.exitCompilationScope();
+		CodeFlow.insertBoxIfNecessary(mv, projection.exitTypeDescriptor);
+		mv.visitMethodInsn(INVOKEINTERFACE, "java/util/List", "add", "(Ljava/lang/Object;)Z", true);
+		mv.visitInsn(POP);
+		mv.visitJumpInsn(GOTO, nextElement);
+
+		mv.visitLabel(endOfElements);
+		mv.visitVarInsn(ALOAD, resultVariable);
+		mv.visitLabel(endOfProjection);
+		cf.pushDescriptor(this.exitTypeDescriptor);
+	}
+
 	private Class<?> determineCommonType(@Nullable Class<?> oldType, Class<?> newType) {
 		if (oldType == null) {
 			return newType;
@@ -167,4 +242,28 @@ public class Projection extends SpelNodeImpl {
 		return Object.class;
 	}
 
+
+	/**
+	 * Obtain the elements to project for the given operand.
+	 * <p>This method is called from compiled expression code, which is why
+	 * it needs to be declared as {@code public static} here.
+	 * @param operand the operand of the projection
+	 * @param nullSafe whether the projection is null-safe
+	 * @return the given operand as an {@code Iterable}, or {@code null}
+	 * for a {@code null} operand of a null-safe projection
+	 * @throws SpelEvaluationException if the operand is not an {@code Iterable}
+	 * @since 6.2
+	 */
+	@Nullable
+	public static Iterable<?> toIterable(@Nullable Object operand, boolean nullSafe) {
+		if (operand instanceof Iterable<?> iterable) {
+			return iterable;
+		}
+		if (operand == null && nullSafe) {
+			return null;
+		}
+		throw new SpelEvaluationException(SpelMessage.PROJECTION_NOT_SUPPORTED_ON_TYPE,
+				(operand != null ? operand.getClass().getName() : "null"));
+	}
+
 }
@@ -23,12 +23,16 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.asm.Label;
+import org.springframework.asm.MethodVisitor;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.expression.EvaluationException;
 import org.springframework.expression.TypedValue;
+import org.springframework.expression.spel.CodeFlow;
 import org.springframework.expression.spel.ExpressionState;
 import org.springframework.expression.spel.SpelEvaluationException;
 import org.springframework.expression.spel.SpelMessage;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
@@ -99,6 +103,7 @@ public class Selection extends SpelNodeImpl {
 		SpelNodeImpl selectionCriteria = this.children[0];
 
 		if (operand instanceof Map<?, ?> mapdata) {
+			this.exitTypeDescriptor = null;
 			Map<Object, Object> result = new HashMap<>();
 			Object lastKey = null;
 
@@ -145,6 +150,10 @@ public class Selection extends SpelNodeImpl {
 		if (operand instanceof Iterable || ObjectUtils.isArray(operand)) {
 			Iterable<?> data = (operand instanceof Iterable<?> iterable ? iterable :
 					Arrays.asList(ObjectUtils.toObjectArray(operand)));
+			// Only selection over an Iterable is compilable, since an array selection
+			// results in an array of the element type of the operand
+			this.exitTypeDescriptor = (operand instanceof Iterable ?
+					(this.variant == ALL ? "Ljava/util/List" : "Ljava/lang/Object") : null);
 
 			List<Object> result = new ArrayList<>();
 			for (Object element : data) {
@@ -214,6 +223,98 @@ public class Selection extends SpelNodeImpl {
 		return prefix() + getChild(0).toStringAST() + "]";
 	}
 
+	/**
+	 * A selection is compilable if it has been evaluated against an
+	 * {@link Iterable} and if its selection criteria are compilable,
+	 * evaluating to a boolean.
+	 */
+	@Override
+	public boolean isCompilable() {
+		SpelNodeImpl selectionCriteria = this.children[0];
+		return (this.exitTypeDescriptor != null && selectionCriteria.isCompilable() &&
+				CodeFlow.isBooleanCompatible(selectionCriteria.exitTypeDescriptor));
+	}
+
+	/**
+	 * The selection criteria are evaluated within a loop over the elements,
+	 * with the current element as the target for the criteria.
+	 */
+	@Override
+	public void generateCode(MethodVisitor mv, CodeFlow cf) {
+		SpelNodeImpl selectionCriteria = this.children[0];
+		if (cf.lastDescriptor() == null) {
+			cf.loadTarget(mv);
+		}
+		mv.visitInsn(this.nullSafe ? ICONST_1 : ICONST_0);
+		mv.visitMethodInsn(INVOKESTATIC, Selection.class.getName().replace('.', '/'), "toIterable",
+				"(Ljava/lang/Object;Z)Ljava/lang/Iterable;", false);
+
+		Label endOfSelection = new Label();
+		if (this.nullSafe) {
+			mv.visitInsn(DUP);
+			mv.visitJumpInsn(IFNULL, endOfSelection);
+		}
+		int iteratorVariable = cf.nextFreeVariableId();
+		int elementVariable = cf.nextFreeVariableId();
+		int resultVariable = cf.nextFreeVariableId();
+		mv.visitMethodInsn(INVOKEINTERFACE, "java/lang/Iterable", "iterator", "()Ljava/util/Iterator;", true);
+		mv.visitVarInsn(ASTORE, iteratorVariable);
+		if (this.variant == ALL) {
+			mv.visitTypeInsn(NEW, "java/util/ArrayList");
+			mv.visitInsn(DUP);
+			mv.visitMethodInsn(INVOKESPECIAL, "java/util/ArrayList", "<init>", "()V", false);
+		}
+		else {
+			mv.visitInsn(ACONST_NULL);
+		}
+		mv.visitVarInsn(ASTORE, resultVariable);
+
+		Label nextElement = new Label();
+		Label endOfElements = new Label();
+		mv.visitLabel(nextElement);
+		mv.visitVarInsn(ALOAD, iteratorVariable);
+		mv.visitMethodInsn(INVOKEINTERFACE, "java/util/Iterator", "hasNext", "()Z", true);
+		mv.visitJumpInsn(IFEQ, endOfElements);
+		mv.visitVarInsn(ALOAD, iteratorVariable);
+		mv.visitMethodInsn(INVOKEINTERFACE, "java/util/Iterator", "next", "()Ljava/lang/Object;", true);
+		mv.visitVarInsn(ASTORE, elementVariable);
+
+		cf.enterCompilationScope();
+		cf.enterTargetScope(elementVariable);
+		selectionCriteria.generateCode(mv, cf);
+		cf.exitTargetScope();
+		cf.exitCompilationScope();
+		if (!"Z".equals(selectionCriteria.exitTypeDescriptor)) {
+			CodeFlow.insertUnboxInsns(mv, 'Z', selectionCriteria.exitTypeDescriptor);
+		}
+		mv.visitJumpInsn(IFEQ, nextElement);
+
+		switch (this.variant) {
+			case FIRST -> {
+				mv.visitVarInsn(ALOAD, elementVariable);
+				mv.visitVarInsn(ASTORE, resultVariable);
+			}
+			case LAST -> {
+				mv.visitVarInsn(ALOAD, elementVariable);
+				mv.visitVarInsn(ASTORE, resultVariable);
+				mv.visitJumpInsn(GOTO, nextElement);
+			}
+			default -> {
+				mv.visitVarInsn(ALOAD, resultVariable);
+				mv.visitTypeInsn(CHECKCAST, "java/util/List");
+				mv.visitVarInsn(ALOAD, elementVariable);
+				mv.visitMethodInsn(INVOKEINTERFACE, "java/util/List", "add", "(Ljava/lang/Object;)Z", true);
+				mv.visitInsn(POP);
+				mv.visitJumpInsn(GOTO, nextElement);
+			}
+		}
+
+		mv.visitLabel(endOfElements);
+		mv.visitVarInsn(ALOAD, resultVariable);
+		mv.visitLabel(endOfSelection);
+		cf.pushDescriptor(this.exitTypeDescriptor);
+	}
+
 	private String prefix() {
 		return switch (this.variant) {
 			case ALL -> "?[";
@@ -223,4 +324,28 @@ public class Selection extends SpelNodeImpl {
 		};
 	}
 
+
+	/**
+	 * Obtain the elements to select from for the given operand.
+	 * <p>This method is called from compiled expression code, which is why
+	 * it needs to be declared as {@code public static} here.
+	 * @param operand the operand of the selection
+	 * @param nullSafe whether the selection is null-safe
+	 * @return the given operand as an {@code Iterable}, or {@code null}
+	 * for a {@code null} operand of a null-safe selection
+	 * @throws SpelEvaluationException if the operand is not an {@code Iterable}
+	 * @since 6.2
+	 */
+	@Nullable
+	public static Iterable<?> toIterable(@Nullable Object operand, boolean nullSafe) {
+		if (operand instanceof Iterable<?> iterable) {
+			return iterable;
+		}
+		if (operand == null && nullSafe) {
+			return null;
+		}
+		throw new SpelEvaluationException(SpelMessage.INVALID_TYPE_FOR_SELECTION,
+				(operand != null ? operand.getClass().getName() : "null"));
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -78,6 +78,10 @@ public class SpelExpression implements Expression {
 	// give up trying to compile it when it just doesn't seem to be possible.
 	private final AtomicInteger failedAttempts = new AtomicInteger();
 
+	// Evaluation metrics of the SpelExpressionCache that this expression belongs to, if any
+	@Nullable
+	private SpelExpressionCache.Metrics metrics;
+
 
 	/**
 	 * Construct an expression, only used by the parser.
@@ -123,13 +127,16 @@ public class SpelExpression implements Expression {
 		if (compiledAst != null) {
 			try {
 				EvaluationContext context = getEvaluationContext();
-				return compiledAst.getValue(context.getRootObject().getValue(), context);
+				Object result = compiledAst.getValue(context.getRootObject().getValue(), context);
+				recordCompiledInvocation();
+				return result;
 			}
 			catch (Throwable ex) {
 				// If running in mixed mode, revert to interpreted
 				if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
 					this.compiledAst = null;
 					this.interpretedCount.set(0);
+					recordDeoptimization();
 				}
 				else {
 					// Running in SpelCompilerMode.immediate mode - propagate exception to caller
@@ -153,6 +160,7 @@ public class SpelExpression implements Expression {
 			try {
 				EvaluationContext context = getEvaluationContext();
 				Object result = compiledAst.getValue(context.getRootObject().getValue(), context);
+				recordCompiledInvocation();
 				if (expectedResultType == null) {
 					return (T) result;
 				}
@@ -166,6 +174,7 @@ public class SpelExpression implements Expression {
 				if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
 					this.compiledAst = null;
 					this.interpretedCount.set(0);
+					recordDeoptimization();
 				}
 				else {
 					// Running in SpelCompilerMode.immediate mode - propagate exception to caller
@@ -187,13 +196,16 @@ public class SpelExpression implements Expression {
 		CompiledExpression compiledAst = this.compiledAst;
 		if (compiledAst != null) {
 			try {
-				return compiledAst.getValue(rootObject, getEvaluationContext());
+				Object result = compiledAst.getValue(rootObject, getEvaluationContext());
+				recordCompiledInvocation();
+				return result;
 			}
 			catch (Throwable ex) {
 				// If running in mixed mode, revert to interpreted
 				if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
 					this.compiledAst = null;
 					this.interpretedCount.set(0);
+					recordDeoptimization();
 				}
 				else {
 					// Running in SpelCompilerMode.immediate mode - propagate exception to caller
@@ -217,6 +229,7 @@ public class SpelExpression implements Expression {
 		if (compiledAst != null) {
 			try {
 				Object result = compiledAst.getValue(rootObject, getEvaluationContext());
+				recordCompiledInvocation();
 				if (expectedResultType == null) {
 					return (T)result;
 				}
@@ -230,6 +243,7 @@ public class SpelExpression implements Expression {
 				if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
 					this.compiledAst = null;
 					this.interpretedCount.set(0);
+					recordDeoptimization();
 				}
 				else {
 					// Running in SpelCompilerMode.immediate mode - propagate exception to caller
@@ -254,13 +268,16 @@ public class SpelExpression implements Expression {
 		CompiledExpression compiledAst = this.compiledAst;
 		if (compiledAst != null) {
 			try {
-				return compiledAst.getValue(context.getRootObject().getValue(), context);
+				Object result = compiledAst.getValue(context.getRootObject().getValue(), context);
+				recordCompiledInvocation();
+				return result;
 			}
 			catch (Throwable ex) {
 				// If running in mixed mode, revert to interpreted
 				if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
 					this.compiledAst = null;
 					this.interpretedCount.set(0);
+					recordDeoptimization();
 				}
 				else {
 					// Running in SpelCompilerMode.immediate mode - propagate exception to caller
@@ -285,6 +302,7 @@ public class SpelExpression implements Expression {
 		if (compiledAst != null) {
 			try {
 				Object result = compiledAst.getValue(context.getRootObject().getValue(), context);
+				recordCompiledInvocation();
 				if (expectedResultType != null) {
 					return ExpressionUtils.convertTypedValue(context, new TypedValue(result), expectedResultType);
 				}
@@ -297,6 +315,7 @@ public class SpelExpression implements Expression {
 				if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
 					this.compiledAst = null;
 					this.interpretedCount.set(0);
+					recordDeoptimization();
 				}
 				else {
 					// Running in SpelCompilerMode.immediate mode - propagate exception to caller
@@ -319,13 +338,16 @@ public class SpelExpression implements Expression {
 		CompiledExpression compiledAst = this.compiledAst;
 		if (compiledAst != null) {
 			try {
-				return compiledAst.getValue(rootObject, context);
+				Object result = compiledAst.getValue(rootObject, context);
+				recordCompiledInvocation();
+				return result;
 			}
 			catch (Throwable ex) {
 				// If running in mixed mode, revert to interpreted
 				if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
 					this.compiledAst = null;
 					this.interpretedCount.set(0);
+					recordDeoptimization();
 				}
 				else {
 					// Running in SpelCompilerMode.immediate mode - propagate exception to caller
@@ -352,6 +374,7 @@ public class SpelExpression implements Expression {
 		if (compiledAst != null) {
 			try {
 				Object result = compiledAst.getValue(rootObject, context);
+				recordCompiledInvocation();
 				if (expectedResultType != null) {
 					return ExpressionUtils.convertTypedValue(context, new TypedValue(result), expectedResultType);
 				}
@@ -364,6 +387,7 @@ public class SpelExpression implements Expression {
 				if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
 					this.compiledAst = null;
 					this.interpretedCount.set(0);
+					recordDeoptimization();
 				}
 				else {
 					// Running in SpelCompilerMode.immediate mode - propagate exception to caller
@@ -485,6 +509,10 @@ public class SpelExpression implements Expression {
 	 */
 	private void checkCompile(ExpressionState expressionState) {
 		this.interpretedCount.incrementAndGet();
+		SpelExpressionCache.Metrics metrics = this.metrics;
+		if (metrics != null) {
+			metrics.interpretedInvocations.increment();
+		}
 		SpelCompilerMode compilerMode = expressionState.getConfiguration().getCompilerMode();
 		if (compilerMode != SpelCompilerMode.OFF) {
 			if (compilerMode == SpelCompilerMode.IMMEDIATE) {
@@ -529,17 +557,23 @@ public class SpelExpression implements Expression {
 				if (compiledAst != null) {
 					// Successfully compiled
 					this.compiledAst = compiledAst;
+					SpelExpressionCache.Metrics metrics = this.metrics;
+					if (metrics != null) {
+						metrics.compilations.increment();
+					}
 					return true;
 				}
 				else {
 					// Failed to compile
 					this.failedAttempts.incrementAndGet();
+					recordCompilationFailure();
 					return false;
 				}
 			}
 			catch (Exception ex) {
 				// Failed to compile
 				this.failedAttempts.incrementAndGet();
+				recordCompilationFailure();
 
 				// If running in mixed mode, revert to interpreted
 				if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
@@ -566,6 +600,35 @@ public class SpelExpression implements Expression {
 		this.failedAttempts.set(0);
 	}
 
+	/**
+	 * Record evaluations of this expression in the given metrics of the
+	 * {@link SpelExpressionCache} that this expression has been parsed by.
+	 */
+	void setMetrics(SpelExpressionCache.Metrics metrics) {
+		this.metrics = metrics;
+	}
+
+	private void recordCompiledInvocation() {
+		SpelExpressionCache.Metrics metrics = this.metrics;
+		if (metrics != null) {
+			metrics.compiledInvocations.increment();
+		}
+	}
+
+	private void recordDeoptimization() {
+		SpelExpressionCache.Metrics metrics = this.metrics;
+		if (metrics != null) {
+			metrics.deoptimizations.increment();
+		}
+	}
+
+	private void recordCompilationFailure() {
+		SpelExpressionCache.Metrics metrics = this.metrics;
+		if (metrics != null) {
+			metrics.compilationFailures.increment();
+		}
+	}
+
 	/**
 	 * Return the Abstract Syntax Tree for the expression.
 	 */
@@ -0,0 +1,264 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.expression.spel.standard;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.expression.Expression;
+import org.springframework.expression.ParseException;
+import org.springframework.expression.ParserContext;
+import org.springframework.expression.common.CompositeStringExpression;
+import org.springframework.expression.common.TemplateParserContext;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
+
+/**
+ * Bounded cache of parsed SpEL expressions, meant to be shared between the
+ * components of an application that evaluate the same kind of expressions,
+ * so that an expression gets parsed and compiled only once.
+ *
+ * <p>Expressions are parsed with a single {@link SpelExpressionParser} and kept
+ * in a {@link ConcurrentLruCache} with a frequency-based admission policy.
+ * Since cached expressions are shared, they must be evaluated against an
+ * explicitly supplied {@link org.springframework.expression.EvaluationContext}
+ * rather than a default context set on the expression itself.
+ *
+ * <p>A compiled expression is specific to the types that it has been evaluated
+ * with. Callers that evaluate the same expression string against different
+ * types, e.g. for different annotated methods, should therefore retrieve the
+ * expression with a {@linkplain #getExpression(String, ParserContext, Object)
+ * scope} so that each of them gets its own expression instance.
+ *
+ * <p>Along with the cache statistics, the cache records how its expressions get
+ * evaluated: interpreted or compiled invocations, successful compilations,
+ * compilation failures, and deoptimizations, that is, compiled expressions that
+ * failed at runtime and reverted to interpreted mode in
+ * {@link SpelCompilerMode#MIXED}. A snapshot of these counts is available
+ * through {@link #getStatistics()} for monitoring purposes.
+ *
+ * @since 6.2
+ */
+public class SpelExpressionCache {
+
+	/**
+	 * Default maximum number of cached expressions.
+	 */
+	public static final int DEFAULT_CAPACITY = 1024;
+
+
+	private final SpelExpressionParser parser;
+
+	private final ConcurrentLruCache<ExpressionKey, Expression> expressionCache;
+
+	private final Metrics metrics = new Metrics();
+
+
+	/**
+	 * Create a new cache with the default capacity and a default
+	 * {@link SpelExpressionParser}.
+	 */
+	public SpelExpressionCache() {
+		this(new SpelExpressionParser(), DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Create a new cache with the default capacity, parsing expressions
+	 * with the given configuration.
+	 * @param configuration the parser configuration to use
+	 */
+	public SpelExpressionCache(SpelParserConfiguration configuration) {
+		this(new SpelExpressionParser(configuration), DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Create a new cache with the given capacity, parsing expressions
+	 * with the given parser.
+	 * @param parser the parser to use
+	 * @param capacity the maximum number of cached expressions
+	 */
+	public SpelExpressionCache(SpelExpressionParser parser, int capacity) {
+		Assert.notNull(parser, "SpelExpressionParser must not be null");
+		this.parser = parser;
+		this.expressionCache = new ConcurrentLruCache<>(capacity, this::parseExpression, true);
+	}
+
+
+	/**
+	 * Return the parser used by this cache.
+	 */
+	public SpelExpressionParser getParser() {
+		return this.parser;
+	}
+
+	/**
+	 * Return the parsed expression for the given expression string,
+	 * parsing it if it has not been cached yet.
+	 * @param expressionString the raw expression string
+	 * @return the parsed expression, possibly shared with other callers
+	 * @throws ParseException if the expression cannot be parsed
+	 */
+	public Expression getExpression(String expressionString) throws ParseException {
+		return getExpression(expressionString, null);
+	}
+
+	/**
+	 * Return the parsed expression for the given expression string and
+	 * parser context, parsing it if it has not been cached yet.
+	 * @param expressionString the raw expression string
+	 * @param context a context for influencing the parsing routine (optional)
+	 * @return the parsed expression, possibly shared with other callers
+	 * @throws ParseException if the expression cannot be parsed
+	 */
+	public Expression getExpression(String expressionString, @Nullable ParserContext context) throws ParseException {
+		return getExpression(expressionString, context, null);
+	}
+
+	/**
+	 * Return the parsed expression for the given expression string and
+	 * parser context within the given scope, parsing it if it has not been
+	 * cached for that scope yet.
+	 * <p>Expressions are only shared within the same scope, as determined by
+	 * {@code equals}. Use a scope to keep an expression apart from the same
+	 * expression evaluated against other types, since its compiled form is
+	 * specific to the types that it has been evaluated with.
+	 * @param expressionString the raw expression string
+	 * @param context a context for influencing the parsing routine (optional)
+	 * @param scope the scope of the expression, e.g. the element that it is
+	 * declared on (optional)
+	 * @return the parsed expression, possibly shared with other callers
+	 * for the same scope
+	 * @throws ParseException if the expression cannot be parsed
+	 */
+	public Expression getExpression(String expressionString, @Nullable ParserContext context, @Nullable Object scope)
+			throws ParseException {
+
+		Assert.notNull(expressionString, "Expression string must not be null");
+		return this.expressionCache.get(ExpressionKey.of(expressionString, context, scope));
+	}
+
+	/**
+	 * Return the number of currently cached expressions.
+	 */
+	public int size() {
+		return this.expressionCache.size();
+	}
+
+	/**
+	 * Remove all expressions from this cache. Expressions that have been
+	 * returned before keep recording their evaluations.
+	 */
+	public void clear() {
+		this.expressionCache.clear();
+	}
+
+	/**
+	 * Return a snapshot of the cache and evaluation statistics.
+	 */
+	public Statistics getStatistics() {
+		ConcurrentLruCache.Statistics cacheStatistics = this.expressionCache.statistics();
+		return new Statistics(size(), cacheStatistics.hitCount(), cacheStatistics.missCount(),
+				cacheStatistics.evictionCount(), this.metrics.interpretedInvocations.sum(),
+				this.metrics.compiledInvocations.sum(), this.metrics.compilations.sum(),
+				this.metrics.compilationFailures.sum(), this.metrics.deoptimizations.sum());
+	}
+
+	private Expression parseExpression(ExpressionKey key) {
+		Expression expression = this.parser.parseExpression(key.expression(), key.context());
+		if (expression instanceof SpelExpression spelExpression) {
+			spelExpression.setMetrics(this.metrics);
+		}
+		else if (expression instanceof CompositeStringExpression compositeExpression) {
+			for (Expression part : compositeExpression.getExpressions()) {
+				if (part instanceof SpelExpression spelExpression) {
+					spelExpression.setMetrics(this.metrics);
+				}
+			}
+		}
+		return expression;
+	}
+
+
+	/**
+	 * Snapshot of the statistics of a {@link SpelExpressionCache}.
+	 * @param size the number of currently cached expressions
+	 * @param hitCount the number of lookups that found a cached expression
+	 * @param missCount the number of lookups that parsed the expression
+	 * @param evictionCount the number of expressions evicted from the cache
+	 * @param interpretedInvocations the number of interpreted evaluations
+	 * @param compiledInvocations the number of successful compiled evaluations
+	 * @param compilations the number of expressions promoted to compiled mode
+	 * @param compilationFailures the number of failed compilation attempts
+	 * @param deoptimizations the number of compiled expressions that failed at
+	 * runtime and reverted to interpreted mode in {@link SpelCompilerMode#MIXED}
+	 */
+	public record Statistics(int size, long hitCount, long missCount, long evictionCount,
+			long interpretedInvocations, long compiledInvocations, long compilations,
+			long compilationFailures, long deoptimizations) {
+
+		/**
+		 * Return the ratio of evaluations that ran in compiled mode,
+		 * or {@code 0.0} if there were no evaluations yet.
+		 */
+		public double compiledRatio() {
+			long invocations = this.interpretedInvocations + this.compiledInvocations;
+			return (invocations == 0 ? 0.0 : (double) this.compiledInvocations / invocations);
+		}
+	}
+
+
+	/**
+	 * Evaluation counters, shared by all expressions parsed by a cache.
+	 */
+	static final class Metrics {
+
+		final LongAdder interpretedInvocations = new LongAdder();
+
+		final LongAdder compiledInvocations = new LongAdder();
+
+		final LongAdder compilations = new LongAdder();
+
+		final LongAdder compilationFailures = new LongAdder();
+
+		final LongAdder deoptimizations = new LongAdder();
+	}
+
+
+	/**
+	 * Cache key for an expression string along with the relevant
+	 * settings of its parser context and its scope.
+	 */
+	private record ExpressionKey(String expression, @Nullable String prefix, @Nullable String suffix,
+			@Nullable Object scope) {
+
+		static ExpressionKey of(String expression, @Nullable ParserContext context, @Nullable Object scope) {
+			if (context == null || !context.isTemplate()) {
+				return new ExpressionKey(expression, null, null, scope);
+			}
+			return new ExpressionKey(expression, context.getExpressionPrefix(), context.getExpressionSuffix(), scope);
+		}
+
+		@Nullable
+		ParserContext context() {
+			return (this.prefix != null && this.suffix != null ?
+					new TemplateParserContext(this.prefix, this.suffix) : null);
+		}
+	}
+
+}
@@ -23,6 +23,7 @@ import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.expression.AccessException;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.MethodExecutor;
+import org.springframework.expression.TypeConverter;
 import org.springframework.expression.TypedValue;
 import org.springframework.expression.spel.CodeFlow;
 import org.springframework.lang.Nullable;
@@ -50,6 +51,17 @@ public class ReflectiveMethodExecutor implements MethodExecutor {
 	@Nullable
 	private final Integer varargsPosition;
 
+	private final TypeDescriptor returnTypeDescriptor;
+
+	// Target type descriptors of the parameters, for methods without varargs
+	@Nullable
+	private final TypeDescriptor[] parameterTypeDescriptors;
+
+	// Type descriptors of the most recent argument types, reused as long as they do not change;
+	// racy updates are harmless since type descriptors are immutable and checked before reuse
+	@Nullable
+	private final TypeDescriptor[] argumentTypeDescriptors;
+
 	private boolean computedPublicDeclaringClass = false;
 
 	@Nullable
@@ -75,11 +87,19 @@ public class ReflectiveMethodExecutor implements MethodExecutor {
 	public ReflectiveMethodExecutor(Method method, @Nullable Class<?> targetClass) {
 		this.originalMethod = method;
 		this.methodToInvoke = ClassUtils.getInterfaceMethodIfPossible(method, targetClass);
+		this.returnTypeDescriptor = new TypeDescriptor(new MethodParameter(method, -1));
 		if (method.isVarArgs()) {
 			this.varargsPosition = method.getParameterCount() - 1;
+			this.parameterTypeDescriptors = null;
+			this.argumentTypeDescriptors = null;
 		}
 		else {
 			this.varargsPosition = null;
+			this.parameterTypeDescriptors = new TypeDescriptor[method.getParameterCount()];
+			for (int i = 0; i < this.parameterTypeDescriptors.length; i++) {
+				this.parameterTypeDescriptors[i] = new TypeDescriptor(MethodParameter.forExecutable(method, i));
+			}
+			this.argumentTypeDescriptors = new TypeDescriptor[this.parameterTypeDescriptors.length];
 		}
 	}
 
@@ -116,19 +136,54 @@ public class ReflectiveMethodExecutor implements MethodExecutor {
 	@Override
 	public TypedValue execute(EvaluationContext context, Object target, Object... arguments) throws AccessException {
 		try {
-			this.argumentConversionOccurred = ReflectionHelper.convertArguments(
-					context.getTypeConverter(), arguments, this.originalMethod, this.varargsPosition);
-			if (this.originalMethod.isVarArgs()) {
-				arguments = ReflectionHelper.setupArgumentsForVarargsInvocation(
-						this.originalMethod.getParameterTypes(), arguments);
+			TypeDescriptor[] parameterTypeDescriptors = this.parameterTypeDescriptors;
+			if (parameterTypeDescriptors != null && arguments.length == parameterTypeDescriptors.length) {
+				this.argumentConversionOccurred = convertArguments(
+						context.getTypeConverter(), arguments, parameterTypeDescriptors);
+			}
+			else {
+				this.argumentConversionOccurred = ReflectionHelper.convertArguments(
+						context.getTypeConverter(), arguments, this.originalMethod, this.varargsPosition);
+				if (this.originalMethod.isVarArgs()) {
+					arguments = ReflectionHelper.setupArgumentsForVarargsInvocation(
+							this.originalMethod.getParameterTypes(), arguments);
+				}
 			}
 			ReflectionUtils.makeAccessible(this.methodToInvoke);
 			Object value = this.methodToInvoke.invoke(target, arguments);
-			return new TypedValue(value, new TypeDescriptor(new MethodParameter(this.originalMethod, -1)).narrow(value));
+			return new TypedValue(value, this.returnTypeDescriptor.narrow(value));
 		}
 		catch (Exception ex) {
 			throw new AccessException("Problem invoking method: " + this.methodToInvoke, ex);
 		}
 	}
 
+	/**
+	 * Convert the given arguments in-place, like
+	 * {@link ReflectionHelper#convertArguments}, but with precomputed parameter
+	 * type descriptors and reusing the type descriptors of the argument types
+	 * from previous invocations.
+	 */
+	@SuppressWarnings("NullAway")
+	private boolean convertArguments(TypeConverter converter, Object[] arguments,
+			TypeDescriptor[] parameterTypeDescriptors) {
+
+		TypeDescriptor[] argumentTypeDescriptors = this.argumentTypeDescriptors;
+		boolean conversionOccurred = false;
+		for (int i = 0; i < arguments.length; i++) {
+			Object argument = arguments[i];
+			TypeDescriptor sourceType = null;
+			if (argument != null) {
+				sourceType = argumentTypeDescriptors[i];
+				if (sourceType == null || sourceType.getType() != argument.getClass()) {
+					sourceType = TypeDescriptor.forObject(argument);
+					argumentTypeDescriptors[i] = sourceType;
+				}
+			}
+			arguments[i] = converter.convertValue(argument, sourceType, parameterTypeDescriptors[i]);
+			conversionOccurred |= (argument != arguments[i]);
+		}
+		return conversionOccurred;
+	}
+
 }
@@ -332,6 +332,19 @@ class MethodInvocationTests extends AbstractExpressionTests {
 		assertThat(outBytes).isSameAs(bytes);
 	}
 
+	@Test
+	void invokeMethodRepeatedlyWithChangingArgumentTypes() {
+		Expression expression = parser.parseExpression("printDouble(#value)");
+		for (int i = 0; i < 2; i++) {
+			context.setVariable("value", 2);
+			assertThat(expression.getValue(context)).isEqualTo("2.0");
+			context.setVariable("value", "3.5");
+			assertThat(expression.getValue(context)).isEqualTo("3.5");
+			context.setVariable("value", 4.5d);
+			assertThat(expression.getValue(context)).isEqualTo("4.5");
+		}
+	}
+
 
 	// Simple filter
 	static class LocalFilter implements MethodFilter {
@@ -1832,6 +1832,35 @@ public class SpelCompilationCoverageTests extends AbstractExpressionTests {
 		assertThat(o).isEqualTo("op");
 	}
 
+	@SuppressWarnings("rawtypes")
+	@Test
+	void inlineMap() {
+		expression = parser.parseExpression("{a:1, 'b':'two', c:{1,2}, d:{e:-3}}");
+		Map<?, ?> m = (Map) expression.getValue();
+		assertThat(m.toString()).isEqualTo("{a=1, b=two, c=[1, 2], d={e=-3}}");
+		assertCanCompile(expression);
+		m = (Map) expression.getValue();
+		assertThat(m.toString()).isEqualTo("{a=1, b=two, c=[1, 2], d={e=-3}}");
+
+		expression = parser.parseExpression("{a:1, 'b':'two'}['b'].length()");
+		assertThat(expression.getValue()).isEqualTo(3);
+		assertCanCompile(expression);
+		assertThat(expression.getValue()).isEqualTo(3);
+
+		StandardEvaluationContext ctx = new StandardEvaluationContext();
+		ctx.setVariable("key", "k");
+		ctx.setVariable("value", 42);
+		expression = parser.parseExpression("{name:'abc'.substring(1), (#key):#value, 7:#value > 40}");
+		m = (Map) expression.getValue(ctx);
+		assertThat(m.toString()).isEqualTo("{name=bc, k=42, 7=true}");
+		assertCanCompile(expression);
+		m = (Map) expression.getValue(ctx);
+		assertThat(m.toString()).isEqualTo("{name=bc, k=42, 7=true}");
+		ctx.setVariable("key", "other");
+		m = (Map) expression.getValue(ctx);
+		assertThat(m.toString()).isEqualTo("{name=bc, other=42, 7=true}");
+	}
+
 	@Test
 	void intLiteral() {
 		expression = parser.parseExpression("42");
@@ -4683,6 +4712,225 @@ public class SpelCompilationCoverageTests extends AbstractExpressionTests {
 		assertThat(expression.getValue()).isEqualTo(1.0f);
 	}
 
+	@Test
+	void operatorMatches() {
+		expression = parse("'abc' matches 'a.c'");
+		assertThat(expression.getValue()).isEqualTo(true);
+		assertCanCompile(expression);
+		assertThat(expression.getValue()).isEqualTo(true);
+
+		expression = parse("name matches '[A-Z][a-z]+'");
+		assertThat(expression.getValue(new Person("Andy"), boolean.class)).isTrue();
+		assertThat(expression.getValue(new Person("andy"), boolean.class)).isFalse();
+		assertCanCompile(expression);
+		assertThat(expression.getValue(new Person("Andy"), boolean.class)).isTrue();
+		assertThat(expression.getValue(new Person("andy"), boolean.class)).isFalse();
+
+		StandardEvaluationContext ctx = new StandardEvaluationContext();
+		ctx.setVariable("regex", "[a-c]+");
+		expression = parse("'abc' matches #regex");
+		assertThat(expression.getValue(ctx)).isEqualTo(true);
+		assertCanCompile(expression);
+		assertThat(expression.getValue(ctx)).isEqualTo(true);
+		ctx.setVariable("regex", "[x-z]+");
+		assertThat(expression.getValue(ctx)).isEqualTo(false);
+		ctx.setVariable("regex", "(");
+		assertThatExceptionOfType(SpelEvaluationException.class)
+				.isThrownBy(() -> expression.getValue(ctx))
+				.withCauseInstanceOf(SpelEvaluationException.class)
+				.havingCause()
+				.withMessageContaining("Pattern is not valid");
+
+		// Not compilable since the input needs to be converted to a String
+		expression = parse("123 matches '\\d+'");
+		assertThat(expression.getValue()).isEqualTo(true);
+		assertCannotCompile(expression);
+	}
+
+	@Test
+	void operatorBetween() {
+		expression = parse("3 between {1, 5}");
+		assertThat(expression.getValue()).isEqualTo(true);
+		assertCanCompile(expression);
+		assertThat(expression.getValue()).isEqualTo(true);
+
+		expression = parse("payload between {-2, 5}");
+		assertThat(expression.getValue(new GenericMessageTestHelper<>(-2), boolean.class)).isTrue();
+		assertThat(expression.getValue(new GenericMessageTestHelper<>(6), boolean.class)).isFalse();
+		assertCanCompile(expression);
+		assertThat(expression.getValue(new GenericMessageTestHelper<>(-2), boolean.class)).isTrue();
+		assertThat(expression.getValue(new GenericMessageTestHelper<>(6), boolean.class)).isFalse();
+
+		expression = parse("'efg' between {'abc', 'xyz'}");
+		assertThat(expression.getValue()).isEqualTo(true);
+		assertCanCompile(expression);
+		assertThat(expression.getValue()).isEqualTo(true);
+
+		StandardEvaluationContext ctx = new StandardEvaluationContext();
+		ctx.setVariable("range", List.of(1, 10));
+		expression = parse("5 between #range");
+		assertThat(expression.getValue(ctx)).isEqualTo(true);
+		assertCanCompile(expression);
+		assertThat(expression.getValue(ctx)).isEqualTo(true);
+		ctx.setVariable("range", List.of(6, 10));
+		assertThat(expression.getValue(ctx)).isEqualTo(false);
+	}
+
+	@Test
+	void operatorPower() {
+		expression = parse("2^10");
+		assertThat(expression.getValue()).isEqualTo(1024);
+		assertCanCompile(expression);
+		assertThat(expression.getValue()).isEqualTo(1024);
+
+		expression = parse("2^40");
+		assertThat(expression.getValue()).isEqualTo(1099511627776L);
+		assertCanCompile(expression);
+		assertThat(expression.getValue()).isEqualTo(1099511627776L);
+
+		expression = parse("3L^2");
+		assertThat(expression.getValue()).isEqualTo(9L);
+		assertCanCompile(expression);
+		assertThat(expression.getValue()).isEqualTo(9L);
+
+		expression = parse("2.0d^0.5d");
+		assertThat(expression.getValue()).isEqualTo(Math.sqrt(2));
+		assertCanCompile(expression);
+		assertThat(expression.getValue()).isEqualTo(Math.sqrt(2));
+
+		expression = parse("1.5f^2");
+		assertThat(expression.getValue()).isEqualTo(2.25d);
+		assertCanCompile(expression);
+		assertThat(expression.getValue()).isEqualTo(2.25d);
+
+		expression = parse("payload^2");
+		assertThat(expression.getValue(new GenericMessageTestHelper<>(3.0d))).isEqualTo(9.0d);
+		assertCanCompile(expression);
+		assertThat(expression.getValue(new GenericMessageTestHelper<>(3.0d))).isEqualTo(9.0d);
+		assertThat(expression.getValue(new GenericMessageTestHelper<>(3))).isEqualTo(9);
+
+		expression = parse("new java.math.BigInteger('2')^64");
+		assertThat(expression.getValue()).hasToString("18446744073709551616");
+		assertCanCompile(expression);
+		assertThat(expression.getValue()).hasToString("18446744073709551616");
+	}
+
+	@Test
+	void beanReference() {
+		StandardEvaluationContext ctx = new StandardEvaluationContext();
+		ctx.setBeanResolver((context, beanName) -> new Greeter());
+		expression = parse("@greeter.world");
+		assertThat(expression.getValue(ctx)).isEqualTo("world");
+		assertCanCompile(expression);
+		assertThat(expression.getValue(ctx)).isEqualTo("world");
+
+		expression = parse("@greeter.world.length() + 1");
+		assertThat(expression.getValue(ctx)).isEqualTo(6);
+		assertCanCompile(expression);
+		assertThat(expression.getValue(ctx)).isEqualTo(6);
+	}
+
+	@Test
+	void assignVariable() {
+		StandardEvaluationContext ctx = new StandardEvaluationContext();
+		expression = parse("#counter = 3");
+		assertThat(expression.getValue(ctx)).isEqualTo(3);
+		assertCanCompile(expression);
+		assertThat(expression.getValue(ctx)).isEqualTo(3);
+		assertThat(ctx.lookupVariable("counter")).isEqualTo(3);
+
+		expression = parse("(#text = 'abc').length()");
+		assertThat(expression.getValue(ctx)).isEqualTo(3);
+		assertCanCompile(expression);
+		ctx.setVariable("text", null);
+		assertThat(expression.getValue(ctx)).isEqualTo(3);
+		assertThat(ctx.lookupVariable("text")).isEqualTo("abc");
+
+		// Assignment to a property is not compilable
+		expression = parse("name = 'Andy'");
+		assertThat(expression.getValue(new Person("Clement"))).isEqualTo("Andy");
+		assertCannotCompile(expression);
+	}
+
+	@Test
+	void selection() {
+		List<Integer> numbers = List.of(1, 2, 3, 4, 5, 6);
+
+		expression = parse("?[#this > 3]");
+		assertThat(expression.getValue(numbers)).isEqualTo(List.of(4, 5, 6));
+		assertCanCompile(expression);
+		assertThat(expression.getValue(numbers)).isEqualTo(List.of(4, 5, 6));
+
+		expression = parse("^[#this > 3]");
+		assertThat(expression.getValue(numbers)).isEqualTo(4);
+		assertCanCompile(expression);
+		assertThat(expression.getValue(numbers)).isEqualTo(4);
+		assertThat(expression.getValue(List.of(1))).isNull();
+
+		expression = parse("$[#this > 3]");
+		assertThat(expression.getValue(numbers)).isEqualTo(6);
+		assertCanCompile(expression);
+		assertThat(expression.getValue(numbers)).isEqualTo(6);
+		assertThat(expression.getValue(List.of(1))).isNull();
+
+		List<Person> people = List.of(new Person("Andy"), new Person("Juergen"), new Person("Sam"));
+		expression = parse("?[name.length() > #root[0].name.length()].size()");
+		assertThat(expression.getValue(people)).isEqualTo(1);
+		assertCanCompile(expression);
+		assertThat(expression.getValue(people)).isEqualTo(1);
+
+		expression = parse("?[name matches 'S.*'][0].name");
+		assertThat(expression.getValue(people)).isEqualTo("Sam");
+		assertCanCompile(expression);
+		assertThat(expression.getValue(people)).isEqualTo("Sam");
+
+		expression = parse("payload?.?[#this > 1]");
+		assertThat(expression.getValue(new GenericMessageTestHelper<>(numbers))).isEqualTo(List.of(2, 3, 4, 5, 6));
+		assertCanCompile(expression);
+		assertThat(expression.getValue(new GenericMessageTestHelper<>(numbers))).isEqualTo(List.of(2, 3, 4, 5, 6));
+		assertThat(expression.getValue(new GenericMessageTestHelper<>(null))).isNull();
+
+		// Selection on a map or an array is not compilable
+		expression = parse("?[value > 1]");
+		assertThat(expression.getValue(Map.of("a", 1, "b", 2))).isEqualTo(Map.of("b", 2));
+		assertCannotCompile(expression);
+
+		expression = parse("?[#this > 1]");
+		assertThat(expression.getValue(new int[] {1, 2, 3})).isEqualTo(new Integer[] {2, 3});
+		assertCannotCompile(expression);
+	}
+
+	@Test
+	void projection() {
+		List<Person> people = List.of(new Person("Andy"), new Person("Juergen"), new Person("Sam"));
+
+		expression = parse("![name]");
+		assertThat(expression.getValue(people)).isEqualTo(List.of("Andy", "Juergen", "Sam"));
+		assertCanCompile(expression);
+		assertThat(expression.getValue(people)).isEqualTo(List.of("Andy", "Juergen", "Sam"));
+
+		expression = parse("![name.length() * 2]");
+		assertThat(expression.getValue(people)).isEqualTo(List.of(8, 14, 6));
+		assertCanCompile(expression);
+		assertThat(expression.getValue(people)).isEqualTo(List.of(8, 14, 6));
+
+		expression = parse("?[name.length() > 3].![{name:name, brief:name.length() between {0, 4}}]");
+		assertThat(expression.getValue(people)).hasToString("[{name=Andy, brief=true}, {name=Juergen, brief=false}]");
+		assertCanCompile(expression);
+		assertThat(expression.getValue(people)).hasToString("[{name=Andy, brief=true}, {name=Juergen, brief=false}]");
+
+		expression = parse("payload?.![#this ^ 2]");
+		assertThat(expression.getValue(new GenericMessageTestHelper<>(List.of(1, 2, 3)))).isEqualTo(List.of(1, 4, 9));
+		assertCanCompile(expression);
+		assertThat(expression.getValue(new GenericMessageTestHelper<>(List.of(1, 2, 3)))).isEqualTo(List.of(1, 4, 9));
+		assertThat(expression.getValue(new GenericMessageTestHelper<>(null))).isNull();
+
+		// Projection on an array is not compilable
+		expression = parse("![#this * 2]");
+		assertThat(expression.getValue(new int[] {1, 2, 3})).isEqualTo(new Integer[] {2, 4, 6});
+		assertCannotCompile(expression);
+	}
+
 	@Test
 	void compilationOfBasicNullSafeMethodReference() {
 		SpelExpressionParser parser = new SpelExpressionParser(
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.expression.spel.standard;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.common.TemplateParserContext;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link SpelExpressionCache}.
+ */
+class SpelExpressionCacheTests {
+
+	private final EvaluationContext context = new StandardEvaluationContext();
+
+
+	@Test
+	void expressionIsParsedOnce() {
+		SpelExpressionCache cache = new SpelExpressionCache();
+		Expression expression = cache.getExpression("1 + 2");
+
+		assertThat(cache.getExpression("1 + 2")).isSameAs(expression);
+		assertThat(cache.getExpression("1 + 3")).isNotSameAs(expression);
+		assertThat(cache.size()).isEqualTo(2);
+
+		SpelExpressionCache.Statistics statistics = cache.getStatistics();
+		assertThat(statistics.size()).isEqualTo(2);
+		assertThat(statistics.hitCount()).isEqualTo(1);
+		assertThat(statistics.missCount()).isEqualTo(2);
+	}
+
+	@Test
+	void templateExpressionsAreCachedSeparately() {
+		SpelExpressionCache cache = new SpelExpressionCache();
+		Expression plain = cache.getExpression("'a'");
+		Expression template = cache.getExpression("'a'", new TemplateParserContext());
+		Expression customTemplate = cache.getExpression("'a'", new TemplateParserContext("${", "}"));
+
+		assertThat(plain.getValue(this.context)).isEqualTo("a");
+		assertThat(template.getValue(this.context)).isEqualTo("'a'");
+		assertThat(customTemplate).isNotSameAs(template);
+		assertThat(cache.getExpression("'a'", new TemplateParserContext())).isSameAs(template);
+		assertThat(cache.size()).isEqualTo(3);
+	}
+
+	@Test
+	void clearRemovesCachedExpressions() {
+		SpelExpressionCache cache = new SpelExpressionCache();
+		Expression expression = cache.getExpression("1 + 2");
+		cache.clear();
+
+		assertThat(cache.size()).isZero();
+		assertThat(cache.getExpression("1 + 2")).isNotSameAs(expression);
+	}
+
+	@Test
+	void interpretedInvocationsAreRecorded() {
+		SpelExpressionCache cache = new SpelExpressionCache(new SpelParserConfiguration(SpelCompilerMode.OFF, null));
+		Expression expression = cache.getExpression("'abc'.length()");
+		IntStream.range(0, 3).forEach(i -> assertThat(expression.getValue(this.context)).isEqualTo(3));
+
+		SpelExpressionCache.Statistics statistics = cache.getStatistics();
+		assertThat(statistics.interpretedInvocations()).isEqualTo(3);
+		assertThat(statistics.compiledInvocations()).isZero();
+		assertThat(statistics.compilations()).isZero();
+		assertThat(statistics.compiledRatio()).isZero();
+	}
+
+	@Test
+	void compiledInvocationsAreRecorded() {
+		SpelExpressionCache cache = new SpelExpressionCache(new SpelParserConfiguration(SpelCompilerMode.IMMEDIATE, null));
+		Expression expression = cache.getExpression("'abc'.length()");
+		IntStream.range(0, 5).forEach(i -> assertThat(expression.getValue(this.context)).isEqualTo(3));
+
+		SpelExpressionCache.Statistics statistics = cache.getStatistics();
+		assertThat(statistics.interpretedInvocations()).isEqualTo(2);
+		assertThat(statistics.compilations()).isEqualTo(1);
+		assertThat(statistics.compiledInvocations()).isEqualTo(3);
+		assertThat(statistics.compiledRatio()).isEqualTo(0.6);
+	}
+
+	@Test
+	void compilationFailuresAreRecorded() {
+		SpelExpressionCache cache = new SpelExpressionCache(new SpelParserConfiguration(SpelCompilerMode.IMMEDIATE, null));
+		// Selection on a Map is not compilable
+		Expression expression = cache.getExpression("{'a':1,'b':2}.?[value > 1].size()");
+		IntStream.range(0, 3).forEach(i -> assertThat(expression.getValue(this.context)).isEqualTo(1));
+
+		SpelExpressionCache.Statistics statistics = cache.getStatistics();
+		assertThat(statistics.interpretedInvocations()).isEqualTo(3);
+		assertThat(statistics.compilations()).isZero();
+		assertThat(statistics.compilationFailures()).isEqualTo(2);
+	}
+
+	@Test
+	void deoptimizationsAreRecordedInMixedMode() {
+		SpelExpressionCache cache = new SpelExpressionCache(new SpelParserConfiguration(SpelCompilerMode.MIXED, null));
+		Expression expression = cache.getExpression("name");
+		IntStream.rangeClosed(0, 101).forEach(i ->
+				assertThat(expression.getValue(this.context, new Foo())).isEqualTo("foo"));
+		assertThat(cache.getStatistics().compilations()).isEqualTo(1);
+
+		assertThat(expression.getValue(this.context, new Bar())).isEqualTo("bar");
+		SpelExpressionCache.Statistics statistics = cache.getStatistics();
+		assertThat(statistics.deoptimizations()).isEqualTo(1);
+		assertThat(statistics.interpretedInvocations()).isEqualTo(102);
+	}
+
+	@Test
+	void scopedExpressionsAreCompiledSeparately() {
+		SpelExpressionCache cache = new SpelExpressionCache(new SpelParserConfiguration(SpelCompilerMode.IMMEDIATE, null));
+		Expression fooExpression = cache.getExpression("name", null, Foo.class);
+		Expression barExpression = cache.getExpression("name", null, Bar.class);
+
+		assertThat(barExpression).isNotSameAs(fooExpression);
+		assertThat(cache.getExpression("name", null, Foo.class)).isSameAs(fooExpression);
+		assertThat(cache.getExpression("name")).isNotSameAs(fooExpression).isNotSameAs(barExpression);
+		IntStream.range(0, 3).forEach(i -> {
+			assertThat(fooExpression.getValue(this.context, new Foo())).isEqualTo("foo");
+			assertThat(barExpression.getValue(this.context, new Bar())).isEqualTo("bar");
+		});
+		SpelExpressionCache.Statistics statistics = cache.getStatistics();
+		assertThat(statistics.compilations()).isEqualTo(2);
+		assertThat(statistics.compiledInvocations()).isEqualTo(2);
+	}
+
+
+	public static class Foo {
+
+		public String getName() {
+			return "foo";
+		}
+	}
+
+
+	public static class Bar {
+
+		public String getName() {
+			return "bar";
+		}
+	}
+
+}
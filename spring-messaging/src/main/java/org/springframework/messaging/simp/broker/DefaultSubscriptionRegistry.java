@@ -30,11 +30,10 @@ import java.util.function.BiConsumer;
 
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
-import org.springframework.expression.ExpressionParser;
 import org.springframework.expression.PropertyAccessor;
 import org.springframework.expression.TypedValue;
 import org.springframework.expression.spel.SpelEvaluationException;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionCache;
 import org.springframework.expression.spel.support.SimpleEvaluationContext;
 import org.springframework.lang.Nullable;
 import org.springframework.messaging.Message;
@@ -85,7 +84,9 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 
 	private volatile boolean selectorHeaderInUse;
 
-	private final ExpressionParser expressionParser = new SpelExpressionParser();
+	// Selectors are client-supplied, so they get a bounded cache of their own rather than
+	// the expression cache of the application context
+	private final SpelExpressionCache expressionCache = new SpelExpressionCache();
 
 	private final DestinationCache destinationCache = new DestinationCache();
 
@@ -176,7 +177,7 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 		}
 		Expression expression = null;
 		try {
-			expression = this.expressionParser.parseExpression(selector);
+			expression = this.expressionCache.getExpression(selector);
 			this.selectorHeaderInUse = true;
 			if (logger.isTraceEnabled()) {
 				logger.trace("Subscription selector: [" + selector + "]");
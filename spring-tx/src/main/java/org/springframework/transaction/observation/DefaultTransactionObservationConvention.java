@@ -0,0 +1,121 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.transaction.observation;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.observation.TransactionObservationDocumentation.HighCardinalityKeyNames;
+import org.springframework.transaction.observation.TransactionObservationDocumentation.LowCardinalityKeyNames;
+
+/**
+ * Default implementation for {@link TransactionObservationConvention}.
+ *
+ * @since 6.2
+ */
+public class DefaultTransactionObservationConvention implements TransactionObservationConvention {
+
+	private static final String DEFAULT_NAME = "transaction";
+
+	private static final Map<Integer, KeyValue> PROPAGATION_VALUES = Arrays.stream(Propagation.values())
+			.collect(Collectors.toUnmodifiableMap(Propagation::value,
+					propagation -> KeyValue.of(LowCardinalityKeyNames.PROPAGATION, propagation.name())));
+
+	private static final Map<Integer, KeyValue> ISOLATION_VALUES = Arrays.stream(Isolation.values())
+			.collect(Collectors.toUnmodifiableMap(Isolation::value,
+					isolation -> KeyValue.of(LowCardinalityKeyNames.ISOLATION, isolation.name())));
+
+	private static final KeyValue PROPAGATION_UNKNOWN = KeyValue.of(LowCardinalityKeyNames.PROPAGATION, "UNKNOWN");
+
+	private static final KeyValue ISOLATION_UNKNOWN = KeyValue.of(LowCardinalityKeyNames.ISOLATION, "UNKNOWN");
+
+	private static final KeyValue READ_ONLY_TRUE = KeyValue.of(LowCardinalityKeyNames.READ_ONLY, "true");
+
+	private static final KeyValue READ_ONLY_FALSE = KeyValue.of(LowCardinalityKeyNames.READ_ONLY, "false");
+
+	private static final KeyValue EXCEPTION_NONE = KeyValue.of(LowCardinalityKeyNames.EXCEPTION, KeyValue.NONE_VALUE);
+
+	private static final KeyValue NAME_NONE = KeyValue.of(HighCardinalityKeyNames.NAME, KeyValue.NONE_VALUE);
+
+
+	@Override
+	public String getName() {
+		return DEFAULT_NAME;
+	}
+
+	@Override
+	public String getContextualName(TransactionObservationContext context) {
+		String name = context.getTransactionDefinition().getName();
+		return (name != null ? "transaction " + name : "transaction");
+	}
+
+	@Override
+	public KeyValues getLowCardinalityKeyValues(TransactionObservationContext context) {
+		return KeyValues.of(transactionManager(context), propagation(context), isolation(context),
+				readOnly(context), exception(context), outcome(context));
+	}
+
+	@Override
+	public KeyValues getHighCardinalityKeyValues(TransactionObservationContext context) {
+		return KeyValues.of(name(context), suspensions(context));
+	}
+
+	protected KeyValue transactionManager(TransactionObservationContext context) {
+		return KeyValue.of(LowCardinalityKeyNames.TRANSACTION_MANAGER, context.getTransactionManagerType().getSimpleName());
+	}
+
+	protected KeyValue propagation(TransactionObservationContext context) {
+		int propagationBehavior = context.getTransactionDefinition().getPropagationBehavior();
+		return PROPAGATION_VALUES.getOrDefault(propagationBehavior, PROPAGATION_UNKNOWN);
+	}
+
+	protected KeyValue isolation(TransactionObservationContext context) {
+		int isolationLevel = context.getTransactionDefinition().getIsolationLevel();
+		return ISOLATION_VALUES.getOrDefault(isolationLevel, ISOLATION_UNKNOWN);
+	}
+
+	protected KeyValue readOnly(TransactionObservationContext context) {
+		return (context.getTransactionDefinition().isReadOnly() ? READ_ONLY_TRUE : READ_ONLY_FALSE);
+	}
+
+	protected KeyValue exception(TransactionObservationContext context) {
+		if (context.getError() != null) {
+			return KeyValue.of(LowCardinalityKeyNames.EXCEPTION, context.getError().getClass().getSimpleName());
+		}
+		return EXCEPTION_NONE;
+	}
+
+	protected KeyValue outcome(TransactionObservationContext context) {
+		return KeyValue.of(LowCardinalityKeyNames.OUTCOME, context.getOutcome().name());
+	}
+
+	protected KeyValue name(TransactionObservationContext context) {
+		String name = context.getTransactionDefinition().getName();
+		return (name != null ? KeyValue.of(HighCardinalityKeyNames.NAME, name) : NAME_NONE);
+	}
+
+	protected KeyValue suspensions(TransactionObservationContext context) {
+		return KeyValue.of(HighCardinalityKeyNames.SUSPENSIONS, String.valueOf(context.getSuspensionCount()));
+	}
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.transaction.observation;
+
+import java.util.Locale;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+
+import org.springframework.transaction.observation.TransactionObservationDocumentation.LowCardinalityKeyNames;
+import org.springframework.transaction.observation.TransactionObservationDocumentation.OperationLowCardinalityKeyNames;
+
+/**
+ * Default implementation for {@link TransactionOperationObservationConvention},
+ * describing the transaction that an operation is performed on like the
+ * {@link DefaultTransactionObservationConvention} does.
+ *
+ * @since 6.2
+ */
+public class DefaultTransactionOperationObservationConvention implements TransactionOperationObservationConvention {
+
+	private static final String DEFAULT_NAME = "transaction.operation";
+
+	private static final KeyValue EXCEPTION_NONE = KeyValue.of(LowCardinalityKeyNames.EXCEPTION, KeyValue.NONE_VALUE);
+
+	private final DefaultTransactionObservationConvention transactionConvention =
+			new DefaultTransactionObservationConvention();
+
+
+	@Override
+	public String getName() {
+		return DEFAULT_NAME;
+	}
+
+	@Override
+	public String getContextualName(TransactionOperationObservationContext context) {
+		return "transaction " + operationName(context);
+	}
+
+	@Override
+	public KeyValues getLowCardinalityKeyValues(TransactionOperationObservationContext context) {
+		TransactionObservationContext transactionContext = context.getTransactionContext();
+		return KeyValues.of(operation(context),
+				this.transactionConvention.transactionManager(transactionContext),
+				this.transactionConvention.propagation(transactionContext),
+				this.transactionConvention.isolation(transactionContext),
+				this.transactionConvention.readOnly(transactionContext),
+				exception(context));
+	}
+
+	@Override
+	public KeyValues getHighCardinalityKeyValues(TransactionOperationObservationContext context) {
+		return KeyValues.of(this.transactionConvention.name(context.getTransactionContext()));
+	}
+
+	protected KeyValue operation(TransactionOperationObservationContext context) {
+		return KeyValue.of(OperationLowCardinalityKeyNames.OPERATION, operationName(context));
+	}
+
+	protected KeyValue exception(TransactionOperationObservationContext context) {
+		if (context.getError() != null) {
+			return KeyValue.of(LowCardinalityKeyNames.EXCEPTION, context.getError().getClass().getSimpleName());
+		}
+		return EXCEPTION_NONE;
+	}
+
+	private static String operationName(TransactionOperationObservationContext context) {
+		return context.getOperation().name().toLowerCase(Locale.ROOT);
+	}
+
+}
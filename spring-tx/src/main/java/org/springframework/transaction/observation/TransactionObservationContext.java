@@ -0,0 +1,121 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.transaction.observation;
+
+import io.micrometer.observation.Observation;
+
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Context that holds information for observation metadata collection during the
+ * {@link TransactionObservationDocumentation#TRANSACTION lifecycle of transactions}.
+ *
+ * @since 6.2
+ */
+public class TransactionObservationContext extends Observation.Context {
+
+	private final TransactionDefinition transactionDefinition;
+
+	private final Class<?> transactionManagerType;
+
+	private Outcome outcome = Outcome.UNKNOWN;
+
+	private int suspensionCount;
+
+
+	/**
+	 * Create a new observation context for a transaction, given its definition
+	 * and the transaction manager that is handling it.
+	 * @param transactionDefinition the definition of the transaction
+	 * @param transactionManager the transaction manager that handles the transaction
+	 */
+	public TransactionObservationContext(TransactionDefinition transactionDefinition, Object transactionManager) {
+		this.transactionDefinition = transactionDefinition;
+		this.transactionManagerType = ClassUtils.getUserClass(transactionManager);
+	}
+
+
+	/**
+	 * Return the definition of the transaction.
+	 */
+	public TransactionDefinition getTransactionDefinition() {
+		return this.transactionDefinition;
+	}
+
+	/**
+	 * Return the type of the transaction manager that handles the transaction.
+	 */
+	public Class<?> getTransactionManagerType() {
+		return this.transactionManagerType;
+	}
+
+	/**
+	 * Return the outcome of the transaction.
+	 * <p>If an observation has ended with an {@link Outcome#UNKNOWN unknown}
+	 * outcome, the transaction has either failed to begin or its completion
+	 * has failed, with an {@link #getError() error} available in most cases.
+	 */
+	public Outcome getOutcome() {
+		return this.outcome;
+	}
+
+	/**
+	 * Set the outcome of the transaction.
+	 */
+	public void setOutcome(Outcome outcome) {
+		this.outcome = outcome;
+	}
+
+	/**
+	 * Return the number of times that the transaction has been suspended
+	 * in favor of another transaction.
+	 */
+	public int getSuspensionCount() {
+		return this.suspensionCount;
+	}
+
+	/**
+	 * Increment the number of times that the transaction has been suspended.
+	 */
+	public void incrementSuspensionCount() {
+		this.suspensionCount++;
+	}
+
+
+	/**
+	 * Outcome of a transaction.
+	 */
+	public enum Outcome {
+
+		/**
+		 * The transaction has been committed.
+		 */
+		COMMITTED,
+
+		/**
+		 * The transaction has been rolled back.
+		 */
+		ROLLED_BACK,
+
+		/**
+		 * The transaction has not completed, or its outcome is unknown.
+		 */
+		UNKNOWN
+	}
+
+}
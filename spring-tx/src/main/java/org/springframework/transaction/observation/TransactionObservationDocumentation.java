@@ -0,0 +1,211 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.transaction.observation;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationConvention;
+import io.micrometer.observation.docs.ObservationDocumentation;
+
+/**
+ * Documented {@link io.micrometer.common.KeyValue KeyValues} for the observations
+ * on transactions managed by Spring's transaction managers.
+ *
+ * <p>This class is used by automated tools to document KeyValues attached to the
+ * transaction observations.
+ *
+ * @since 6.2
+ * @see org.springframework.transaction.support.AbstractPlatformTransactionManager#setObservationRegistry
+ * @see org.springframework.transaction.reactive.AbstractReactiveTransactionManager#setObservationRegistry
+ */
+public enum TransactionObservationDocumentation implements ObservationDocumentation {
+
+	/**
+	 * Observations on the lifecycle of transactions, from their begin to their
+	 * completion. For resource transaction managers such as the JDBC
+	 * {@code DataSourceTransactionManager}, this corresponds to the time that
+	 * the transactional resource is held.
+	 */
+	TRANSACTION {
+		@Override
+		public Class<? extends ObservationConvention<? extends Observation.Context>> getDefaultConvention() {
+			return DefaultTransactionObservationConvention.class;
+		}
+		@Override
+		public KeyName[] getLowCardinalityKeyNames() {
+			return LowCardinalityKeyNames.values();
+		}
+		@Override
+		public KeyName[] getHighCardinalityKeyNames() {
+			return HighCardinalityKeyNames.values();
+		}
+		@Override
+		public Observation.Event[] getEvents() {
+			return Events.values();
+		}
+	},
+
+	/**
+	 * Observations on the begin, commit and rollback operations
+	 * of transactions, nested in the {@link #TRANSACTION} observation.
+	 */
+	TRANSACTION_OPERATION {
+		@Override
+		public Class<? extends ObservationConvention<? extends Observation.Context>> getDefaultConvention() {
+			return DefaultTransactionOperationObservationConvention.class;
+		}
+		@Override
+		public KeyName[] getLowCardinalityKeyNames() {
+			return new KeyName[] {OperationLowCardinalityKeyNames.OPERATION,
+					LowCardinalityKeyNames.TRANSACTION_MANAGER, LowCardinalityKeyNames.PROPAGATION,
+					LowCardinalityKeyNames.ISOLATION, LowCardinalityKeyNames.READ_ONLY,
+					LowCardinalityKeyNames.EXCEPTION};
+		}
+		@Override
+		public KeyName[] getHighCardinalityKeyNames() {
+			return new KeyName[] {HighCardinalityKeyNames.NAME};
+		}
+	};
+
+
+	public enum LowCardinalityKeyNames implements KeyName {
+
+		/**
+		 * {@link Class#getSimpleName() Simple name} of the transaction manager type.
+		 */
+		TRANSACTION_MANAGER {
+			@Override
+			public String asString() {
+				return "transaction.manager";
+			}
+		},
+
+		/**
+		 * Propagation behavior of the transaction, for example {@code "REQUIRED"}.
+		 */
+		PROPAGATION {
+			@Override
+			public String asString() {
+				return "transaction.propagation";
+			}
+		},
+
+		/**
+		 * Isolation level of the transaction, for example {@code "DEFAULT"}.
+		 */
+		ISOLATION {
+			@Override
+			public String asString() {
+				return "transaction.isolation";
+			}
+		},
+
+		/**
+		 * Whether the transaction is read-only.
+		 */
+		READ_ONLY {
+			@Override
+			public String asString() {
+				return "transaction.read-only";
+			}
+		},
+
+		/**
+		 * Name of the exception thrown while handling the transaction,
+		 * or {@value KeyValue#NONE_VALUE} if no exception was thrown.
+		 */
+		EXCEPTION {
+			@Override
+			public String asString() {
+				return "exception";
+			}
+		},
+
+		/**
+		 * Outcome of the transaction: committed, rolled back or unknown.
+		 */
+		OUTCOME {
+			@Override
+			public String asString() {
+				return "outcome";
+			}
+		}
+
+	}
+
+
+	public enum HighCardinalityKeyNames implements KeyName {
+
+		/**
+		 * Name of the transaction, or {@value KeyValue#NONE_VALUE} if none.
+		 */
+		NAME {
+			@Override
+			public String asString() {
+				return "transaction.name";
+			}
+		},
+
+		/**
+		 * Number of times that the transaction has been suspended
+		 * in favor of another transaction.
+		 */
+		SUSPENSIONS {
+			@Override
+			public String asString() {
+				return "transaction.suspensions";
+			}
+		}
+
+	}
+
+
+	public enum OperationLowCardinalityKeyNames implements KeyName {
+
+		/**
+		 * Name of the transaction operation: begin, commit or rollback.
+		 */
+		OPERATION {
+			@Override
+			public String asString() {
+				return "transaction.operation";
+			}
+		}
+
+	}
+
+
+	public enum Events implements Observation.Event {
+
+		/**
+		 * Suspension of the transaction in favor of another transaction.
+		 */
+		SUSPENSION {
+			@Override
+			public String getName() {
+				return "suspension";
+			}
+			@Override
+			public String getContextualName() {
+				return "transaction suspended";
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.transaction.observation;
+
+import io.micrometer.observation.Observation;
+
+/**
+ * Context that holds information for observation metadata collection during the
+ * {@link TransactionObservationDocumentation#TRANSACTION_OPERATION begin, commit
+ * and rollback operations of transactions}.
+ *
+ * @since 6.2
+ */
+public class TransactionOperationObservationContext extends Observation.Context {
+
+	private final Operation operation;
+
+	private final TransactionObservationContext transactionContext;
+
+
+	/**
+	 * Create a new observation context for an operation of a transaction.
+	 * @param operation the operation that is performed on the transaction
+	 * @param transactionContext the observation context of the transaction itself
+	 */
+	public TransactionOperationObservationContext(Operation operation, TransactionObservationContext transactionContext) {
+		this.operation = operation;
+		this.transactionContext = transactionContext;
+	}
+
+
+	/**
+	 * Return the operation that is performed on the transaction.
+	 */
+	public Operation getOperation() {
+		return this.operation;
+	}
+
+	/**
+	 * Return the observation context of the transaction itself.
+	 */
+	public TransactionObservationContext getTransactionContext() {
+		return this.transactionContext;
+	}
+
+
+	/**
+	 * Operation performed on a transaction.
+	 */
+	public enum Operation {
+
+		/**
+		 * Begin of a new transaction.
+		 */
+		BEGIN,
+
+		/**
+		 * Commit of the transaction.
+		 */
+		COMMIT,
+
+		/**
+		 * Rollback of the transaction.
+		 */
+		ROLLBACK
+	}
+
+}
@@ -0,0 +1,9 @@
+/**
+ * Instrumentation for transaction management with the Micrometer Observation API.
+ */
+@NonNullApi
+@NonNullFields
+package org.springframework.transaction.observation;
+
+import org.springframework.lang.NonNullApi;
+import org.springframework.lang.NonNullFields;
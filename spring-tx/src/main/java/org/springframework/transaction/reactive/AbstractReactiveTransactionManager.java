@@ -26,6 +26,8 @@ import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import reactor.core.publisher.Flux;
@@ -42,6 +44,15 @@ import org.springframework.transaction.TransactionException;
 import org.springframework.transaction.TransactionExecutionListener;
 import org.springframework.transaction.TransactionSuspensionNotSupportedException;
 import org.springframework.transaction.UnexpectedRollbackException;
+import org.springframework.transaction.observation.DefaultTransactionObservationConvention;
+import org.springframework.transaction.observation.DefaultTransactionOperationObservationConvention;
+import org.springframework.transaction.observation.TransactionObservationContext;
+import org.springframework.transaction.observation.TransactionObservationConvention;
+import org.springframework.transaction.observation.TransactionObservationDocumentation;
+import org.springframework.transaction.observation.TransactionOperationObservationContext;
+import org.springframework.transaction.observation.TransactionOperationObservationContext.Operation;
+import org.springframework.transaction.observation.TransactionOperationObservationConvention;
+import org.springframework.util.Assert;
 
 /**
  * Abstract base class that implements Spring's standard reactive transaction workflow,
@@ -84,10 +95,25 @@ import org.springframework.transaction.UnexpectedRollbackException;
 public abstract class AbstractReactiveTransactionManager
 		implements ReactiveTransactionManager, ConfigurableTransactionManager, Serializable {
 
+	private static final TransactionObservationConvention DEFAULT_OBSERVATION_CONVENTION =
+			new DefaultTransactionObservationConvention();
+
+	private static final TransactionOperationObservationConvention DEFAULT_OPERATION_OBSERVATION_CONVENTION =
+			new DefaultTransactionOperationObservationConvention();
+
+
 	protected transient Log logger = LogFactory.getLog(getClass());
 
 	private Collection<TransactionExecutionListener> transactionExecutionListeners = new ArrayList<>();
 
+	private transient ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+	@Nullable
+	private transient TransactionObservationConvention observationConvention;
+
+	@Nullable
+	private transient TransactionOperationObservationConvention operationObservationConvention;
+
 
 	@Override
 	public final void setTransactionExecutionListeners(Collection<TransactionExecutionListener> listeners) {
@@ -99,6 +125,51 @@ public abstract class AbstractReactiveTransactionManager
 		return this.transactionExecutionListeners;
 	}
 
+	/**
+	 * Configure the {@link ObservationRegistry} to use for recording observations
+	 * on new transactions: their lifecycle from begin to completion, as well as
+	 * their begin, commit and rollback operations.
+	 * <p>No observations are recorded by default.
+	 * @since 6.2
+	 * @see TransactionObservationDocumentation
+	 */
+	public final void setObservationRegistry(ObservationRegistry observationRegistry) {
+		Assert.notNull(observationRegistry, "ObservationRegistry must not be null");
+		this.observationRegistry = observationRegistry;
+	}
+
+	/**
+	 * Return the {@link ObservationRegistry} to use for recording observations.
+	 * @since 6.2
+	 */
+	public final ObservationRegistry getObservationRegistry() {
+		return this.observationRegistry;
+	}
+
+	/**
+	 * Configure a custom {@link TransactionObservationConvention} to use for
+	 * the observations on the lifecycle of new transactions.
+	 * <p>By default, a {@link DefaultTransactionObservationConvention} is used.
+	 * @since 6.2
+	 */
+	public final void setObservationConvention(TransactionObservationConvention observationConvention) {
+		Assert.notNull(observationConvention, "TransactionObservationConvention must not be null");
+		this.observationConvention = observationConvention;
+	}
+
+	/**
+	 * Configure a custom {@link TransactionOperationObservationConvention} to use
+	 * for the observations on begin, commit and rollback operations.
+	 * <p>By default, a {@link DefaultTransactionOperationObservationConvention} is used.
+	 * @since 6.2
+	 */
+	public final void setOperationObservationConvention(
+			TransactionOperationObservationConvention operationObservationConvention) {
+
+		Assert.notNull(operationObservationConvention, "TransactionOperationObservationConvention must not be null");
+		this.operationObservationConvention = operationObservationConvention;
+	}
+
 
 	//---------------------------------------------------------------------
 	// Implementation of ReactiveTransactionManager
@@ -158,7 +229,7 @@ public abstract class AbstractReactiveTransactionManager
 										nestedSynchronizationManager, def, transaction, true,
 										false, debugEnabled, suspendedResources.orElse(null));
 								this.transactionExecutionListeners.forEach(listener -> listener.beforeBegin(status));
-								return doBegin(nestedSynchronizationManager, transaction, def)
+								return observeBegin(status, def, doBegin(nestedSynchronizationManager, transaction, def))
 										.doOnSuccess(ignore -> prepareSynchronization(nestedSynchronizationManager, status, def))
 										.doOnError(ex -> this.transactionExecutionListeners.forEach(listener -> listener.afterBegin(status, ex)))
 										.thenReturn(status);
@@ -212,7 +283,7 @@ public abstract class AbstractReactiveTransactionManager
 				GenericReactiveTransaction status = newReactiveTransaction(synchronizationManager,
 						definition, transaction, true, false, debugEnabled, suspendedResourcesHolder);
 				this.transactionExecutionListeners.forEach(listener -> listener.beforeBegin(status));
-				return doBegin(synchronizationManager, transaction, definition)
+				return observeBegin(status, definition, doBegin(synchronizationManager, transaction, definition))
 						.doOnSuccess(ignore -> prepareSynchronization(synchronizationManager, status, definition))
 						.doOnError(ex -> this.transactionExecutionListeners.forEach(listener -> listener.afterBegin(status, ex)))
 						.thenReturn(status)
@@ -230,8 +301,9 @@ public abstract class AbstractReactiveTransactionManager
 			// Nested transaction through nested begin and commit/rollback calls.
 			GenericReactiveTransaction status = newReactiveTransaction(synchronizationManager,
 					definition, transaction, true, true, debugEnabled, null);
-			return doBegin(synchronizationManager, transaction, definition).doOnSuccess(ignore ->
-					prepareSynchronization(synchronizationManager, status, definition)).thenReturn(status);
+			return observeBegin(status, definition, doBegin(synchronizationManager, transaction, definition))
+					.doOnSuccess(ignore -> prepareSynchronization(synchronizationManager, status, definition))
+					.thenReturn(status);
 		}
 
 		// PROPAGATION_REQUIRED, PROPAGATION_SUPPORTS, PROPAGATION_MANDATORY:
@@ -466,7 +538,7 @@ public abstract class AbstractReactiveTransactionManager
 							logger.debug("Initiating transaction commit");
 						}
 						this.transactionExecutionListeners.forEach(listener -> listener.beforeCommit(status));
-						return doCommit(synchronizationManager, status);
+						return observeOperation(status, Operation.COMMIT, doCommit(synchronizationManager, status));
 					}
 					return Mono.empty();
 				}))
@@ -555,7 +627,7 @@ public abstract class AbstractReactiveTransactionManager
 					logger.debug("Initiating transaction rollback");
 				}
 				this.transactionExecutionListeners.forEach(listener -> listener.beforeRollback(status));
-				return doRollback(synchronizationManager, status);
+				return observeOperation(status, Operation.ROLLBACK, doRollback(synchronizationManager, status));
 			}
 			else {
 				Mono<Void> beforeCompletion = Mono.empty();
@@ -606,7 +678,7 @@ public abstract class AbstractReactiveTransactionManager
 				if (status.isDebug()) {
 					logger.debug("Initiating transaction rollback after commit exception", ex);
 				}
-				return doRollback(synchronizationManager, status);
+				return observeOperation(status, Operation.ROLLBACK, doRollback(synchronizationManager, status));
 			}
 			else if (status.hasTransaction()) {
 				if (status.isDebug()) {
@@ -739,7 +811,8 @@ public abstract class AbstractReactiveTransactionManager
 			}
 			Mono<Void> cleanup = Mono.empty();
 			if (status.isNewTransaction()) {
-				cleanup = doCleanupAfterCompletion(synchronizationManager, status.getTransaction());
+				cleanup = doCleanupAfterCompletion(synchronizationManager, status.getTransaction())
+						.doFinally(signal -> stopObservation(status, null));
 			}
 			if (status.getSuspendedResources() != null) {
 				if (status.isDebug()) {
@@ -754,6 +827,83 @@ public abstract class AbstractReactiveTransactionManager
 	}
 
 
+	/**
+	 * Begin the given new transaction, starting an observation on its lifecycle
+	 * and observing the begin operation itself.
+	 * Does not observe anything if no {@link #setObservationRegistry ObservationRegistry}
+	 * is configured.
+	 * @param status object representing the transaction
+	 * @param definition the definition of the transaction
+	 * @param begin the begin operation, as returned by {@code doBegin}
+	 */
+	private Mono<Void> observeBegin(GenericReactiveTransaction status, TransactionDefinition definition,
+			Mono<Void> begin) {
+
+		if (this.observationRegistry.isNoop()) {
+			return begin;
+		}
+		TransactionObservationContext context = new TransactionObservationContext(definition, this);
+		status.setObservation(TransactionObservationDocumentation.TRANSACTION.observation(
+				this.observationConvention, DEFAULT_OBSERVATION_CONVENTION, () -> context,
+				this.observationRegistry).start());
+		return observeOperation(status, Operation.BEGIN, begin).doOnError(ex -> stopObservation(status, ex));
+	}
+
+	/**
+	 * Observe the given operation on the given transaction, recording
+	 * the outcome of the transaction on successful commit or rollback.
+	 * Returns the operation as-is if the lifecycle of the transaction
+	 * is not being observed.
+	 * @param status object representing the transaction
+	 * @param operation the type of operation
+	 * @param action the operation to observe
+	 */
+	private Mono<Void> observeOperation(GenericReactiveTransaction status, Operation operation, Mono<Void> action) {
+		Observation transactionObservation = status.getObservation();
+		if (transactionObservation == null || transactionObservation.isNoop()) {
+			return action;
+		}
+		TransactionObservationContext transactionContext =
+				(TransactionObservationContext) transactionObservation.getContext();
+		return Mono.defer(() -> {
+			TransactionOperationObservationContext context =
+					new TransactionOperationObservationContext(operation, transactionContext);
+			Observation observation = TransactionObservationDocumentation.TRANSACTION_OPERATION.observation(
+					this.operationObservationConvention, DEFAULT_OPERATION_OBSERVATION_CONVENTION, () -> context,
+					this.observationRegistry)
+					.parentObservation(transactionObservation)
+					.start();
+			return action
+					.doOnSuccess(ignore -> {
+						if (operation == Operation.COMMIT) {
+							transactionContext.setOutcome(TransactionObservationContext.Outcome.COMMITTED);
+						}
+						else if (operation == Operation.ROLLBACK) {
+							transactionContext.setOutcome(TransactionObservationContext.Outcome.ROLLED_BACK);
+						}
+					})
+					.doOnError(observation::error)
+					.doFinally(signal -> observation.stop());
+		});
+	}
+
+	/**
+	 * Stop the observation on the lifecycle of the given transaction, if any.
+	 * @param status object representing the transaction
+	 * @param ex the exception that the transaction failed with, if any
+	 */
+	private void stopObservation(GenericReactiveTransaction status, @Nullable Throwable ex) {
+		Observation observation = status.getObservation();
+		if (observation != null) {
+			status.setObservation(null);
+			if (ex != null) {
+				observation.error(ex);
+			}
+			observation.stop();
+		}
+	}
+
+
 	//---------------------------------------------------------------------
 	// Template methods to be implemented in subclasses
 	//---------------------------------------------------------------------
@@ -967,6 +1117,9 @@ public abstract class AbstractReactiveTransactionManager
 
 		// Initialize transient fields.
 		this.logger = LogFactory.getLog(getClass());
+		this.observationRegistry = ObservationRegistry.NOOP;
+		this.observationConvention = null;
+		this.operationObservationConvention = null;
 	}
 
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,8 @@
 
 package org.springframework.transaction.reactive;
 
+import io.micrometer.observation.Observation;
+
 import org.springframework.lang.Nullable;
 import org.springframework.transaction.ReactiveTransaction;
 import org.springframework.util.Assert;
@@ -63,6 +65,9 @@ public class GenericReactiveTransaction implements ReactiveTransaction {
 
 	private boolean completed = false;
 
+	@Nullable
+	private Observation observation;
+
 
 	/**
 	 * Create a new {@code DefaultReactiveTransactionStatus} instance.
@@ -163,6 +168,23 @@ public class GenericReactiveTransaction implements ReactiveTransaction {
 		return this.suspendedResources;
 	}
 
+	/**
+	 * Set the observation on the lifecycle of this transaction, if any.
+	 * @since 6.2
+	 */
+	void setObservation(@Nullable Observation observation) {
+		this.observation = observation;
+	}
+
+	/**
+	 * Return the observation on the lifecycle of this transaction, if any.
+	 * @since 6.2
+	 */
+	@Nullable
+	Observation getObservation() {
+		return this.observation;
+	}
+
 	@Override
 	public void setRollbackOnly() {
 		if (this.completed) {
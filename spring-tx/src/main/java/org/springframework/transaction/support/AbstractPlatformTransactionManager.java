@@ -24,9 +24,12 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import org.springframework.core.NamedThreadLocal;
 import org.springframework.lang.Nullable;
 import org.springframework.transaction.ConfigurableTransactionManager;
 import org.springframework.transaction.IllegalTransactionStateException;
@@ -39,6 +42,14 @@ import org.springframework.transaction.TransactionExecutionListener;
 import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.TransactionSuspensionNotSupportedException;
 import org.springframework.transaction.UnexpectedRollbackException;
+import org.springframework.transaction.observation.DefaultTransactionObservationConvention;
+import org.springframework.transaction.observation.DefaultTransactionOperationObservationConvention;
+import org.springframework.transaction.observation.TransactionObservationContext;
+import org.springframework.transaction.observation.TransactionObservationConvention;
+import org.springframework.transaction.observation.TransactionObservationDocumentation;
+import org.springframework.transaction.observation.TransactionOperationObservationContext;
+import org.springframework.transaction.observation.TransactionOperationObservationContext.Operation;
+import org.springframework.transaction.observation.TransactionOperationObservationConvention;
 import org.springframework.util.Assert;
 
 /**
@@ -124,6 +135,12 @@ public abstract class AbstractPlatformTransactionManager
 			"SYNCHRONIZATION_NEVER", SYNCHRONIZATION_NEVER
 		);
 
+	private static final TransactionObservationConvention DEFAULT_OBSERVATION_CONVENTION =
+			new DefaultTransactionObservationConvention();
+
+	private static final TransactionOperationObservationConvention DEFAULT_OPERATION_OBSERVATION_CONVENTION =
+			new DefaultTransactionOperationObservationConvention();
+
 
 	protected transient Log logger = LogFactory.getLog(getClass());
 
@@ -143,6 +160,17 @@ public abstract class AbstractPlatformTransactionManager
 
 	private Collection<TransactionExecutionListener> transactionExecutionListeners = new ArrayList<>();
 
+	private transient ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+	@Nullable
+	private transient TransactionObservationConvention observationConvention;
+
+	@Nullable
+	private transient TransactionOperationObservationConvention operationObservationConvention;
+
+	private transient ThreadLocal<Observation> currentObservation =
+			new NamedThreadLocal<>("Current transaction observation");
+
 
 	/**
 	 * Set the transaction synchronization by the name of the corresponding constant
@@ -356,6 +384,51 @@ public abstract class AbstractPlatformTransactionManager
 		return this.transactionExecutionListeners;
 	}
 
+	/**
+	 * Configure the {@link ObservationRegistry} to use for recording observations
+	 * on new transactions: their lifecycle from begin to completion, including the
+	 * number of suspensions, as well as their begin, commit and rollback operations.
+	 * <p>No observations are recorded by default.
+	 * @since 6.2
+	 * @see TransactionObservationDocumentation
+	 */
+	public final void setObservationRegistry(ObservationRegistry observationRegistry) {
+		Assert.notNull(observationRegistry, "ObservationRegistry must not be null");
+		this.observationRegistry = observationRegistry;
+	}
+
+	/**
+	 * Return the {@link ObservationRegistry} to use for recording observations.
+	 * @since 6.2
+	 */
+	public final ObservationRegistry getObservationRegistry() {
+		return this.observationRegistry;
+	}
+
+	/**
+	 * Configure a custom {@link TransactionObservationConvention} to use for
+	 * the observations on the lifecycle of new transactions.
+	 * <p>By default, a {@link DefaultTransactionObservationConvention} is used.
+	 * @since 6.2
+	 */
+	public final void setObservationConvention(TransactionObservationConvention observationConvention) {
+		Assert.notNull(observationConvention, "TransactionObservationConvention must not be null");
+		this.observationConvention = observationConvention;
+	}
+
+	/**
+	 * Configure a custom {@link TransactionOperationObservationConvention} to use
+	 * for the observations on begin, commit and rollback operations.
+	 * <p>By default, a {@link DefaultTransactionOperationObservationConvention} is used.
+	 * @since 6.2
+	 */
+	public final void setOperationObservationConvention(
+			TransactionOperationObservationConvention operationObservationConvention) {
+
+		Assert.notNull(operationObservationConvention, "TransactionOperationObservationConvention must not be null");
+		this.operationObservationConvention = operationObservationConvention;
+	}
+
 
 	//---------------------------------------------------------------------
 	// Implementation of PlatformTransactionManager
@@ -527,12 +600,19 @@ public abstract class AbstractPlatformTransactionManager
 		boolean newSynchronization = (getTransactionSynchronization() != SYNCHRONIZATION_NEVER);
 		DefaultTransactionStatus status = newTransactionStatus(
 				definition, transaction, true, newSynchronization, nested, debugEnabled, suspendedResources);
+		startObservation(status, definition);
 		this.transactionExecutionListeners.forEach(listener -> listener.beforeBegin(status));
 		try {
-			doBegin(transaction, definition);
+			if (this.observationRegistry.isNoop()) {
+				doBegin(transaction, definition);
+			}
+			else {
+				observeOperation(status, Operation.BEGIN, () -> doBegin(transaction, definition));
+			}
 		}
 		catch (RuntimeException | Error ex) {
 			this.transactionExecutionListeners.forEach(listener -> listener.afterBegin(status, ex));
+			stopObservation(status, ex);
 			throw ex;
 		}
 		prepareSynchronization(status, definition);
@@ -617,8 +697,10 @@ public abstract class AbstractPlatformTransactionManager
 			List<TransactionSynchronization> suspendedSynchronizations = doSuspendSynchronization();
 			try {
 				Object suspendedResources = null;
+				Observation suspendedObservation = null;
 				if (transaction != null) {
 					suspendedResources = doSuspend(transaction);
+					suspendedObservation = suspendObservation();
 				}
 				String name = TransactionSynchronizationManager.getCurrentTransactionName();
 				TransactionSynchronizationManager.setCurrentTransactionName(null);
@@ -628,8 +710,8 @@ public abstract class AbstractPlatformTransactionManager
 				TransactionSynchronizationManager.setCurrentTransactionIsolationLevel(null);
 				boolean wasActive = TransactionSynchronizationManager.isActualTransactionActive();
 				TransactionSynchronizationManager.setActualTransactionActive(false);
-				return new SuspendedResourcesHolder(
-						suspendedResources, suspendedSynchronizations, name, readOnly, isolationLevel, wasActive);
+				return new SuspendedResourcesHolder(suspendedResources, suspendedObservation,
+						suspendedSynchronizations, name, readOnly, isolationLevel, wasActive);
 			}
 			catch (RuntimeException | Error ex) {
 				// doSuspend failed - original transaction is still active...
@@ -640,7 +722,7 @@ public abstract class AbstractPlatformTransactionManager
 		else if (transaction != null) {
 			// Transaction active but no synchronization active.
 			Object suspendedResources = doSuspend(transaction);
-			return new SuspendedResourcesHolder(suspendedResources);
+			return new SuspendedResourcesHolder(suspendedResources, suspendObservation());
 		}
 		else {
 			// Neither transaction nor synchronization active.
@@ -666,6 +748,9 @@ public abstract class AbstractPlatformTransactionManager
 			if (suspendedResources != null) {
 				doResume(transaction, suspendedResources);
 			}
+			if (resourcesHolder.observation != null) {
+				this.currentObservation.set(resourcesHolder.observation);
+			}
 			List<TransactionSynchronization> suspendedSynchronizations = resourcesHolder.suspendedSynchronizations;
 			if (suspendedSynchronizations != null) {
 				TransactionSynchronizationManager.setActualTransactionActive(resourcesHolder.wasActive);
@@ -792,7 +877,12 @@ public abstract class AbstractPlatformTransactionManager
 					unexpectedRollback = status.isGlobalRollbackOnly();
 					this.transactionExecutionListeners.forEach(listener -> listener.beforeCommit(status));
 					commitListenerInvoked = true;
-					doCommit(status);
+					if (this.observationRegistry.isNoop()) {
+						doCommit(status);
+					}
+					else {
+						observeOperation(status, Operation.COMMIT, () -> doCommit(status));
+					}
 				}
 				else if (isFailEarlyOnGlobalRollbackOnly()) {
 					unexpectedRollback = status.isGlobalRollbackOnly();
@@ -894,7 +984,12 @@ public abstract class AbstractPlatformTransactionManager
 					}
 					this.transactionExecutionListeners.forEach(listener -> listener.beforeRollback(status));
 					rollbackListenerInvoked = true;
-					doRollback(status);
+					if (this.observationRegistry.isNoop()) {
+						doRollback(status);
+					}
+					else {
+						observeOperation(status, Operation.ROLLBACK, () -> doRollback(status));
+					}
 				}
 				else {
 					// Participating in larger transaction
@@ -957,7 +1052,12 @@ public abstract class AbstractPlatformTransactionManager
 				if (status.isDebug()) {
 					logger.debug("Initiating transaction rollback after commit exception", ex);
 				}
-				doRollback(status);
+				if (this.observationRegistry.isNoop()) {
+					doRollback(status);
+				}
+				else {
+					observeOperation(status, Operation.ROLLBACK, () -> doRollback(status));
+				}
 			}
 			else if (status.hasTransaction() && isGlobalRollbackOnParticipationFailure()) {
 				if (status.isDebug()) {
@@ -1013,6 +1113,7 @@ public abstract class AbstractPlatformTransactionManager
 	 * @param completionStatus completion status according to TransactionSynchronization constants
 	 */
 	private void triggerAfterCompletion(DefaultTransactionStatus status, int completionStatus) {
+		recordOutcome(status, completionStatus);
 		if (status.isNewSynchronization()) {
 			List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
 			TransactionSynchronizationManager.clearSynchronization();
@@ -1059,7 +1160,12 @@ public abstract class AbstractPlatformTransactionManager
 			TransactionSynchronizationManager.clear();
 		}
 		if (status.isNewTransaction()) {
-			doCleanupAfterCompletion(status.getTransaction());
+			try {
+				doCleanupAfterCompletion(status.getTransaction());
+			}
+			finally {
+				stopObservation(status, null);
+			}
 		}
 		if (status.getSuspendedResources() != null) {
 			if (status.isDebug()) {
@@ -1071,6 +1177,108 @@ public abstract class AbstractPlatformTransactionManager
 	}
 
 
+	/**
+	 * Start an observation on the lifecycle of the given new transaction,
+	 * opening a scope for it until the transaction completes.
+	 * Does nothing if no {@link #setObservationRegistry ObservationRegistry} is configured.
+	 */
+	private void startObservation(DefaultTransactionStatus status, TransactionDefinition definition) {
+		if (!this.observationRegistry.isNoop()) {
+			TransactionObservationContext context = new TransactionObservationContext(definition, this);
+			Observation observation = TransactionObservationDocumentation.TRANSACTION.observation(
+					this.observationConvention, DEFAULT_OBSERVATION_CONVENTION, () -> context,
+					this.observationRegistry).start();
+			status.setObservation(observation, observation.openScope());
+			this.currentObservation.set(observation);
+		}
+	}
+
+	/**
+	 * Perform the given operation on the given transaction,
+	 * observing it if the lifecycle of the transaction is being observed.
+	 * <p>Only to be called with a non-noop {@link #setObservationRegistry
+	 * ObservationRegistry}, so that no action gets allocated by default.
+	 */
+	private void observeOperation(DefaultTransactionStatus status, Operation operation, Runnable action) {
+		Observation observation = status.getObservation();
+		if (observation == null || observation.isNoop()) {
+			action.run();
+			return;
+		}
+		TransactionOperationObservationContext context = new TransactionOperationObservationContext(
+				operation, (TransactionObservationContext) observation.getContext());
+		TransactionObservationDocumentation.TRANSACTION_OPERATION.observation(
+				this.operationObservationConvention, DEFAULT_OPERATION_OBSERVATION_CONVENTION, () -> context,
+				this.observationRegistry)
+				.parentObservation(observation)
+				.observe(action);
+	}
+
+	/**
+	 * Record a suspension of the current transaction on its observation, if any,
+	 * and detach the observation from the current thread until it is resumed.
+	 * <p>The observation is tracked per thread rather than looked up as the
+	 * registry's current observation, since the latter may be any observation
+	 * opened within the transaction.
+	 * @return the observation of the suspended transaction, or {@code null} if none
+	 */
+	@Nullable
+	private Observation suspendObservation() {
+		if (this.observationRegistry.isNoop()) {
+			return null;
+		}
+		Observation observation = this.currentObservation.get();
+		if (observation != null) {
+			this.currentObservation.remove();
+			if (observation.getContext() instanceof TransactionObservationContext context) {
+				context.incrementSuspensionCount();
+			}
+			observation.event(TransactionObservationDocumentation.Events.SUSPENSION);
+		}
+		return observation;
+	}
+
+	/**
+	 * Record the outcome of the given transaction on its observation, if any.
+	 * @param status object representing the transaction
+	 * @param completionStatus completion status according to TransactionSynchronization constants
+	 */
+	private void recordOutcome(DefaultTransactionStatus status, int completionStatus) {
+		Observation observation = status.getObservation();
+		if (observation != null && observation.getContext() instanceof TransactionObservationContext context) {
+			context.setOutcome(switch (completionStatus) {
+				case TransactionSynchronization.STATUS_COMMITTED -> TransactionObservationContext.Outcome.COMMITTED;
+				case TransactionSynchronization.STATUS_ROLLED_BACK -> TransactionObservationContext.Outcome.ROLLED_BACK;
+				default -> TransactionObservationContext.Outcome.UNKNOWN;
+			});
+		}
+	}
+
+	/**
+	 * Stop the observation on the lifecycle of the given transaction, if any,
+	 * closing its scope.
+	 * @param status object representing the transaction
+	 * @param ex the exception that the transaction failed with, if any
+	 */
+	private void stopObservation(DefaultTransactionStatus status, @Nullable Throwable ex) {
+		Observation observation = status.getObservation();
+		if (observation != null) {
+			Observation.Scope scope = status.getObservationScope();
+			status.setObservation(null, null);
+			if (this.currentObservation.get() == observation) {
+				this.currentObservation.remove();
+			}
+			if (scope != null) {
+				scope.close();
+			}
+			if (ex != null) {
+				observation.error(ex);
+			}
+			observation.stop();
+		}
+	}
+
+
 	//---------------------------------------------------------------------
 	// Template methods to be implemented in subclasses
 	//---------------------------------------------------------------------
@@ -1323,6 +1531,10 @@ public abstract class AbstractPlatformTransactionManager
 
 		// Initialize transient fields.
 		this.logger = LogFactory.getLog(getClass());
+		this.observationRegistry = ObservationRegistry.NOOP;
+		this.observationConvention = null;
+		this.operationObservationConvention = null;
+		this.currentObservation = new NamedThreadLocal<>("Current transaction observation");
 	}
 
 
@@ -1335,6 +1547,9 @@ public abstract class AbstractPlatformTransactionManager
 		@Nullable
 		private final Object suspendedResources;
 
+		@Nullable
+		private final Observation observation;
+
 		@Nullable
 		private List<TransactionSynchronization> suspendedSynchronizations;
 
@@ -1348,15 +1563,17 @@ public abstract class AbstractPlatformTransactionManager
 
 		private boolean wasActive;
 
-		private SuspendedResourcesHolder(Object suspendedResources) {
+		private SuspendedResourcesHolder(Object suspendedResources, @Nullable Observation observation) {
 			this.suspendedResources = suspendedResources;
+			this.observation = observation;
 		}
 
-		private SuspendedResourcesHolder(
-				@Nullable Object suspendedResources, List<TransactionSynchronization> suspendedSynchronizations,
+		private SuspendedResourcesHolder(@Nullable Object suspendedResources, @Nullable Observation observation,
+				List<TransactionSynchronization> suspendedSynchronizations,
 				@Nullable String name, boolean readOnly, @Nullable Integer isolationLevel, boolean wasActive) {
 
 			this.suspendedResources = suspendedResources;
+			this.observation = observation;
 			this.suspendedSynchronizations = suspendedSynchronizations;
 			this.name = name;
 			this.readOnly = readOnly;
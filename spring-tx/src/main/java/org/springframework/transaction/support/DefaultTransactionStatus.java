@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,8 @@
 
 package org.springframework.transaction.support;
 
+import io.micrometer.observation.Observation;
+
 import org.springframework.lang.Nullable;
 import org.springframework.transaction.NestedTransactionNotSupportedException;
 import org.springframework.transaction.SavepointManager;
@@ -69,6 +71,12 @@ public class DefaultTransactionStatus extends AbstractTransactionStatus {
 	@Nullable
 	private final Object suspendedResources;
 
+	@Nullable
+	private Observation observation;
+
+	@Nullable
+	private Observation.Scope observationScope;
+
 
 	/**
 	 * Create a new {@code DefaultTransactionStatus} instance.
@@ -169,6 +177,34 @@ public class DefaultTransactionStatus extends AbstractTransactionStatus {
 		return this.suspendedResources;
 	}
 
+	/**
+	 * Set the observation on the lifecycle of this transaction, if any,
+	 * along with the scope that has been opened for it.
+	 * @since 6.2
+	 */
+	void setObservation(@Nullable Observation observation, @Nullable Observation.Scope observationScope) {
+		this.observation = observation;
+		this.observationScope = observationScope;
+	}
+
+	/**
+	 * Return the observation on the lifecycle of this transaction, if any.
+	 * @since 6.2
+	 */
+	@Nullable
+	Observation getObservation() {
+		return this.observation;
+	}
+
+	/**
+	 * Return the scope that has been opened for the observation, if any.
+	 * @since 6.2
+	 */
+	@Nullable
+	Observation.Scope getObservationScope() {
+		return this.observationScope;
+	}
+
 
 	//---------------------------------------------------------------------
 	// Enable functionality through underlying transaction object
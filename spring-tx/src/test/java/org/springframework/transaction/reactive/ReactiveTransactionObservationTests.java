@@ -0,0 +1,107 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.transaction.reactive;
+
+import io.micrometer.observation.tck.TestObservationRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.observation.DefaultTransactionOperationObservationConvention;
+import org.springframework.transaction.observation.TransactionOperationObservationContext;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import static io.micrometer.observation.tck.TestObservationRegistryAssert.assertThat;
+
+/**
+ * Observability tests for {@link AbstractReactiveTransactionManager}.
+ */
+class ReactiveTransactionObservationTests {
+
+	private final TestObservationRegistry observationRegistry = TestObservationRegistry.create();
+
+
+	@Test
+	void committedTransaction() {
+		ReactiveTestTransactionManager tm = new ReactiveTestTransactionManager(false, true);
+		tm.setObservationRegistry(this.observationRegistry);
+		DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+		definition.setName("tx");
+
+		Mono.just(true).as(TransactionalOperator.create(tm, definition)::transactional)
+				.as(StepVerifier::create).expectNext(true).verifyComplete();
+
+		assertThat(this.observationRegistry).hasObservationWithNameEqualTo("transaction").that()
+				.hasContextualNameEqualTo("transaction tx")
+				.hasLowCardinalityKeyValue("outcome", "COMMITTED")
+				.hasLowCardinalityKeyValue("transaction.manager", "ReactiveTestTransactionManager")
+				.hasLowCardinalityKeyValue("transaction.propagation", "REQUIRED")
+				.hasLowCardinalityKeyValue("exception", "none")
+				.hasBeenStopped();
+		assertThat(this.observationRegistry).hasNumberOfObservationsWithNameEqualTo("transaction.operation", 2);
+	}
+
+	@Test
+	void customOperationObservationConvention() {
+		ReactiveTestTransactionManager tm = new ReactiveTestTransactionManager(false, true);
+		tm.setObservationRegistry(this.observationRegistry);
+		tm.setOperationObservationConvention(new DefaultTransactionOperationObservationConvention() {
+			@Override
+			public String getContextualName(TransactionOperationObservationContext context) {
+				return "custom";
+			}
+		});
+
+		Mono.just(true).as(TransactionalOperator.create(tm, new DefaultTransactionDefinition())::transactional)
+				.as(StepVerifier::create).expectNext(true).verifyComplete();
+
+		assertThat(this.observationRegistry).hasObservationWithNameEqualTo("transaction.operation").that()
+				.hasContextualNameEqualTo("custom")
+				.hasBeenStopped();
+	}
+
+	@Test
+	void rolledBackTransaction() {
+		ReactiveTestTransactionManager tm = new ReactiveTestTransactionManager(false, true);
+		tm.setObservationRegistry(this.observationRegistry);
+
+		TransactionalOperator operator = TransactionalOperator.create(tm, new DefaultTransactionDefinition());
+		Mono.error(new IllegalStateException()).as(operator::transactional)
+				.as(StepVerifier::create).verifyError(IllegalStateException.class);
+
+		assertThat(this.observationRegistry).hasObservationWithNameEqualTo("transaction").that()
+				.hasLowCardinalityKeyValue("outcome", "ROLLED_BACK")
+				.hasBeenStopped();
+	}
+
+	@Test
+	void failedBegin() {
+		ReactiveTestTransactionManager tm = new ReactiveTestTransactionManager(false, false);
+		tm.setObservationRegistry(this.observationRegistry);
+
+		tm.getReactiveTransaction(new DefaultTransactionDefinition())
+				.contextWrite(TransactionContextManager.createTransactionContext())
+				.as(StepVerifier::create).verifyError(CannotCreateTransactionException.class);
+
+		assertThat(this.observationRegistry).hasObservationWithNameEqualTo("transaction").that()
+				.hasLowCardinalityKeyValue("outcome", "UNKNOWN")
+				.hasLowCardinalityKeyValue("exception", "CannotCreateTransactionException")
+				.hasBeenStopped();
+	}
+
+}
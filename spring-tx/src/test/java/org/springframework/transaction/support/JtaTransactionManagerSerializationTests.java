@@ -16,6 +16,7 @@
 
 package org.springframework.transaction.support;
 
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.transaction.TransactionManager;
 import jakarta.transaction.UserTransaction;
 import org.junit.jupiter.api.Test;
@@ -23,6 +24,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.context.testfixture.jndi.SimpleNamingContextBuilder;
 import org.springframework.core.testfixture.io.SerializationTestUtils;
 import org.springframework.transaction.jta.JtaTransactionManager;
+import org.springframework.transaction.observation.DefaultTransactionObservationConvention;
+import org.springframework.transaction.observation.DefaultTransactionOperationObservationConvention;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
@@ -42,6 +45,9 @@ class JtaTransactionManagerSerializationTests {
 		jtam.setUserTransaction(ut1);
 		jtam.setTransactionManager(tm);
 		jtam.setRollbackOnCommitFailure(true);
+		jtam.setObservationRegistry(ObservationRegistry.create());
+		jtam.setObservationConvention(new DefaultTransactionObservationConvention());
+		jtam.setOperationObservationConvention(new DefaultTransactionOperationObservationConvention());
 		jtam.afterPropertiesSet();
 
 		SimpleNamingContextBuilder jndiEnv = SimpleNamingContextBuilder
@@ -56,6 +62,7 @@ class JtaTransactionManagerSerializationTests {
 		assertThat(serializedJtatm
 				.getTransactionManager()).as("TransactionManager didn't survive").isNull();
 		assertThat(serializedJtatm.isRollbackOnCommitFailure()).isTrue();
+		assertThat(serializedJtatm.getObservationRegistry()).isSameAs(ObservationRegistry.NOOP);
 	}
 
 }
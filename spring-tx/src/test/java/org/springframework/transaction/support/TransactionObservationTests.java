@@ -0,0 +1,256 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.transaction.support;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.tck.TestObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.observation.DefaultTransactionObservationConvention;
+import org.springframework.transaction.observation.TransactionObservationContext;
+
+import static io.micrometer.observation.tck.TestObservationRegistryAssert.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Observability tests for {@link AbstractPlatformTransactionManager}.
+ */
+class TransactionObservationTests {
+
+	private final TestObservationRegistry observationRegistry = TestObservationRegistry.create();
+
+	private final ThreadBoundTransactionManager transactionManager = new ThreadBoundTransactionManager();
+
+
+	@BeforeEach
+	void setup() {
+		this.transactionManager.setObservationRegistry(this.observationRegistry);
+	}
+
+	@AfterEach
+	void postConditions() {
+		assertThat(TransactionSynchronizationManager.getResourceMap()).isEmpty();
+		assertThat(TransactionSynchronizationManager.isSynchronizationActive()).isFalse();
+		assertThat(this.observationRegistry.getCurrentObservation()).isNull();
+	}
+
+
+	@Test
+	void committedTransaction() {
+		TransactionTemplate template = new TransactionTemplate(this.transactionManager);
+		template.setName("tx");
+		template.setReadOnly(true);
+		template.executeWithoutResult(status -> {});
+
+		assertThat(this.observationRegistry).hasObservationWithNameEqualTo("transaction").that()
+				.hasContextualNameEqualTo("transaction tx")
+				.hasLowCardinalityKeyValue("outcome", "COMMITTED")
+				.hasLowCardinalityKeyValue("transaction.manager", "ThreadBoundTransactionManager")
+				.hasLowCardinalityKeyValue("transaction.propagation", "REQUIRED")
+				.hasLowCardinalityKeyValue("transaction.isolation", "DEFAULT")
+				.hasLowCardinalityKeyValue("transaction.read-only", "true")
+				.hasLowCardinalityKeyValue("exception", "none")
+				.hasHighCardinalityKeyValue("transaction.name", "tx")
+				.hasHighCardinalityKeyValue("transaction.suspensions", "0")
+				.hasBeenStopped();
+		assertThat(this.observationRegistry).hasNumberOfObservationsWithNameEqualTo("transaction.operation", 2);
+	}
+
+	@Test
+	void rolledBackTransaction() {
+		TransactionTemplate template = new TransactionTemplate(this.transactionManager);
+		template.executeWithoutResult(TransactionStatus::setRollbackOnly);
+
+		assertThat(this.observationRegistry).hasObservationWithNameEqualTo("transaction").that()
+				.hasLowCardinalityKeyValue("outcome", "ROLLED_BACK")
+				.hasLowCardinalityKeyValue("transaction.read-only", "false")
+				.hasHighCardinalityKeyValue("transaction.name", "none")
+				.hasBeenStopped();
+		assertThat(this.transactionManager.rollback).isTrue();
+	}
+
+	@Test
+	void failedBegin() {
+		this.transactionManager.failOnBegin = true;
+		TransactionTemplate template = new TransactionTemplate(this.transactionManager);
+		assertThatExceptionOfType(CannotCreateTransactionException.class)
+				.isThrownBy(() -> template.executeWithoutResult(status -> {}));
+
+		assertThat(this.observationRegistry).hasObservationWithNameEqualTo("transaction").that()
+				.hasLowCardinalityKeyValue("outcome", "UNKNOWN")
+				.hasLowCardinalityKeyValue("exception", "CannotCreateTransactionException")
+				.hasBeenStopped();
+		assertThat(this.observationRegistry).hasObservationWithNameEqualTo("transaction.operation").that()
+				.hasLowCardinalityKeyValue("transaction.operation", "begin")
+				.hasLowCardinalityKeyValue("exception", "CannotCreateTransactionException")
+				.hasBeenStopped();
+	}
+
+	@Test
+	void suspendedTransaction() {
+		TransactionTemplate outer = new TransactionTemplate(this.transactionManager);
+		outer.setName("outer");
+		TransactionTemplate inner = new TransactionTemplate(this.transactionManager);
+		inner.setName("inner");
+		inner.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		outer.executeWithoutResult(status -> inner.executeWithoutResult(innerStatus -> {}));
+
+		assertThat(this.observationRegistry).hasNumberOfObservationsWithNameEqualTo("transaction", 2);
+		assertThat(this.observationRegistry).hasObservationWithNameEqualTo("transaction").that()
+				.hasContextualNameEqualTo("transaction outer")
+				.hasLowCardinalityKeyValue("outcome", "COMMITTED")
+				.hasHighCardinalityKeyValue("transaction.suspensions", "1")
+				.hasBeenStopped();
+		assertThat(this.transactionManager.commits).isEqualTo(2);
+	}
+
+	@Test
+	void suspendedTransactionWithinNestedObservation() {
+		TransactionTemplate outer = new TransactionTemplate(this.transactionManager);
+		outer.setName("outer");
+		TransactionTemplate inner = new TransactionTemplate(this.transactionManager);
+		inner.setName("inner");
+		inner.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		outer.executeWithoutResult(status -> Observation.createNotStarted("service", this.observationRegistry)
+				.observe(() -> inner.executeWithoutResult(innerStatus -> {})));
+
+		assertThat(this.observationRegistry).hasNumberOfObservationsWithNameEqualTo("transaction", 2);
+		assertThat(this.observationRegistry).hasObservationWithNameEqualTo("transaction").that()
+				.hasContextualNameEqualTo("transaction outer")
+				.hasHighCardinalityKeyValue("transaction.suspensions", "1")
+				.hasBeenStopped();
+		assertThat(this.transactionManager.commits).isEqualTo(2);
+	}
+
+	@Test
+	void customObservationConvention() {
+		this.transactionManager.setObservationConvention(new DefaultTransactionObservationConvention() {
+			@Override
+			public String getContextualName(TransactionObservationContext context) {
+				return "custom";
+			}
+		});
+		new TransactionTemplate(this.transactionManager).executeWithoutResult(status -> {});
+
+		assertThat(this.observationRegistry).hasObservationWithNameEqualTo("transaction").that()
+				.hasContextualNameEqualTo("custom")
+				.hasLowCardinalityKeyValue("outcome", "COMMITTED")
+				.hasBeenStopped();
+	}
+
+	@Test
+	void participatingTransactionIsNotObserved() {
+		TransactionTemplate template = new TransactionTemplate(this.transactionManager);
+		template.executeWithoutResult(status -> template.executeWithoutResult(innerStatus -> {}));
+
+		assertThat(this.observationRegistry).hasNumberOfObservationsWithNameEqualTo("transaction", 1);
+		assertThat(this.observationRegistry).hasNumberOfObservationsWithNameEqualTo("transaction.operation", 2);
+	}
+
+	@Test
+	void noObservationsByDefault() {
+		ThreadBoundTransactionManager transactionManager = new ThreadBoundTransactionManager();
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {});
+
+		assertThat(transactionManager.getObservationRegistry().isNoop()).isTrue();
+		assertThat(this.observationRegistry).doesNotHaveAnyObservation();
+	}
+
+
+	/**
+	 * Transaction manager that binds transactions to the current thread,
+	 * supporting suspension.
+	 */
+	@SuppressWarnings("serial")
+	private static class ThreadBoundTransactionManager extends AbstractPlatformTransactionManager {
+
+		private final ThreadLocal<Object> currentTransaction = new ThreadLocal<>();
+
+		boolean failOnBegin;
+
+		int commits;
+
+		boolean rollback;
+
+		@Override
+		protected Object doGetTransaction() {
+			return new TransactionHolder(this.currentTransaction.get());
+		}
+
+		@Override
+		protected boolean isExistingTransaction(Object transaction) {
+			return (((TransactionHolder) transaction).transaction != null);
+		}
+
+		@Override
+		protected void doBegin(Object transaction, TransactionDefinition definition) {
+			if (this.failOnBegin) {
+				throw new CannotCreateTransactionException("Cannot create transaction");
+			}
+			Object actualTransaction = new Object();
+			((TransactionHolder) transaction).transaction = actualTransaction;
+			this.currentTransaction.set(actualTransaction);
+		}
+
+		@Override
+		protected Object doSuspend(Object transaction) {
+			((TransactionHolder) transaction).transaction = null;
+			Object suspended = this.currentTransaction.get();
+			this.currentTransaction.remove();
+			return suspended;
+		}
+
+		@Override
+		protected void doResume(@Nullable Object transaction, Object suspendedResources) {
+			this.currentTransaction.set(suspendedResources);
+		}
+
+		@Override
+		protected void doCommit(DefaultTransactionStatus status) {
+			this.commits++;
+		}
+
+		@Override
+		protected void doRollback(DefaultTransactionStatus status) {
+			this.rollback = true;
+		}
+
+		@Override
+		protected void doCleanupAfterCompletion(Object transaction) {
+			this.currentTransaction.remove();
+		}
+	}
+
+
+	private static class TransactionHolder {
+
+		@Nullable
+		Object transaction;
+
+		TransactionHolder(@Nullable Object transaction) {
+			this.transaction = transaction;
+		}
+	}
+
+}
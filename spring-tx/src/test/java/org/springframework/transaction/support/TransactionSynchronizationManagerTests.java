@@ -0,0 +1,127 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.transaction.support;
+
+import java.lang.reflect.Field;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.util.ReflectionUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link TransactionSynchronizationManager}.
+ */
+class TransactionSynchronizationManagerTests {
+
+	@AfterEach
+	void postConditions() {
+		assertThat(TransactionSynchronizationManager.getResourceMap()).isEmpty();
+		assertThat(TransactionSynchronizationManager.isSynchronizationActive()).isFalse();
+		assertThat(isStateBound()).isFalse();
+	}
+
+
+	@Test
+	void bindAndUnbindResource() {
+		Object key = new Object();
+		TransactionSynchronizationManager.bindResource(key, "value");
+		assertThat(TransactionSynchronizationManager.hasResource(key)).isTrue();
+		assertThat(TransactionSynchronizationManager.getResource(key)).isEqualTo("value");
+		assertThat(TransactionSynchronizationManager.getResourceMap()).containsEntry(key, "value");
+		assertThatIllegalStateException().isThrownBy(() -> TransactionSynchronizationManager.bindResource(key, "other"));
+
+		assertThat(TransactionSynchronizationManager.unbindResource(key)).isEqualTo("value");
+		assertThat(TransactionSynchronizationManager.hasResource(key)).isFalse();
+		assertThat(TransactionSynchronizationManager.unbindResourceIfPossible(key)).isNull();
+		assertThatIllegalStateException().isThrownBy(() -> TransactionSynchronizationManager.unbindResource(key));
+	}
+
+	@Test
+	void voidResourceHolderGetsRemoved() {
+		Object key = new Object();
+		ResourceHolderSupport holder = new ResourceHolderSupport() {};
+		TransactionSynchronizationManager.bindResource(key, holder);
+		holder.unbound();
+		assertThat(TransactionSynchronizationManager.getResource(key)).isNull();
+		assertThat(TransactionSynchronizationManager.hasResource(key)).isFalse();
+	}
+
+	@Test
+	void resourcesAreRetainedOnClear() {
+		Object key = new Object();
+		TransactionSynchronizationManager.initSynchronization();
+		TransactionSynchronizationManager.bindResource(key, "value");
+		TransactionSynchronizationManager.setCurrentTransactionName("tx");
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+
+		TransactionSynchronizationManager.clear();
+		assertThat(TransactionSynchronizationManager.isSynchronizationActive()).isFalse();
+		assertThat(TransactionSynchronizationManager.getCurrentTransactionName()).isNull();
+		assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isFalse();
+		assertThat(TransactionSynchronizationManager.getResource(key)).isEqualTo("value");
+		assertThat(isStateBound()).isTrue();
+
+		TransactionSynchronizationManager.unbindResource(key);
+	}
+
+	@Test
+	void transactionCharacteristics() {
+		TransactionSynchronizationManager.initSynchronization();
+		TransactionSynchronizationManager.setCurrentTransactionName("tx");
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		TransactionSynchronizationManager.setCurrentTransactionIsolationLevel(TransactionDefinition.ISOLATION_SERIALIZABLE);
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+
+		assertThat(TransactionSynchronizationManager.getCurrentTransactionName()).isEqualTo("tx");
+		assertThat(TransactionSynchronizationManager.isCurrentTransactionReadOnly()).isTrue();
+		assertThat(TransactionSynchronizationManager.getCurrentTransactionIsolationLevel())
+				.isEqualTo(TransactionDefinition.ISOLATION_SERIALIZABLE);
+		assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isTrue();
+
+		TransactionSynchronizationManager.clearSynchronization();
+		assertThat(TransactionSynchronizationManager.getCurrentTransactionName()).isEqualTo("tx");
+		TransactionSynchronizationManager.setCurrentTransactionName(null);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+		TransactionSynchronizationManager.setCurrentTransactionIsolationLevel(null);
+		TransactionSynchronizationManager.setActualTransactionActive(false);
+	}
+
+	@Test
+	void resettingUnboundStateDoesNotBindState() {
+		TransactionSynchronizationManager.setCurrentTransactionName(null);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+		TransactionSynchronizationManager.setCurrentTransactionIsolationLevel(null);
+		TransactionSynchronizationManager.setActualTransactionActive(false);
+		TransactionSynchronizationManager.clear();
+		assertThat(isStateBound()).isFalse();
+	}
+
+
+	private static boolean isStateBound() {
+		Field field = ReflectionUtils.findField(TransactionSynchronizationManager.class, "transactionState");
+		assertThat(field).isNotNull();
+		ReflectionUtils.makeAccessible(field);
+		ThreadLocal<?> threadLocal = (ThreadLocal<?>) ReflectionUtils.getField(field, null);
+		return (threadLocal != null && threadLocal.get() != null);
+	}
+
+}
@@ -191,7 +191,8 @@ public abstract class AbstractJackson2Decoder extends Jackson2CodecSupport imple
 			Map<String, Object> hintsToUse = contextView.isEmpty() ? hints :
 					Hints.merge(hints, ContextView.class.getName(), contextView);
 
-			return DataBufferUtils.join(input, this.maxInMemorySize).flatMap(dataBuffer ->
+			// Jackson reads the joined content as a stream, no need to copy it into one buffer
+			return DataBufferUtils.joinComposite(input, this.maxInMemorySize).flatMap(dataBuffer ->
 					Mono.justOrEmpty(decode(dataBuffer, elementType, mimeType, hintsToUse)));
 		});
 	}